@@ -0,0 +1,164 @@
+package com.ftp.authservice.application.service;
+
+import com.ftp.authservice.config.BulkRegistrationProperties;
+import com.ftp.authservice.domain.model.BulkRegistrationResult;
+import com.ftp.authservice.domain.model.BulkRegistrationResult.Status;
+import com.ftp.authservice.domain.model.BulkRegistrationRow;
+import com.ftp.authservice.domain.model.User;
+import com.ftp.authservice.domain.ports.in.BulkRegisterUsersUseCase;
+import com.ftp.authservice.domain.ports.out.BulkSaveUserPort;
+import com.ftp.authservice.exception.PasswordHashingBusyException;
+import com.ftp.authservice.infrastructure.security.PasswordHashingExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * BulkRegistrationServiceImpl registers users chunk by chunk.
+ * <p>
+ * For each chunk: one query finds the usernames already taken, the remaining passwords are hashed in parallel on
+ * the password hashing pool, and the users are inserted in one JDBC batch. Rows are read only when the previous
+ * chunk is done, so memory stays bounded by the chunk size whatever the request size.
+ */
+@Service
+public class BulkRegistrationServiceImpl implements BulkRegisterUsersUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkRegistrationServiceImpl.class);
+
+    // Wait before resubmitting a hash the pool rejected because interactive requests filled its queue
+    private static final long BUSY_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private final BulkSaveUserPort bulkSaveUserPort;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public BulkRegistrationServiceImpl(BulkSaveUserPort bulkSaveUserPort,
+                                       PasswordHashingExecutor passwordHashingExecutor,
+                                       BulkRegistrationProperties properties) {
+        this.bulkSaveUserPort = bulkSaveUserPort;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.chunkSize = properties.getChunkSize();
+        this.parallelism = properties.getParallelism() > 0
+                ? properties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void registerAll(Iterator<BulkRegistrationRow> rows, Consumer<List<BulkRegistrationResult>> results) {
+        List<BulkRegistrationRow> chunk = new ArrayList<>(chunkSize);
+        List<BulkRegistrationResult> chunkResults = new ArrayList<>();
+        long created = 0;
+        long total = 0;
+        while (rows.hasNext()) {
+            BulkRegistrationRow row = rows.next();
+            total++;
+            if (row.error() != null) {
+                chunkResults.add(new BulkRegistrationResult(row.line(), null, Status.INVALID, row.error()));
+            } else {
+                chunk.add(row);
+            }
+            // Invalid rows count toward the chunk too, so their results are not held back
+            if (chunk.size() + chunkResults.size() == chunkSize) {
+                created += registerChunk(chunk, chunkResults);
+                results.accept(chunkResults);
+                chunk = new ArrayList<>(chunkSize);
+                chunkResults = new ArrayList<>();
+            }
+        }
+        if (!chunk.isEmpty() || !chunkResults.isEmpty()) {
+            created += registerChunk(chunk, chunkResults);
+            results.accept(chunkResults);
+        }
+        logger.info("Bulk registration done: {} of {} rows created", created, total);
+    }
+
+    private int registerChunk(List<BulkRegistrationRow> chunk, List<BulkRegistrationResult> results) {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        // Drop usernames repeated within the chunk or already taken, with one query for the whole chunk
+        Set<String> usernames = new HashSet<>();
+        for (BulkRegistrationRow row : chunk) {
+            usernames.add(row.user().getUsername());
+        }
+        Set<String> taken = new HashSet<>(bulkSaveUserPort.findExistingUsernames(usernames));
+        List<BulkRegistrationRow> accepted = new ArrayList<>(chunk.size());
+        for (BulkRegistrationRow row : chunk) {
+            String username = row.user().getUsername();
+            if (taken.add(username)) {
+                accepted.add(row);
+            } else {
+                results.add(new BulkRegistrationResult(row.line(), username, Status.DUPLICATE, "Username already exists"));
+            }
+        }
+
+        // Hash the passwords in parallel, never more than parallelism at a time on the shared pool
+        Semaphore inFlight = new Semaphore(parallelism);
+        List<CompletableFuture<String>> hashes = new ArrayList<>(accepted.size());
+        for (BulkRegistrationRow row : accepted) {
+            inFlight.acquireUninterruptibly();
+            CompletableFuture<String> hash = encode(row.user().getPassword());
+            hash.whenComplete((encoded, error) -> inFlight.release());
+            hashes.add(hash);
+        }
+
+        List<BulkRegistrationRow> hashed = new ArrayList<>(accepted.size());
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            BulkRegistrationRow row = accepted.get(i);
+            User user = row.user();
+            try {
+                String encoded = hashes.get(i).join();
+                users.add(new User(null, user.getUsername(), encoded, user.getEmail(),
+                        user.getFirstName(), user.getLastName(), user.getRole()));
+                hashed.add(row);
+            } catch (RuntimeException e) {
+                logger.warn("Failed to hash the password of bulk user {}", user.getUsername(), e);
+                results.add(new BulkRegistrationResult(row.line(), user.getUsername(), Status.FAILED,
+                        "Password could not be hashed"));
+            }
+        }
+        if (users.isEmpty()) {
+            return 0;
+        }
+
+        // Insert the chunk in one batch; a row taken meanwhile (username or email) is skipped, not fatal
+        List<Boolean> inserted = bulkSaveUserPort.insertAll(users);
+        int created = 0;
+        for (int i = 0; i < hashed.size(); i++) {
+            BulkRegistrationRow row = hashed.get(i);
+            if (inserted.get(i)) {
+                created++;
+                results.add(new BulkRegistrationResult(row.line(), row.user().getUsername(), Status.CREATED, null));
+            } else {
+                results.add(new BulkRegistrationResult(row.line(), row.user().getUsername(), Status.DUPLICATE,
+                        "Username or email already exists"));
+            }
+        }
+        return created;
+    }
+
+    private CompletableFuture<String> encode(String password) {
+        while (true) {
+            try {
+                return passwordHashingExecutor.encode(password);
+            } catch (PasswordHashingBusyException e) {
+                // The queue is full of interactive requests: they go first, the bulk request waits
+                LockSupport.parkNanos(BUSY_BACKOFF_NANOS);
+            }
+        }
+    }
+}
@@ -3,44 +3,116 @@ package com.ftp.authservice.application.service;
 import com.ftp.authservice.domain.model.User;
 import com.ftp.authservice.domain.ports.in.LoginUseCase;
 import com.ftp.authservice.domain.ports.out.LoadUserPort;
-import com.ftp.authservice.infrastructure.db.entities.FailedLoginAttempt;
-import com.ftp.authservice.infrastructure.repositories.FailedLoginAttemptRepository;
+import com.ftp.authservice.domain.ports.out.LoginAttemptPort;
+import com.ftp.authservice.domain.ports.out.UpdatePasswordPort;
+import com.ftp.authservice.exception.AppException;
+import com.ftp.authservice.exception.PasswordHashingBusyException;
+import com.ftp.authservice.infrastructure.security.PasswordHashingExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class LoginServiceImpl implements LoginUseCase {
 
+    private static final Logger logger = LoggerFactory.getLogger(LoginServiceImpl.class);
+
     private final LoadUserPort loadUserPort;
     private final PasswordEncoder passwordEncoder;
-    private final FailedLoginAttemptRepository failedLoginAttemptRepository;
+    private final LoginAttemptPort loginAttemptPort;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final UpdatePasswordPort updatePasswordPort;
 
-    public LoginServiceImpl(LoadUserPort loadUserPort, PasswordEncoder passwordEncoder, FailedLoginAttemptRepository failedLoginAttemptRepository) {
+    public LoginServiceImpl(LoadUserPort loadUserPort, PasswordEncoder passwordEncoder,
+                            LoginAttemptPort loginAttemptPort,
+                            PasswordHashingExecutor passwordHashingExecutor,
+                            UpdatePasswordPort updatePasswordPort) {
         this.loadUserPort = loadUserPort;
         this.passwordEncoder = passwordEncoder;
-        this.failedLoginAttemptRepository = failedLoginAttemptRepository;
+        this.loginAttemptPort = loginAttemptPort;
+        this.passwordHashingExecutor = passwordHashingExecutor;
+        this.updatePasswordPort = updatePasswordPort;
     }
 
     @Override
     public User login(String username, String password) {
-        // Check if the account is locked due to too many failed login attempts
-        FailedLoginAttempt failedAttempt = failedLoginAttemptRepository.findByUsername(username).orElse(new FailedLoginAttempt());
-        if (failedAttempt.isLocked()) {
-            throw new RuntimeException("Account is locked due to too many failed login attempts.");
-        }
+        ensureNotLocked(username, null);
 
         // Load user and verify password
-        User user = loadUserPort.loadByUsername(username)
-                .filter(u -> passwordEncoder.matches(password, u.getPassword()))
-                .orElseThrow(() -> {
-                    // Increment failed attempts if login fails
-                    failedAttempt.incrementAttempts();
-                    failedLoginAttemptRepository.save(failedAttempt);
-                    throw new RuntimeException("Invalid username or password");
-                });
+        Optional<User> user = loadUserPort.loadByUsername(username);
+        boolean matches = user.isPresent() && passwordEncoder.matches(password, user.get().getPassword());
+        User authenticated = completeLogin(user, matches, username, null);
+
+        // Replace a hash made with other parameters while the raw password is at hand
+        if (passwordEncoder.upgradeEncoding(authenticated.getPassword())) {
+            try {
+                updatePasswordPort.updatePassword(authenticated.getId(), passwordEncoder.encode(password));
+            } catch (RuntimeException e) {
+                logger.warn("Failed to rehash the password of user {}", username, e);
+            }
+        }
+        return authenticated;
+    }
+
+    @Override
+    public CompletableFuture<User> loginAsync(String username, String password, String clientIp) {
+        ensureNotLocked(username, clientIp);
+
+        // Load user on the calling thread, verify the password on the hashing pool, finish on the I/O pool
+        Optional<User> user = loadUserPort.loadByUsername(username);
+        CompletableFuture<Boolean> matches = user.isPresent()
+                ? passwordHashingExecutor.matches(password, user.get().getPassword())
+                : CompletableFuture.completedFuture(false);
+        return matches.thenApplyAsync(match -> {
+            User authenticated = completeLogin(user, match, username, clientIp);
+            rehashAsyncIfNeeded(authenticated, password);
+            return authenticated;
+        }, passwordHashingExecutor.ioExecutor());
+    }
+
+    /**
+     * Replaces a hash made with other parameters than the current ones, without delaying the login:
+     * the new hash is computed on the hashing pool and skipped when the pool is busy (the next login retries).
+     */
+    private void rehashAsyncIfNeeded(User user, String password) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            passwordHashingExecutor.encode(password)
+                    .thenAcceptAsync(encoded -> updatePasswordPort.updatePassword(user.getId(), encoded),
+                            passwordHashingExecutor.ioExecutor())
+                    .exceptionally(e -> {
+                        logger.warn("Failed to rehash the password of user {}", user.getUsername(), e);
+                        return null;
+                    });
+        } catch (PasswordHashingBusyException e) {
+            logger.debug("Hashing pool busy, rehash of user {} postponed", user.getUsername());
+        }
+    }
+
+    private void ensureNotLocked(String username, String clientIp) {
+        // Check if the account or client is locked due to too many failed login attempts (in memory, no query)
+        if (loginAttemptPort.lockedUntil(username, clientIp).isPresent()) {
+            throw new AppException("Account is locked due to too many failed login attempts.",
+                    "ACCOUNT_LOCKED", HttpStatus.TOO_MANY_REQUESTS);
+        }
+    }
+
+    private User completeLogin(Optional<User> user, boolean passwordMatches, String username, String clientIp) {
+        if (user.isEmpty() || !passwordMatches) {
+            // Count the failure against the username and the client IP
+            loginAttemptPort.recordFailure(username, clientIp);
+            throw new RuntimeException("Invalid username or password");
+        }
 
         // Reset failed attempts after successful login
-        failedLoginAttemptRepository.delete(failedAttempt);
-        return user;
+        loginAttemptPort.recordSuccess(username);
+        return user.get();
     }
 }
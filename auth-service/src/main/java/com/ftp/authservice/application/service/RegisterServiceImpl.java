@@ -4,27 +4,50 @@ import com.ftp.authservice.domain.model.User;
 import com.ftp.authservice.domain.ports.in.RegisterUserUseCase;
 import com.ftp.authservice.domain.ports.out.SaveUserPort;
 import com.ftp.authservice.exception.UserAlreadyExistsException;
+import com.ftp.authservice.infrastructure.security.PasswordHashingExecutor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class RegisterServiceImpl implements RegisterUserUseCase {
 
     private final SaveUserPort saveUserPort;
     private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingExecutor passwordHashingExecutor;
 
     // Logger initialization
     private static final Logger logger = LoggerFactory.getLogger(RegisterServiceImpl.class);
 
-    public RegisterServiceImpl(SaveUserPort saveUserPort, PasswordEncoder passwordEncoder) {
+    public RegisterServiceImpl(SaveUserPort saveUserPort, PasswordEncoder passwordEncoder,
+                               PasswordHashingExecutor passwordHashingExecutor) {
         this.saveUserPort = saveUserPort;
         this.passwordEncoder = passwordEncoder;
+        this.passwordHashingExecutor = passwordHashingExecutor;
     }
 
     @Override
     public User register(User user) {
+        checkUsernameAvailable(user);
+
+        // Encrypt the password before saving it
+        return saveWithPassword(user, passwordEncoder.encode(user.getPassword()));
+    }
+
+    @Override
+    public CompletableFuture<User> registerAsync(User user) {
+        checkUsernameAvailable(user);
+
+        // Encrypt the password on the hashing pool, then save on the I/O pool
+        return passwordHashingExecutor.encode(user.getPassword())
+                .thenApplyAsync(encryptedPassword -> saveWithPassword(user, encryptedPassword),
+                        passwordHashingExecutor.ioExecutor());
+    }
+
+    private void checkUsernameAvailable(User user) {
         // Log the attempt to register the user
         logger.info("Attempting to register user with username: {}", user.getUsername());
 
@@ -33,10 +56,9 @@ public class RegisterServiceImpl implements RegisterUserUseCase {
             logger.error("Username already exists: {}", user.getUsername());
             throw new UserAlreadyExistsException("Username already exists");
         }
+    }
 
-        // Encrypt the password before saving it
-        String encryptedPassword = passwordEncoder.encode(user.getPassword());
-
+    private User saveWithPassword(User user, String encryptedPassword) {
         // Create a new User object with encrypted password
         User userToSave = new User(
                 user.getId(),
@@ -1,16 +1,55 @@
 package com.ftp.authservice.config;
 
+import com.ftp.authservice.infrastructure.cache.ScalableBloomFilter;
+import com.ftp.authservice.infrastructure.cache.UserCache;
+import com.ftp.authservice.infrastructure.security.CalibratedPasswordEncoder;
+import com.ftp.authservice.infrastructure.security.PasswordHashingExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
+@EnableScheduling // Lockout flush, refresh-token purge, revocation reload and replica lag checks
+@EnableConfigurationProperties({PasswordHashingProperties.class, RefreshTokenProperties.class,
+        UsernameFilterProperties.class, BulkRegistrationProperties.class, UserCacheProperties.class,
+        TokenRevocationProperties.class})
 public class AppConfig {
 
-    // Define BCryptPasswordEncoder as a Spring Bean to be injected
+    // BCrypt at a cost calibrated to this host (or fixed by auth.password-hashing.strength)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();  // Returns a BCryptPasswordEncoder instance
+    public PasswordEncoder passwordEncoder(PasswordHashingProperties properties) {
+        if (properties.getStrength() > 0) {
+            return new CalibratedPasswordEncoder(properties.getStrength(), true);
+        }
+        return new CalibratedPasswordEncoder(CalibratedPasswordEncoder.calibrate(properties.getTargetTime(),
+                properties.getMinStrength(), properties.getMaxStrength()), false);
+    }
+
+    // Bounded pool for hashing and verifying passwords off the servlet threads, plus one for the I/O after it
+    @Bean(destroyMethod = "shutdown")
+    public PasswordHashingExecutor passwordHashingExecutor(PasswordEncoder passwordEncoder,
+                                                           PasswordHashingProperties properties,
+                                                           MeterRegistry meterRegistry) {
+        int threads = properties.getThreads() > 0
+                ? properties.getThreads()
+                : Runtime.getRuntime().availableProcessors();
+        return new PasswordHashingExecutor(passwordEncoder, threads, properties.getQueueCapacity(),
+                properties.getIoThreads(), properties.getRetryAfter(), meterRegistry);
+    }
+
+    // Existing usernames, so registrations of new ones skip the existence query
+    @Bean
+    public ScalableBloomFilter usernameBloomFilter(UsernameFilterProperties properties) {
+        return new ScalableBloomFilter(properties.getExpectedUsers(), properties.getFalsePositiveRate());
+    }
+
+    // Loaded users by username, so logins of recently seen users skip the query
+    @Bean
+    public UserCache userCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        return new UserCache(properties.getTtl(), properties.getNegativeTtl(), properties.getReplicaLagWindow(),
+                properties.getMaxEntries(), meterRegistry);
     }
 }
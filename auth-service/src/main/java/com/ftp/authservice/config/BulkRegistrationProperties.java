@@ -0,0 +1,39 @@
+package com.ftp.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for bulk user registration (<code>POST /auth/register/bulk</code>).
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * auth:
+ *   bulk-registration:
+ *     chunk-size: 500
+ *     parallelism: 0
+ * </pre>
+ * Rows are handled <code>chunk-size</code> at a time: one duplicate query, the password hashes, one insert batch.
+ * At most <code>parallelism</code> hashes of a bulk request are on the password hashing pool at once, so
+ * interactive logins and registrations still find room in its queue.
+ */
+@ConfigurationProperties(prefix = "auth.bulk-registration")
+public class BulkRegistrationProperties {
+
+    /**
+     * Rows checked, hashed and inserted together.
+     */
+    private int chunkSize = 500;
+
+    /**
+     * Hashes of one bulk request in flight at once; 0 uses one per available CPU.
+     */
+    private int parallelism = 0;
+
+    public int getChunkSize() { return chunkSize; }
+
+    public void setChunkSize(int chunkSize) { this.chunkSize = chunkSize; }
+
+    public int getParallelism() { return parallelism; }
+
+    public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+}
@@ -0,0 +1,27 @@
+package com.ftp.authservice.config;
+
+import com.ftp.authservice.infrastructure.repositories.FailedLoginAttemptRepository;
+import com.ftp.authservice.infrastructure.security.SlidingWindowLoginAttemptTracker;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration class for the failed-login lockout.
+ * <p>
+ * Failures are tracked in memory by {@link SlidingWindowLoginAttemptTracker}, which flushes lockouts to the
+ * database periodically; the active lockouts are reloaded at startup.
+ */
+@Configuration
+@EnableConfigurationProperties(LoginAttemptProperties.class)
+public class LoginAttemptConfig {
+
+    @Bean(initMethod = "loadActiveLockouts", destroyMethod = "flush")
+    public SlidingWindowLoginAttemptTracker loginAttemptTracker(FailedLoginAttemptRepository repository,
+                                                                PlatformTransactionManager transactionManager,
+                                                                LoginAttemptProperties properties) {
+        return new SlidingWindowLoginAttemptTracker(repository, transactionManager, properties.getMaxFailures(),
+                properties.getWindow(), properties.getLockDuration(), properties.getMaxEntries());
+    }
+}
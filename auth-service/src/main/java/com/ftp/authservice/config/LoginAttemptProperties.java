@@ -0,0 +1,71 @@
+package com.ftp.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the failed-login lockout.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * auth:
+ *   login-attempts:
+ *     max-failures: 5
+ *     window: 15m
+ *     lock-duration: 30m
+ *     max-entries: 100000
+ *     flush-interval-ms: 1000
+ * </pre>
+ * A username or client IP with <code>max-failures</code> failed logins within <code>window</code> is locked out
+ * for <code>lock-duration</code>. Failures are counted in memory, per instance; only lockouts are stored,
+ * every <code>flush-interval-ms</code>.
+ */
+@ConfigurationProperties(prefix = "auth.login-attempts")
+public class LoginAttemptProperties {
+
+    /**
+     * Failed logins within the window that lock a username or client IP out.
+     */
+    private int maxFailures = 5;
+
+    /**
+     * Sliding window the failures are counted in.
+     */
+    private Duration window = Duration.ofMinutes(15);
+
+    /**
+     * How long a lockout lasts.
+     */
+    private Duration lockDuration = Duration.ofMinutes(30);
+
+    /**
+     * Maximum number of usernames, and of client IPs, tracked at once.
+     */
+    private int maxEntries = 100_000;
+
+    /**
+     * Delay between writes of new lockouts to the database.
+     */
+    private long flushIntervalMs = 1000;
+
+    public int getMaxFailures() { return maxFailures; }
+
+    public void setMaxFailures(int maxFailures) { this.maxFailures = maxFailures; }
+
+    public Duration getWindow() { return window; }
+
+    public void setWindow(Duration window) { this.window = window; }
+
+    public Duration getLockDuration() { return lockDuration; }
+
+    public void setLockDuration(Duration lockDuration) { this.lockDuration = lockDuration; }
+
+    public int getMaxEntries() { return maxEntries; }
+
+    public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+
+    public long getFlushIntervalMs() { return flushIntervalMs; }
+
+    public void setFlushIntervalMs(long flushIntervalMs) { this.flushIntervalMs = flushIntervalMs; }
+}
@@ -0,0 +1,102 @@
+package com.ftp.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for password hashing: the BCrypt cost and the hashing thread pool.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * auth:
+ *   password-hashing:
+ *     threads: 0
+ *     queue-capacity: 64
+ *     io-threads: 8
+ *     retry-after: 1s
+ *     target-time: 250ms
+ *     min-strength: 10
+ *     max-strength: 16
+ * </pre>
+ * Requests that find the queue full are rejected with 503 and a Retry-After header.
+ * Unless <code>strength</code> is set, the BCrypt cost is calibrated at startup to the highest value within
+ * [min-strength, max-strength] that hashes within <code>target-time</code> on this host. Hashes made with
+ * a lower cost are replaced on the next successful login, higher ones are kept. A <code>strength</code> set
+ * explicitly replaces hashes of any other cost, lowering them too.
+ */
+@ConfigurationProperties(prefix = "auth.password-hashing")
+public class PasswordHashingProperties {
+
+    /**
+     * Number of hashing threads; 0 uses one per available CPU.
+     */
+    private int threads = 0;
+
+    /**
+     * Maximum number of hashing tasks waiting for a thread.
+     */
+    private int queueCapacity = 64;
+
+    /**
+     * Number of threads running the database work and token signing after a hash.
+     */
+    private int ioThreads = 8;
+
+    /**
+     * Delay suggested to clients in the Retry-After header when the queue is full.
+     */
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    /**
+     * Fixed BCrypt cost; 0 calibrates it at startup.
+     */
+    private int strength = 0;
+
+    /**
+     * Verification time the calibrated cost aims for.
+     */
+    private Duration targetTime = Duration.ofMillis(250);
+
+    /**
+     * Lowest BCrypt cost the calibration may pick, whatever the hardware.
+     */
+    private int minStrength = 10;
+
+    /**
+     * Highest BCrypt cost the calibration may pick.
+     */
+    private int maxStrength = 16;
+
+    public int getThreads() { return threads; }
+
+    public void setThreads(int threads) { this.threads = threads; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getIoThreads() { return ioThreads; }
+
+    public void setIoThreads(int ioThreads) { this.ioThreads = ioThreads; }
+
+    public Duration getRetryAfter() { return retryAfter; }
+
+    public void setRetryAfter(Duration retryAfter) { this.retryAfter = retryAfter; }
+
+    public int getStrength() { return strength; }
+
+    public void setStrength(int strength) { this.strength = strength; }
+
+    public Duration getTargetTime() { return targetTime; }
+
+    public void setTargetTime(Duration targetTime) { this.targetTime = targetTime; }
+
+    public int getMinStrength() { return minStrength; }
+
+    public void setMinStrength(int minStrength) { this.minStrength = minStrength; }
+
+    public int getMaxStrength() { return maxStrength; }
+
+    public void setMaxStrength(int maxStrength) { this.maxStrength = maxStrength; }
+}
@@ -0,0 +1,114 @@
+package com.ftp.authservice.config;
+
+import com.ftp.authservice.infrastructure.db.routing.ConsistencyTokenFilter;
+import com.ftp.authservice.infrastructure.db.routing.DataSourceRole;
+import com.ftp.authservice.infrastructure.db.routing.ReadWriteRoutingDataSource;
+import com.ftp.authservice.infrastructure.db.routing.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Configuration class that splits database traffic between the primary and a read replica.
+ * <p>
+ * Active only with <code>auth.datasource.replica.enabled=true</code>. It then replaces the auto-configured
+ * DataSource with:
+ * <ul>
+ *   <li>primaryDataSource: the pool configured under <code>spring.datasource</code> (writes, Liquibase)</li>
+ *   <li>replicaDataSource: a read-only pool configured under <code>auth.datasource.replica</code></li>
+ *   <li>dataSource (primary bean): a lazy routing proxy used by JPA and JdbcTemplate</li>
+ * </ul>
+ * See {@link ReadWriteRoutingDataSource} for the routing rules. The replica lag checks of
+ * {@link ReplicaLagMonitor} run on the scheduling enabled in AppConfig.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "auth.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    private final ReadReplicaProperties properties;
+
+    public ReadReplicaConfig(ReadReplicaProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Primary pool built from <code>spring.datasource</code>, Hikari settings bound from
+     * <code>spring.datasource.hikari</code>.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    /**
+     * Read-only pool on the replica.
+     *
+     * @throws IllegalStateException if no replica URL is configured
+     */
+    @Bean
+    public HikariDataSource replicaDataSource() {
+        if (properties.getUrl() == null || properties.getUrl().isBlank()) {
+            throw new IllegalStateException("auth.datasource.replica.url must be set when the read replica is enabled");
+        }
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword());
+        if (properties.getDriverClassName() != null) {
+            builder.driverClassName(properties.getDriverClassName());
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), properties.getLagQuery(), properties.getMaxLag());
+    }
+
+    /**
+     * The DataSource used by the application: routes per transaction and fetches the physical connection
+     * lazily, after the read-only flag of the transaction is known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReplicaLagMonitor replicaLagMonitor) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(replicaLagMonitor);
+        routingDataSource.setTargetDataSources(Map.<Object, Object>of(
+                DataSourceRole.PRIMARY, primaryDataSource,
+                DataSourceRole.REPLICA, replicaDataSource));
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "auth.datasource.replica", name = "read-your-writes", havingValue = "true", matchIfMissing = true)
+    public ConsistencyTokenFilter consistencyTokenFilter() {
+        return new ConsistencyTokenFilter();
+    }
+}
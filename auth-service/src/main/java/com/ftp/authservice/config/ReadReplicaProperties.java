@@ -0,0 +1,114 @@
+package com.ftp.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the read replica used by read-only transactions.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * auth:
+ *   datasource:
+ *     replica:
+ *       enabled: true
+ *       url: jdbc:postgresql://replica:5432/fund_transfer_db
+ *       username: postgres
+ *       password: secret
+ *       max-lag: 5s
+ * </pre>
+ * While disabled, every transaction uses the primary datasource from <code>spring.datasource</code>.
+ * Only lookups marked <code>@Transactional(readOnly = true)</code> use the replica; uniqueness checks
+ * before writes stay on the primary.
+ */
+@ConfigurationProperties(prefix = "auth.datasource.replica")
+public class ReadReplicaProperties {
+
+    /**
+     * PostgreSQL: 0 when the replica has replayed everything it received, otherwise the age of the
+     * last replayed transaction in milliseconds. NULL (e.g. not a standby) marks the replica unusable.
+     */
+    static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+                    + "ELSE CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT) END";
+
+    /**
+     * Whether read-only transactions are routed to the replica.
+     */
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    private String driverClassName;
+
+    /**
+     * Maximum size of the replica connection pool.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Replica lag above which reads fall back to the primary.
+     */
+    private Duration maxLag = Duration.ofSeconds(5);
+
+    /**
+     * Delay between two replica lag measurements, in milliseconds.
+     */
+    private long lagCheckIntervalMs = 2000;
+
+    /**
+     * Query returning the replica lag in milliseconds as a single number.
+     */
+    private String lagQuery = POSTGRES_LAG_QUERY;
+
+    /**
+     * Whether clients sending back the X-Consistency-Token of their last write read from the primary
+     * until the replica has caught up with that write.
+     */
+    private boolean readYourWrites = true;
+
+    public boolean isEnabled() { return enabled; }
+
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getUrl() { return url; }
+
+    public void setUrl(String url) { this.url = url; }
+
+    public String getUsername() { return username; }
+
+    public void setUsername(String username) { this.username = username; }
+
+    public String getPassword() { return password; }
+
+    public void setPassword(String password) { this.password = password; }
+
+    public String getDriverClassName() { return driverClassName; }
+
+    public void setDriverClassName(String driverClassName) { this.driverClassName = driverClassName; }
+
+    public int getMaximumPoolSize() { return maximumPoolSize; }
+
+    public void setMaximumPoolSize(int maximumPoolSize) { this.maximumPoolSize = maximumPoolSize; }
+
+    public Duration getMaxLag() { return maxLag; }
+
+    public void setMaxLag(Duration maxLag) { this.maxLag = maxLag; }
+
+    public long getLagCheckIntervalMs() { return lagCheckIntervalMs; }
+
+    public void setLagCheckIntervalMs(long lagCheckIntervalMs) { this.lagCheckIntervalMs = lagCheckIntervalMs; }
+
+    public String getLagQuery() { return lagQuery; }
+
+    public void setLagQuery(String lagQuery) { this.lagQuery = lagQuery; }
+
+    public boolean isReadYourWrites() { return readYourWrites; }
+
+    public void setReadYourWrites(boolean readYourWrites) { this.readYourWrites = readYourWrites; }
+}
@@ -0,0 +1,49 @@
+package com.ftp.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the refresh-token store.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * auth:
+ *   refresh-tokens:
+ *     max-active-per-user: 10
+ *     purge-batch-size: 1000
+ *     purge-interval-ms: 600000
+ * </pre>
+ * Issuing a token beyond <code>max-active-per-user</code> revokes the user's oldest ones. Expired tokens
+ * are deleted every <code>purge-interval-ms</code>, <code>purge-batch-size</code> rows per transaction.
+ * Token lifetime is <code>jwt.refreshExpiration</code>.
+ */
+@ConfigurationProperties(prefix = "auth.refresh-tokens")
+public class RefreshTokenProperties {
+
+    /**
+     * Maximum number of unexpired refresh tokens per user (one per device or session).
+     */
+    private int maxActivePerUser = 10;
+
+    /**
+     * Expired tokens deleted per transaction by the purge.
+     */
+    private int purgeBatchSize = 1000;
+
+    /**
+     * Delay between purges of expired tokens.
+     */
+    private long purgeIntervalMs = 600_000;
+
+    public int getMaxActivePerUser() { return maxActivePerUser; }
+
+    public void setMaxActivePerUser(int maxActivePerUser) { this.maxActivePerUser = maxActivePerUser; }
+
+    public int getPurgeBatchSize() { return purgeBatchSize; }
+
+    public void setPurgeBatchSize(int purgeBatchSize) { this.purgeBatchSize = purgeBatchSize; }
+
+    public long getPurgeIntervalMs() { return purgeIntervalMs; }
+
+    public void setPurgeIntervalMs(long purgeIntervalMs) { this.purgeIntervalMs = purgeIntervalMs; }
+}
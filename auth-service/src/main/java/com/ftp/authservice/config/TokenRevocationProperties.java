@@ -0,0 +1,104 @@
+package com.ftp.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for access-token revocation.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * auth:
+ *   revocations:
+ *     internal-secret: ${REVOCATIONS_INTERNAL_SECRET}
+ *     poll-interval-ms: 1000
+ *     settle-delay: 5s
+ *     false-positive-rate: 0.000001
+ *     min-filter-capacity: 1024
+ *     max-delta-entries: 10000
+ *     purge-batch-size: 1000
+ *     purge-interval-ms: 600000
+ * </pre>
+ * Each instance reloads new revocations every <code>poll-interval-ms</code>. Gateways pull them from
+ * <code>GET /auth/internal/revocations</code> with the <code>X-Internal-Secret</code> header; an empty
+ * <code>internal-secret</code> disables that endpoint.
+ */
+@ConfigurationProperties(prefix = "auth.revocations")
+public class TokenRevocationProperties {
+
+    /**
+     * Shared with the gateways pulling revocations.
+     */
+    private String internalSecret = "";
+
+    /**
+     * Delay between reloads of new revocations from the database.
+     */
+    private long pollIntervalMs = 1000;
+
+    /**
+     * Revocations younger than this are sent again on every pull, so one committed late, after a higher
+     * version was already pulled, is never skipped. Must exceed the longest revocation transaction.
+     */
+    private Duration settleDelay = Duration.ofSeconds(5);
+
+    /**
+     * False-positive rate of the full snapshot filter: a false positive rejects a valid token until its
+     * holder logs in again.
+     */
+    private double falsePositiveRate = 0.000001;
+
+    /**
+     * Smallest capacity of the full snapshot filter; it is sized for twice the revoked tokens at least, so
+     * gateways can add the following deltas to it.
+     */
+    private int minFilterCapacity = 1024;
+
+    /**
+     * A pull further behind than this gets a full snapshot instead of the delta.
+     */
+    private int maxDeltaEntries = 10_000;
+
+    /**
+     * Rows read per query when reloading, and expired rows deleted per transaction by the purge.
+     */
+    private int purgeBatchSize = 1000;
+
+    /**
+     * Delay between purges of expired revocations.
+     */
+    private long purgeIntervalMs = 600_000;
+
+    public String getInternalSecret() { return internalSecret; }
+
+    public void setInternalSecret(String internalSecret) { this.internalSecret = internalSecret; }
+
+    public long getPollIntervalMs() { return pollIntervalMs; }
+
+    public void setPollIntervalMs(long pollIntervalMs) { this.pollIntervalMs = pollIntervalMs; }
+
+    public Duration getSettleDelay() { return settleDelay; }
+
+    public void setSettleDelay(Duration settleDelay) { this.settleDelay = settleDelay; }
+
+    public double getFalsePositiveRate() { return falsePositiveRate; }
+
+    public void setFalsePositiveRate(double falsePositiveRate) { this.falsePositiveRate = falsePositiveRate; }
+
+    public int getMinFilterCapacity() { return minFilterCapacity; }
+
+    public void setMinFilterCapacity(int minFilterCapacity) { this.minFilterCapacity = minFilterCapacity; }
+
+    public int getMaxDeltaEntries() { return maxDeltaEntries; }
+
+    public void setMaxDeltaEntries(int maxDeltaEntries) { this.maxDeltaEntries = maxDeltaEntries; }
+
+    public int getPurgeBatchSize() { return purgeBatchSize; }
+
+    public void setPurgeBatchSize(int purgeBatchSize) { this.purgeBatchSize = purgeBatchSize; }
+
+    public long getPurgeIntervalMs() { return purgeIntervalMs; }
+
+    public void setPurgeIntervalMs(long purgeIntervalMs) { this.purgeIntervalMs = purgeIntervalMs; }
+}
@@ -0,0 +1,61 @@
+package com.ftp.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the cache of loaded users.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * auth:
+ *   user-cache:
+ *     ttl: 2m
+ *     negative-ttl: 30s
+ *     replica-lag-window: 5s
+ *     max-entries: 50000
+ * </pre>
+ * With several instances, a password or role changed through one of them is seen by the others after at most
+ * <code>ttl</code>; keep it short.
+ */
+@ConfigurationProperties(prefix = "auth.user-cache")
+public class UserCacheProperties {
+
+    /**
+     * How long a loaded user is served from the cache.
+     */
+    private Duration ttl = Duration.ofMinutes(2);
+
+    /**
+     * How long an unknown username is remembered as unknown.
+     */
+    private Duration negativeTtl = Duration.ofSeconds(30);
+
+    /**
+     * How long after a write the user is read without being cached, at least the replica's max-lag when a read
+     * replica serves the misses.
+     */
+    private Duration replicaLagWindow = Duration.ofSeconds(5);
+
+    /**
+     * Maximum number of cached usernames, known or unknown.
+     */
+    private int maxEntries = 50_000;
+
+    public Duration getTtl() { return ttl; }
+
+    public void setTtl(Duration ttl) { this.ttl = ttl; }
+
+    public Duration getNegativeTtl() { return negativeTtl; }
+
+    public void setNegativeTtl(Duration negativeTtl) { this.negativeTtl = negativeTtl; }
+
+    public Duration getReplicaLagWindow() { return replicaLagWindow; }
+
+    public void setReplicaLagWindow(Duration replicaLagWindow) { this.replicaLagWindow = replicaLagWindow; }
+
+    public int getMaxEntries() { return maxEntries; }
+
+    public void setMaxEntries(int maxEntries) { this.maxEntries = maxEntries; }
+}
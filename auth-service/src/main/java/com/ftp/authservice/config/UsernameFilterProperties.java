@@ -0,0 +1,38 @@
+package com.ftp.authservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the Bloom filter of existing usernames.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * auth:
+ *   username-filter:
+ *     expected-users: 100000
+ *     false-positive-rate: 0.01
+ * </pre>
+ * The filter grows past <code>expected-users</code>, keeping the rate; sizing it close to the user count
+ * only saves the extra stages.
+ */
+@ConfigurationProperties(prefix = "auth.username-filter")
+public class UsernameFilterProperties {
+
+    /**
+     * Number of usernames the first filter stage is sized for.
+     */
+    private int expectedUsers = 100_000;
+
+    /**
+     * Share of unknown usernames that still go to the database.
+     */
+    private double falsePositiveRate = 0.01;
+
+    public int getExpectedUsers() { return expectedUsers; }
+
+    public void setExpectedUsers(int expectedUsers) { this.expectedUsers = expectedUsers; }
+
+    public double getFalsePositiveRate() { return falsePositiveRate; }
+
+    public void setFalsePositiveRate(double falsePositiveRate) { this.falsePositiveRate = falsePositiveRate; }
+}
@@ -0,0 +1,19 @@
+package com.ftp.authservice.domain.model;
+
+/**
+ * Outcome of one line of a bulk registration.
+ *
+ * @param line     the 1-based line number in the request
+ * @param username the username of the line, null if it could not be read
+ * @param status   what happened to the line
+ * @param message  details for rows that were not created
+ */
+public record BulkRegistrationResult(long line, String username, Status status, String message) {
+
+    public enum Status {
+        CREATED,
+        DUPLICATE,
+        INVALID,
+        FAILED
+    }
+}
@@ -0,0 +1,19 @@
+package com.ftp.authservice.domain.model;
+
+/**
+ * One line of a bulk registration: the user to create, or why the line could not be read.
+ *
+ * @param line  the 1-based line number in the request
+ * @param user  the user to register, null when the line is invalid
+ * @param error why the line is invalid, null when it is valid
+ */
+public record BulkRegistrationRow(long line, User user, String error) {
+
+    public static BulkRegistrationRow valid(long line, User user) {
+        return new BulkRegistrationRow(line, user, null);
+    }
+
+    public static BulkRegistrationRow invalid(long line, String error) {
+        return new BulkRegistrationRow(line, null, error);
+    }
+}
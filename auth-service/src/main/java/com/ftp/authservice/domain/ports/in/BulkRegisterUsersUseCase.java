@@ -0,0 +1,19 @@
+package com.ftp.authservice.domain.ports.in;
+
+import com.ftp.authservice.domain.model.BulkRegistrationResult;
+import com.ftp.authservice.domain.model.BulkRegistrationRow;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface BulkRegisterUsersUseCase {
+
+    /**
+     * Registers users in chunks, reading the rows as they come.
+     *
+     * @param rows    the users to register, consumed lazily
+     * @param results receives the outcome of every row, one call per chunk as soon as the chunk is done
+     */
+    void registerAll(Iterator<BulkRegistrationRow> rows, Consumer<List<BulkRegistrationResult>> results);
+}
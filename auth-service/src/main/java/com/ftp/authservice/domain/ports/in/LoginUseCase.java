@@ -2,6 +2,8 @@ package com.ftp.authservice.domain.ports.in;
 
 import com.ftp.authservice.domain.model.User;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface  LoginUseCase {
     /**
      * Authenticates a user by username and password.
@@ -12,4 +14,17 @@ public interface  LoginUseCase {
      */
     User login(String username, String password);
 
+    /**
+     * Authenticates a user by username and password, verifying the password on the password hashing pool
+     * instead of the calling thread. The future completes on the I/O pool of the hashing executor, never on a
+     * hashing thread, so blocking work may follow it.
+     *
+     * @param username the user's username
+     * @param password the user's password
+     * @param clientIp the address the request comes from, counted for lockouts alongside the username
+     * @return a future of the authenticated user, failing if the credentials are invalid
+     * @throws com.ftp.authservice.exception.PasswordHashingBusyException if the hashing queue is full
+     */
+    CompletableFuture<User> loginAsync(String username, String password, String clientIp);
+
 }
@@ -2,6 +2,16 @@ package com.ftp.authservice.domain.ports.in;
 
 import com.ftp.authservice.domain.model.User;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface RegisterUserUseCase {
     User register(User user);
+
+    /**
+     * Registers a user, hashing the password on the password hashing pool instead of the calling thread.
+     * The user is saved, and the future completes, on the I/O pool of the hashing executor.
+     *
+     * @throws com.ftp.authservice.exception.PasswordHashingBusyException if the hashing queue is full
+     */
+    CompletableFuture<User> registerAsync(User user);
 }
@@ -0,0 +1,25 @@
+package com.ftp.authservice.domain.ports.out;
+
+import com.ftp.authservice.domain.model.User;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Output port for creating many users at once, with set-based checks instead of one query per user.
+ */
+public interface BulkSaveUserPort {
+
+    /**
+     * @return those of the given usernames that are already taken, in one query
+     */
+    Set<String> findExistingUsernames(Collection<String> usernames);
+
+    /**
+     * Inserts the users, whose passwords are already encoded, in one batch.
+     *
+     * @return for each user in order, true if inserted, false if its username or email was taken meanwhile
+     */
+    List<Boolean> insertAll(List<User> users);
+}
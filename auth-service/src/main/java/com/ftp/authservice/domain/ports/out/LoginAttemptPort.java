@@ -0,0 +1,28 @@
+package com.ftp.authservice.domain.ports.out;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Output port tracking failed logins per username and per client IP, and the lockouts they cause.
+ */
+public interface LoginAttemptPort {
+
+    /**
+     * @param clientIp the client address, or null if unknown
+     * @return the end of the lockout if the username or the client IP is locked out
+     */
+    Optional<Instant> lockedUntil(String username, String clientIp);
+
+    /**
+     * Records a failed login; reaching the limit locks the username or the client IP out.
+     *
+     * @param clientIp the client address, or null if unknown
+     */
+    void recordFailure(String username, String clientIp);
+
+    /**
+     * Forgets the failed logins of the username after a successful login.
+     */
+    void recordSuccess(String username);
+}
@@ -0,0 +1,15 @@
+package com.ftp.authservice.domain.ports.out;
+
+import java.util.UUID;
+
+/**
+ * Output port to replace the stored password hash of a user, e.g. after the hashing parameters changed.
+ */
+public interface UpdatePasswordPort {
+
+    /**
+     * @param userId          the user whose hash is replaced
+     * @param encodedPassword the new hash of the same password
+     */
+    void updatePassword(UUID userId, String encodedPassword);
+}
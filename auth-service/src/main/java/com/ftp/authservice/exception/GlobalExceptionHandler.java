@@ -1,5 +1,6 @@
 package com.ftp.authservice.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -25,6 +26,21 @@ public class GlobalExceptionHandler {
         return buildResponse(HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 
+    // Handle PasswordHashingBusyException: tell the client when to retry
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Object> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(ex.getHttpStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(buildResponse(ex.getHttpStatus(), ex.getMessage()).getBody());
+    }
+
+    // Handle other AppExceptions with the status they carry
+    @ExceptionHandler(AppException.class)
+    public ResponseEntity<Object> handleAppException(AppException ex) {
+        return buildResponse(ex.getHttpStatus(), ex.getMessage());
+    }
+
     // Handle MethodArgumentNotValidException (for validation errors)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<Object> handleValidationErrors(MethodArgumentNotValidException ex) {
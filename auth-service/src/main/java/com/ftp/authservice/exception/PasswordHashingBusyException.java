@@ -0,0 +1,27 @@
+package com.ftp.authservice.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * Thrown when the password hashing queue is full.
+ * Mapped to 503 with a Retry-After header, so clients back off instead of piling up more logins.
+ */
+public class PasswordHashingBusyException extends AppException {
+
+    private final Duration retryAfter;
+
+    /**
+     * @param retryAfter The delay after which the client may retry.
+     */
+    public PasswordHashingBusyException(Duration retryAfter) {
+        super("Too many login or registration requests, please retry later", "PASSWORD_HASHING_BUSY",
+                HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
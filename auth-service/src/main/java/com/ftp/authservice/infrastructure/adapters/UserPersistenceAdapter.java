@@ -1,28 +1,82 @@
 package com.ftp.authservice.infrastructure.adapters;
 
 import com.ftp.authservice.domain.model.User;
+import com.ftp.authservice.domain.ports.out.BulkSaveUserPort;
 import com.ftp.authservice.domain.ports.out.LoadUserPort;
 import com.ftp.authservice.domain.ports.out.SaveUserPort;
+import com.ftp.authservice.domain.ports.out.UpdatePasswordPort;
+import com.ftp.authservice.exception.UserAlreadyExistsException;
+import com.ftp.authservice.infrastructure.cache.ScalableBloomFilter;
+import com.ftp.authservice.infrastructure.cache.UserCache;
 import com.ftp.authservice.infrastructure.db.entities.UserJpaEntity;
 import com.ftp.authservice.infrastructure.repositories.UserJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 @Component
-public class UserPersistenceAdapter implements LoadUserPort, SaveUserPort {
+public class UserPersistenceAdapter implements LoadUserPort, SaveUserPort, UpdatePasswordPort, BulkSaveUserPort {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserPersistenceAdapter.class);
+
+    // Rows whose username or email is taken are skipped instead of failing the whole batch
+    private static final String BULK_INSERT_SQL =
+            "INSERT INTO users (id, username, password, email, first_name, last_name, role) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?) ON CONFLICT DO NOTHING";
 
     private final UserJpaRepository userJpaRepository;
+    private final ScalableBloomFilter usernameFilter;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCache userCache;
+
+    // Until the filter holds every existing username, all checks go to the database
+    private volatile boolean usernameFilterReady;
 
-    public UserPersistenceAdapter(UserJpaRepository userJpaRepository) {
+    public UserPersistenceAdapter(UserJpaRepository userJpaRepository, ScalableBloomFilter usernameFilter,
+                                  JdbcTemplate jdbcTemplate, UserCache userCache) {
         this.userJpaRepository = userJpaRepository;
+        this.usernameFilter = usernameFilter;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userCache = userCache;
+    }
+
+    /**
+     * Fills the username filter from the user table once the application is up, streaming usernames only.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUsernameFilter() {
+        try (Stream<String> usernames = userJpaRepository.streamAllUsernames()) {
+            usernames.forEach(usernameFilter::put);
+        }
+        usernameFilterReady = true;
+        logger.info("Username filter warmed: {} stage(s), {} KB", usernameFilter.stageCount(),
+                usernameFilter.sizeInBytes() / 1024);
     }
 
     @Override
     public Optional<User> loadByUsername(String username) {
-        // Get user from database by username
-        return userJpaRepository.findByUsername(username)
-                .map(this::mapToDomain); // Convert entity to domain model
+        // Served from the cache when possible, no transaction is opened for a hit; otherwise get user from
+        // database by username (served by the read replica when one is configured)
+        return userCache.get(username, name -> userJpaRepository.findByUsername(name)
+                .map(this::mapToDomain)); // Convert entity to domain model
     }
 
     private User mapToDomain(UserJpaEntity entity) {
@@ -49,15 +103,91 @@ public class UserPersistenceAdapter implements LoadUserPort, SaveUserPort {
                 user.getLastName(),
                 user.getRole()
         );
-        // Save user in the database
-        UserJpaEntity saved = userJpaRepository.save(entity);
+        // Save user in the database; the unique constraint settles races the existence check cannot see
+        UserJpaEntity saved;
+        try {
+            saved = userJpaRepository.save(entity);
+        } catch (DataIntegrityViolationException e) {
+            if (userJpaRepository.existsByUsername(user.getUsername())) {
+                throw new UserAlreadyExistsException("Username already exists");
+            }
+            throw e;
+        }
+        usernameFilter.put(saved.getUsername());
+        String username = saved.getUsername();
+        afterCommit(() -> userCache.invalidate(username)); // It may be cached as unknown
         // Convert saved entity back to domain model
         return mapToDomain(saved);
     }
 
     @Override
     public boolean existsByUsername(String username) {
-        // Check if username exists in the database
+        // A username the filter has never seen does not exist here: skip the query. Users registered
+        // through another instance are caught by the unique constraint on save
+        if (usernameFilterReady && !usernameFilter.mightContain(username)) {
+            return false;
+        }
+        // Check if username exists in the database; stays on the primary because it guards the insert
         return userJpaRepository.existsByUsername(username);
     }
+
+    @Override
+    @Transactional
+    public void updatePassword(UUID userId, String encodedPassword) {
+        // Replace only the hash, the rest of the user row stays untouched
+        userJpaRepository.updatePassword(userId, encodedPassword);
+        afterCommit(() -> userCache.invalidate(userId));
+    }
+
+    @Override
+    public Set<String> findExistingUsernames(Collection<String> usernames) {
+        // One IN query for the whole chunk, on the primary like existsByUsername
+        return new HashSet<>(userJpaRepository.findExistingUsernames(usernames));
+    }
+
+    @Override
+    @Transactional
+    public List<Boolean> insertAll(List<User> users) {
+        // Plain JDBC batch: no entity state, one round trip per batch instead of one per user
+        int[] counts = jdbcTemplate.batchUpdate(BULK_INSERT_SQL, users, users.size(), (statement, user) -> {
+            statement.setObject(1, UUID.randomUUID());
+            statement.setString(2, user.getUsername());
+            statement.setString(3, user.getPassword());
+            statement.setString(4, user.getEmail());
+            statement.setString(5, user.getFirstName());
+            statement.setString(6, user.getLastName());
+            statement.setString(7, user.getRole());
+        })[0];
+
+        List<Boolean> inserted = new ArrayList<>(users.size());
+        List<String> created = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            // SUCCESS_NO_INFO (rewritten batches) gives no per-row count; the row is then reported as inserted
+            boolean isCreated = counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO;
+            if (isCreated) {
+                usernameFilter.put(users.get(i).getUsername());
+                created.add(users.get(i).getUsername());
+            }
+            inserted.add(isCreated);
+        }
+        afterCommit(() -> created.forEach(userCache::invalidate));
+        return inserted;
+    }
+
+    /**
+     * Runs the cache invalidation once the surrounding transaction has committed, or at once outside of one.
+     * Invalidating earlier lets a concurrent miss cache the row as it was before the write.
+     */
+    private void afterCommit(Runnable invalidation) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidation.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidation.run();
+            }
+        });
+    }
 }
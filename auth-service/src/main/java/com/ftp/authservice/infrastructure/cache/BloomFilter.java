@@ -0,0 +1,118 @@
+package com.ftp.authservice.infrastructure.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * BloomFilter is a fixed-size, thread-safe Bloom filter of strings whose bits can be exported, to ship it to
+ * another process.
+ * <p>
+ * Values are hashed with FNV-1a then a 64-bit finalizer, and spread with double hashing over
+ * <code>bitCount</code> bits; {@link ScalableBloomFilter} stacks instances of it. The gateway's
+ * RevocationBloomFilter rebuilds it from the exported words and must hash the same way: BloomFilterTest and the
+ * gateway's RevocationBloomFilterTest pin the same bit positions of known values.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int capacity;
+
+    /**
+     * @param capacity          number of elements the false-positive rate is sized for
+     * @param falsePositiveRate false-positive rate once <code>capacity</code> elements are added
+     */
+    public BloomFilter(int capacity, double falsePositiveRate) {
+        if (capacity <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter parameters");
+        }
+        long optimalBits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.bits = new AtomicLongArray((int) ((optimalBits + 63) / 64));
+        this.bitCount = bits.length() * 64L;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / capacity * Math.log(2)));
+        this.capacity = capacity;
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        put(hash1, secondHash(hash1));
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        return mightContain(hash1, secondHash(hash1));
+    }
+
+    // Hashes computed once by the caller, for filters made of several instances
+    void put(long hash1, long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    boolean mightContain(long hash1, long hash2) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return a copy of the bit array, bit <code>i</code> being bit <code>i % 64</code> of word <code>i / 64</code>
+     */
+    public long[] toWords() {
+        long[] words = new long[bits.length()];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = bits.get(i);
+        }
+        return words;
+    }
+
+    public int hashCount() {
+        return hashCount;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return the number of bytes held by the bit array
+     */
+    public long sizeInBytes() {
+        return bitCount / 8;
+    }
+
+    // FNV-1a over the UTF-16 chars, then a 64-bit finalizer so all bits depend on all chars
+    static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    // Step of the double hashing; odd, so it never stays on one bit
+    static long secondHash(long hash1) {
+        return mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
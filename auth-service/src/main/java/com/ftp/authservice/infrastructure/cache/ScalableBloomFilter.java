@@ -0,0 +1,93 @@
+package com.ftp.authservice.infrastructure.cache;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * ScalableBloomFilter is a thread-safe Bloom filter of strings that grows with its content.
+ * <p>
+ * It answers "definitely absent" or "maybe present". Once a stage holds its capacity a new stage is added,
+ * twice as large and with half the false-positive rate, so the overall rate stays below the configured one
+ * however many elements are added (Almeida et al., "Scalable Bloom Filters"). Bits are set with atomic
+ * operations; only adding a stage synchronizes.
+ */
+public class ScalableBloomFilter {
+
+    private static final int GROWTH = 2;
+    private static final double TIGHTENING = 0.5;
+
+    private volatile Stage[] stages;
+
+    /**
+     * @param expectedElements  capacity of the first stage
+     * @param falsePositiveRate upper bound of the false-positive rate over all stages
+     */
+    public ScalableBloomFilter(int expectedElements, double falsePositiveRate) {
+        if (expectedElements <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Invalid Bloom filter parameters");
+        }
+        this.stages = new Stage[]{new Stage(expectedElements, falsePositiveRate * (1 - TIGHTENING))};
+    }
+
+    /**
+     * One fixed-size Bloom filter and the number of values added to it.
+     */
+    private static final class Stage {
+        private final BloomFilter filter;
+        private final double falsePositiveRate;
+        private final AtomicInteger size = new AtomicInteger();
+
+        Stage(int capacity, double falsePositiveRate) {
+            this.filter = new BloomFilter(capacity, falsePositiveRate);
+            this.falsePositiveRate = falsePositiveRate;
+        }
+    }
+
+    public void put(String value) {
+        // Hashed once for all stages
+        long hash1 = BloomFilter.hash(value);
+        long hash2 = BloomFilter.secondHash(hash1);
+        Stage[] current = stages;
+        Stage last = current[current.length - 1];
+        last.filter.put(hash1, hash2);
+        if (last.size.incrementAndGet() >= last.filter.capacity()) {
+            grow(last);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = BloomFilter.hash(value);
+        long hash2 = BloomFilter.secondHash(hash1);
+        for (Stage stage : stages) {
+            if (stage.filter.mightContain(hash1, hash2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the number of stages, 1 until the first stage is full
+     */
+    public int stageCount() {
+        return stages.length;
+    }
+
+    /**
+     * @return the number of bytes held by the bit arrays
+     */
+    public long sizeInBytes() {
+        return Arrays.stream(stages).mapToLong(stage -> stage.filter.sizeInBytes()).sum();
+    }
+
+    private synchronized void grow(Stage full) {
+        Stage[] current = stages;
+        if (current[current.length - 1] != full) {
+            return; // Another thread already grew the filter
+        }
+        Stage[] grown = Arrays.copyOf(current, current.length + 1);
+        int capacity = (int) Math.min((long) full.filter.capacity() * GROWTH, Integer.MAX_VALUE);
+        grown[current.length] = new Stage(capacity, full.falsePositiveRate * TIGHTENING);
+        stages = grown;
+    }
+}
@@ -0,0 +1,162 @@
+package com.ftp.authservice.infrastructure.cache;
+
+import com.ftp.authservice.domain.model.User;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * UserCache keeps loaded users by username for a short time, including usernames that do not exist.
+ * <p>
+ * Found users are kept for <code>ttl</code>, unknown usernames for the shorter <code>negativeTtl</code>, so
+ * a burst of logins against the same unknown names (credential stuffing) queries each name once per
+ * <code>negativeTtl</code>. The cache holds at most <code>maxEntries</code>: when full, expired entries are swept
+ * and, if that is not enough, a tenth of the entries are evicted.
+ * <p>
+ * Writes invalidate the affected entries once committed. A load that overlaps an invalidation is returned but
+ * not cached, so a stale row read just before a write never outlives it. Misses may be served by a read replica
+ * that has not applied the write yet: for <code>replicaLagWindow</code> after an invalidation, loads of that
+ * username or user id are returned but not cached either, so a lagging replica cannot pin a new user as unknown
+ * or an old password for a whole TTL. Instances do not see each other's writes; the TTL bounds how long they
+ * serve the previous state.
+ * Metrics: <code>auth.user.cache.gets</code> (tag result=hit or miss), <code>auth.user.cache.evictions</code>,
+ * <code>auth.user.cache.size</code>.
+ */
+public class UserCache {
+
+    private record Entry(Optional<User> user, long expiresAtNanos) {
+    }
+
+    private final long ttlNanos;
+    private final long negativeTtlNanos;
+    private final long replicaLagWindowNanos;
+    private final int maxEntries;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Username or user id -> when it was last invalidated, kept for replicaLagWindow
+    private final Map<Object, Long> recentlyInvalidated = new ConcurrentHashMap<>();
+
+    // Bumped by every invalidation; a load that saw another value is not cached
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public UserCache(Duration ttl, Duration negativeTtl, Duration replicaLagWindow, int maxEntries,
+                     MeterRegistry meterRegistry) {
+        this.ttlNanos = ttl.toNanos();
+        this.negativeTtlNanos = negativeTtl.toNanos();
+        this.replicaLagWindowNanos = replicaLagWindow.toNanos();
+        this.maxEntries = maxEntries;
+        FunctionCounter.builder("auth.user.cache.gets", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.user.cache.gets", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(meterRegistry);
+        FunctionCounter.builder("auth.user.cache.evictions", evictions, LongAdder::sum)
+                .register(meterRegistry);
+        Gauge.builder("auth.user.cache.size", entries, Map::size)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached user, or loads and caches it.
+     *
+     * @param loader loads the user from the database, empty if the username does not exist
+     */
+    public Optional<User> get(String username, Function<String, Optional<User>> loader) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(username);
+        if (entry != null && now - entry.expiresAtNanos() < 0) {
+            hits.increment();
+            return entry.user();
+        }
+        misses.increment();
+
+        long loadGeneration = generation.get();
+        Optional<User> user = loader.apply(username);
+        if (invalidatedWithinLagWindow(username, user)) {
+            // The replica may not have the write yet: serve what it returned, read again next time
+            return user;
+        }
+        if (entries.size() >= maxEntries) {
+            makeRoom(now);
+        }
+        Entry loaded = new Entry(user, now + (user.isPresent() ? ttlNanos : negativeTtlNanos));
+        entries.put(username, loaded);
+        if (generation.get() != loadGeneration) {
+            // Invalidated while loading: the row read may predate the write, do not keep it
+            entries.remove(username, loaded);
+        }
+        return user;
+    }
+
+    public void invalidate(String username) {
+        generation.incrementAndGet();
+        remember(username);
+        entries.remove(username);
+    }
+
+    /**
+     * Invalidates the user with this id, for writes that only know the id.
+     */
+    public void invalidate(UUID userId) {
+        generation.incrementAndGet();
+        remember(userId);
+        entries.values().removeIf(entry -> entry.user().filter(user -> userId.equals(user.getId())).isPresent());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void remember(Object key) {
+        if (replicaLagWindowNanos <= 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (recentlyInvalidated.size() >= maxEntries) {
+            recentlyInvalidated.values().removeIf(invalidatedAt -> now - invalidatedAt >= replicaLagWindowNanos);
+        }
+        recentlyInvalidated.put(key, now);
+    }
+
+    private boolean invalidatedWithinLagWindow(String username, Optional<User> user) {
+        if (recentlyInvalidated.isEmpty()) {
+            return false;
+        }
+        long now = System.nanoTime();
+        return isRecent(recentlyInvalidated.get(username), now)
+                || user.map(found -> isRecent(recentlyInvalidated.get(found.getId()), now)).orElse(false);
+    }
+
+    private boolean isRecent(Long invalidatedAt, long now) {
+        return invalidatedAt != null && now - invalidatedAt < replicaLagWindowNanos;
+    }
+
+    private void makeRoom(long now) {
+        int before = entries.size();
+        entries.values().removeIf(entry -> now - entry.expiresAtNanos() >= 0);
+        if (entries.size() >= maxEntries) {
+            // Still full of live entries: drop a tenth, in hash order, which is unrelated to recency or key
+            Iterator<Entry> iterator = entries.values().iterator();
+            for (int toEvict = Math.max(1, maxEntries / 10); toEvict > 0 && iterator.hasNext(); toEvict--) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+        evictions.add(Math.max(0, before - entries.size()));
+        recentlyInvalidated.values().removeIf(invalidatedAt -> now - invalidatedAt >= replicaLagWindowNanos);
+    }
+}
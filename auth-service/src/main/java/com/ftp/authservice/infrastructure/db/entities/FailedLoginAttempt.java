@@ -3,32 +3,67 @@ package com.ftp.authservice.infrastructure.db.entities;
 import jakarta.persistence.*;
 import java.time.Instant;
 
+/**
+ * A persisted lockout: a username or client IP that reached the failed-login limit.
+ * <p>
+ * Failed attempts themselves are counted in memory (see SlidingWindowLoginAttemptTracker); only lockouts
+ * are written, in batches, so a restart still remembers them. Rows whose lockout has expired are purged.
+ */
 @Entity
+@Table(indexes = {
+        @Index(name = "ix_failed_login_attempt_username", columnList = "username"),
+        @Index(name = "ix_failed_login_attempt_locked_until", columnList = "lockedUntil")
+})
 public class FailedLoginAttempt {
 
+    public static final String SCOPE_USERNAME = "USERNAME";
+    public static final String SCOPE_IP = "IP";
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // The username, or the client IP for scope IP
     @Column(nullable = false)
     private String username;
 
+    // USERNAME or IP; null for rows from before lockouts were scoped, which count as USERNAME
+    @Column(length = 16)
+    private String scope;
+
     @Column(nullable = false)
     private int attemptCount;
 
     @Column(nullable = false)
     private Instant lastAttemptTime;
 
-    public boolean isLocked() {
-        return attemptCount >= 5 && Instant.now().isBefore(lastAttemptTime.plusMillis(30)); // Lock user for 30 minutes after 5 failed attempts
+    private Instant lockedUntil;
+
+    protected FailedLoginAttempt() {
+        // For JPA
     }
 
-    // Getters and setters
+    public FailedLoginAttempt(String scope, String key, int attemptCount, Instant lastAttemptTime, Instant lockedUntil) {
+        this.scope = scope;
+        this.username = key;
+        this.attemptCount = attemptCount;
+        this.lastAttemptTime = lastAttemptTime;
+        this.lockedUntil = lockedUntil;
+    }
 
-    public void incrementAttempts() {
-        this.attemptCount++;
-        this.lastAttemptTime = Instant.now();
+    public String getScope() {
+        return scope != null ? scope : SCOPE_USERNAME;
     }
 
-    // Constructor, Getters, and Setters
+    public String getKey() {
+        return username;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public Instant getLockedUntil() {
+        return lockedUntil;
+    }
 }
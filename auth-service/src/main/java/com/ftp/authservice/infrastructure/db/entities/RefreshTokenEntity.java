@@ -6,8 +6,17 @@ import lombok.*;
 import java.time.Instant;
 import java.util.UUID;
 
+/**
+ * A refresh token, stored as the hex SHA-256 of its value: a fixed-length key for the unique index,
+ * and a leaked table does not hand out usable tokens. The value itself is only known when the token
+ * is issued, in the transient {@link #token}.
+ */
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens",
+        indexes = {
+                @Index(name = "ix_refresh_tokens_username", columnList = "username"),
+                @Index(name = "ix_refresh_tokens_expiry_date", columnList = "expiryDate")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,7 +28,12 @@ public class RefreshTokenEntity {
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
 
-    @Column(nullable = false, unique = true)
+    // Kept in the former plaintext "token" column, so existing schemas keep their unique index
+    @Column(name = "token", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // The token value, set only on the entity returned when the token is issued
+    @Transient
     private String token;
 
     @Column(nullable = false)
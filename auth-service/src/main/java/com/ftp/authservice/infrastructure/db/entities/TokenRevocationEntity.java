@@ -0,0 +1,50 @@
+package com.ftp.authservice.infrastructure.db.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A revocation: one access token (by its jti), or every access token of a user issued up to
+ * {@link #notBefore}. The generated id is the version gateways pull revocations from.
+ * A row is only needed until the tokens it revokes have expired, at {@link #expiresAt}, and is purged then.
+ */
+@Entity
+@Table(name = "token_revocations",
+        indexes = {
+                @Index(name = "ix_token_revocations_expires_at", columnList = "expiresAt")
+        })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TokenRevocationEntity {
+
+    public enum Kind {
+        TOKEN,
+        USER
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private Kind kind;
+
+    // The jti for TOKEN, the username for USER
+    @Column(nullable = false)
+    private String subject;
+
+    // USER only: tokens issued at or before this second are revoked
+    private Instant notBefore;
+
+    @Column(nullable = false)
+    private Instant expiresAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,73 @@
+package com.ftp.authservice.infrastructure.db.routing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * ConsistencyTokenFilter implements read-your-writes on top of the read replica.
+ * <p>
+ * - Successful mutating requests (POST, PUT, PATCH, DELETE) get an {@value ConsistencyTokenHolder#HEADER}
+ *   response header holding the time the response was committed, i.e. after the write transaction.
+ * - Requests sending that header back expose it through {@link ConsistencyTokenHolder}, so
+ *   {@link ReadWriteRoutingDataSource} keeps their reads on the primary until the replica has caught up.
+ */
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        ConsistencyTokenHolder.set(parseToken(request.getHeader(ConsistencyTokenHolder.HEADER)));
+        try {
+            if (!isMutating(request.getMethod())) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+
+            // Add the token right before the response is committed, once the controller's transaction is done
+            HttpServletResponse tokenResponse = new OnCommittedResponseWrapper(response) {
+                @Override
+                protected void onResponseCommitted() {
+                    addToken(this);
+                }
+            };
+            filterChain.doFilter(request, tokenResponse);
+
+            // Bodiless responses are committed by the container after the filter chain
+            if (!response.isCommitted()) {
+                addToken(response);
+            }
+        } finally {
+            ConsistencyTokenHolder.clear();
+        }
+    }
+
+    private static void addToken(HttpServletResponse response) {
+        if (response.getStatus() < 400) {
+            response.setHeader(ConsistencyTokenHolder.HEADER, Long.toString(System.currentTimeMillis()));
+        }
+    }
+
+    private static boolean isMutating(String method) {
+        return "POST".equals(method) || "PUT".equals(method) || "PATCH".equals(method) || "DELETE".equals(method);
+    }
+
+    private static Long parseToken(String header) {
+        if (header == null || header.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            // An unreadable token only costs the read-your-writes guarantee, never the request
+            return null;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.ftp.authservice.infrastructure.db.routing;
+
+/**
+ * Lookup keys of the {@link ReadWriteRoutingDataSource}.
+ */
+public enum DataSourceRole {
+    PRIMARY,
+    REPLICA
+}
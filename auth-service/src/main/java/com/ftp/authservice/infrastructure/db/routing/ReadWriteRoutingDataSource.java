@@ -0,0 +1,40 @@
+package com.ftp.authservice.infrastructure.db.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * ReadWriteRoutingDataSource sends read-only transactions to the replica and everything else to the primary.
+ * <p>
+ * A connection goes to the replica only if
+ * <ul>
+ *   <li>the current transaction is marked <code>@Transactional(readOnly = true)</code>,</li>
+ *   <li>the {@link ReplicaLagMonitor} reports the replica within the allowed lag, and</li>
+ *   <li>the request carries no consistency token newer than what the replica has replayed.</li>
+ * </ul>
+ * The read-only flag is only known after the transaction has started, so this data source must be
+ * wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} that defers
+ * fetching the physical connection until the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return DataSourceRole.PRIMARY;
+        }
+
+        Long token = ConsistencyTokenHolder.get();
+        boolean replicaReady = token != null
+                ? lagMonitor.hasCaughtUpWith(token)
+                : lagMonitor.isReplicaUsable();
+
+        return replicaReady ? DataSourceRole.REPLICA : DataSourceRole.PRIMARY;
+    }
+}
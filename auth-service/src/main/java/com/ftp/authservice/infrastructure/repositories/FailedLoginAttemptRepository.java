@@ -2,9 +2,26 @@ package com.ftp.authservice.infrastructure.repositories;
 
 import com.ftp.authservice.infrastructure.db.entities.FailedLoginAttempt;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 
 public interface FailedLoginAttemptRepository extends JpaRepository<FailedLoginAttempt, Long> {
-    Optional<FailedLoginAttempt> findByUsername(String username);
+
+    // Lockouts still active at the given time, loaded at startup
+    List<FailedLoginAttempt> findByLockedUntilAfter(Instant now);
+
+    // Previous lockouts of the given keys, replaced by newer ones
+    @Modifying
+    @Query("DELETE FROM FailedLoginAttempt f WHERE f.scope = :scope AND f.username IN :keys")
+    int deleteByScopeAndKeys(@Param("scope") String scope, @Param("keys") Collection<String> keys);
+
+    // Expired lockouts and rows from before lockouts were recorded
+    @Modifying
+    @Query("DELETE FROM FailedLoginAttempt f WHERE f.lockedUntil IS NULL OR f.lockedUntil < :now")
+    int deleteExpired(@Param("now") Instant now);
 }
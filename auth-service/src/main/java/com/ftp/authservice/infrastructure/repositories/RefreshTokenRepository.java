@@ -2,12 +2,31 @@ package com.ftp.authservice.infrastructure.repositories;
 
 
 import com.ftp.authservice.infrastructure.db.entities.RefreshTokenEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshTokenEntity, UUID> {
-    Optional<RefreshTokenEntity> findByToken(String token);
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
     void deleteByUsername(String username);
+
+    // Consumes a token: 0 when another request already did
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity t WHERE t.id = :id")
+    int deleteAndCount(@Param("id") UUID id);
+
+    // Tokens of a user, newest first; page past the cap to find the ones to revoke
+    @Query("SELECT t.id FROM RefreshTokenEntity t WHERE t.username = :username ORDER BY t.expiryDate DESC")
+    List<UUID> findIdsByUsernameNewestFirst(@Param("username") String username, Pageable pageable);
+
+    // One batch of expired tokens for the purge
+    @Query("SELECT t.id FROM RefreshTokenEntity t WHERE t.expiryDate < :now")
+    List<UUID> findExpiredIds(@Param("now") Instant now, Pageable pageable);
 }
@@ -0,0 +1,20 @@
+package com.ftp.authservice.infrastructure.repositories;
+
+import com.ftp.authservice.infrastructure.db.entities.TokenRevocationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TokenRevocationRepository extends JpaRepository<TokenRevocationEntity, Long> {
+
+    // Revocations after a version, oldest first; a range scan of the primary key
+    List<TokenRevocationEntity> findByIdGreaterThanOrderByIdAsc(long id, Pageable pageable);
+
+    // One batch of expired revocations for the purge
+    @Query("SELECT r.id FROM TokenRevocationEntity r WHERE r.expiresAt < :now")
+    List<Long> findExpiredIds(@Param("now") Instant now, Pageable pageable);
+}
@@ -1,12 +1,34 @@
 package com.ftp.authservice.infrastructure.repositories;
 
 import com.ftp.authservice.infrastructure.db.entities.UserJpaEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface UserJpaRepository extends JpaRepository<UserJpaEntity, UUID> {  // Use UUID for primary key
-    Optional<UserJpaEntity> findByUsername(String username);  // Find user by username
+    @Transactional(readOnly = true)
+    Optional<UserJpaEntity> findByUsername(String username);  // Find user by username (on the read replica if any)
     boolean existsByUsername(String username);  // Check if the username exists
+
+    @Query("SELECT u.username FROM UserJpaEntity u WHERE u.username IN :usernames")
+    List<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);  // Taken usernames among these
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT u.username FROM UserJpaEntity u")
+    Stream<String> streamAllUsernames();  // All usernames, fetched in chunks; needs an open transaction
+
+    @Modifying
+    @Query("UPDATE UserJpaEntity u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(@Param("id") UUID id, @Param("password") String password);  // Replace the password hash
 }
@@ -0,0 +1,23 @@
+package com.ftp.authservice.infrastructure.security;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * The caller of a request, as read from its access token. Built once per request by the JWT filter and kept
+ * as the principal of the SecurityContext, so nothing downstream parses the token again.
+ *
+ * @param username  the token subject
+ * @param role      the role claim, e.g. USER or ADMIN
+ * @param tokenId   the jti claim, null for tokens issued before tokens could be revoked
+ * @param issuedAt  when the token was issued, to the second
+ * @param expiresAt when the token expires
+ */
+public record AuthenticatedPrincipal(String username, String role, String tokenId, Instant issuedAt,
+                                     Instant expiresAt) implements Principal {
+
+    @Override
+    public String getName() {
+        return username;
+    }
+}
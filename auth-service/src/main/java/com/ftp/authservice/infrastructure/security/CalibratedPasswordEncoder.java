@@ -0,0 +1,124 @@
+package com.ftp.authservice.infrastructure.security;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * CalibratedPasswordEncoder hashes passwords with BCrypt at a work factor chosen for this host.
+ * <p>
+ * Every new hash records its algorithm and cost: <code>{bcrypt}$2a$12$...</code>. Hashes stored before,
+ * without the <code>{bcrypt}</code> prefix, are still verified as BCrypt. {@link #upgradeEncoding(String)}
+ * reports a hash whose algorithm differs or whose cost is lower than the current one, so the login can store
+ * a new hash while it has the raw password at hand. A higher cost is kept: hosts calibrated to different costs
+ * would otherwise rewrite each other's hashes on every login. Only a pinned cost also rewrites higher ones.
+ * <p>
+ * {@link #calibrate(Duration, int, int)} picks the cost: it takes the median of several timed hashes at the
+ * minimum cost and adds one cost step (each doubles the time) per doubling that still fits into the target
+ * verification time.
+ */
+public class CalibratedPasswordEncoder implements PasswordEncoder {
+
+    private static final Logger log = LoggerFactory.getLogger(CalibratedPasswordEncoder.class);
+
+    static final String ALGORITHM = "bcrypt";
+    private static final String PREFIX = "{" + ALGORITHM + "}";
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+    // Timed hashes per calibration; the median ignores a few slowed down by startup work
+    private static final int CALIBRATION_SAMPLES = 7;
+
+    private final int strength;
+    private final boolean pinned;
+    private final PasswordEncoder delegate;
+
+    /**
+     * Encoder with a pinned cost: hashes of any other cost are upgraded.
+     *
+     * @param strength the BCrypt cost (log2 of the rounds) for new hashes
+     */
+    public CalibratedPasswordEncoder(int strength) {
+        this(strength, true);
+    }
+
+    /**
+     * @param strength the BCrypt cost (log2 of the rounds) for new hashes
+     * @param pinned   true if the cost was set explicitly and hashes with a higher cost are upgraded too;
+     *                 false for a calibrated cost, which only upgrades lower ones
+     */
+    public CalibratedPasswordEncoder(int strength, boolean pinned) {
+        this.strength = strength;
+        this.pinned = pinned;
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(ALGORITHM, Map.of(ALGORITHM, bcrypt));
+        // Hashes from before the algorithm was recorded
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        this.delegate = delegating;
+    }
+
+    /**
+     * Measures BCrypt on this host and returns the highest cost within [minStrength, maxStrength] whose
+     * hash is expected to take no longer than the target time.
+     */
+    public static int calibrate(Duration targetTime, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        String password = UUID.randomUUID().toString();
+        probe.encode(password); // Warm-up
+        long[] samples = new long[CALIBRATION_SAMPLES];
+        for (int i = 0; i < samples.length; i++) {
+            long started = System.nanoTime();
+            probe.encode(password);
+            samples[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(samples);
+        long nanos = Math.max(1, samples[samples.length / 2]);
+
+        int strength = minStrength;
+        while (strength < maxStrength && nanos * 2 <= targetTime.toNanos()) {
+            nanos *= 2;
+            strength++;
+        }
+        log.info("Password hashing calibrated to BCrypt cost {} (expected {} ms per hash, target {} ms)",
+                strength, nanos / 1_000_000, targetTime.toMillis());
+        return strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * @return true if the hash was not made with the current algorithm, or with a lower cost (any other cost
+     * when pinned)
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || !encodedPassword.startsWith(PREFIX)) {
+            return true;
+        }
+        Matcher cost = BCRYPT_COST.matcher(encodedPassword.substring(PREFIX.length()));
+        if (!cost.find()) {
+            return true;
+        }
+        int stored = Integer.parseInt(cost.group(1));
+        return pinned ? stored != strength : stored < strength;
+    }
+}
@@ -5,62 +5,67 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
 import java.util.Date;
+import java.util.Optional;
+import java.util.UUID;
 
+/**
+ * JwtTokenProvider issues and verifies the HS512 access tokens.
+ * <p>
+ * The signing key and the parser are built once: both are immutable and thread-safe, and rebuilding them per
+ * call was the bulk of the cost. JWT builders are single-use, so one is still created per token.
+ * Each token carries a random jti, so it can be revoked on its own (see TokenRevocationService).
+ */
 @Component
 public class JwtTokenProvider {
 
-    @Value("${jwt.secret}")
-    private String jwtSecret;
+    private static final String ROLE_CLAIM = "role";
 
-    @Value("${jwt.expiration}")
-    private long jwtExpirationMs;
+    private final Key signingKey;
+    private final JwtParser parser;
+    private final long jwtExpirationMs;
+
+    public JwtTokenProvider(@Value("${jwt.secret}") String jwtSecret,
+                            @Value("${jwt.expiration}") long jwtExpirationMs) {
+        this.signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        this.jwtExpirationMs = jwtExpirationMs;
+    }
 
     /**
      * Generates a JWT token with subject as the username.
      */
-    public String generateToken(String username,String role) {
-        System.out.println("🟢 [AuthService] Generating JWT for: " + username);
+    public String generateToken(String username, String role) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(username)
                 .setIssuedAt(now)
-                .claim("role", role)
+                .claim(ROLE_CLAIM, role)
                 .setExpiration(expiryDate)
-                .signWith(Keys.hmacShaKeyFor(jwtSecret.getBytes()), SignatureAlgorithm.HS512)
-
+                .signWith(signingKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
     /**
-     * Extracts username from a token.
-     */
-    public String getUsernameFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes()))
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject();
-    }
-
-
-
-    /**
-     * Validates the token format and signature.
+     * Verifies the signature and expiry of a token and reads its claims, in one pass.
+     *
+     * @return the caller, or empty if the token is malformed, forged or expired
      */
-    public boolean validateToken(String token) {
+    public Optional<AuthenticatedPrincipal> parse(String token) {
         try {
-            Jwts.parserBuilder()
-                    .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes())) //
-                    .build()
-                    .parseClaimsJws(token);
-            return true;
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            // A token without iat predates every user cut-off
+            Instant issuedAt = claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : Instant.EPOCH;
+            return Optional.of(new AuthenticatedPrincipal(claims.getSubject(), claims.get(ROLE_CLAIM, String.class),
+                    claims.getId(), issuedAt, claims.getExpiration().toInstant()));
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
     }
-
 }
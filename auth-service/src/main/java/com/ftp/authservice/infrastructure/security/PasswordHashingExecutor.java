@@ -0,0 +1,145 @@
+package com.ftp.authservice.infrastructure.security;
+
+import com.ftp.authservice.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * PasswordHashingExecutor runs password hashing and verification on a dedicated, bounded thread pool.
+ * <p>
+ * BCrypt is deliberately slow CPU work. Run on the servlet threads, a burst of logins would occupy all of them
+ * and stall every other endpoint. Here it runs on a pool sized to the CPUs with a bounded queue: when the queue
+ * is full the request is rejected at once with a {@link PasswordHashingBusyException} (503) instead of waiting.
+ * <p>
+ * The returned futures complete on a hashing thread. Whatever follows the hash (queries, token signing) must
+ * run on {@link #ioExecutor()} through <code>thenApplyAsync</code> / <code>thenAcceptAsync</code>, so the
+ * hashing threads never wait on the database.
+ * Metrics, tagged with the operation (encode or matches):
+ * <ul>
+ *   <li><code>auth.password.hash.queue</code>: time a task waited in the queue</li>
+ *   <li><code>auth.password.hash.time</code>: time spent hashing</li>
+ *   <li><code>auth.password.hash.queue.size</code>: tasks currently waiting</li>
+ * </ul>
+ */
+public class PasswordHashingExecutor {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ExecutorService ioExecutor;
+    private final Duration retryAfter;
+
+    private final Timer encodeQueueTime;
+    private final Timer encodeTime;
+    private final Timer matchesQueueTime;
+    private final Timer matchesTime;
+
+    /**
+     * @param threads       number of hashing threads
+     * @param queueCapacity maximum number of tasks waiting for a thread
+     * @param ioThreads     number of threads running the steps after hashing
+     * @param retryAfter    delay suggested to clients when the queue is full
+     */
+    public PasswordHashingExecutor(PasswordEncoder passwordEncoder, int threads, int queueCapacity, int ioThreads,
+                                   Duration retryAfter, MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfter = retryAfter;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        // Unbounded queue: every task follows a hash, so the hashing queue already bounds how many can wait
+        AtomicInteger ioThreadNumber = new AtomicInteger();
+        this.ioExecutor = Executors.newFixedThreadPool(ioThreads, runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-io-" + ioThreadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.encodeQueueTime = timer(meterRegistry, "auth.password.hash.queue", "encode");
+        this.encodeTime = timer(meterRegistry, "auth.password.hash.time", "encode");
+        this.matchesQueueTime = timer(meterRegistry, "auth.password.hash.queue", "matches");
+        this.matchesTime = timer(meterRegistry, "auth.password.hash.time", "matches");
+        Gauge.builder("auth.password.hash.queue.size", executor, e -> e.getQueue().size())
+                .description("Password hashing tasks waiting for a thread")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Hashes a raw password.
+     *
+     * @throws PasswordHashingBusyException if the hashing queue is full
+     */
+    public CompletableFuture<String> encode(CharSequence rawPassword) {
+        return submit(() -> passwordEncoder.encode(rawPassword), encodeQueueTime, encodeTime);
+    }
+
+    /**
+     * Verifies a raw password against its stored hash.
+     *
+     * @throws PasswordHashingBusyException if the hashing queue is full
+     */
+    public CompletableFuture<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> passwordEncoder.matches(rawPassword, encodedPassword), matchesQueueTime, matchesTime);
+    }
+
+    /**
+     * Executor for the blocking steps that follow a hash: loading and saving users, signing tokens.
+     */
+    public Executor ioExecutor() {
+        return ioExecutor;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+        ioExecutor.shutdown();
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task, Timer queueTime, Timer hashTime) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        long submitted = System.nanoTime();
+        try {
+            executor.execute(() -> {
+                long started = System.nanoTime();
+                queueTime.record(started - submitted, TimeUnit.NANOSECONDS);
+                T value;
+                try {
+                    value = task.get();
+                } catch (RuntimeException e) {
+                    result.completeExceptionally(e);
+                    return;
+                } finally {
+                    hashTime.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+                }
+                result.complete(value);
+            });
+        } catch (RejectedExecutionException e) {
+            throw new PasswordHashingBusyException(retryAfter);
+        }
+        return result;
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String name, String operation) {
+        return Timer.builder(name)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
@@ -1,41 +1,165 @@
 package com.ftp.authservice.infrastructure.security;
 
+import com.ftp.authservice.config.RefreshTokenProperties;
+import com.ftp.authservice.exception.InvalidTokenException;
 import com.ftp.authservice.infrastructure.db.entities.RefreshTokenEntity;
 import com.ftp.authservice.infrastructure.repositories.RefreshTokenRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * RefreshTokenService issues, rotates and purges refresh tokens.
+ * <p>
+ * Tokens are 256 random bits; only their SHA-256 is stored, so lookups hit the unique index on a fixed-length
+ * key. A token is single-use: {@link #rotate(String)} consumes it and issues the next one. Each user keeps at most
+ * <code>max-active-per-user</code> tokens, and expired ones are deleted in bounded batches by {@link #purgeExpired()}.
+ */
 @Service
 public class RefreshTokenService {
 
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
     private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RefreshTokenProperties properties;
+    private final long refreshExpirationMs;
+    private final SecureRandom secureRandom = new SecureRandom();
 
-    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository) {
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               PlatformTransactionManager transactionManager,
+                               RefreshTokenProperties properties,
+                               @Value("${jwt.refreshExpiration}") long refreshExpirationMs) {
         this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.refreshExpirationMs = refreshExpirationMs;
     }
 
     public Optional<RefreshTokenEntity> findByToken(String token) {
-        return refreshTokenRepository.findByToken(token);
+        return token == null ? Optional.empty() : refreshTokenRepository.findByTokenHash(hash(token));
     }
 
     public boolean isExpired(RefreshTokenEntity token) {
         return token.isExpired();
     }
 
+    @Transactional
     public RefreshTokenEntity createRefreshToken(String username, String role) {
         // Generate a refresh token and set an expiry date
+        String value = generateToken();
         RefreshTokenEntity token = new RefreshTokenEntity();
         token.setUsername(username);
-        token.setToken(generateToken());
-        token.setExpiryDate(Instant.now().plusSeconds(30 * 24 * 60 * 60)); // 30 days
-        return refreshTokenRepository.save(token);
+        token.setRole(role);
+        token.setTokenHash(hash(value));
+        token.setExpiryDate(Instant.now().plusMillis(refreshExpirationMs));
+        RefreshTokenEntity saved = refreshTokenRepository.save(token);
+        saved.setToken(value);
+
+        // Revoke the oldest tokens beyond the cap; issuing one at a time, there is at most one page of them
+        int maxActive = properties.getMaxActivePerUser();
+        List<UUID> surplus = refreshTokenRepository.findIdsByUsernameNewestFirst(username, PageRequest.of(1, maxActive));
+        if (!surplus.isEmpty()) {
+            refreshTokenRepository.deleteAllByIdInBatch(surplus);
+        }
+        return saved;
+    }
+
+    /**
+     * Consumes a refresh token and issues its successor for the same user and role.
+     *
+     * @param token the refresh token presented by the client
+     * @return the new token, with its value in {@link RefreshTokenEntity#getToken()}
+     * @throws InvalidTokenException if the token is unknown, already used or expired
+     */
+    @Transactional
+    public RefreshTokenEntity rotate(String token) {
+        RefreshTokenEntity current = findByToken(token)
+                .orElseThrow(() -> new InvalidTokenException("Invalid refresh token"));
+        if (current.isExpired()) {
+            throw new InvalidTokenException("Refresh token expired");
+        }
+        // The delete decides between concurrent uses of the same token: only one of them removes the row
+        if (refreshTokenRepository.deleteAndCount(current.getId()) == 0) {
+            throw new InvalidTokenException("Invalid refresh token");
+        }
+        return createRefreshToken(current.getUsername(), current.getRole());
+    }
+
+    /**
+     * Deletes a refresh token of the given user, e.g. on logout. Unknown tokens and tokens of other users are ignored.
+     */
+    @Transactional
+    public void revoke(String token, String username) {
+        findByToken(token)
+                .filter(current -> current.getUsername().equals(username))
+                .ifPresent(current -> refreshTokenRepository.deleteAndCount(current.getId()));
+    }
+
+    /**
+     * Deletes every refresh token of a user, so none can mint new access tokens.
+     */
+    @Transactional
+    public void revokeAll(String username) {
+        refreshTokenRepository.deleteByUsername(username);
+    }
+
+    /**
+     * Deletes expired tokens, one short transaction per batch so the table is never locked for long.
+     */
+    @Scheduled(fixedDelayString = "${auth.refresh-tokens.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int batchSize = properties.getPurgeBatchSize();
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<UUID> ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+                if (!ids.isEmpty()) {
+                    refreshTokenRepository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+            purged += deleted;
+        } while (deleted == batchSize);
+        if (purged > 0) {
+            log.info("Purged {} expired refresh tokens", purged);
+        }
     }
 
     private String generateToken() {
         // Generate a random token
-        return UUID.randomUUID().toString();
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
 }
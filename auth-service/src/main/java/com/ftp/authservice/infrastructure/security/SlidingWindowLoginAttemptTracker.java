@@ -0,0 +1,303 @@
+package com.ftp.authservice.infrastructure.security;
+
+import com.ftp.authservice.domain.ports.out.LoginAttemptPort;
+import com.ftp.authservice.infrastructure.db.entities.FailedLoginAttempt;
+import com.ftp.authservice.infrastructure.repositories.FailedLoginAttemptRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.Collectors;
+
+/**
+ * SlidingWindowLoginAttemptTracker counts failed logins in memory, per username and per client IP.
+ * <p>
+ * Each key keeps the times of its last <code>maxFailures</code> failures in a small ring updated with atomic
+ * operations; the key is locked out when all of them fall within the window. The maps are ConcurrentHashMaps,
+ * internally striped, so logins of different users do not contend. A successful login with no recent failures
+ * touches nothing at all, and no path touches the database.
+ * <p>
+ * Bounded and self-cleaning:
+ * <ul>
+ *   <li>each map holds at most <code>maxEntries</code> keys, so a spray of usernames cannot exhaust memory.
+ *       When full, the tenth of the keys that are not locked out and failed least recently are evicted. If every
+ *       key is locked out, the tracker fails closed: a failure for an untracked username locks out its client
+ *       IP, and one from an untracked IP locks out the username. The warning is logged at most once a minute;</li>
+ *   <li>{@link #flush()} evicts keys without a failure within the window that are not locked out.</li>
+ * </ul>
+ * Only lockouts are persisted: they are queued and written in one transaction per {@link #flush()},
+ * and {@link #loadActiveLockouts()} restores the ones still active at startup.
+ */
+public class SlidingWindowLoginAttemptTracker implements LoginAttemptPort {
+
+    private static final Logger log = LoggerFactory.getLogger(SlidingWindowLoginAttemptTracker.class);
+
+    private static final long PURGE_INTERVAL_MILLIS = 60_000;
+    private static final long FULL_WARNING_INTERVAL_MILLIS = 60_000;
+
+    private final FailedLoginAttemptRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxFailures;
+    private final long windowMillis;
+    private final long lockMillis;
+    private final int maxEntries;
+
+    private final Map<String, Window> usernames = new ConcurrentHashMap<>();
+    private final Map<String, Window> clientIps = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<FailedLoginAttempt> pendingLockouts = new ConcurrentLinkedQueue<>();
+    private volatile long lastPurge;
+    private final AtomicLong lastFullWarning = new AtomicLong();
+    private final AtomicLong untrackedSinceWarning = new AtomicLong();
+
+    public SlidingWindowLoginAttemptTracker(FailedLoginAttemptRepository repository,
+                                            PlatformTransactionManager transactionManager,
+                                            int maxFailures, Duration window, Duration lockDuration, int maxEntries) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxFailures = maxFailures;
+        this.windowMillis = window.toMillis();
+        this.lockMillis = lockDuration.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * The failures of one key.
+     */
+    static final class Window {
+        private final AtomicLongArray failures; // Failure times in millis, 0 = free
+        private final AtomicInteger next = new AtomicInteger();
+        private final AtomicLong lockedUntil = new AtomicLong();
+        private volatile long lastFailure;
+
+        Window(int maxFailures) {
+            this.failures = new AtomicLongArray(maxFailures);
+        }
+
+        /**
+         * @return true if this failure completes maxFailures within the window
+         */
+        boolean recordFailure(long now, long windowMillis) {
+            lastFailure = now;
+            failures.set(Math.floorMod(next.getAndIncrement(), failures.length()), now);
+            for (int i = 0; i < failures.length(); i++) {
+                if (failures.get(i) <= now - windowMillis) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * @return true if the key was not locked before
+         */
+        boolean lock(long now, long until) {
+            return lockedUntil.getAndAccumulate(until, Math::max) <= now;
+        }
+
+        long lockedUntil() {
+            return lockedUntil.get();
+        }
+
+        long lastFailure() {
+            return lastFailure;
+        }
+
+        void reset() {
+            for (int i = 0; i < failures.length(); i++) {
+                failures.set(i, 0L);
+            }
+        }
+
+        boolean isIdle(long now, long windowMillis) {
+            return lastFailure <= now - windowMillis && lockedUntil.get() <= now;
+        }
+    }
+
+    /**
+     * Restores the lockouts that are still active, so a restart does not lift them.
+     */
+    public void loadActiveLockouts() {
+        Instant now = Instant.now();
+        List<FailedLoginAttempt> active = repository.findByLockedUntilAfter(now);
+        for (FailedLoginAttempt lockout : active) {
+            Map<String, Window> windows = FailedLoginAttempt.SCOPE_IP.equals(lockout.getScope()) ? clientIps : usernames;
+            windows.computeIfAbsent(lockout.getKey(), key -> new Window(maxFailures))
+                    .lock(now.toEpochMilli(), lockout.getLockedUntil().toEpochMilli());
+        }
+        log.info("Restored {} active login lockouts", active.size());
+    }
+
+    @Override
+    public Optional<Instant> lockedUntil(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        long until = Math.max(lockedUntil(usernames, username), lockedUntil(clientIps, clientIp));
+        return until > now ? Optional.of(Instant.ofEpochMilli(until)) : Optional.empty();
+    }
+
+    @Override
+    public void recordFailure(String username, String clientIp) {
+        long now = System.currentTimeMillis();
+        boolean usernameTracked = recordFailure(usernames, FailedLoginAttempt.SCOPE_USERNAME, username, now);
+        boolean clientIpTracked = recordFailure(clientIps, FailedLoginAttempt.SCOPE_IP, clientIp, now);
+        // Fail closed: a failure that cannot be counted locks out the other side of the attempt
+        if (!usernameTracked) {
+            lockOut(clientIps, FailedLoginAttempt.SCOPE_IP, clientIp, now);
+        }
+        if (!clientIpTracked) {
+            lockOut(usernames, FailedLoginAttempt.SCOPE_USERNAME, username, now);
+        }
+    }
+
+    @Override
+    public void recordSuccess(String username) {
+        // The client IP keeps its failures: one valid account must not unlock guessing on others
+        Window window = usernames.get(username);
+        if (window != null) {
+            window.reset();
+        }
+    }
+
+    /**
+     * Writes the queued lockouts in one transaction and evicts idle keys.
+     */
+    @Scheduled(fixedDelayString = "${auth.login-attempts.flush-interval-ms:1000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        evictIdle(usernames, now);
+        evictIdle(clientIps, now);
+
+        List<FailedLoginAttempt> batch = new ArrayList<>();
+        for (FailedLoginAttempt lockout; (lockout = pendingLockouts.poll()) != null; ) {
+            batch.add(lockout);
+        }
+        boolean purge = now - lastPurge >= PURGE_INTERVAL_MILLIS;
+        if (batch.isEmpty() && !purge) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (purge) {
+                    repository.deleteExpired(Instant.ofEpochMilli(now));
+                }
+                if (!batch.isEmpty()) {
+                    replace(batch, FailedLoginAttempt.SCOPE_USERNAME);
+                    replace(batch, FailedLoginAttempt.SCOPE_IP);
+                    repository.saveAll(batch);
+                }
+            });
+            if (purge) {
+                lastPurge = now;
+            }
+        } catch (RuntimeException e) {
+            // Keep them for the next flush; the in-memory lockouts are in force meanwhile
+            pendingLockouts.addAll(batch);
+            log.warn("Failed to persist {} login lockouts, retrying", batch.size(), e);
+        }
+    }
+
+    int trackedKeys() {
+        return usernames.size() + clientIps.size();
+    }
+
+    private void replace(List<FailedLoginAttempt> batch, String scope) {
+        Set<String> keys = batch.stream()
+                .filter(lockout -> scope.equals(lockout.getScope()))
+                .map(FailedLoginAttempt::getKey)
+                .collect(Collectors.toSet());
+        if (!keys.isEmpty()) {
+            repository.deleteByScopeAndKeys(scope, keys);
+        }
+    }
+
+    /**
+     * @return false if the key could not be tracked because the map is full of locked-out keys
+     */
+    private boolean recordFailure(Map<String, Window> windows, String scope, String key, long now) {
+        if (key == null) {
+            return true;
+        }
+        Window window = windows.get(key);
+        if (window == null) {
+            if (windows.size() >= maxEntries && !makeRoom(windows, now)) {
+                warnFull(scope, now);
+                return false;
+            }
+            window = windows.computeIfAbsent(key, k -> new Window(maxFailures));
+        }
+        if (window.recordFailure(now, windowMillis)) {
+            lockOut(window, scope, key, now);
+        }
+        return true;
+    }
+
+    private void lockOut(Map<String, Window> windows, String scope, String key, long now) {
+        if (key == null) {
+            return;
+        }
+        // Locked windows are never evicted, so this may go past maxEntries by the keys locked this way
+        lockOut(windows.computeIfAbsent(key, k -> new Window(maxFailures)), scope, key, now);
+    }
+
+    private void lockOut(Window window, String scope, String key, long now) {
+        if (window.lock(now, now + lockMillis)) {
+            log.warn("Login locked out for {} {} after {} failures", scope, key, maxFailures);
+            pendingLockouts.add(new FailedLoginAttempt(scope, key, maxFailures,
+                    Instant.ofEpochMilli(now), Instant.ofEpochMilli(now + lockMillis)));
+        }
+    }
+
+    /**
+     * Evicts the tenth of the keys that are not locked out and failed least recently, losing their counts.
+     *
+     * @return false if every key is locked out
+     */
+    private synchronized boolean makeRoom(Map<String, Window> windows, long now) {
+        if (windows.size() < maxEntries) {
+            return true; // Another thread made room
+        }
+        List<Map.Entry<String, Window>> evictable = windows.entrySet().stream()
+                .filter(entry -> entry.getValue().lockedUntil() <= now)
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().lastFailure()))
+                .limit(Math.max(1, maxEntries / 10))
+                .toList();
+        evictable.forEach(entry -> windows.remove(entry.getKey(), entry.getValue()));
+        return !evictable.isEmpty();
+    }
+
+    private void warnFull(String scope, long now) {
+        untrackedSinceWarning.incrementAndGet();
+        long last = lastFullWarning.get();
+        if (now - last >= FULL_WARNING_INTERVAL_MILLIS && lastFullWarning.compareAndSet(last, now)) {
+            log.warn("Login attempt tracker full of locked-out {} keys ({}): {} failures locked out the other "
+                    + "side of the attempt instead", scope, maxEntries, untrackedSinceWarning.getAndSet(0));
+        }
+    }
+
+    private static long lockedUntil(Map<String, Window> windows, String key) {
+        if (key == null) {
+            return 0L;
+        }
+        Window window = windows.get(key);
+        return window != null ? window.lockedUntil() : 0L;
+    }
+
+    private void evictIdle(Map<String, Window> windows, long now) {
+        // A failure racing with the removal of its idle key is lost, which only shortens that key's count
+        windows.entrySet().removeIf(entry -> entry.getValue().isIdle(now, windowMillis));
+    }
+}
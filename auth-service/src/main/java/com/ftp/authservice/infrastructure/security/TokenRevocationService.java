@@ -0,0 +1,257 @@
+package com.ftp.authservice.infrastructure.security;
+
+import com.ftp.authservice.config.TokenRevocationProperties;
+import com.ftp.authservice.infrastructure.cache.BloomFilter;
+import com.ftp.authservice.infrastructure.db.entities.TokenRevocationEntity;
+import com.ftp.authservice.infrastructure.db.entities.TokenRevocationEntity.Kind;
+import com.ftp.authservice.infrastructure.repositories.TokenRevocationRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * TokenRevocationService revokes access tokens, one at a time by jti or all tokens of a user issued until now.
+ * <p>
+ * Revocations are stored in <code>token_revocations</code> and mirrored in memory by every instance, which reloads
+ * the new rows every <code>poll-interval-ms</code>: checking a token is two hash lookups, no query. Gateways pull
+ * them with {@link #snapshot(long)}: the rows after the version they hold, or, when they hold none or are too far
+ * behind, a {@link BloomFilter} of all revoked jtis plus the per-user cut-offs. Rows are dropped from memory and
+ * purged from the table once the tokens they revoke have expired.
+ * <p>
+ * The version is the row id. Ids are allocated before commit, so a row may become visible after a higher one;
+ * the version only moves past rows older than <code>settle-delay</code>, and younger ones are sent again with
+ * every pull until then. Applying a row twice is harmless.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    /**
+     * One revocation as held in memory.
+     */
+    public record Revocation(long version, Kind kind, String subject, Instant notBefore, Instant expiresAt) {
+    }
+
+    /**
+     * What a gateway pulls: the full state when {@link #tokenFilter()} is set, else the rows after its version.
+     *
+     * @param version        the version to pull from next time
+     * @param tokenFilter    all revoked jtis, full snapshots only
+     * @param tokenIds       jtis revoked after the pulled version, deltas only
+     * @param userNotBefore  per user, tokens issued at or before this second are revoked (all users in a full
+     *                       snapshot, the new cut-offs in a delta)
+     */
+    public record RevocationSnapshot(long version, BloomFilter tokenFilter, List<String> tokenIds,
+                                     Map<String, Instant> userNotBefore) {
+
+        public boolean isFull() {
+            return tokenFilter != null;
+        }
+    }
+
+    private final TokenRevocationRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final TokenRevocationProperties properties;
+    private final long jwtExpirationMs;
+
+    // Unexpired revocations by version, for deltas
+    private final NavigableMap<Long, Revocation> byVersion = new ConcurrentSkipListMap<>();
+    // Revoked jti -> expiry of that token
+    private final Map<String, Instant> revokedTokenIds = new ConcurrentHashMap<>();
+    // Username -> latest cut-off
+    private final Map<String, Instant> userNotBefore = new ConcurrentHashMap<>();
+
+    // Every row up to this version is loaded, and no row below it can still appear
+    private volatile long settledVersion;
+
+    public TokenRevocationService(TokenRevocationRepository repository,
+                                  PlatformTransactionManager transactionManager,
+                                  TokenRevocationProperties properties,
+                                  @Value("${jwt.expiration}") long jwtExpirationMs) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.properties = properties;
+        this.jwtExpirationMs = jwtExpirationMs;
+    }
+
+    /**
+     * Revokes one access token until it expires.
+     *
+     * @return false if the token has no jti (issued before revocation existed) or has already expired
+     */
+    public boolean revokeToken(String tokenId, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (tokenId == null || !expiresAt.isAfter(now)) {
+            return false;
+        }
+        save(Kind.TOKEN, tokenId, null, expiresAt, now);
+        return true;
+    }
+
+    /**
+     * Revokes every access token of a user issued until now. The cut-off is kept until the last of them has
+     * expired.
+     */
+    public void revokeUser(String username) {
+        Instant now = Instant.now();
+        Instant notBefore = now.truncatedTo(ChronoUnit.SECONDS); // Token iat has second precision
+        save(Kind.USER, username, notBefore, notBefore.plusMillis(jwtExpirationMs), now);
+    }
+
+    /**
+     * @return true if the token was revoked by jti or by a cut-off of its user
+     */
+    public boolean isRevoked(AuthenticatedPrincipal principal) {
+        if (principal.tokenId() != null && revokedTokenIds.containsKey(principal.tokenId())) {
+            return true;
+        }
+        Instant notBefore = userNotBefore.get(principal.username());
+        // At or before: a token issued in the same second as the cut-off may predate it
+        return notBefore != null && !principal.issuedAt().isAfter(notBefore);
+    }
+
+    /**
+     * @param sinceVersion the version the caller holds, 0 for none
+     * @return the revocations after <code>sinceVersion</code>, or all of them if the caller holds none, is ahead of
+     * this instance or is more than <code>max-delta-entries</code> behind
+     */
+    public RevocationSnapshot snapshot(long sinceVersion) {
+        long version = settledVersion;
+        if (sinceVersion > 0 && sinceVersion <= version) {
+            List<String> tokenIds = new ArrayList<>();
+            Map<String, Instant> users = new HashMap<>();
+            int count = 0;
+            for (Revocation revocation : byVersion.tailMap(sinceVersion, false).values()) {
+                if (++count > properties.getMaxDeltaEntries()) {
+                    return fullSnapshot(version);
+                }
+                if (revocation.kind() == Kind.TOKEN) {
+                    tokenIds.add(revocation.subject());
+                } else {
+                    users.merge(revocation.subject(), revocation.notBefore(), (a, b) -> a.isAfter(b) ? a : b);
+                }
+            }
+            return new RevocationSnapshot(version, null, tokenIds, users);
+        }
+        return fullSnapshot(version);
+    }
+
+    /**
+     * Loads the revocations committed since the last reload, and forgets the expired ones.
+     */
+    @PostConstruct
+    @Scheduled(fixedDelayString = "${auth.revocations.poll-interval-ms:1000}")
+    public void reload() {
+        Instant now = Instant.now();
+        Instant settledBefore = now.minus(properties.getSettleDelay());
+        int batchSize = properties.getPurgeBatchSize();
+        long after = settledVersion;
+        long settled = after;
+        boolean unsettled = false;
+        List<TokenRevocationEntity> rows;
+        do {
+            rows = repository.findByIdGreaterThanOrderByIdAsc(after, PageRequest.of(0, batchSize));
+            for (TokenRevocationEntity row : rows) {
+                if (row.getExpiresAt().isAfter(now)) {
+                    apply(toRevocation(row));
+                }
+                // Only a run of old enough rows moves the version; a younger one may still have a gap below it
+                unsettled |= !row.getCreatedAt().isBefore(settledBefore);
+                if (!unsettled) {
+                    settled = row.getId();
+                }
+                after = row.getId();
+            }
+        } while (rows.size() == batchSize);
+        settledVersion = settled;
+
+        for (Revocation revocation : byVersion.values()) {
+            if (!revocation.expiresAt().isAfter(now)) {
+                forget(revocation);
+            }
+        }
+    }
+
+    /**
+     * Deletes expired revocations, one short transaction per batch.
+     */
+    @Scheduled(fixedDelayString = "${auth.revocations.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        int batchSize = properties.getPurgeBatchSize();
+        long purged = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = repository.findExpiredIds(now, PageRequest.of(0, batchSize));
+                if (!ids.isEmpty()) {
+                    repository.deleteAllByIdInBatch(ids);
+                }
+                return ids.size();
+            });
+            purged += deleted;
+        } while (deleted == batchSize);
+        if (purged > 0) {
+            log.info("Purged {} expired token revocations", purged);
+        }
+    }
+
+    private void save(Kind kind, String subject, Instant notBefore, Instant expiresAt, Instant now) {
+        TokenRevocationEntity saved = repository.save(TokenRevocationEntity.builder()
+                .kind(kind)
+                .subject(subject)
+                .notBefore(notBefore)
+                .expiresAt(expiresAt)
+                .createdAt(now)
+                .build());
+        // Effective on this instance at once; the others load it on their next reload
+        apply(toRevocation(saved));
+    }
+
+    private RevocationSnapshot fullSnapshot(long version) {
+        int capacity = Math.max(properties.getMinFilterCapacity(), revokedTokenIds.size() * 2);
+        BloomFilter filter = new BloomFilter(capacity, properties.getFalsePositiveRate());
+        revokedTokenIds.keySet().forEach(filter::put);
+        return new RevocationSnapshot(version, filter, List.of(), Map.copyOf(userNotBefore));
+    }
+
+    private void apply(Revocation revocation) {
+        byVersion.put(revocation.version(), revocation);
+        if (revocation.kind() == Kind.TOKEN) {
+            revokedTokenIds.put(revocation.subject(), revocation.expiresAt());
+        } else {
+            userNotBefore.merge(revocation.subject(), revocation.notBefore(), (a, b) -> a.isAfter(b) ? a : b);
+        }
+    }
+
+    private void forget(Revocation revocation) {
+        byVersion.remove(revocation.version());
+        if (revocation.kind() == Kind.TOKEN) {
+            revokedTokenIds.remove(revocation.subject(), revocation.expiresAt());
+        } else {
+            // A later cut-off of the same user expires later and stays
+            userNotBefore.remove(revocation.subject(), revocation.notBefore());
+        }
+    }
+
+    private static Revocation toRevocation(TokenRevocationEntity row) {
+        return new Revocation(row.getId(), row.getKind(), row.getSubject(), row.getNotBefore(), row.getExpiresAt());
+    }
+}
@@ -1,35 +1,36 @@
 package com.ftp.authservice.security;
 
+import com.ftp.authservice.infrastructure.security.AuthenticatedPrincipal;
 import com.ftp.authservice.infrastructure.security.JwtTokenProvider;
+import com.ftp.authservice.infrastructure.security.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
+/**
+ * Authenticates requests carrying a valid bearer token. The token is parsed once, here, into an
+ * {@link AuthenticatedPrincipal}; controllers read it from the SecurityContext. Requests without a valid
+ * token, or with a revoked one, continue unauthenticated, and the authorization rules of SecurityConfig decide.
+ */
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenRevocationService tokenRevocationService;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, TokenRevocationService tokenRevocationService) {
         this.jwtTokenProvider = jwtTokenProvider;
-    }
-
-    private boolean isWhitelisted(String path) {
-        return path.startsWith("/swagger-ui")
-                || path.startsWith("/swagger-ui.html")
-                || path.startsWith("/v3/api-docs")
-                || path.startsWith("/swagger-resources")
-                || path.startsWith("/webjars")
-                || path.startsWith("/configuration")
-                || path.startsWith("/auth");
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @Override
@@ -38,23 +39,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     FilterChain filterChain)
             throws ServletException, IOException {
 
-        String path = request.getRequestURI();
-
-        // Skip filter for Swagger and Auth endpoints
-        if (isWhitelisted(path)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         String token = getTokenFromRequest(request);
 
-        if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getUsernameFromToken(token);
-
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList());
-            authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (StringUtils.hasText(token)) {
+            // A revoked token is treated as no token: two in-memory lookups, no query
+            Optional<AuthenticatedPrincipal> caller = jwtTokenProvider.parse(token)
+                    .filter(principal -> !tokenRevocationService.isRevoked(principal));
+            caller.ifPresent(principal -> {
+                // The role claim becomes the authority checked by hasRole(...)
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(principal, null,
+                        principal.role() != null ? List.of(new SimpleGrantedAuthority("ROLE_" + principal.role())) : List.of());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            });
         }
 
         filterChain.doFilter(request, response);
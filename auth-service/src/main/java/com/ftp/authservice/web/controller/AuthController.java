@@ -1,12 +1,13 @@
 package com.ftp.authservice.web.controller;
 
-import com.ftp.authservice.domain.model.User;
 import com.ftp.authservice.domain.ports.in.LoginUseCase;
 import com.ftp.authservice.domain.ports.in.RegisterUserUseCase;
 import com.ftp.authservice.exception.InvalidTokenException;
 import com.ftp.authservice.infrastructure.db.entities.RefreshTokenEntity;
+import com.ftp.authservice.infrastructure.security.AuthenticatedPrincipal;
 import com.ftp.authservice.infrastructure.security.JwtTokenProvider;
 import com.ftp.authservice.infrastructure.security.RefreshTokenService;
+import com.ftp.authservice.infrastructure.security.TokenRevocationService;
 import com.ftp.authservice.web.dto.JwtResponseDTO;
 import com.ftp.authservice.web.dto.LoginRequestDTO;
 import com.ftp.authservice.web.dto.RegisterRequestDTO;
@@ -18,15 +19,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
-import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * AuthController handles all authentication related operations.
- * It manages user login, registration, profile retrieval, and token refresh functionality.
+ * It manages user login, registration, profile retrieval, token refresh and logout functionality.
  */
 @RestController
 @RequestMapping("/auth") // All endpoints in this controller will have the "/auth" base URL
@@ -37,6 +39,7 @@ public class AuthController {
     private final RegisterUserUseCase registerUserUseCase;
     private final JwtTokenProvider jwtTokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final TokenRevocationService tokenRevocationService;
 
     /**
      * Constructor to inject dependencies for authentication services.
@@ -44,16 +47,20 @@ public class AuthController {
     public AuthController(LoginUseCase loginUseCase,
                           RegisterUserUseCase registerUserUseCase,
                           RefreshTokenService refreshTokenService,
-                          JwtTokenProvider jwtTokenProvider) {
+                          JwtTokenProvider jwtTokenProvider,
+                          TokenRevocationService tokenRevocationService) {
         this.loginUseCase = loginUseCase;
         this.registerUserUseCase = registerUserUseCase;
         this.jwtTokenProvider = jwtTokenProvider;
         this.refreshTokenService = refreshTokenService;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     /**
      * Login API to authenticate users using username and password.
      * Generates JWT and Refresh token upon successful authentication.
+     * The password is verified on the password hashing pool, which releases the request thread meanwhile;
+     * the tokens are then issued on the I/O pool the login completes on, not on a hashing thread.
      *
      * @param request contains the login credentials (username and password)
      * @return ResponseEntity containing JWT and Refresh tokens
@@ -61,21 +68,25 @@ public class AuthController {
     @Operation(summary = "Login with username and password", description = "Returns JWT token if credentials are valid")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login successful"),
-            @ApiResponse(responseCode = "401", description = "Invalid credentials")
+            @ApiResponse(responseCode = "401", description = "Invalid credentials"),
+            @ApiResponse(responseCode = "429", description = "Too many failed logins for this username or client"),
+            @ApiResponse(responseCode = "503", description = "Too many logins in progress, retry after the Retry-After delay")
     })
     @PostMapping("/login")
-    public ResponseEntity<JwtResponseDTO> login(@Valid @RequestBody LoginRequestDTO request) {
+    public CompletableFuture<ResponseEntity<JwtResponseDTO>> login(@Valid @RequestBody LoginRequestDTO request,
+                                                                   HttpServletRequest httpRequest) {
         // Authenticate user and validate login credentials
-        User user = loginUseCase.login(request.getUsername(), request.getPassword());
+        return loginUseCase.loginAsync(request.getUsername(), request.getPassword(), httpRequest.getRemoteAddr())
+                .thenApply(user -> {
+                    // Generate JWT token using the user's credentials
+                    String accessToken = jwtTokenProvider.generateToken(user.getUsername(), user.getRole());
 
-        // Generate JWT token using the user's credentials
-        String accessToken = jwtTokenProvider.generateToken(user.getUsername(), user.getRole());
+                    // Generate refresh token for the user
+                    RefreshTokenEntity refreshToken = refreshTokenService.createRefreshToken(user.getUsername(), user.getRole());
 
-        // Generate refresh token for the user
-        RefreshTokenEntity refreshToken = refreshTokenService.createRefreshToken(user.getUsername(), user.getRole());
-
-        // Return the generated JWT and refresh tokens
-        return ResponseEntity.ok(new JwtResponseDTO(accessToken, refreshToken.getToken(), user.getUsername()));
+                    // Return the generated JWT and refresh tokens
+                    return ResponseEntity.ok(new JwtResponseDTO(accessToken, refreshToken.getToken(), user.getUsername()));
+                });
     }
 
     /**
@@ -88,22 +99,22 @@ public class AuthController {
     @Operation(summary = "Register new user", description = "Registers a new user with username and password")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Registration successful"),
-            @ApiResponse(responseCode = "400", description = "Invalid data")
+            @ApiResponse(responseCode = "400", description = "Invalid data"),
+            @ApiResponse(responseCode = "503", description = "Too many registrations in progress, retry after the Retry-After delay")
     })
     @PostMapping("/register")
-    public ResponseEntity<UserResponseDTO> register(@Valid @RequestBody RegisterRequestDTO request) {
+    public CompletableFuture<ResponseEntity<UserResponseDTO>> register(@Valid @RequestBody RegisterRequestDTO request) {
         // Convert the registration DTO to a domain model and register the user
-        User created = registerUserUseCase.register(request.toDomain());
-
-        // Return the registered user information
-        return ResponseEntity.ok(UserResponseDTO.from(created));
+        return registerUserUseCase.registerAsync(request.toDomain())
+                // Return the registered user information
+                .thenApply(created -> ResponseEntity.ok(UserResponseDTO.from(created)));
     }
 
     /**
      * Get the current user profile using a valid JWT token.
-     * The token is extracted from the Authorization header.
+     * The token from the Authorization header was already verified by the JWT filter.
      *
-     * @param request to retrieve the Authorization header containing the JWT token
+     * @param principal the caller read from the token, null if the token is missing or invalid
      * @return ResponseEntity containing the user's profile information
      */
     @Operation(summary = "Get user profile", description = "Returns user info if JWT token is valid", security = @SecurityRequirement(name = "bearerAuth"))
@@ -112,44 +123,62 @@ public class AuthController {
             @ApiResponse(responseCode = "401", description = "Invalid or missing token")
     })
     @GetMapping("/user/profile")
-    public ResponseEntity<?> getUserProfile(HttpServletRequest request) {
-        // Retrieve the Authorization header
-        String authHeader = request.getHeader("Authorization");
-
+    public ResponseEntity<?> getUserProfile(@AuthenticationPrincipal AuthenticatedPrincipal principal) {
         // Check if the token is missing or invalid
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+        if (principal == null) {
             throw new InvalidTokenException("Missing or invalid Authorization header");
         }
 
-        // Extract the JWT token and retrieve the username
-        String token = authHeader.substring(7); // Extract token from the "Bearer " prefix
-        String username = jwtTokenProvider.getUsernameFromToken(token);
-
         // Return the user's profile data
-        return ResponseEntity.ok(Map.of("username", username, "message", "Token is valid and this is your profile"));
+        return ResponseEntity.ok(Map.of("username", principal.username(), "message", "Token is valid and this is your profile"));
     }
 
     /**
      * Refresh the JWT token using the provided refresh token.
-     * It returns a new access token if the refresh token is valid.
+     * The refresh token is single-use: it is consumed and a new one is returned with the access token.
      *
      * @param request contains the refresh token
-     * @return ResponseEntity with the new access token
+     * @return ResponseEntity with the new access token and refresh token
      */
-    @PostMapping("/auth/refresh")
+    @Operation(summary = "Refresh tokens", description = "Exchanges a refresh token for a new access token and refresh token")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Tokens refreshed"),
+            @ApiResponse(responseCode = "401", description = "Invalid, already used or expired refresh token")
+    })
+    @PostMapping("/refresh")
     public ResponseEntity<?> refreshToken(@RequestBody Map<String, String> request) {
-        String requestToken = request.get("refreshToken");
+        // Consume the refresh token and issue its successor
+        RefreshTokenEntity refreshToken = refreshTokenService.rotate(request.get("refreshToken"));
+
+        // Generate a new access token for the same user
+        String accessToken = jwtTokenProvider.generateToken(refreshToken.getUsername(), refreshToken.getRole());
+        return ResponseEntity.ok(Map.of("accessToken", accessToken, "refreshToken", refreshToken.getToken()));
+    }
 
-        // Check if the refresh token exists and is not expired
-        return refreshTokenService.findByToken(requestToken)
-                .map(token -> {
-                    if (refreshTokenService.isExpired(token)) {
-                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Refresh token expired");
-                    }
-                    // Generate a new access token if the refresh token is valid
-                    String accessToken = jwtTokenProvider.generateToken(token.getUsername(), token.getRole());
-                    return ResponseEntity.ok(Map.of("accessToken", accessToken));
-                })
-                .orElseGet(() -> ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid refresh token"));
+    /**
+     * Logout: revokes the access token of the request until it expires, and the given refresh token if any.
+     * The gateway rejects the access token from its next revocation pull, within a few seconds.
+     *
+     * @param principal the caller read from the token, null if the token is missing, invalid or already revoked
+     * @param request   optionally contains the refresh token of the session
+     * @return 204 No Content
+     */
+    @Operation(summary = "Logout", description = "Revokes the current access token and the given refresh token", security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tokens revoked"),
+            @ApiResponse(responseCode = "401", description = "Invalid, missing or already revoked token")
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal AuthenticatedPrincipal principal,
+                                       @RequestBody(required = false) Map<String, String> request) {
+        if (principal == null) {
+            throw new InvalidTokenException("Missing or invalid Authorization header");
+        }
+
+        tokenRevocationService.revokeToken(principal.tokenId(), principal.expiresAt());
+        if (request != null && request.get("refreshToken") != null) {
+            refreshTokenService.revoke(request.get("refreshToken"), principal.username());
+        }
+        return ResponseEntity.noContent().build();
     }
 }
@@ -0,0 +1,87 @@
+package com.ftp.authservice.web.controller;
+
+import com.ftp.authservice.config.TokenRevocationProperties;
+import com.ftp.authservice.exception.AppException;
+import com.ftp.authservice.infrastructure.security.RefreshTokenService;
+import com.ftp.authservice.infrastructure.security.TokenRevocationService;
+import com.ftp.authservice.web.dto.RevocationSnapshotDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * TokenRevocationController revokes all tokens of a user (ADMIN, see SecurityConfig) and publishes the
+ * revocations to the gateways.
+ */
+@RestController
+@RequestMapping("/auth")
+@Tag(name = "Token Revocation", description = "Revoking access tokens and distributing revocations")
+public class TokenRevocationController {
+
+    public static final String INTERNAL_SECRET_HEADER = "X-Internal-Secret";
+
+    private final TokenRevocationService tokenRevocationService;
+    private final RefreshTokenService refreshTokenService;
+    private final byte[] internalSecret;
+
+    public TokenRevocationController(TokenRevocationService tokenRevocationService,
+                                     RefreshTokenService refreshTokenService,
+                                     TokenRevocationProperties properties) {
+        this.tokenRevocationService = tokenRevocationService;
+        this.refreshTokenService = refreshTokenService;
+        this.internalSecret = properties.getInternalSecret().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Revokes every access token the user holds and deletes their refresh tokens, e.g. after a password leak.
+     * Tokens issued afterwards are valid.
+     *
+     * @param username the user whose tokens are revoked
+     * @return 204 No Content
+     */
+    @Operation(summary = "Revoke all tokens of a user", description = "Revokes every access and refresh token issued to the user so far",
+            security = @SecurityRequirement(name = "bearerAuth"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tokens revoked"),
+            @ApiResponse(responseCode = "403", description = "Caller is not an administrator")
+    })
+    @PostMapping("/users/{username}/revoke-tokens")
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable String username) {
+        tokenRevocationService.revokeUser(username);
+        refreshTokenService.revokeAll(username);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Revocations for the gateways: those after <code>sinceVersion</code>, or a full snapshot. Served from memory.
+     * Not routed by the gateway; callers authenticate with the shared <code>X-Internal-Secret</code>.
+     *
+     * @param sinceVersion the version the caller holds, 0 for a full snapshot
+     * @param secret       the shared internal secret
+     * @return the revocations and the version to pull from next
+     */
+    @Operation(summary = "Pull revocations", description = "Internal: revoked tokens since a version, or a full Bloom filter snapshot")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Revocations"),
+            @ApiResponse(responseCode = "403", description = "Missing or wrong internal secret")
+    })
+    @GetMapping("/internal/revocations")
+    public ResponseEntity<RevocationSnapshotDTO> revocations(
+            @RequestParam(defaultValue = "0") long sinceVersion,
+            @RequestHeader(name = INTERNAL_SECRET_HEADER, required = false) String secret) {
+        // Constant-time comparison; an empty configured secret disables the endpoint
+        if (internalSecret.length == 0 || secret == null
+                || !MessageDigest.isEqual(internalSecret, secret.getBytes(StandardCharsets.UTF_8))) {
+            throw new AppException("Invalid internal secret", "FORBIDDEN", HttpStatus.FORBIDDEN);
+        }
+        return ResponseEntity.ok(RevocationSnapshotDTO.from(tokenRevocationService.snapshot(sinceVersion)));
+    }
+}
@@ -0,0 +1,83 @@
+package com.ftp.authservice.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ftp.authservice.domain.model.BulkRegistrationResult;
+import com.ftp.authservice.domain.ports.in.BulkRegisterUsersUseCase;
+import com.ftp.authservice.web.ndjson.RegistrationNdjsonReader;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Validator;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * UserProvisioningController creates users in bulk, e.g. when onboarding a corporate customer.
+ * Restricted to ADMIN (see SecurityConfig).
+ */
+@RestController
+@RequestMapping("/auth")
+@Tag(name = "User Provisioning", description = "Bulk user creation for administrators")
+@SecurityRequirement(name = "bearerAuth")
+public class UserProvisioningController {
+
+    public static final String NDJSON = "application/x-ndjson";
+
+    private final BulkRegisterUsersUseCase bulkRegisterUsersUseCase;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public UserProvisioningController(BulkRegisterUsersUseCase bulkRegisterUsersUseCase,
+                                      ObjectMapper objectMapper, Validator validator) {
+        this.bulkRegisterUsersUseCase = bulkRegisterUsersUseCase;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    /**
+     * Registers the users of a newline-delimited JSON body, one registration request per line.
+     * The body is read as it arrives, and one result line per request line is written back as each chunk
+     * completes, e.g. <code>{"line":3,"username":"roy","status":"DUPLICATE","message":"Username already exists"}</code>.
+     *
+     * @param request  the NDJSON request
+     * @param response the NDJSON results, in chunk order
+     */
+    @Operation(summary = "Register users in bulk", description = "Streams NDJSON registration requests, streams back one result per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Results streamed, one per line (CREATED, DUPLICATE, INVALID or FAILED)"),
+            @ApiResponse(responseCode = "403", description = "Caller is not an administrator")
+    })
+    @PostMapping(value = "/register/bulk", consumes = NDJSON, produces = NDJSON)
+    public void registerBulk(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        ServletOutputStream out = response.getOutputStream();
+        ObjectWriter writer = objectMapper.writerFor(BulkRegistrationResult.class);
+
+        bulkRegisterUsersUseCase.registerAll(
+                new RegistrationNdjsonReader(request.getReader(), objectMapper.reader(), validator),
+                results -> {
+                    try {
+                        for (BulkRegistrationResult result : results) {
+                            out.write(writer.writeValueAsBytes(result));
+                            out.write('\n');
+                        }
+                        // Hand the chunk to the client now rather than at the end of the request
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+}
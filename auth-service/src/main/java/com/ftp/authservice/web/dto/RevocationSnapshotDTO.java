@@ -0,0 +1,78 @@
+package com.ftp.authservice.web.dto;
+
+import com.ftp.authservice.infrastructure.cache.BloomFilter;
+import com.ftp.authservice.infrastructure.security.TokenRevocationService.RevocationSnapshot;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Schema(description = "Revoked access tokens, in full or since a version")
+public class RevocationSnapshotDTO {
+
+    @Schema(description = "Version to pull from next time", example = "1042")
+    public long version;
+
+    @Schema(description = "True if this replaces everything held, false if it adds to it")
+    public boolean full;
+
+    @Schema(description = "Bloom filter of all revoked jtis, full snapshots only")
+    public FilterDTO filter;
+
+    @Schema(description = "jtis revoked since the pulled version, deltas only")
+    public List<String> tokenIds;
+
+    @Schema(description = "Per username, tokens issued at or before this epoch second are revoked")
+    public Map<String, Long> userNotBefore;
+
+    @Schema(description = "Bloom filter bits: bit i is bit i % 64 of the big-endian 64-bit word i / 64")
+    public static class FilterDTO {
+
+        @Schema(description = "Number of hash functions", example = "20")
+        public int hashCount;
+
+        @Schema(description = "Number of elements the false-positive rate is sized for", example = "1024")
+        public int capacity;
+
+        @Schema(description = "Base64 of the words")
+        public String bits;
+
+        public FilterDTO(int hashCount, int capacity, String bits) {
+            this.hashCount = hashCount;
+            this.capacity = capacity;
+            this.bits = bits;
+        }
+
+        public static FilterDTO from(BloomFilter filter) {
+            long[] words = filter.toWords();
+            ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES);
+            buffer.asLongBuffer().put(words);
+            return new FilterDTO(filter.hashCount(), filter.capacity(),
+                    Base64.getEncoder().encodeToString(buffer.array()));
+        }
+    }
+
+    public RevocationSnapshotDTO(long version, boolean full, FilterDTO filter, List<String> tokenIds,
+                                 Map<String, Long> userNotBefore) {
+        this.version = version;
+        this.full = full;
+        this.filter = filter;
+        this.tokenIds = tokenIds;
+        this.userNotBefore = userNotBefore;
+    }
+
+    public static RevocationSnapshotDTO from(RevocationSnapshot snapshot) {
+        Map<String, Long> users = new HashMap<>();
+        snapshot.userNotBefore().forEach((username, notBefore) -> users.put(username, notBefore.getEpochSecond()));
+        return new RevocationSnapshotDTO(
+                snapshot.version(),
+                snapshot.isFull(),
+                snapshot.isFull() ? FilterDTO.from(snapshot.tokenFilter()) : null,
+                snapshot.tokenIds(),
+                users
+        );
+    }
+}
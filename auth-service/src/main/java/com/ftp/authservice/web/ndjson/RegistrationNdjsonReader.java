@@ -0,0 +1,79 @@
+package com.ftp.authservice.web.ndjson;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.ftp.authservice.domain.model.BulkRegistrationRow;
+import com.ftp.authservice.web.dto.RegisterRequestDTO;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * RegistrationNdjsonReader reads a newline-delimited JSON body of {@link RegisterRequestDTO}, one line at a time.
+ * <p>
+ * Each line is parsed and validated like the body of <code>POST /auth/register</code>; a line that fails becomes an
+ * invalid row instead of failing the request. Blank lines are skipped but still counted, so line numbers match the
+ * request.
+ */
+public class RegistrationNdjsonReader implements Iterator<BulkRegistrationRow> {
+
+    private final BufferedReader reader;
+    private final ObjectReader objectReader;
+    private final Validator validator;
+
+    private long lineNumber;
+    private String nextLine;
+
+    public RegistrationNdjsonReader(BufferedReader reader, ObjectReader objectReader, Validator validator) {
+        this.reader = reader;
+        this.objectReader = objectReader.forType(RegisterRequestDTO.class);
+        this.validator = validator;
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                String line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+                lineNumber++;
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public BulkRegistrationRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        nextLine = null;
+
+        RegisterRequestDTO request;
+        try {
+            request = objectReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            return BulkRegistrationRow.invalid(lineNumber, "Malformed JSON");
+        }
+        Set<ConstraintViolation<RegisterRequestDTO>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            ConstraintViolation<RegisterRequestDTO> violation = violations.iterator().next();
+            return BulkRegistrationRow.invalid(lineNumber, violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        return BulkRegistrationRow.valid(lineNumber, request.toDomain());
+    }
+}
@@ -0,0 +1,105 @@
+package com.ftp.authservice.application.service;
+
+import com.ftp.authservice.config.BulkRegistrationProperties;
+import com.ftp.authservice.domain.model.BulkRegistrationResult;
+import com.ftp.authservice.domain.model.BulkRegistrationResult.Status;
+import com.ftp.authservice.domain.model.BulkRegistrationRow;
+import com.ftp.authservice.domain.model.User;
+import com.ftp.authservice.domain.ports.out.BulkSaveUserPort;
+import com.ftp.authservice.infrastructure.security.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class BulkRegistrationServiceImplTest {
+
+    private BulkSaveUserPort bulkSaveUserPort;
+    private PasswordHashingExecutor executor;
+    private BulkRegistrationServiceImpl service;
+
+    @BeforeEach
+    void setup() {
+        bulkSaveUserPort = mock(BulkSaveUserPort.class);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(any())).thenAnswer(invocation -> "hash-" + invocation.getArgument(0));
+        executor = new PasswordHashingExecutor(passwordEncoder, 2, 4, 1, Duration.ofSeconds(1), new SimpleMeterRegistry());
+
+        BulkRegistrationProperties properties = new BulkRegistrationProperties();
+        properties.setChunkSize(3);
+        properties.setParallelism(2);
+        service = new BulkRegistrationServiceImpl(bulkSaveUserPort, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void shouldReportEveryRowChunkByChunk() {
+        when(bulkSaveUserPort.findExistingUsernames(any())).thenReturn(Set.of("taken"));
+        when(bulkSaveUserPort.insertAll(anyList())).thenAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            List<Boolean> inserted = new ArrayList<>();
+            users.forEach(user -> inserted.add(!user.getUsername().equals("racer")));
+            return inserted;
+        });
+        List<BulkRegistrationRow> rows = List.of(
+                row(1, "alice"),
+                row(2, "taken"),
+                BulkRegistrationRow.invalid(3, "email: Invalid email format"),
+                row(4, "bob"),
+                row(5, "bob"),
+                row(6, "racer"));
+
+        List<List<BulkRegistrationResult>> chunks = new ArrayList<>();
+        service.registerAll(rows.iterator(), chunks::add);
+
+        assertEquals(2, chunks.size());
+        List<BulkRegistrationResult> results = chunks.stream().flatMap(List::stream).toList();
+        assertEquals(6, results.size());
+        assertEquals(Status.CREATED, statusOf(results, 1));
+        assertEquals(Status.DUPLICATE, statusOf(results, 2));
+        assertEquals(Status.INVALID, statusOf(results, 3));
+        assertEquals(Status.CREATED, statusOf(results, 4));
+        assertEquals(Status.DUPLICATE, statusOf(results, 5));
+        assertEquals(Status.DUPLICATE, statusOf(results, 6));
+    }
+
+    @Test
+    void shouldInsertHashedPasswordsWithOneQueryAndOneBatchPerChunk() {
+        when(bulkSaveUserPort.findExistingUsernames(any())).thenReturn(Set.of());
+        when(bulkSaveUserPort.insertAll(anyList())).thenReturn(List.of(true, true, true));
+
+        service.registerAll(List.of(row(1, "a"), row(2, "b"), row(3, "c")).iterator(), results -> { });
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<User>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(bulkSaveUserPort, times(1)).findExistingUsernames(any());
+        verify(bulkSaveUserPort, times(1)).insertAll(inserted.capture());
+        assertEquals(List.of("hash-pw-a", "hash-pw-b", "hash-pw-c"),
+                inserted.getValue().stream().map(User::getPassword).toList());
+    }
+
+    private static BulkRegistrationRow row(long line, String username) {
+        return BulkRegistrationRow.valid(line, new User(null, username, "pw-" + username,
+                username + "@example.com", "First", "Last", "USER"));
+    }
+
+    private static Status statusOf(List<BulkRegistrationResult> results, long line) {
+        return results.stream().filter(result -> result.line() == line).findFirst().orElseThrow().status();
+    }
+}
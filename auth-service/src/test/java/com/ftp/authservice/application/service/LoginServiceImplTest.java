@@ -2,16 +2,23 @@ package com.ftp.authservice.application.service;
 
 import com.ftp.authservice.domain.model.User;
 import com.ftp.authservice.domain.ports.out.LoadUserPort;
-import com.ftp.authservice.infrastructure.db.entities.FailedLoginAttempt;
-import com.ftp.authservice.infrastructure.repositories.FailedLoginAttemptRepository;
+import com.ftp.authservice.domain.ports.out.LoginAttemptPort;
+import com.ftp.authservice.domain.ports.out.UpdatePasswordPort;
+import com.ftp.authservice.exception.AppException;
+import com.ftp.authservice.infrastructure.security.PasswordHashingExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -26,13 +33,15 @@ class LoginServiceImplTest {
     private PasswordEncoder passwordEncoder;
 
     @Mock
-    private FailedLoginAttemptRepository failedLoginAttemptRepository;
+    private LoginAttemptPort loginAttemptPort;
+
+    @Mock
+    private UpdatePasswordPort updatePasswordPort;
 
     @InjectMocks
     private LoginServiceImpl loginService;
 
     private User user;
-    private FailedLoginAttempt attempt;
 
     @BeforeEach
     void setup() {
@@ -45,14 +54,11 @@ class LoginServiceImplTest {
                 "User",
                 "USER"
         );
-
-        attempt = new FailedLoginAttempt();
     }
 
     @Test
     void testLoginSuccess() {
         // Arrange
-        when(failedLoginAttemptRepository.findByUsername("roy")).thenReturn(Optional.of(attempt));
         when(loadUserPort.loadByUsername("roy")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("123Roy123", "encoded-password")).thenReturn(true);
 
@@ -63,15 +69,26 @@ class LoginServiceImplTest {
         assertNotNull(result);
         assertEquals("roy", result.getUsername());
 
-        // Verify that failed attempt record was deleted
-        verify(failedLoginAttemptRepository).delete(attempt);
-        verifyNoMoreInteractions(failedLoginAttemptRepository);
+        // Verify that failed attempts were reset
+        verify(loginAttemptPort).recordSuccess("roy");
+        verify(loginAttemptPort, never()).recordFailure(any(), any());
+    }
+
+    @Test
+    void testLoginSuccess_RehashesOutdatedHash() {
+        when(loadUserPort.loadByUsername("roy")).thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("123Roy123", "encoded-password")).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encoded-password")).thenReturn(true);
+        when(passwordEncoder.encode("123Roy123")).thenReturn("{bcrypt}new-hash");
+
+        loginService.login("roy", "123Roy123");
+
+        verify(updatePasswordPort).updatePassword(user.getId(), "{bcrypt}new-hash");
     }
 
     @Test
     void testLogin_InvalidPassword_ShouldIncrementFailedAttempts() {
         // Arrange
-        when(failedLoginAttemptRepository.findByUsername("roy")).thenReturn(Optional.of(attempt));
         when(loadUserPort.loadByUsername("roy")).thenReturn(Optional.of(user));
         when(passwordEncoder.matches("wrongPassword", "encoded-password")).thenReturn(false);
 
@@ -81,15 +98,14 @@ class LoginServiceImplTest {
 
         assertEquals("Invalid username or password", exception.getMessage());
 
-        // Verify failed attempt was incremented and saved
-        verify(failedLoginAttemptRepository).save(attempt);
-        verify(failedLoginAttemptRepository, never()).delete(any());
+        // Verify the failure was counted
+        verify(loginAttemptPort).recordFailure("roy", null);
+        verify(loginAttemptPort, never()).recordSuccess(any());
     }
 
     @Test
     void testLogin_UserNotFound_ShouldIncrementFailedAttempts() {
         // Arrange
-        when(failedLoginAttemptRepository.findByUsername("unknownUser")).thenReturn(Optional.of(attempt));
         when(loadUserPort.loadByUsername("unknownUser")).thenReturn(Optional.empty());
 
         // Act & Assert
@@ -98,9 +114,44 @@ class LoginServiceImplTest {
 
         assertEquals("Invalid username or password", exception.getMessage());
 
-        // Verify failed attempt was incremented and saved
-        verify(failedLoginAttemptRepository).save(attempt);
-        verify(failedLoginAttemptRepository, never()).delete(any());
+        // Verify the failure was counted
+        verify(loginAttemptPort).recordFailure("unknownUser", null);
+        verify(loginAttemptPort, never()).recordSuccess(any());
+    }
+
+    @Test
+    void testLogin_LockedOut_ShouldNotCheckPassword() {
+        when(loginAttemptPort.lockedUntil("roy", "10.0.0.1"))
+                .thenReturn(Optional.of(Instant.now().plusSeconds(60)));
+
+        AppException exception = assertThrows(AppException.class, () ->
+                loginService.loginAsync("roy", "123Roy123", "10.0.0.1"));
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, exception.getHttpStatus());
+        verifyNoInteractions(loadUserPort, passwordEncoder);
+    }
+
+    @Test
+    void testLoginAsync_VerifiesPasswordOnHashingPool() {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(passwordEncoder, 1, 4, 1,
+                Duration.ofSeconds(1), new SimpleMeterRegistry());
+        LoginServiceImpl asyncLoginService = new LoginServiceImpl(loadUserPort, passwordEncoder,
+                loginAttemptPort, executor, updatePasswordPort);
+        try {
+            when(loadUserPort.loadByUsername("roy")).thenReturn(Optional.of(user));
+            when(passwordEncoder.matches("123Roy123", "encoded-password")).thenReturn(true);
+            when(passwordEncoder.matches("wrongPassword", "encoded-password")).thenReturn(false);
+
+            assertEquals("roy", asyncLoginService.loginAsync("roy", "123Roy123", "10.0.0.1").join().getUsername());
+            verify(loginAttemptPort).recordSuccess("roy");
+
+            CompletionException exception = assertThrows(CompletionException.class, () ->
+                    asyncLoginService.loginAsync("roy", "wrongPassword", "10.0.0.1").join());
+            assertEquals("Invalid username or password", exception.getCause().getMessage());
+            verify(loginAttemptPort).recordFailure("roy", "10.0.0.1");
+        } finally {
+            executor.shutdown();
+        }
     }
 
 }
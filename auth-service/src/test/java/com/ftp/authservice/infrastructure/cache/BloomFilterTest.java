@@ -0,0 +1,51 @@
+package com.ftp.authservice.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    // The gateway's RevocationBloomFilterTest asserts the same positions: both sides must hash alike
+    private static final String JTI = "0d4f5b6c-7a8e-4c1d-9b2f-3e6a7c8d9e01";
+    private static final List<Long> JTI_BITS = List.of(195L, 258L, 438L, 476L, 719L, 757L, 937L);
+    private static final String OTHER_JTI = "revoked-token-42";
+    private static final List<Long> OTHER_JTI_BITS = List.of(58L, 171L, 181L, 284L, 294L, 304L, 417L);
+
+    @Test
+    void shouldSetThePinnedBitPositions() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+        assertEquals(7, filter.hashCount());
+        assertEquals(15, filter.toWords().length);
+
+        filter.put(JTI);
+        assertEquals(JTI_BITS, setBits(filter.toWords()));
+
+        BloomFilter other = new BloomFilter(100, 0.01);
+        other.put(OTHER_JTI);
+        assertEquals(OTHER_JTI_BITS, setBits(other.toWords()));
+    }
+
+    @Test
+    void shouldContainAddedValuesOnly() {
+        BloomFilter filter = new BloomFilter(100, 0.01);
+
+        filter.put(JTI);
+
+        assertTrue(filter.mightContain(JTI));
+        assertFalse(filter.mightContain(OTHER_JTI));
+    }
+
+    private static List<Long> setBits(long[] words) {
+        List<Long> bits = new ArrayList<>();
+        for (long bit = 0; bit < words.length * 64L; bit++) {
+            if ((words[(int) (bit >>> 6)] & (1L << bit)) != 0) {
+                bits.add(bit);
+            }
+        }
+        return bits;
+    }
+}
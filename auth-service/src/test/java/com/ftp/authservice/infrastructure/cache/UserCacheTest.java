@@ -0,0 +1,114 @@
+package com.ftp.authservice.infrastructure.cache;
+
+import com.ftp.authservice.domain.model.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserCacheTest {
+
+    private final User roy = new User(UUID.randomUUID(), "roy", "encoded-password", "roy@example.com",
+            "Roy", "User", "USER");
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserCache cache;
+    private AtomicInteger loads;
+    private Function<String, Optional<User>> loader;
+
+    @BeforeEach
+    void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new UserCache(Duration.ofMinutes(1), Duration.ofMinutes(1), Duration.ZERO, 10, meterRegistry);
+        loads = new AtomicInteger();
+        loader = username -> {
+            loads.incrementAndGet();
+            return username.equals("roy") ? Optional.of(roy) : Optional.empty();
+        };
+    }
+
+    @Test
+    void shouldServeKnownAndUnknownUsernamesFromTheCache() {
+        assertEquals(Optional.of(roy), cache.get("roy", loader));
+        assertEquals(Optional.of(roy), cache.get("roy", loader));
+        assertTrue(cache.get("ghost", loader).isEmpty());
+        assertTrue(cache.get("ghost", loader).isEmpty());
+
+        assertEquals(2, loads.get());
+        assertEquals(2.0, meterRegistry.get("auth.user.cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(2.0, meterRegistry.get("auth.user.cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void invalidationShouldReload() {
+        cache.get("roy", loader);
+        cache.get("ghost", loader);
+
+        cache.invalidate(roy.getId());
+        cache.invalidate("ghost");
+        cache.get("roy", loader);
+        cache.get("ghost", loader);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void loadOverlappingAnInvalidationShouldNotBeCached() {
+        cache.get("roy", username -> {
+            cache.invalidate("roy"); // A write lands while the row is being read
+            return Optional.of(roy);
+        });
+
+        cache.get("roy", loader);
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void loadsWithinTheReplicaLagWindowShouldNotBeCached() {
+        UserCache lagging = new UserCache(Duration.ofMinutes(1), Duration.ofMinutes(1), Duration.ofMinutes(1), 10,
+                new SimpleMeterRegistry());
+
+        // Just registered, the replica still answers unknown
+        lagging.invalidate("roy");
+        assertTrue(lagging.get("roy", username -> {
+            loads.incrementAndGet();
+            return Optional.empty();
+        }).isEmpty());
+        assertEquals(Optional.of(roy), lagging.get("roy", loader));
+
+        // Password changed by id, the replica may still hold the old hash
+        lagging.invalidate(roy.getId());
+        lagging.get("roy", loader);
+        lagging.get("roy", loader);
+
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    void shouldStayWithinMaxEntries() {
+        for (int i = 0; i < 100; i++) {
+            cache.get("user" + i, loader);
+        }
+
+        assertTrue(cache.size() <= 10, "size " + cache.size());
+        assertTrue(meterRegistry.get("auth.user.cache.evictions").functionCounter().count() > 0);
+    }
+
+    @Test
+    void expiredEntriesShouldBeReloaded() {
+        UserCache shortLived = new UserCache(Duration.ZERO, Duration.ZERO, Duration.ZERO, 10, new SimpleMeterRegistry());
+
+        shortLived.get("roy", loader);
+        shortLived.get("roy", loader);
+
+        assertEquals(2, loads.get());
+    }
+}
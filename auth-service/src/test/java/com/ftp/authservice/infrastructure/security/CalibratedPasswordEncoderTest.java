@@ -0,0 +1,51 @@
+package com.ftp.authservice.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalibratedPasswordEncoderTest {
+
+    @Test
+    void shouldRecordAlgorithmAndCostInTheHash() {
+        CalibratedPasswordEncoder encoder = new CalibratedPasswordEncoder(5);
+
+        String hash = encoder.encode("123Roy123");
+
+        assertTrue(hash.startsWith("{bcrypt}$2a$05$"), hash);
+        assertTrue(encoder.matches("123Roy123", hash));
+        assertFalse(encoder.upgradeEncoding(hash));
+    }
+
+    @Test
+    void shouldVerifyAndUpgradeHashesWithoutAlgorithmOrWithOtherCost() {
+        CalibratedPasswordEncoder encoder = new CalibratedPasswordEncoder(5);
+        String legacy = new BCryptPasswordEncoder(4).encode("123Roy123");
+        String stronger = new CalibratedPasswordEncoder(6).encode("123Roy123");
+
+        assertTrue(encoder.matches("123Roy123", legacy));
+        assertTrue(encoder.upgradeEncoding(legacy));
+        assertTrue(encoder.matches("123Roy123", stronger));
+        assertTrue(encoder.upgradeEncoding(stronger));
+    }
+
+    @Test
+    void calibratedCostShouldNotDowngradeStrongerHashes() {
+        CalibratedPasswordEncoder encoder = new CalibratedPasswordEncoder(5, false);
+        String weaker = new CalibratedPasswordEncoder(4).encode("123Roy123");
+        String stronger = new CalibratedPasswordEncoder(6).encode("123Roy123");
+
+        assertTrue(encoder.upgradeEncoding(weaker));
+        assertTrue(encoder.matches("123Roy123", stronger));
+        assertFalse(encoder.upgradeEncoding(stronger));
+    }
+
+    @Test
+    void calibrationShouldStayWithinBounds() {
+        assertEquals(4, CalibratedPasswordEncoder.calibrate(Duration.ZERO, 4, 6));
+        assertEquals(6, CalibratedPasswordEncoder.calibrate(Duration.ofSeconds(30), 4, 6));
+    }
+}
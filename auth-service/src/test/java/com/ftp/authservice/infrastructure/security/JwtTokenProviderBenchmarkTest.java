@@ -0,0 +1,94 @@
+package com.ftp.authservice.infrastructure.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static com.ftp.authservice.infrastructure.security.JwtTokenProviderTest.SECRET;
+
+/**
+ * ✅ Benchmark: per-call key and parser vs prebuilt JwtTokenProvider
+ *
+ * Issues and then verifies 20,000 tokens on each path and prints tokens per second. The previous path rebuilt the
+ * HMAC key on every call and, per authenticated request, built a parser three times (validate, subject, role).
+ * The new path signs with the prebuilt key and parses each token once. JwtTokenProviderTest checks that tokens
+ * of the previous path are still accepted.
+ */
+@Tag("benchmark")
+class JwtTokenProviderBenchmarkTest {
+
+    private static final int TOKENS = 20_000;
+    private static final long EXPIRATION_MS = 60_000;
+
+    @Test
+    void compareRebuiltAndPrebuiltKeyAndParser() {
+        JwtTokenProvider provider = new JwtTokenProvider(SECRET, EXPIRATION_MS);
+        Function<Integer, String> previousIssue = i -> {
+            Date now = new Date();
+            return Jwts.builder()
+                    .setSubject("user" + i)
+                    .setIssuedAt(now)
+                    .claim("role", "USER")
+                    .setExpiration(new Date(now.getTime() + EXPIRATION_MS))
+                    .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS512)
+                    .compact();
+        };
+        Predicate<String> previousVerify = token -> {
+            try {
+                Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build().parseClaimsJws(token);
+                Claims claims = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                        .parseClaimsJws(token).getBody();
+                String role = Jwts.parserBuilder().setSigningKey(Keys.hmacShaKeyFor(SECRET.getBytes())).build()
+                        .parseClaimsJws(token).getBody().get("role", String.class);
+                return claims.getSubject() != null && role != null;
+            } catch (JwtException e) {
+                return false;
+            }
+        };
+        Function<Integer, String> prebuiltIssue = i -> provider.generateToken("user" + i, "USER");
+        Predicate<String> prebuiltVerify = token -> provider.parse(token).isPresent();
+
+        // Warm-up so both paths are JIT-compiled
+        run(previousIssue, previousVerify);
+        run(prebuiltIssue, prebuiltVerify);
+
+        Result before = run(previousIssue, previousVerify);
+        Result after = run(prebuiltIssue, prebuiltVerify);
+
+        System.out.printf("Per-call key and parser: %,d issued/s, %,d verified/s, %,d accepted%n",
+                perSecond(before.issueNanos), perSecond(before.verifyNanos), before.verified);
+        System.out.printf("Prebuilt key and parser: %,d issued/s, %,d verified/s, %,d accepted%n",
+                perSecond(after.issueNanos), perSecond(after.verifyNanos), after.verified);
+    }
+
+    private Result run(Function<Integer, String> issue, Predicate<String> verify) {
+        String[] tokens = new String[TOKENS];
+        long start = System.nanoTime();
+        for (int i = 0; i < TOKENS; i++) {
+            tokens[i] = issue.apply(i);
+        }
+        long issued = System.nanoTime();
+        int verified = 0;
+        for (String token : tokens) {
+            if (verify.test(token)) {
+                verified++;
+            }
+        }
+        return new Result(issued - start, System.nanoTime() - issued, verified);
+    }
+
+    private static long perSecond(long nanos) {
+        return TOKENS * 1_000_000_000L / Math.max(1, nanos);
+    }
+
+    private record Result(long issueNanos, long verifyNanos, int verified) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.ftp.authservice.infrastructure.security;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    static final String SECRET = "SuperSecureKeyThatIsAtLeast64CharactersLongToAvoidWeakKeyException1234567890";
+
+    private final JwtTokenProvider provider = new JwtTokenProvider(SECRET, 60_000);
+
+    @Test
+    void shouldParseIssuedTokenIntoPrincipal() {
+        AuthenticatedPrincipal principal = provider.parse(provider.generateToken("roy", "ADMIN")).orElseThrow();
+
+        assertEquals("roy", principal.username());
+        assertEquals("roy", principal.getName());
+        assertEquals("ADMIN", principal.role());
+        assertTrue(principal.expiresAt().isAfter(Instant.now()));
+        assertFalse(principal.issuedAt().isAfter(Instant.now()));
+    }
+
+    @Test
+    void eachTokenShouldHaveItsOwnId() {
+        AuthenticatedPrincipal first = provider.parse(provider.generateToken("roy", "USER")).orElseThrow();
+        AuthenticatedPrincipal second = provider.parse(provider.generateToken("roy", "USER")).orElseThrow();
+
+        assertNotNull(first.tokenId());
+        assertNotEquals(first.tokenId(), second.tokenId());
+    }
+
+    @Test
+    void shouldAcceptTokensIssuedWithAKeyBuiltPerCall() {
+        // As issued before the key was prebuilt, without a jti
+        Date now = new Date();
+        String token = Jwts.builder()
+                .setSubject("roy")
+                .setIssuedAt(now)
+                .claim("role", "USER")
+                .setExpiration(new Date(now.getTime() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS512)
+                .compact();
+
+        AuthenticatedPrincipal principal = provider.parse(token).orElseThrow();
+
+        assertEquals("roy", principal.username());
+        assertEquals("USER", principal.role());
+        assertNull(principal.tokenId());
+    }
+
+    @Test
+    void shouldRejectForgedExpiredAndMalformedTokens() {
+        JwtTokenProvider otherKey = new JwtTokenProvider(SECRET.replace('S', 'X'), 60_000);
+        JwtTokenProvider expired = new JwtTokenProvider(SECRET, -1_000);
+
+        assertEquals(Optional.empty(), provider.parse(otherKey.generateToken("roy", "ADMIN")));
+        assertEquals(Optional.empty(), provider.parse(expired.generateToken("roy", "USER")));
+        assertEquals(Optional.empty(), provider.parse("not-a-token"));
+        assertEquals(Optional.empty(), provider.parse(""));
+    }
+}
@@ -0,0 +1,50 @@
+package com.ftp.authservice.infrastructure.security;
+
+import com.ftp.authservice.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PasswordHashingExecutorTest {
+
+    @Test
+    void shouldRejectWhenQueueIsFullAndRecordMetrics() throws Exception {
+        CountDownLatch hashing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+        when(passwordEncoder.encode(anyString())).thenAnswer(invocation -> {
+            hashing.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return "hash-" + invocation.getArgument(0);
+        });
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(passwordEncoder, 1, 1, 1,
+                Duration.ofSeconds(3), meterRegistry);
+        try {
+            CompletableFuture<String> running = executor.encode("a");
+            assertTrue(hashing.await(5, TimeUnit.SECONDS));
+            CompletableFuture<String> queued = executor.encode("b");
+
+            PasswordHashingBusyException exception = assertThrows(PasswordHashingBusyException.class,
+                    () -> executor.encode("c"));
+            assertEquals(Duration.ofSeconds(3), exception.getRetryAfter());
+            assertEquals(1.0, meterRegistry.get("auth.password.hash.queue.size").gauge().value());
+
+            release.countDown();
+            assertEquals("hash-a", running.get(5, TimeUnit.SECONDS));
+            assertEquals("hash-b", queued.get(5, TimeUnit.SECONDS));
+            assertEquals(2, meterRegistry.get("auth.password.hash.time").tag("operation", "encode").timer().count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
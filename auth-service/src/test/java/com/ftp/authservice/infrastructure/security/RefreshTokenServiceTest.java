@@ -0,0 +1,95 @@
+package com.ftp.authservice.infrastructure.security;
+
+import com.ftp.authservice.config.RefreshTokenProperties;
+import com.ftp.authservice.exception.InvalidTokenException;
+import com.ftp.authservice.infrastructure.db.entities.RefreshTokenEntity;
+import com.ftp.authservice.infrastructure.repositories.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenServiceTest {
+
+    private RefreshTokenRepository repository;
+    private RefreshTokenService service;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(RefreshTokenRepository.class);
+        when(repository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(repository.findIdsByUsernameNewestFirst(any(), any())).thenReturn(Collections.emptyList());
+        RefreshTokenProperties properties = new RefreshTokenProperties();
+        properties.setPurgeBatchSize(2);
+        service = new RefreshTokenService(repository, mock(PlatformTransactionManager.class), properties, 60_000);
+    }
+
+    @Test
+    void shouldStoreOnlyTheHashOfTheToken() {
+        RefreshTokenEntity issued = service.createRefreshToken("roy", "USER");
+
+        assertNotNull(issued.getToken());
+        assertEquals(64, issued.getTokenHash().length());
+        assertEquals(RefreshTokenService.hash(issued.getToken()), issued.getTokenHash());
+        assertNotEquals(issued.getToken(), issued.getTokenHash());
+        assertEquals("USER", issued.getRole());
+    }
+
+    @Test
+    void rotateShouldConsumeTheTokenOnce() {
+        RefreshTokenEntity current = storedToken(Instant.now().plusSeconds(60));
+        when(repository.findByTokenHash(RefreshTokenService.hash("token-1"))).thenReturn(Optional.of(current));
+        when(repository.deleteAndCount(current.getId())).thenReturn(1, 0);
+
+        RefreshTokenEntity next = service.rotate("token-1");
+
+        assertEquals("roy", next.getUsername());
+        assertNotEquals("token-1", next.getToken());
+        assertThrows(InvalidTokenException.class, () -> service.rotate("token-1"));
+    }
+
+    @Test
+    void rotateShouldRejectExpiredAndUnknownTokens() {
+        when(repository.findByTokenHash(RefreshTokenService.hash("expired")))
+                .thenReturn(Optional.of(storedToken(Instant.now().minusSeconds(1))));
+
+        assertThrows(InvalidTokenException.class, () -> service.rotate("expired"));
+        assertThrows(InvalidTokenException.class, () -> service.rotate("unknown"));
+        assertThrows(InvalidTokenException.class, () -> service.rotate(null));
+        verify(repository, never()).deleteAndCount(any());
+    }
+
+    @Test
+    void purgeShouldDeleteInBatchesUntilNoneLeft() {
+        List<UUID> full = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> last = List.of(UUID.randomUUID());
+        when(repository.findExpiredIds(any(), any(Pageable.class))).thenReturn(full, last);
+
+        service.purgeExpired();
+
+        verify(repository).deleteAllByIdInBatch(full);
+        verify(repository).deleteAllByIdInBatch(last);
+        verify(repository, times(2)).findExpiredIds(any(), eq(Pageable.ofSize(2)));
+    }
+
+    private static RefreshTokenEntity storedToken(Instant expiryDate) {
+        return RefreshTokenEntity.builder()
+                .id(UUID.randomUUID())
+                .tokenHash("hash")
+                .username("roy")
+                .role("USER")
+                .expiryDate(expiryDate)
+                .build();
+    }
+}
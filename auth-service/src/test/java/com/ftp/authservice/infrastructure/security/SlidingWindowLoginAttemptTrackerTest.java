@@ -0,0 +1,136 @@
+package com.ftp.authservice.infrastructure.security;
+
+import com.ftp.authservice.infrastructure.db.entities.FailedLoginAttempt;
+import com.ftp.authservice.infrastructure.repositories.FailedLoginAttemptRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SlidingWindowLoginAttemptTrackerTest {
+
+    private FailedLoginAttemptRepository repository;
+    private SlidingWindowLoginAttemptTracker tracker;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(FailedLoginAttemptRepository.class);
+        tracker = new SlidingWindowLoginAttemptTracker(repository, mock(PlatformTransactionManager.class),
+                3, Duration.ofMinutes(15), Duration.ofMinutes(30), 100);
+    }
+
+    @Test
+    void shouldLockUsernameAfterMaxFailuresWithinWindow() {
+        tracker.recordFailure("roy", "10.0.0.1");
+        tracker.recordFailure("roy", "10.0.0.2");
+        assertTrue(tracker.lockedUntil("roy", "10.0.0.3").isEmpty());
+
+        tracker.recordFailure("roy", "10.0.0.3");
+
+        assertTrue(tracker.lockedUntil("roy", "10.0.0.4").isPresent());
+        assertTrue(tracker.lockedUntil("alice", "10.0.0.4").isEmpty());
+    }
+
+    @Test
+    void shouldLockClientIpAcrossUsernames() {
+        tracker.recordFailure("roy", "10.0.0.1");
+        tracker.recordFailure("alice", "10.0.0.1");
+        tracker.recordFailure("bob", "10.0.0.1");
+
+        assertTrue(tracker.lockedUntil("carol", "10.0.0.1").isPresent());
+        assertTrue(tracker.lockedUntil("carol", "10.0.0.2").isEmpty());
+    }
+
+    @Test
+    void successShouldResetUsernameFailures() {
+        tracker.recordFailure("roy", null);
+        tracker.recordFailure("roy", null);
+        tracker.recordSuccess("roy");
+        tracker.recordFailure("roy", null);
+        tracker.recordFailure("roy", null);
+
+        assertTrue(tracker.lockedUntil("roy", null).isEmpty());
+    }
+
+    @Test
+    void flushShouldPersistEachNewLockoutOnce() {
+        for (int i = 0; i < 5; i++) {
+            tracker.recordFailure("roy", null);
+        }
+
+        tracker.flush();
+        tracker.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FailedLoginAttempt>> saved = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(saved.capture());
+        assertEquals(1, saved.getValue().size());
+        assertEquals("roy", saved.getValue().get(0).getKey());
+        verify(repository).deleteByScopeAndKeys(FailedLoginAttempt.SCOPE_USERNAME, Set.of("roy"));
+    }
+
+    @Test
+    void shouldRestoreActiveLockoutsAtStartup() {
+        Instant now = Instant.now();
+        when(repository.findByLockedUntilAfter(any())).thenReturn(List.of(
+                new FailedLoginAttempt(FailedLoginAttempt.SCOPE_IP, "10.0.0.1", 3, now, now.plusSeconds(600))));
+
+        tracker.loadActiveLockouts();
+
+        assertTrue(tracker.lockedUntil("roy", "10.0.0.1").isPresent());
+    }
+
+    @Test
+    void shouldBoundTrackedKeys() {
+        SlidingWindowLoginAttemptTracker small = new SlidingWindowLoginAttemptTracker(repository,
+                mock(PlatformTransactionManager.class), 3, Duration.ofMinutes(15), Duration.ofMinutes(30), 2);
+
+        for (int i = 0; i < 10; i++) {
+            small.recordFailure("user" + i, null);
+        }
+
+        assertEquals(2, small.trackedKeys());
+    }
+
+    @Test
+    void fullTrackerShouldKeepLockoutsWhileEvicting() {
+        SlidingWindowLoginAttemptTracker small = new SlidingWindowLoginAttemptTracker(repository,
+                mock(PlatformTransactionManager.class), 3, Duration.ofMinutes(15), Duration.ofMinutes(30), 2);
+        for (int i = 0; i < 3; i++) {
+            small.recordFailure("roy", null);
+        }
+
+        // A spray of names cannot push the locked-out username out
+        for (int i = 0; i < 10; i++) {
+            small.recordFailure("user" + i, null);
+        }
+
+        assertTrue(small.lockedUntil("roy", null).isPresent());
+    }
+
+    @Test
+    void fullTrackerShouldFailClosed() {
+        SlidingWindowLoginAttemptTracker small = new SlidingWindowLoginAttemptTracker(repository,
+                mock(PlatformTransactionManager.class), 3, Duration.ofMinutes(15), Duration.ofMinutes(30), 2);
+        for (int i = 0; i < 3; i++) {
+            small.recordFailure("roy", null);
+            small.recordFailure("alice", null);
+        }
+
+        // No room for the username: the first failure locks out the client IP instead
+        small.recordFailure("bob", "10.0.0.9");
+
+        assertTrue(small.lockedUntil("bob", "10.0.0.9").isPresent());
+        assertTrue(small.lockedUntil("carol", "10.0.0.9").isPresent());
+        assertTrue(small.lockedUntil("carol", "10.0.0.10").isEmpty());
+    }
+}
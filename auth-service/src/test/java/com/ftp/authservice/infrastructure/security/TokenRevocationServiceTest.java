@@ -0,0 +1,130 @@
+package com.ftp.authservice.infrastructure.security;
+
+import com.ftp.authservice.config.TokenRevocationProperties;
+import com.ftp.authservice.infrastructure.db.entities.TokenRevocationEntity;
+import com.ftp.authservice.infrastructure.db.entities.TokenRevocationEntity.Kind;
+import com.ftp.authservice.infrastructure.repositories.TokenRevocationRepository;
+import com.ftp.authservice.infrastructure.security.TokenRevocationService.RevocationSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class TokenRevocationServiceTest {
+
+    private TokenRevocationRepository repository;
+    private TokenRevocationService service;
+
+    @BeforeEach
+    void setup() {
+        repository = mock(TokenRevocationRepository.class);
+        AtomicLong ids = new AtomicLong();
+        when(repository.save(any())).thenAnswer(invocation -> {
+            TokenRevocationEntity entity = invocation.getArgument(0);
+            entity.setId(ids.incrementAndGet());
+            return entity;
+        });
+        when(repository.findByIdGreaterThanOrderByIdAsc(anyLong(), any())).thenReturn(List.of());
+        TokenRevocationProperties properties = new TokenRevocationProperties();
+        properties.setSettleDelay(Duration.ofSeconds(5));
+        service = new TokenRevocationService(repository, mock(PlatformTransactionManager.class), properties, 60_000);
+    }
+
+    @Test
+    void revokedTokenShouldBeRejectedAndOthersAccepted() {
+        Instant expiresAt = Instant.now().plusSeconds(60);
+
+        assertTrue(service.revokeToken("jti-1", expiresAt));
+
+        assertTrue(service.isRevoked(principal("roy", "jti-1", Instant.now())));
+        assertFalse(service.isRevoked(principal("roy", "jti-2", Instant.now())));
+        assertFalse(service.revokeToken(null, expiresAt));
+        assertFalse(service.revokeToken("jti-3", Instant.now().minusSeconds(1)));
+    }
+
+    @Test
+    void revokingUserShouldRejectOnlyTokensIssuedUntilNow() {
+        service.revokeUser("roy");
+
+        assertTrue(service.isRevoked(principal("roy", "jti-1", Instant.now().minusSeconds(60))));
+        assertFalse(service.isRevoked(principal("roy", "jti-2", Instant.now().plusSeconds(2))));
+        assertFalse(service.isRevoked(principal("alice", "jti-3", Instant.now().minusSeconds(60))));
+    }
+
+    @Test
+    void reloadShouldLoadRevocationsOfOtherInstances() {
+        Instant now = Instant.now();
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(List.of(
+                row(1, Kind.TOKEN, "jti-1", null, now.plusSeconds(60), now.minusSeconds(60)),
+                row(2, Kind.USER, "alice", now.minusSeconds(30), now.plusSeconds(60), now.minusSeconds(30)),
+                row(3, Kind.TOKEN, "jti-expired", null, now.minusSeconds(1), now.minusSeconds(60))));
+
+        service.reload();
+
+        assertTrue(service.isRevoked(principal("roy", "jti-1", now)));
+        assertTrue(service.isRevoked(principal("alice", "jti-2", now.minusSeconds(40))));
+        assertFalse(service.isRevoked(principal("roy", "jti-expired", now)));
+        assertEquals(3, service.snapshot(0).version());
+    }
+
+    @Test
+    void versionShouldNotMovePastRowsYoungerThanTheSettleDelay() {
+        Instant now = Instant.now();
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(List.of(
+                row(1, Kind.TOKEN, "jti-1", null, now.plusSeconds(60), now.minusSeconds(60)),
+                row(2, Kind.TOKEN, "jti-2", null, now.plusSeconds(60), now),
+                row(3, Kind.TOKEN, "jti-3", null, now.plusSeconds(60), now.minusSeconds(60))));
+
+        service.reload();
+
+        // Row 2 may still have a gap below it: the version stays at 1 and row 3 is pulled again
+        RevocationSnapshot delta = service.snapshot(1);
+        assertEquals(1, delta.version());
+        assertFalse(delta.isFull());
+        assertEquals(List.of("jti-2", "jti-3"), delta.tokenIds());
+    }
+
+    @Test
+    void snapshotShouldBeFullWithoutVersionAndDeltaAfterIt() {
+        Instant now = Instant.now();
+        when(repository.findByIdGreaterThanOrderByIdAsc(eq(0L), any())).thenReturn(List.of(
+                row(1, Kind.TOKEN, "jti-1", null, now.plusSeconds(60), now.minusSeconds(60)),
+                row(2, Kind.USER, "alice", now.minusSeconds(60), now.plusSeconds(60), now.minusSeconds(60)),
+                row(3, Kind.TOKEN, "jti-3", null, now.plusSeconds(60), now.minusSeconds(60))));
+        service.reload();
+
+        RevocationSnapshot full = service.snapshot(0);
+        assertTrue(full.isFull());
+        assertTrue(full.tokenFilter().mightContain("jti-1"));
+        assertTrue(full.tokenFilter().mightContain("jti-3"));
+        assertFalse(full.tokenFilter().mightContain("jti-2"));
+        assertEquals(now.minusSeconds(60), full.userNotBefore().get("alice"));
+
+        RevocationSnapshot delta = service.snapshot(1);
+        assertFalse(delta.isFull());
+        assertEquals(List.of("jti-3"), delta.tokenIds());
+        assertEquals(now.minusSeconds(60), delta.userNotBefore().get("alice"));
+
+        // A caller ahead of this instance gets everything
+        assertTrue(service.snapshot(99).isFull());
+    }
+
+    private static AuthenticatedPrincipal principal(String username, String tokenId, Instant issuedAt) {
+        return new AuthenticatedPrincipal(username, "USER", tokenId, issuedAt, issuedAt.plusSeconds(60));
+    }
+
+    private static TokenRevocationEntity row(long id, Kind kind, String subject, Instant notBefore,
+                                             Instant expiresAt, Instant createdAt) {
+        return new TokenRevocationEntity(id, kind, subject, notBefore, expiresAt, createdAt);
+    }
+}
@@ -4,9 +4,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ftp.authservice.domain.model.User;
 import com.ftp.authservice.domain.ports.in.LoginUseCase;
 import com.ftp.authservice.domain.ports.in.RegisterUserUseCase;
+import com.ftp.authservice.exception.InvalidTokenException;
+import com.ftp.authservice.exception.PasswordHashingBusyException;
 import com.ftp.authservice.infrastructure.db.entities.RefreshTokenEntity;
 import com.ftp.authservice.infrastructure.security.JwtTokenProvider;
 import com.ftp.authservice.infrastructure.security.RefreshTokenService;
+import com.ftp.authservice.infrastructure.security.TokenRevocationService;
 import com.ftp.authservice.web.dto.LoginRequestDTO;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,11 +21,16 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -45,6 +53,9 @@ class AuthControllerTest {
     @MockBean
     private RefreshTokenService refreshTokenService;
 
+    @MockBean
+    private TokenRevocationService tokenRevocationService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -74,19 +85,64 @@ class AuthControllerTest {
                 .expiryDate(Instant.now().plusSeconds(3600))
                 .build();
 
-        when(loginUseCase.login(username, rawPassword)).thenReturn(user);
+        when(loginUseCase.loginAsync(username, rawPassword, "127.0.0.1")).thenReturn(CompletableFuture.completedFuture(user));
         when(jwtTokenProvider.generateToken(username, "USER")).thenReturn(jwtToken);
         when(refreshTokenService.createRefreshToken(username, "USER")).thenReturn(refreshToken);
 
         LoginRequestDTO request = new LoginRequestDTO(username, rawPassword);
 
         // Act & Assert
-        mockMvc.perform(post("/auth/login")
+        MvcResult result = mockMvc.perform(post("/auth/login")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.token").value(jwtToken))
                 .andExpect(jsonPath("$.refreshToken").value(refreshTokenValue))
                 .andExpect(jsonPath("$.username").value(username));
     }
+
+    @Test
+    void testLogin_HashingQueueFull_Returns503WithRetryAfter() throws Exception {
+        when(loginUseCase.loginAsync("roy", "123Roy123", "127.0.0.1")).thenThrow(new PasswordHashingBusyException(Duration.ofSeconds(2)));
+
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new LoginRequestDTO("roy", "123Roy123"))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+
+    @Test
+    void testRefresh_RotatesRefreshToken() throws Exception {
+        RefreshTokenEntity next = RefreshTokenEntity.builder()
+                .id(UUID.randomUUID())
+                .token("next-refresh-token")
+                .username("roy")
+                .role("USER")
+                .expiryDate(Instant.now().plusSeconds(3600))
+                .build();
+        when(refreshTokenService.rotate("refresh-token-123")).thenReturn(next);
+        when(jwtTokenProvider.generateToken("roy", "USER")).thenReturn("test-jwt-token");
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", "refresh-token-123"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.accessToken").value("test-jwt-token"))
+                .andExpect(jsonPath("$.refreshToken").value("next-refresh-token"));
+    }
+
+    @Test
+    void testRefresh_UsedToken_Returns401() throws Exception {
+        when(refreshTokenService.rotate("used-token")).thenThrow(new InvalidTokenException("Invalid refresh token"));
+
+        mockMvc.perform(post("/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(Map.of("refreshToken", "used-token"))))
+                .andExpect(status().isUnauthorized());
+    }
 }
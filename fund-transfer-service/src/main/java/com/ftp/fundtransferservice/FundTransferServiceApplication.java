@@ -4,9 +4,11 @@ import com.ftp.fundtransferservice.config.LockStrategyProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableConfigurationProperties(LockStrategyProperties.class)
+@EnableScheduling
 public class FundTransferServiceApplication {
 
     public static void main(String[] args) {
@@ -7,6 +7,7 @@ import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
 import com.ftp.fundtransferservice.shared.exception.AppException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -79,6 +80,7 @@ public class AccountService implements
      * @return a list of all Account entities
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Account> loadAllAccounts() {
         // Fetch and return all accounts from the repository
         return accountRepo.findAll();
@@ -93,6 +95,7 @@ public class AccountService implements
      * @throws AppException if the account is not found
      */
     @Override
+    @Transactional(readOnly = true)
     public Account loadAccountById(UUID accountId) {
         // Fetch the account by ID
         Account existing = accountRepo.findById(accountId);
@@ -111,6 +114,7 @@ public class AccountService implements
      * @param accountId the UUID of the account
      * @return the Account entity or null if not found
      */
+    @Transactional(readOnly = true)
     public Account getAccountById(UUID accountId) {
         // Try to find the account by ID, return null if not found
         return accountRepo.findById(accountId);
@@ -0,0 +1,61 @@
+package com.ftp.fundtransferservice.application.service;
+
+import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.ports.in.ConfigureBalanceShardingUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.domain.ports.out.BalanceShardPort;
+import com.ftp.fundtransferservice.domain.ports.out.DbLockPort;
+import com.ftp.fundtransferservice.shared.exception.AppException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service responsible for turning balance sharding of an account on, off or to a different shard count.
+ * <p>
+ * The account row is locked like a transfer's sender, so no debit runs meanwhile; credits in flight land in
+ * the main balance if their sub-balance disappears (see {@link BalanceShardPort#credit}).
+ * <p>
+ * Registered in {@code BalanceShardingConfig}.
+ */
+public class BalanceShardingService implements ConfigureBalanceShardingUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(BalanceShardingService.class);
+
+    private final AccountRepositoryPort accountRepositoryPort;
+    private final BalanceShardPort balanceShardPort;
+    private final DbLockPort dbLockPort;
+    private final int maxShardCount;
+
+    public BalanceShardingService(AccountRepositoryPort accountRepositoryPort,
+                                  BalanceShardPort balanceShardPort,
+                                  DbLockPort dbLockPort,
+                                  int maxShardCount) {
+        this.accountRepositoryPort = accountRepositoryPort;
+        this.balanceShardPort = balanceShardPort;
+        this.dbLockPort = dbLockPort;
+        this.maxShardCount = maxShardCount;
+    }
+
+    /**
+     * @throws AppException if the shard count is outside 1..max-shard-count or the account does not exist
+     */
+    @Override
+    @Transactional
+    public Account configureSharding(UUID accountId, int shardCount) {
+        if (shardCount < 1 || shardCount > maxShardCount) {
+            throw new AppException("Shard count must be between 1 and " + maxShardCount, "INVALID_SHARD_COUNT",
+                    HttpStatus.BAD_REQUEST, LocalDateTime.now());
+        }
+        dbLockPort.lockSender(accountId);
+        balanceShardPort.reshard(accountId, shardCount);
+
+        Account account = accountRepositoryPort.findById(accountId);
+        log.info("Account {} now keeps its balance in {} sub-balance(s)", accountId, shardCount);
+        return account;
+    }
+}
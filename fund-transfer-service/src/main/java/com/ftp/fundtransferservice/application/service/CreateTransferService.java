@@ -1,11 +1,14 @@
 package com.ftp.fundtransferservice.application.service;
 
 import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.model.Money;
 import com.ftp.fundtransferservice.domain.model.Transfer;
 import com.ftp.fundtransferservice.domain.ports.in.CreateTransferUseCase;
 import com.ftp.fundtransferservice.domain.ports.out.LockTransferPort;
 import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.domain.ports.out.BalanceShardPort;
 import com.ftp.fundtransferservice.domain.ports.out.DbLockPort;
+import com.ftp.fundtransferservice.domain.ports.out.IdGeneratorPort;
 import com.ftp.fundtransferservice.domain.ports.out.SaveTransferPort;
 import com.ftp.fundtransferservice.shared.constants.Currency;
 import com.ftp.fundtransferservice.shared.constants.TransferStatus;
@@ -30,10 +33,12 @@ import java.util.UUID;
  * It ensures:
  * - Proper validation of sender and receiver accounts.
  * - Balance check to prevent overdrafts.
+ * - Amounts and balances as {@link Money} (long minor units), so the arithmetic allocates next to nothing.
  * - Concurrency protection using:
  *     In-memory locking (LockTransferPort).
  *     Database-level locking (DbLockPort).
- * - Safe update of account balances.
+ * - Safe update of account balances; sharded hot accounts are changed through their sub-balances
+ *   (BalanceShardPort) instead of a read-modify-write of the account row.
  * - Transfer record creation and persistence.
  * - Releasing all locks after operation.
  */
@@ -44,28 +49,44 @@ public class CreateTransferService implements CreateTransferUseCase {
     private final LockTransferPort lockTransferPort;
     private final DbLockPort dbLockPort;
     private final AccountRepositoryPort accountRepositoryPort;
+    private final IdGeneratorPort idGeneratorPort;
+    private final BalanceShardPort balanceShardPort;
 
     private static final Logger log = LoggerFactory.getLogger(CreateTransferService.class);
 
     public CreateTransferService(SaveTransferPort saveTransferPort,
                                  LockTransferPort lockTransferPort,
                                  DbLockPort dbLockPort,
-                                 AccountRepositoryPort accountRepositoryPort) {
+                                 AccountRepositoryPort accountRepositoryPort,
+                                 IdGeneratorPort idGeneratorPort,
+                                 BalanceShardPort balanceShardPort) {
         this.saveTransferPort = saveTransferPort;
         this.lockTransferPort = lockTransferPort;
         this.dbLockPort = dbLockPort;
         this.accountRepositoryPort = accountRepositoryPort;
+        this.idGeneratorPort = idGeneratorPort;
+        this.balanceShardPort = balanceShardPort;
     }
 
+    /**
+     * Converts the decimal amount and creates the transfer. Overridden only to open the transaction here:
+     * the inherited default method would call {@link #createTransfer(UUID, UUID, Money)} on this instance,
+     * bypassing the transactional proxy.
+     */
     @Override
     @Transactional
     public Transfer createTransfer(UUID senderAccountId, UUID receiverAccountId, BigDecimal amount, Currency currency) {
+        return CreateTransferUseCase.super.createTransfer(senderAccountId, receiverAccountId, amount, currency);
+    }
+
+    @Override
+    @Transactional
+    public Transfer createTransfer(UUID senderAccountId, UUID receiverAccountId, Money amount) {
         // Step 1: Validate transfer amount using TransferConstants
-        if (amount.compareTo(TransferConstants.MIN_TRANSFER_AMOUNT) < 0 || amount.compareTo(TransferConstants.MAX_TRANSFER_AMOUNT) > 0) {
+        if (!TransferConstants.isWithinLimits(amount)) {
             log.error("Invalid transfer amount {} for sender account {}. Must be between {} and {}.",
                     amount, senderAccountId, TransferConstants.MIN_TRANSFER_AMOUNT, TransferConstants.MAX_TRANSFER_AMOUNT);
-            throw new InvalidTransferAmountException("Transfer amount must be between " +
-                    TransferConstants.MIN_TRANSFER_AMOUNT + " and " + TransferConstants.MAX_TRANSFER_AMOUNT);
+            throw new InvalidTransferAmountException(TransferConstants.AMOUNT_OUT_OF_RANGE_MESSAGE);
         }
 
         // Step 2: Acquire in-memory lock to protect against concurrent access
@@ -84,35 +105,49 @@ public class CreateTransferService implements CreateTransferUseCase {
 
                 throw new AppException("Sender or receiver not found" , "ACCOUNT_NOT_FOUND", HttpStatus.NOT_FOUND, LocalDateTime.now());
             }
-
-            // Step 6: Check sender has enough balance
-            if (sender.getBalance().compareTo(amount) < 0) {
-                log.error("Insufficient balance for sender account {} to transfer {}",
-                        senderAccountId, amount);
-                throw new InsufficientBalanceException("Insufficient balance for transfer");
+            // Account currencies were never recorded before Money (changeset 010 defaults them all to USD), so the
+            // transfer currency is not checked against them: balances move by the same amount, as they always did
+            Money senderAmount = Money.ofMinor(amount.getMinorUnits(), sender.getCurrency());
+            Money receiverAmount = Money.ofMinor(amount.getMinorUnits(), receiver.getCurrency());
+
+            // Step 6 + 7: Check sender has enough balance and debit it
+            // (a sharded sender's cached balance may be stale, its debit checks the exact balance)
+            if (sender.isSharded()) {
+                if (!balanceShardPort.debit(senderAccountId, sender.getShardCount(), senderAmount)) {
+                    log.error("Insufficient balance for sender account {} to transfer {}",
+                            senderAccountId, amount);
+                    throw new InsufficientBalanceException("Insufficient balance for transfer");
+                }
+            } else {
+                if (sender.getBalance().isLessThan(senderAmount)) {
+                    log.error("Insufficient balance for sender account {} to transfer {}",
+                            senderAccountId, amount);
+                    throw new InsufficientBalanceException("Insufficient balance for transfer");
+                }
+                sender.setBalance(sender.getBalance().minus(senderAmount));
+                accountRepositoryPort.save(sender);
             }
 
-            // Step 7: Adjust balances
-            sender.setBalance(sender.getBalance().subtract(amount));
-            receiver.setBalance(receiver.getBalance().add(amount));
-
-            // Step 8: Save updated account states
-            accountRepositoryPort.save(sender);
-            accountRepositoryPort.save(receiver);
+            // Step 8: Credit the receiver; a sharded receiver is credited on one sub-balance without locking its row
+            if (receiver.isSharded()) {
+                balanceShardPort.credit(receiverAccountId, receiver.getShardCount(), receiverAmount);
+            } else {
+                receiver.setBalance(receiver.getBalance().plus(receiverAmount));
+                accountRepositoryPort.save(receiver);
+            }
 
             // Step 9: Create and persist transfer record
             Transfer transfer = new Transfer(
-                    UUID.randomUUID(),
+                    idGeneratorPort.nextId(),
                     senderAccountId,
                     receiverAccountId,
                     amount,
-                    currency,
                     TransferStatus.COMPLETED,
                     LocalDateTime.now()
             );
 
-            log.info("Transfer completed successfully from {} to {} | Amount: {} {}",
-                    senderAccountId, receiverAccountId, amount, currency);
+            log.debug("Transfer completed successfully from {} to {} | Amount: {}",
+                    senderAccountId, receiverAccountId, amount);
 
             return saveTransferPort.save(transfer);
 
@@ -0,0 +1,54 @@
+package com.ftp.fundtransferservice.application.service;
+
+import com.ftp.fundtransferservice.domain.model.AccountActivity;
+import com.ftp.fundtransferservice.domain.model.AccountActivityPage;
+import com.ftp.fundtransferservice.domain.ports.in.GetAccountTransfersUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.LoadAccountActivityPort;
+import com.ftp.fundtransferservice.shared.exception.AppException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service responsible for reading the transfer history of one account.
+ * The history is served from the account_activity read model, so one account's page is a single
+ * index range scan instead of two queries over the transfers table by sender and receiver.
+ */
+@Service
+public class GetAccountTransfersService implements GetAccountTransfersUseCase {
+
+    static final int MAX_LIMIT = 100;
+
+    private final LoadAccountActivityPort loadAccountActivityPort;
+
+    public GetAccountTransfersService(LoadAccountActivityPort loadAccountActivityPort) {
+        this.loadAccountActivityPort = loadAccountActivityPort;
+    }
+
+    /**
+     * Loads one page of the account's transfers, newest first.
+     * One entry more than requested is read to know whether another page follows.
+     *
+     * @throws AppException if the limit is outside 1..100 or only one half of the cursor is given
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AccountActivityPage getAccountTransfers(UUID accountId, LocalDateTime beforeCreatedAt, UUID beforeTransferId, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new AppException("Limit must be between 1 and " + MAX_LIMIT, "INVALID_LIMIT",
+                    HttpStatus.BAD_REQUEST, LocalDateTime.now());
+        }
+        if ((beforeCreatedAt == null) != (beforeTransferId == null)) {
+            throw new AppException("Cursor must contain both createdAt and transferId", "INVALID_CURSOR",
+                    HttpStatus.BAD_REQUEST, LocalDateTime.now());
+        }
+
+        List<AccountActivity> entries = loadAccountActivityPort.loadActivity(accountId, beforeCreatedAt, beforeTransferId, limit + 1);
+        boolean hasMore = entries.size() > limit;
+        return new AccountActivityPage(hasMore ? entries.subList(0, limit) : entries, hasMore);
+    }
+}
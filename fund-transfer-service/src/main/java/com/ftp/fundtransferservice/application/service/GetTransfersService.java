@@ -4,13 +4,16 @@ import com.ftp.fundtransferservice.domain.model.Transfer;
 import com.ftp.fundtransferservice.domain.ports.in.GetTransfersUseCase;
 import com.ftp.fundtransferservice.domain.ports.out.LoadTransfersPort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
  * Service responsible for retrieving all transfer records.
  * This service delegates the data fetching to the {@link LoadTransfersPort} repository port.
  * It is used to provide a list of all transfers in the system.
+ * Reads run in read-only transactions, so they are served by the read replica when one is configured.
  */
 @Service
 public class GetTransfersService implements GetTransfersUseCase {
@@ -34,7 +37,25 @@ public class GetTransfersService implements GetTransfersUseCase {
      * @return list of {@link Transfer}
      */
     @Override
+    @Transactional(readOnly = true)
     public List<Transfer> getTransfers() {
         return loadTransfersPort.loadAll(); // Fetches all transfer records from the repository
     }
+
+    /**
+     * Returns the transfers created within the given interval.
+     * Without any bound this falls back to loading all transfers.
+     *
+     * @param from inclusive lower bound of the creation time, or null
+     * @param to   exclusive upper bound of the creation time, or null
+     * @return list of {@link Transfer}
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Transfer> getTransfers(LocalDateTime from, LocalDateTime to) {
+        if (from == null && to == null) {
+            return getTransfers();
+        }
+        return loadTransfersPort.loadCreatedBetween(from, to);
+    }
 }
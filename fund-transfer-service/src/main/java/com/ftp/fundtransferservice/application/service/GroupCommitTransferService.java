@@ -0,0 +1,268 @@
+package com.ftp.fundtransferservice.application.service;
+
+import com.ftp.fundtransferservice.domain.model.Money;
+import com.ftp.fundtransferservice.domain.model.Transfer;
+import com.ftp.fundtransferservice.domain.ports.in.CreateTransferUseCase;
+import com.ftp.fundtransferservice.shared.exception.AppException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * GroupCommitTransferService
+ *
+ * Commits transfers in groups to amortize the commit (and its fsync) over many transfers.
+ * - Callers put their transfer into a bounded queue and wait for its own result.
+ * - A single committer thread takes up to maxBatchSize transfers, waiting at most maxWait for more
+ *   after the first one, and runs each through {@link CreateTransferService} inside one shared transaction,
+ *   so every transfer keeps its own validation, locking and balance checks.
+ * - Each transfer is flushed right after it ran, so a failure is raised by the transfer that caused it.
+ * - If a transfer fails, the transaction is rolled back, that caller gets its exception and the batch is
+ *   retried once without it; the other callers never see the failure. If the retry fails as well, or the
+ *   commit itself fails, the remaining transfers are committed one by one.
+ *
+ * A caller waits up to maxWait plus one batch longer than with a direct commit; in return one commit
+ * covers up to maxBatchSize transfers. Enabled through {@code GroupCommitConfig}.
+ */
+public class GroupCommitTransferService implements CreateTransferUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupCommitTransferService.class);
+
+    // Starts with the CreateTransferService prefix, so the batch transaction runs on the transfer write pool
+    static final String TRANSACTION_NAME = CreateTransferService.class.getName() + ".groupCommit";
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private record PendingTransfer(UUID senderAccountId,
+                                   UUID receiverAccountId,
+                                   Money amount,
+                                   CompletableFuture<Transfer> result) {
+    }
+
+    private final CreateTransferService delegate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingTransfer> queue;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final DistributionSummary batchSizes;
+
+    // Callers between the running check and their offer; stop() waits for them
+    private final AtomicInteger activeProducers = new AtomicInteger();
+    private volatile boolean running;
+    // Set once no caller can offer anymore; the committer then exits when the queue is empty
+    private volatile boolean stopRequested;
+    private Thread committer;
+
+    public GroupCommitTransferService(CreateTransferService delegate,
+                                      PlatformTransactionManager transactionManager,
+                                      int queueCapacity,
+                                      int maxBatchSize,
+                                      Duration maxWait,
+                                      MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setName(TRANSACTION_NAME);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxWaitNanos = maxWait.toNanos();
+        if (meterRegistry != null) {
+            this.batchSizes = DistributionSummary.builder("ftp.transfers.group_commit.batch_size")
+                    .description("Transfers committed per transaction")
+                    .register(meterRegistry);
+            Gauge.builder("ftp.transfers.group_commit.queue_size", queue, BlockingQueue::size)
+                    .description("Transfers waiting for the committer")
+                    .register(meterRegistry);
+        } else {
+            this.batchSizes = null;
+        }
+    }
+
+    public void start() {
+        stopRequested = false;
+        running = true;
+        committer = new Thread(this::runCommitter, "transfer-group-commit");
+        committer.setDaemon(true);
+        committer.start();
+    }
+
+    /**
+     * Stops accepting transfers and lets the committer finish the queued ones. Transfers still queued
+     * when it does not finish in time are failed, so no caller waits forever.
+     */
+    public void stop() throws InterruptedException {
+        running = false;
+        // A caller that saw running=true may still be offering; the committer must see its transfer
+        while (activeProducers.get() > 0) {
+            Thread.yield();
+        }
+        stopRequested = true;
+        if (committer != null) {
+            committer.join(TimeUnit.SECONDS.toMillis(30));
+        }
+        failQueued();
+    }
+
+    /**
+     * Queues the transfer and waits until its batch has been committed.
+     *
+     * @throws AppException 503 if the queue is full or the pipeline is shutting down
+     */
+    @Override
+    public Transfer createTransfer(UUID senderAccountId, UUID receiverAccountId, Money amount) {
+        PendingTransfer pending = new PendingTransfer(senderAccountId, receiverAccountId, amount,
+                new CompletableFuture<>());
+        activeProducers.incrementAndGet();
+        try {
+            if (!running || !queue.offer(pending)) {
+                throw new AppException("Too many transfers in progress, please retry", "TRANSFER_QUEUE_FULL",
+                        HttpStatus.SERVICE_UNAVAILABLE, LocalDateTime.now());
+            }
+        } finally {
+            activeProducers.decrementAndGet();
+        }
+
+        try {
+            return pending.result().get();
+        } catch (InterruptedException e) {
+            // The transfer stays queued and may still commit; the caller only stops waiting
+            Thread.currentThread().interrupt();
+            throw new AppException("Interrupted while waiting for the transfer to commit", "TRANSFER_INTERRUPTED",
+                    HttpStatus.SERVICE_UNAVAILABLE, LocalDateTime.now());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Transfer failed", e.getCause());
+        }
+    }
+
+    private void runCommitter() {
+        List<PendingTransfer> batch = new ArrayList<>(maxBatchSize);
+        while (!stopRequested || !queue.isEmpty()) {
+            try {
+                PendingTransfer first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                collectBatch(batch);
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (RuntimeException | Error e) {
+                log.error("Group commit of {} transfers failed unexpectedly", batch.size(), e);
+                batch.forEach(pending -> pending.result().completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+        }
+        // Empty after a normal stop; after an interruption the transfers left must not wait forever
+        failQueued();
+    }
+
+    private void failQueued() {
+        PendingTransfer left;
+        while ((left = queue.poll()) != null) {
+            left.result().completeExceptionally(new AppException("Transfer pipeline stopped", "TRANSFER_QUEUE_FULL",
+                    HttpStatus.SERVICE_UNAVAILABLE, LocalDateTime.now()));
+        }
+    }
+
+    // Adds transfers until the batch is full or maxWait has passed since the first one
+    private void collectBatch(List<PendingTransfer> batch) throws InterruptedException {
+        long deadline = System.nanoTime() + maxWaitNanos;
+        while (batch.size() < maxBatchSize) {
+            queue.drainTo(batch, maxBatchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= maxBatchSize || remaining <= 0) {
+                return;
+            }
+            PendingTransfer next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void commit(List<PendingTransfer> batch) {
+        List<PendingTransfer> remaining = new ArrayList<>(batch);
+        boolean retried = false;
+        while (!remaining.isEmpty()) {
+            List<Transfer> results = new ArrayList<>(remaining.size());
+            PendingTransfer[] failed = new PendingTransfer[1];
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    for (PendingTransfer pending : remaining) {
+                        failed[0] = pending;
+                        results.add(delegate.createTransfer(pending.senderAccountId(), pending.receiverAccountId(),
+                                pending.amount()));
+                        // Write this transfer's changes now: a later query would otherwise auto-flush them and
+                        // the error would be blamed on the transfer that triggered the flush
+                        status.flush();
+                    }
+                    failed[0] = null;
+                });
+            } catch (RuntimeException e) {
+                if (failed[0] == null) {
+                    commitIndividually(remaining);
+                    return;
+                }
+                failed[0].result().completeExceptionally(e);
+                remaining.remove(failed[0]);
+                if (retried) {
+                    // A second failure in the same batch: stop re-running it, which could take one
+                    // transaction per failing transfer over an ever shorter batch
+                    commitIndividually(remaining);
+                    return;
+                }
+                // Isolate the failing transfer and retry the others once in a fresh transaction
+                retried = true;
+                continue;
+            }
+
+            if (batchSizes != null) {
+                batchSizes.record(remaining.size());
+            }
+            for (int i = 0; i < remaining.size(); i++) {
+                remaining.get(i).result().complete(results.get(i));
+            }
+            return;
+        }
+    }
+
+    // Fallback after a failed commit or retry: every transfer gets its own transaction
+    private void commitIndividually(List<PendingTransfer> transfers) {
+        log.warn("Group commit of {} transfers failed, committing them one by one", transfers.size());
+        for (PendingTransfer pending : transfers) {
+            try {
+                Transfer transfer = transactionTemplate.execute(status -> delegate.createTransfer(
+                        pending.senderAccountId(), pending.receiverAccountId(), pending.amount()));
+                if (batchSizes != null) {
+                    batchSizes.record(1);
+                }
+                pending.result().complete(transfer);
+            } catch (RuntimeException e) {
+                pending.result().completeExceptionally(e);
+            }
+        }
+    }
+}
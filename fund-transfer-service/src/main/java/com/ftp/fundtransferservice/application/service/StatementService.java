@@ -0,0 +1,234 @@
+package com.ftp.fundtransferservice.application.service;
+
+import com.ftp.fundtransferservice.domain.model.AccountActivity;
+import com.ftp.fundtransferservice.domain.model.Statement;
+import com.ftp.fundtransferservice.domain.model.StatementCheckpoint;
+import com.ftp.fundtransferservice.domain.ports.in.GetAccountStatementUseCase;
+import com.ftp.fundtransferservice.domain.ports.in.RefreshStatementsUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.LoadAccountActivityPort;
+import com.ftp.fundtransferservice.domain.ports.out.StatementPort;
+import com.ftp.fundtransferservice.shared.constants.ActivityDirection;
+import com.ftp.fundtransferservice.shared.constants.TransferStatus;
+import com.ftp.fundtransferservice.shared.exception.AppException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Service responsible for the materialized monthly account statements.
+ * <p>
+ * Statements are folded incrementally from the account_activity read model:
+ * <ol>
+ *   <li>The first run of an account stores a checkpoint with its balance before the first transfer.</li>
+ *   <li>Every run reads the entries after the checkpoint in batches, adds them to the totals of their month,
+ *       carries the closing balance over to the next month and advances the checkpoint in the same transaction.</li>
+ * </ol>
+ * Only entries older than the settle delay are folded. An entry's createdAt is taken before its transfer
+ * commits and its projection may be written by the catch-up run, so recent entries can still appear behind
+ * the cursor; the delay keeps the checkpoint behind them.
+ * <p>
+ * Registered in {@code StatementConfig}.
+ */
+public class StatementService implements GetAccountStatementUseCase, RefreshStatementsUseCase {
+
+    private final StatementPort statementPort;
+    private final LoadAccountActivityPort loadAccountActivityPort;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration settleDelay;
+    private final int foldBatchSize;
+
+    public StatementService(StatementPort statementPort,
+                            LoadAccountActivityPort loadAccountActivityPort,
+                            PlatformTransactionManager transactionManager,
+                            Duration settleDelay,
+                            int foldBatchSize) {
+        this.statementPort = statementPort;
+        this.loadAccountActivityPort = loadAccountActivityPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.settleDelay = settleDelay;
+        this.foldBatchSize = foldBatchSize;
+    }
+
+    /**
+     * Folds the account's new entries, one transaction per batch, so a long backlog never holds
+     * the checkpoint lock or a connection for the whole run.
+     */
+    @Override
+    public int refreshStatements(UUID accountId) {
+        ensureCheckpoint(accountId);
+        LocalDateTime settledBefore = LocalDateTime.now().minus(settleDelay);
+        int folded = 0;
+        int batch;
+        do {
+            Integer count = transactionTemplate.execute(status -> foldNextBatch(accountId, settledBefore));
+            batch = count != null ? count : 0;
+            folded += batch;
+        } while (batch == foldBatchSize);
+        return folded;
+    }
+
+    /**
+     * Refreshes the account's statements, then returns the requested month.
+     * A month without entries gets an empty statement carrying the previous closing balance.
+     *
+     * @throws AppException if the period lies in the future or the account does not exist
+     */
+    @Override
+    public Statement getStatement(UUID accountId, YearMonth period) {
+        if (period.isAfter(YearMonth.now())) {
+            throw new AppException("Statement period must not be in the future", "INVALID_PERIOD",
+                    HttpStatus.BAD_REQUEST, LocalDateTime.now());
+        }
+        refreshStatements(accountId);
+
+        return transactionTemplate.execute(status -> {
+            StatementCheckpoint checkpoint = statementPort.findCheckpoint(accountId);
+            if (checkpoint == null) {
+                throw new AppException("Account not found", "ACCOUNT_NOT_FOUND", HttpStatus.NOT_FOUND, LocalDateTime.now());
+            }
+            Statement latest = statementPort.findLatestStatement(accountId, period);
+            Statement statement;
+            if (latest == null) {
+                statement = Statement.empty(accountId, period, checkpoint.baseBalance());
+            } else if (latest.getPeriod().equals(period)) {
+                statement = latest;
+            } else {
+                statement = Statement.empty(accountId, period, latest.getClosingBalance());
+            }
+            return statement.asOf(checkpoint.lastCreatedAt(), checkpoint.lastTransferId());
+        });
+    }
+
+    /**
+     * Streams the statement's entries of its month up to its cursor, so the lines always add up to its totals.
+     * Runs on the primary like the refresh that produced the statement.
+     */
+    @Override
+    public void forEachLine(Statement statement, Consumer<AccountActivity> consumer) {
+        if (statement.getAsOfCreatedAt() == null) {
+            return;
+        }
+        LocalDateTime from = statement.getPeriod().atDay(1).atStartOfDay();
+        LocalDateTime to = statement.getPeriod().plusMonths(1).atDay(1).atStartOfDay();
+        transactionTemplate.executeWithoutResult(status -> loadAccountActivityPort.forEachActivity(
+                statement.getAccountId(), from, to, statement.getAsOfCreatedAt(), statement.getAsOfTransferId(), consumer));
+    }
+
+    private void ensureCheckpoint(UUID accountId) {
+        if (statementPort.findCheckpoint(accountId) != null) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> statementPort.createCheckpointIfAbsent(accountId));
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent run inserted the checkpoint first; its base balance is the same
+        }
+    }
+
+    // Folds up to foldBatchSize entries after the checkpoint; returns how many were folded
+    private int foldNextBatch(UUID accountId, LocalDateTime settledBefore) {
+        StatementCheckpoint checkpoint = statementPort.lockCheckpoint(accountId);
+        if (checkpoint == null) {
+            return 0;
+        }
+        List<AccountActivity> entries = loadAccountActivityPort.loadActivityAfter(accountId,
+                checkpoint.lastCreatedAt(), checkpoint.lastTransferId(), settledBefore, foldBatchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        // Entries after the checkpoint never belong to a month before the latest stored statement
+        Statement latest = statementPort.findLatestStatement(accountId, null);
+        PeriodTotals current = latest != null ? new PeriodTotals(latest) : null;
+        BigDecimal balance = latest != null ? latest.getClosingBalance() : checkpoint.baseBalance();
+        List<Statement> changed = new ArrayList<>();
+
+        for (AccountActivity entry : entries) {
+            YearMonth period = YearMonth.from(entry.getCreatedAt());
+            if (current == null || !current.period.equals(period)) {
+                if (current != null && current.changed) {
+                    changed.add(current.toStatement());
+                }
+                current = new PeriodTotals(accountId, period, balance);
+            }
+            current.add(entry);
+            balance = current.closingBalance;
+        }
+        changed.add(current.toStatement());
+
+        statementPort.saveStatements(changed);
+        AccountActivity last = entries.get(entries.size() - 1);
+        statementPort.saveCheckpoint(new StatementCheckpoint(accountId, checkpoint.baseBalance(),
+                last.getCreatedAt(), last.getTransferId()));
+        return entries.size();
+    }
+
+    /**
+     * Running totals of one month while folding.
+     * A self-transfer counts as both a debit and a credit; entries that did not complete are listed only.
+     */
+    private static final class PeriodTotals {
+
+        private final UUID accountId;
+        private final YearMonth period;
+        private final BigDecimal openingBalance;
+        private BigDecimal closingBalance;
+        private BigDecimal totalDebits;
+        private BigDecimal totalCredits;
+        private int debitCount;
+        private int creditCount;
+        private boolean changed;
+
+        private PeriodTotals(UUID accountId, YearMonth period, BigDecimal openingBalance) {
+            this.accountId = accountId;
+            this.period = period;
+            this.openingBalance = openingBalance;
+            this.closingBalance = openingBalance;
+            this.totalDebits = BigDecimal.ZERO;
+            this.totalCredits = BigDecimal.ZERO;
+        }
+
+        private PeriodTotals(Statement statement) {
+            this.accountId = statement.getAccountId();
+            this.period = statement.getPeriod();
+            this.openingBalance = statement.getOpeningBalance();
+            this.closingBalance = statement.getClosingBalance();
+            this.totalDebits = statement.getTotalDebits();
+            this.totalCredits = statement.getTotalCredits();
+            this.debitCount = statement.getDebitCount();
+            this.creditCount = statement.getCreditCount();
+        }
+
+        private void add(AccountActivity entry) {
+            changed = true;
+            if (entry.getStatus() != TransferStatus.COMPLETED) {
+                return;
+            }
+            boolean selfTransfer = entry.getAccountId().equals(entry.getCounterpartyId());
+            if (selfTransfer || entry.getDirection() == ActivityDirection.DEBIT) {
+                totalDebits = totalDebits.add(entry.getAmount());
+                debitCount++;
+            }
+            if (selfTransfer || entry.getDirection() == ActivityDirection.CREDIT) {
+                totalCredits = totalCredits.add(entry.getAmount());
+                creditCount++;
+            }
+            closingBalance = closingBalance.add(entry.getBalanceChange());
+        }
+
+        private Statement toStatement() {
+            return new Statement(accountId, period, openingBalance, closingBalance,
+                    totalDebits, debitCount, totalCredits, creditCount, null, null);
+        }
+    }
+}
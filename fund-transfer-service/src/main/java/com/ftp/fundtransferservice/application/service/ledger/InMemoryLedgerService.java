@@ -0,0 +1,486 @@
+package com.ftp.fundtransferservice.application.service.ledger;
+
+import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.model.LedgerJournalEntry;
+import com.ftp.fundtransferservice.domain.model.LedgerSnapshot;
+import com.ftp.fundtransferservice.domain.model.Money;
+import com.ftp.fundtransferservice.domain.model.Transfer;
+import com.ftp.fundtransferservice.domain.ports.in.CreateTransferUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.domain.ports.out.IdGeneratorPort;
+import com.ftp.fundtransferservice.domain.ports.out.LedgerJournalPort;
+import com.ftp.fundtransferservice.domain.ports.out.LedgerSnapshotPort;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.constants.TransferConstants;
+import com.ftp.fundtransferservice.shared.constants.TransferStatus;
+import com.ftp.fundtransferservice.shared.exception.AppException;
+import com.ftp.fundtransferservice.shared.exception.InsufficientBalanceException;
+import com.ftp.fundtransferservice.shared.exception.InvalidTransferAmountException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * InMemoryLedgerService
+ *
+ * A CreateTransferUseCase that keeps balances in memory and takes the database off the transfer path.
+ * - Request threads publish transfers into a lock-free ring ({@link LedgerRingBuffer}) and wait for the result.
+ * - A single writer thread applies them in order to the balances in minor units ({@link LedgerBalances}), so no
+ *   locks are needed, and appends every applied transfer to the write-ahead journal.
+ * - After each batch of up to maxBatchSize transfers the journal is forced once, then the callers are answered:
+ *   an acknowledged transfer always survives a crash.
+ * - Every snapshotInterval the changed balances and new transfers are stored in the accounts and transfers
+ *   tables by a background thread (LedgerSnapshotPort), together with the journal sequence they cover.
+ * - On start, the journal entries after the stored sequence are replayed onto the stored balances.
+ *
+ * Accounts are loaded from the database on their first transfer, by the request thread before it publishes, so
+ * the writer never waits on a query. While the ledger is enabled it owns the
+ * balances of these accounts: they must not be changed by any other path, and the stored balances and
+ * transfers trail the ledger by up to one snapshot interval. Sharded accounts are not supported.
+ *
+ * Enabled through {@code LedgerConfig}.
+ */
+public class InMemoryLedgerService implements CreateTransferUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryLedgerService.class);
+
+    private static final int IDLE_SPINS = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final LedgerJournalPort journal;
+    private final LedgerSnapshotPort snapshotPort;
+    private final AccountRepositoryPort accountRepositoryPort;
+    private final IdGeneratorPort idGeneratorPort;
+    private final TransactionTemplate transactionTemplate;
+    private final LedgerRingBuffer ring;
+    private final LedgerBalances balances;
+    private final int maxBatchSize;
+    private final long snapshotIntervalNanos;
+
+    // Producer side
+    private final AtomicInteger activeProducers = new AtomicInteger();
+    private volatile boolean running;
+    private volatile boolean stopRequested;
+    private volatile boolean failed;
+    // Accounts loaded by request threads, waiting for the writer to add them to the balances
+    private final Map<UUID, Account> preloaded = new ConcurrentHashMap<>();
+    // Accounts held in the balances, so request threads know not to load them
+    private final Set<UUID> loadedAccounts = ConcurrentHashMap.newKeySet();
+
+    // Writer side: only touched by the writer thread, or by start/stop while it is not running
+    private final List<Transfer> unsnapshotted = new ArrayList<>();
+    private final List<CompletableFuture<Transfer>> batchResults;
+    private final List<Transfer> batchTransfers;
+    private long nextRingSequence;
+    private long ledgerSequence;
+    private long lastSnapshotNanos;
+    private LedgerSnapshot inFlightSnapshot;
+    private CompletableFuture<Void> inFlight;
+
+    private Thread writer;
+    private ExecutorService snapshotExecutor;
+
+    public InMemoryLedgerService(LedgerJournalPort journal,
+                                 LedgerSnapshotPort snapshotPort,
+                                 AccountRepositoryPort accountRepositoryPort,
+                                 IdGeneratorPort idGeneratorPort,
+                                 PlatformTransactionManager transactionManager,
+                                 int ringCapacity,
+                                 int maxBatchSize,
+                                 Duration snapshotInterval,
+                                 int initialAccountCapacity) {
+        this.journal = journal;
+        this.snapshotPort = snapshotPort;
+        this.accountRepositoryPort = accountRepositoryPort;
+        this.idGeneratorPort = idGeneratorPort;
+        // Not read-only: accounts must be loaded from the primary, never from a lagging replica
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.ring = new LedgerRingBuffer(ringCapacity);
+        this.balances = new LedgerBalances(initialAccountCapacity);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.snapshotIntervalNanos = snapshotInterval.toNanos();
+        this.batchResults = new ArrayList<>(this.maxBatchSize);
+        this.batchTransfers = new ArrayList<>(this.maxBatchSize);
+    }
+
+    /**
+     * Recovers the ledger from the stored snapshot and the journal, then starts accepting transfers.
+     *
+     * @throws IllegalStateException if the journal does not continue the stored snapshot
+     */
+    public void start() {
+        recover();
+        snapshotExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ledger-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lastSnapshotNanos = System.nanoTime();
+        running = true;
+        writer = new Thread(this::runWriter, "ledger-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * Stops accepting transfers, applies the published ones and stores a final snapshot.
+     * If that snapshot cannot be stored, the journal still holds its transfers for the next start.
+     */
+    public void stop() throws InterruptedException {
+        running = false;
+        // A producer that saw running=true may still be publishing; the writer must see its slot
+        while (activeProducers.get() > 0) {
+            Thread.yield();
+        }
+        stopRequested = true;
+        if (writer != null) {
+            writer.join();
+        }
+        if (!failed) {
+            try {
+                awaitInFlightSnapshot();
+                storeSnapshotNow();
+            } catch (RuntimeException e) {
+                log.error("Final ledger snapshot failed, the journal will be replayed on the next start", e);
+            }
+        }
+        if (snapshotExecutor != null) {
+            snapshotExecutor.shutdown();
+            snapshotExecutor.awaitTermination(30, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Publishes the transfer to the ledger writer and waits until it has been applied and journaled.
+     * Accounts the ledger does not hold yet are loaded here first.
+     *
+     * @throws InvalidTransferAmountException if the amount is out of range
+     * @throws AppException 404 if an account does not exist, 503 if the ring is full or the ledger is not running
+     */
+    @Override
+    public Transfer createTransfer(UUID senderAccountId, UUID receiverAccountId, Money amount) {
+        if (!TransferConstants.isWithinLimits(amount)) {
+            throw new InvalidTransferAmountException(TransferConstants.AMOUNT_OUT_OF_RANGE_MESSAGE);
+        }
+        // Before claiming a sequence: the writer must not stall the whole ring on one caller's query
+        preload(senderAccountId);
+        preload(receiverAccountId);
+
+        CompletableFuture<Transfer> result = new CompletableFuture<>();
+        activeProducers.incrementAndGet();
+        try {
+            if (!running) {
+                throw unavailable("Ledger is not running");
+            }
+            if (!ring.tryPublish(senderAccountId, receiverAccountId, amount.getMinorUnits(), amount.getCurrency(), result)) {
+                throw new AppException("Too many transfers in progress, please retry", "LEDGER_BUSY",
+                        HttpStatus.SERVICE_UNAVAILABLE, LocalDateTime.now());
+            }
+        } finally {
+            activeProducers.decrementAndGet();
+        }
+
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            // The transfer is published and may still be applied; the caller only stops waiting
+            Thread.currentThread().interrupt();
+            throw unavailable("Interrupted while waiting for the ledger");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Transfer failed", e.getCause());
+        }
+    }
+
+    private void runWriter() {
+        int idle = 0;
+        while (!stopRequested || ring.hasClaimedFrom(nextRingSequence)) {
+            int processed;
+            try {
+                processed = processBatch();
+                maybeSnapshot();
+            } catch (RuntimeException | Error e) {
+                fail(e);
+                return;
+            }
+            if (processed > 0) {
+                idle = 0;
+            } else if (++idle < IDLE_SPINS) {
+                Thread.onSpinWait();
+            } else {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+        }
+    }
+
+    // Applies up to maxBatchSize published transfers, forces the journal once, then answers the callers
+    private int processBatch() {
+        int processed = 0;
+        LedgerRingBuffer.Slot slot;
+        while (processed < maxBatchSize && (slot = ring.poll(nextRingSequence)) != null) {
+            CompletableFuture<Transfer> result = slot.result;
+            slot.result = null;
+            try {
+                batchTransfers.add(apply(slot.senderId, slot.receiverId, slot.amountCents, slot.currency));
+                batchResults.add(result);
+            } catch (AppException | InvalidTransferAmountException e) {
+                // Rejected before anything was changed or journaled
+                result.completeExceptionally(e);
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(unavailable("Ledger failed, the transfer outcome is unknown"));
+                nextRingSequence++;
+                throw e;
+            }
+            nextRingSequence++;
+            processed++;
+        }
+        if (processed == 0) {
+            return 0;
+        }
+        ring.release(nextRingSequence);
+
+        if (!batchResults.isEmpty()) {
+            journal.force();
+            for (int i = 0; i < batchResults.size(); i++) {
+                batchResults.get(i).complete(batchTransfers.get(i));
+            }
+            batchResults.clear();
+            batchTransfers.clear();
+        }
+        return processed;
+    }
+
+    private Transfer apply(UUID senderId, UUID receiverId, long amountCents, Currency currency) {
+        int senderSlot = slotOf(senderId);
+        int receiverSlot = slotOf(receiverId);
+        if (senderSlot < 0 || receiverSlot < 0) {
+            throw new AppException("Sender or receiver not found", "ACCOUNT_NOT_FOUND", HttpStatus.NOT_FOUND, LocalDateTime.now());
+        }
+        // Not checked against the account currencies, like CreateTransferService; every currency has two
+        // fraction digits, so the minor units move unchanged
+        if (balances.balance(senderSlot) < amountCents) {
+            throw new InsufficientBalanceException("Insufficient balance for transfer");
+        }
+        if (!journal.hasCapacity()) {
+            rollJournal();
+        }
+
+        try {
+            balances.move(senderSlot, receiverSlot, amountCents);
+        } catch (ArithmeticException e) {
+            throw new InvalidTransferAmountException("Transfer would overflow the receiver's balance");
+        }
+        long sequence = ledgerSequence + 1;
+        Transfer transfer = new Transfer(idGeneratorPort.nextId(), senderId, receiverId,
+                Money.ofMinor(amountCents, currency), TransferStatus.COMPLETED, LocalDateTime.now());
+        journal.append(new LedgerJournalEntry(sequence, transfer.getId(), senderId, receiverId, amountCents,
+                currency, transfer.getCreatedAt()));
+        ledgerSequence = sequence;
+        unsnapshotted.add(transfer);
+        return transfer;
+    }
+
+    // Loads an account the ledger does not hold yet, on the calling thread
+    private void preload(UUID accountId) {
+        if (loadedAccounts.contains(accountId) || preloaded.containsKey(accountId)) {
+            return;
+        }
+        Account account;
+        try {
+            account = transactionTemplate.execute(status -> accountRepositoryPort.findById(accountId));
+        } catch (RuntimeException e) {
+            log.warn("Loading account {} into the ledger failed: {}", accountId, e.getMessage());
+            throw unavailable("Account could not be loaded, please retry");
+        }
+        if (account == null) {
+            throw new AppException("Sender or receiver not found", "ACCOUNT_NOT_FOUND", HttpStatus.NOT_FOUND, LocalDateTime.now());
+        }
+        if (account.isSharded()) {
+            throw new AppException("Sharded accounts are not supported by the ledger", "LEDGER_UNSUPPORTED_ACCOUNT",
+                    HttpStatus.CONFLICT, LocalDateTime.now());
+        }
+        preloaded.putIfAbsent(accountId, account);
+        if (loadedAccounts.contains(accountId)) {
+            // Added by the writer meanwhile, from another caller's copy; the ledger's balance is the current one
+            preloaded.remove(accountId);
+        }
+    }
+
+    // Returns the slot of the account, adding the preloaded account on its first transfer; -1 if it was not loaded
+    private int slotOf(UUID accountId) {
+        int slot = balances.slotOf(accountId);
+        if (slot >= 0) {
+            return slot;
+        }
+        Account account = preloaded.get(accountId);
+        if (account == null) {
+            return -1;
+        }
+        slot = balances.add(accountId, account.getBalance().getMinorUnits(), account.getCurrency());
+        // Marked loaded before the copy is dropped, so a late preload of the same account sees it and drops its own
+        loadedAccounts.add(accountId);
+        preloaded.remove(accountId);
+        return slot;
+    }
+
+    // The journal is full: store everything in a snapshot synchronously, then start the journal over
+    private void rollJournal() {
+        awaitInFlightSnapshot();
+        try {
+            storeSnapshotNow();
+        } catch (RuntimeException e) {
+            log.error("Ledger journal is full and the snapshot failed", e);
+            throw unavailable("Ledger journal is full, please retry");
+        }
+        journal.reset();
+    }
+
+    private void maybeSnapshot() {
+        if (inFlight != null) {
+            if (!inFlight.isDone()) {
+                return;
+            }
+            awaitInFlightSnapshot();
+        }
+        long now = System.nanoTime();
+        if (now - lastSnapshotNanos < snapshotIntervalNanos) {
+            return;
+        }
+        lastSnapshotNanos = now;
+        LedgerSnapshot snapshot = takeSnapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        inFlightSnapshot = snapshot;
+        inFlight = CompletableFuture.runAsync(() -> snapshotPort.saveSnapshot(snapshot), snapshotExecutor);
+    }
+
+    // Waits for the running snapshot; if it failed, its changes go into the next one
+    private void awaitInFlightSnapshot() {
+        if (inFlight == null) {
+            return;
+        }
+        try {
+            inFlight.join();
+        } catch (CompletionException e) {
+            log.warn("Ledger snapshot up to sequence {} failed, retrying with the next one",
+                    inFlightSnapshot.sequence(), e.getCause());
+            restore(inFlightSnapshot);
+        } finally {
+            inFlight = null;
+            inFlightSnapshot = null;
+        }
+    }
+
+    private void storeSnapshotNow() {
+        LedgerSnapshot snapshot = takeSnapshot();
+        if (snapshot.isEmpty()) {
+            return;
+        }
+        try {
+            snapshotPort.saveSnapshot(snapshot);
+        } catch (RuntimeException e) {
+            restore(snapshot);
+            throw e;
+        }
+    }
+
+    private LedgerSnapshot takeSnapshot() {
+        Map<UUID, BigDecimal> changed = new LinkedHashMap<>();
+        balances.drainChanged().forEach((accountId, balance) -> changed.put(accountId, balance.toBigDecimal()));
+        List<Transfer> transfers = new ArrayList<>(unsnapshotted);
+        unsnapshotted.clear();
+        return new LedgerSnapshot(ledgerSequence, changed, transfers);
+    }
+
+    private void restore(LedgerSnapshot snapshot) {
+        unsnapshotted.addAll(0, snapshot.transfers());
+        snapshot.balances().keySet().forEach(balances::markChanged);
+    }
+
+    private void recover() {
+        long storedSequence = snapshotPort.loadLastSequence();
+        ledgerSequence = storedSequence;
+        journal.replay(entry -> {
+            if (entry.sequence() <= storedSequence) {
+                return;
+            }
+            if (entry.sequence() != ledgerSequence + 1) {
+                throw new IllegalStateException("Ledger journal continues at sequence " + entry.sequence()
+                        + " but the stored state ends at " + ledgerSequence);
+            }
+            replay(entry);
+        });
+        long replayed = ledgerSequence - storedSequence;
+        storeSnapshotNow();
+        journal.reset();
+        log.info("Ledger recovered at sequence {} ({} journal entries replayed)", ledgerSequence, replayed);
+    }
+
+    // Re-applies a journaled transfer without checks: it was accepted before the restart
+    private void replay(LedgerJournalEntry entry) {
+        try {
+            preload(entry.senderId());
+            preload(entry.receiverId());
+        } catch (AppException e) {
+            throw new IllegalStateException("Account of journaled transfer " + entry.transferId()
+                    + " could not be loaded: " + e.getMessage(), e);
+        }
+        int senderSlot = slotOf(entry.senderId());
+        int receiverSlot = slotOf(entry.receiverId());
+        if (senderSlot < 0 || receiverSlot < 0) {
+            throw new IllegalStateException("Account of journaled transfer " + entry.transferId() + " no longer exists");
+        }
+        balances.move(senderSlot, receiverSlot, entry.amountCents());
+        unsnapshotted.add(new Transfer(entry.transferId(), entry.senderId(), entry.receiverId(),
+                Money.ofMinor(entry.amountCents(), entry.currency()), TransferStatus.COMPLETED, entry.createdAt()));
+        ledgerSequence = entry.sequence();
+    }
+
+    // Unexpected writer failure (e.g. the journal could not be forced): the outcome of the open batch is unknown
+    private void fail(Throwable cause) {
+        log.error("Ledger writer stopped, restart the service to recover from the journal", cause);
+        failed = true;
+        running = false;
+        AppException error = unavailable("Ledger failed, the transfer outcome is unknown");
+        batchResults.forEach(result -> result.completeExceptionally(error));
+        batchResults.clear();
+        batchTransfers.clear();
+        // Producers that saw running=true may still be publishing
+        while (activeProducers.get() > 0) {
+            Thread.yield();
+        }
+        LedgerRingBuffer.Slot slot;
+        while ((slot = ring.poll(nextRingSequence)) != null) {
+            slot.result.completeExceptionally(error);
+            nextRingSequence++;
+        }
+    }
+
+    private static AppException unavailable(String message) {
+        return new AppException(message, "LEDGER_UNAVAILABLE", HttpStatus.SERVICE_UNAVAILABLE, LocalDateTime.now());
+    }
+}
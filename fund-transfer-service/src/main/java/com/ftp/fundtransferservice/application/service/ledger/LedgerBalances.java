@@ -0,0 +1,125 @@
+package com.ftp.fundtransferservice.application.service.ledger;
+
+import com.ftp.fundtransferservice.domain.model.Money;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Balances of the in-memory ledger in minor units of the account currency, in primitive arrays indexed by a
+ * dense account slot.
+ * <p>
+ * Besides the balances it tracks which slots changed since the last {@link #drainChanged()}, so a snapshot
+ * only writes the accounts that moved. Owned by the ledger writer thread; not thread-safe.
+ */
+final class LedgerBalances {
+
+    private final Map<UUID, Integer> slots;
+    private UUID[] accountIds;
+    private long[] cents;
+    private Currency[] currencies;
+    private boolean[] changed;
+    private int[] changedSlots;
+    private int changedCount;
+    private int size;
+
+    LedgerBalances(int initialCapacity) {
+        int capacity = Math.max(16, initialCapacity);
+        this.slots = new HashMap<>(capacity * 4 / 3 + 1);
+        this.accountIds = new UUID[capacity];
+        this.cents = new long[capacity];
+        this.currencies = new Currency[capacity];
+        this.changed = new boolean[capacity];
+        this.changedSlots = new int[capacity];
+    }
+
+    /**
+     * @return the slot of the account, or -1 if the account is not loaded yet
+     */
+    int slotOf(UUID accountId) {
+        Integer slot = slots.get(accountId);
+        return slot != null ? slot : -1;
+    }
+
+    /**
+     * Loads an account with its stored balance.
+     *
+     * @return the new slot
+     */
+    int add(UUID accountId, long balanceCents, Currency currency) {
+        if (size == accountIds.length) {
+            int capacity = size * 2;
+            accountIds = Arrays.copyOf(accountIds, capacity);
+            cents = Arrays.copyOf(cents, capacity);
+            currencies = Arrays.copyOf(currencies, capacity);
+            changed = Arrays.copyOf(changed, capacity);
+            changedSlots = Arrays.copyOf(changedSlots, capacity);
+        }
+        int slot = size++;
+        accountIds[slot] = accountId;
+        cents[slot] = balanceCents;
+        currencies[slot] = currency;
+        slots.put(accountId, slot);
+        return slot;
+    }
+
+    long balance(int slot) {
+        return cents[slot];
+    }
+
+    Currency currency(int slot) {
+        return currencies[slot];
+    }
+
+    /**
+     * Moves the amount between two slots; a move within one slot changes nothing.
+     *
+     * @throws ArithmeticException if a balance would overflow; no balance is changed then
+     */
+    void move(int fromSlot, int toSlot, long amountCents) {
+        if (fromSlot == toSlot) {
+            return;
+        }
+        long from = Math.subtractExact(cents[fromSlot], amountCents);
+        long to = Math.addExact(cents[toSlot], amountCents);
+        cents[fromSlot] = from;
+        cents[toSlot] = to;
+        markChanged(fromSlot);
+        markChanged(toSlot);
+    }
+
+    /**
+     * Marks the account as changed again, e.g. after a snapshot holding its balance failed to store.
+     */
+    void markChanged(UUID accountId) {
+        int slot = slotOf(accountId);
+        if (slot >= 0) {
+            markChanged(slot);
+        }
+    }
+
+    /**
+     * Returns the current balance of every account changed since the last call and clears the changes.
+     */
+    Map<UUID, Money> drainChanged() {
+        Map<UUID, Money> result = new LinkedHashMap<>(changedCount * 4 / 3 + 1);
+        for (int i = 0; i < changedCount; i++) {
+            int slot = changedSlots[i];
+            result.put(accountIds[slot], Money.ofMinor(cents[slot], currencies[slot]));
+            changed[slot] = false;
+        }
+        changedCount = 0;
+        return result;
+    }
+
+    private void markChanged(int slot) {
+        if (!changed[slot]) {
+            changed[slot] = true;
+            changedSlots[changedCount++] = slot;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.ftp.fundtransferservice.application.service.ledger;
+
+import com.ftp.fundtransferservice.domain.model.Transfer;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free ring of transfer requests from many request threads to the single ledger writer.
+ * <p>
+ * Slots are allocated once and reused:
+ * - a producer claims the next sequence with a CAS, unless that would overtake the writer by a whole ring,
+ *   fills the slot and then publishes the sequence of the slot;
+ * - the writer reads slots in sequence order once published, and releases them after copying what it needs.
+ * The same scheme as the LMAX Disruptor, reduced to one consumer.
+ */
+final class LedgerRingBuffer {
+
+    /**
+     * A reusable slot. Written by the claiming producer before publishing, read by the writer after.
+     */
+    static final class Slot {
+        UUID senderId;
+        UUID receiverId;
+        long amountCents;
+        Currency currency;
+        CompletableFuture<Transfer> result;
+    }
+
+    private final Slot[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong claimed = new AtomicLong();
+    private volatile long released; // Every sequence below it may be overwritten
+
+    LedgerRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        this.slots = new Slot[capacity];
+        this.published = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new Slot();
+            published.set(i, -1L);
+        }
+    }
+
+    /**
+     * Claims, fills and publishes the next slot.
+     *
+     * @return false if the ring is full; nothing was published then
+     */
+    boolean tryPublish(UUID senderId, UUID receiverId, long amountCents, Currency currency,
+                       CompletableFuture<Transfer> result) {
+        long sequence;
+        do {
+            sequence = claimed.get();
+            if (sequence - released >= slots.length) {
+                return false;
+            }
+        } while (!claimed.compareAndSet(sequence, sequence + 1));
+
+        int index = (int) (sequence & mask);
+        Slot slot = slots[index];
+        slot.senderId = senderId;
+        slot.receiverId = receiverId;
+        slot.amountCents = amountCents;
+        slot.currency = currency;
+        slot.result = result;
+        // Volatile write: makes the slot contents visible to the writer together with the sequence
+        published.set(index, sequence);
+        return true;
+    }
+
+    /**
+     * Returns the slot of the sequence once it is published, or null. Writer thread only.
+     */
+    Slot poll(long sequence) {
+        int index = (int) (sequence & mask);
+        return published.get(index) == sequence ? slots[index] : null;
+    }
+
+    /**
+     * Hands every slot below the sequence back to the producers. Writer thread only.
+     */
+    void release(long sequence) {
+        released = sequence;
+    }
+
+    /**
+     * Whether a producer has claimed a sequence at or after the given one.
+     */
+    boolean hasClaimedFrom(long sequence) {
+        return claimed.get() > sequence;
+    }
+}
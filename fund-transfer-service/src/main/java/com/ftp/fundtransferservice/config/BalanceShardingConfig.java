@@ -0,0 +1,54 @@
+package com.ftp.fundtransferservice.config;
+
+import com.ftp.fundtransferservice.application.service.BalanceShardingService;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.domain.ports.out.BalanceShardPort;
+import com.ftp.fundtransferservice.domain.ports.out.DbLockPort;
+import com.ftp.fundtransferservice.infrastructure.db.repositories.SpringDataAccountRepository;
+import com.ftp.fundtransferservice.infrastructure.db.repositories.SpringDataAccountSubBalanceRepository;
+import com.ftp.fundtransferservice.infrastructure.db.sharding.ShardedBalanceAdapter;
+import com.ftp.fundtransferservice.infrastructure.db.sharding.SubBalanceSumCache;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the sub-balances of sharded hot accounts.
+ * <p>
+ * Provides:
+ * <ul>
+ *   <li>subBalanceSumCache: short-lived sums used when a sharded account's balance is read</li>
+ *   <li>balanceShardPort: credits, debits and re-sharding on the sub-balance rows</li>
+ *   <li>balanceShardingService: the opt-in per account behind <code>PUT /accounts/{id}/sharding</code></li>
+ * </ul>
+ */
+@Configuration
+@EnableConfigurationProperties(BalanceShardingProperties.class)
+public class BalanceShardingConfig {
+
+    private final BalanceShardingProperties properties;
+
+    public BalanceShardingConfig(BalanceShardingProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    public SubBalanceSumCache subBalanceSumCache(SpringDataAccountSubBalanceRepository subBalanceRepository) {
+        return new SubBalanceSumCache(subBalanceRepository, properties.getSumCacheTtl());
+    }
+
+    @Bean
+    public BalanceShardPort balanceShardPort(SpringDataAccountRepository accountRepository,
+                                             SpringDataAccountSubBalanceRepository subBalanceRepository,
+                                             SubBalanceSumCache subBalanceSumCache) {
+        return new ShardedBalanceAdapter(accountRepository, subBalanceRepository, subBalanceSumCache);
+    }
+
+    @Bean
+    public BalanceShardingService balanceShardingService(AccountRepositoryPort accountRepositoryPort,
+                                                         BalanceShardPort balanceShardPort,
+                                                         DbLockPort dbLockPort) {
+        return new BalanceShardingService(accountRepositoryPort, balanceShardPort, dbLockPort,
+                properties.getMaxShardCount());
+    }
+}
@@ -0,0 +1,39 @@
+package com.ftp.fundtransferservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the sub-balances of sharded hot accounts.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * ftp:
+ *   balance-sharding:
+ *     max-shard-count: 64
+ *     sum-cache-ttl: 250ms
+ * </pre>
+ * Accounts are sharded one by one through <code>PUT /accounts/{id}/sharding</code>.
+ */
+@ConfigurationProperties(prefix = "ftp.balance-sharding")
+public class BalanceShardingProperties {
+
+    /**
+     * Upper limit of the number of sub-balances of one account.
+     */
+    private int maxShardCount = 64;
+
+    /**
+     * How long the summed sub-balances of an account are reused when its balance is read.
+     */
+    private Duration sumCacheTtl = Duration.ofMillis(250);
+
+    public int getMaxShardCount() { return maxShardCount; }
+
+    public void setMaxShardCount(int maxShardCount) { this.maxShardCount = maxShardCount; }
+
+    public Duration getSumCacheTtl() { return sumCacheTtl; }
+
+    public void setSumCacheTtl(Duration sumCacheTtl) { this.sumCacheTtl = sumCacheTtl; }
+}
@@ -0,0 +1,128 @@
+package com.ftp.fundtransferservice.config;
+
+import com.ftp.fundtransferservice.infrastructure.db.routing.ConnectionPoolSizingCheck;
+import com.ftp.fundtransferservice.infrastructure.db.routing.DataSourceRole;
+import com.ftp.fundtransferservice.infrastructure.db.routing.ReadWriteRoutingDataSource;
+import com.ftp.fundtransferservice.infrastructure.db.routing.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration class for the application's connection pools.
+ * <p>
+ * Replaces the auto-configured DataSource with:
+ * <ul>
+ *   <li>primaryDataSource: reads and admin work, sized under <code>spring.datasource.hikari</code></li>
+ *   <li>transferWriteDataSource: transfer write transactions, sized under <code>ftp.datasource.write-pool</code></li>
+ *   <li>replicaDataSource: optional, see {@link ReadReplicaConfig}</li>
+ *   <li>dataSource (primary bean): a lazy routing proxy used by JPA, Liquibase and JdbcTemplate</li>
+ * </ul>
+ * Every pool reports to Micrometer (<code>hikaricp.connections.acquire</code> wait time,
+ * <code>hikaricp.connections.active</code>, <code>hikaricp.connections.timeout</code>, ...) tagged with its pool name.
+ * See {@link ReadWriteRoutingDataSource} for the routing rules.
+ */
+@Configuration
+@EnableConfigurationProperties(WritePoolProperties.class)
+public class DataSourceConfig {
+
+    static final String PRIMARY_POOL = "primary";
+    static final String TRANSFER_WRITE_POOL = "transfer-write";
+
+    private final WritePoolProperties writePoolProperties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public DataSourceConfig(WritePoolProperties writePoolProperties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.writePoolProperties = writePoolProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Pool for reads and admin work, built from <code>spring.datasource</code> with Hikari settings bound
+     * from <code>spring.datasource.hikari</code>.
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(PRIMARY_POOL);
+        registerMetrics(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * Fixed-size pool for transfer write transactions on the same database.
+     */
+    @Bean
+    public HikariDataSource transferWriteDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName(TRANSFER_WRITE_POOL);
+        dataSource.setMaximumPoolSize(writePoolProperties.getMaximumPoolSize());
+        dataSource.setMinimumIdle(writePoolProperties.getMinimumIdle());
+        dataSource.setConnectionTimeout(writePoolProperties.getConnectionTimeout().toMillis());
+        registerMetrics(dataSource);
+        return dataSource;
+    }
+
+    /**
+     * The DataSource used by the application: routes per transaction and fetches the physical connection
+     * lazily, after the name and read-only flag of the transaction are known.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("transferWriteDataSource") DataSource transferWriteDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(DataSourceRole.PRIMARY, primaryDataSource);
+        targets.put(DataSourceRole.TRANSFER, transferWriteDataSource);
+
+        DataSource replica = replicaDataSource.getIfAvailable();
+        ReplicaLagMonitor lagMonitor = null;
+        if (replica != null) {
+            targets.put(DataSourceRole.REPLICA, replica);
+            lagMonitor = replicaLagMonitor.getIfAvailable();
+        }
+
+        ReadWriteRoutingDataSource routingDataSource =
+                new ReadWriteRoutingDataSource(lagMonitor, writePoolProperties.getTransactionPrefixes());
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    @Bean
+    public ConnectionPoolSizingCheck connectionPoolSizingCheck(@Value("${server.tomcat.threads.max:200}") int servletThreads) {
+        return new ConnectionPoolSizingCheck(servletThreads,
+                writePoolProperties.getMaximumPoolSize(),
+                writePoolProperties.getMaxServletThreadsPerConnection());
+    }
+
+    // Set before the pool starts, so wait time, usage and timeouts are recorded from the first connection on
+    private void registerMetrics(HikariDataSource dataSource) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+    }
+}
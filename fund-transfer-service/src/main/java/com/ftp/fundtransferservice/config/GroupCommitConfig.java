@@ -0,0 +1,50 @@
+package com.ftp.fundtransferservice.config;
+
+import com.ftp.fundtransferservice.application.service.CreateTransferService;
+import com.ftp.fundtransferservice.application.service.GroupCommitTransferService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration class for the group-commit transfer pipeline.
+ * <p>
+ * With <code>ftp.group-commit.enabled=true</code> the {@link GroupCommitTransferService} becomes the primary
+ * CreateTransferUseCase: controllers keep calling the use case as before, while transfers are queued and
+ * committed in groups by {@link CreateTransferService} running inside a shared transaction.
+ * <p>
+ * It cannot be combined with <code>ftp.ledger.enabled=true</code>: the in-memory ledger replaces the
+ * database transfer path that group commit batches, and both would claim the primary use case.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ftp.group-commit", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(GroupCommitProperties.class)
+public class GroupCommitConfig {
+
+    /**
+     * @throws IllegalStateException if the in-memory ledger is enabled as well
+     */
+    public GroupCommitConfig(@Value("${ftp.ledger.enabled:false}") boolean ledgerEnabled) {
+        if (ledgerEnabled) {
+            throw new IllegalStateException("ftp.group-commit.enabled and ftp.ledger.enabled cannot both be true: "
+                    + "transfers go either through the in-memory ledger or through group commit");
+        }
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @Primary
+    public GroupCommitTransferService groupCommitTransferService(CreateTransferService createTransferService,
+                                                                 PlatformTransactionManager transactionManager,
+                                                                 GroupCommitProperties properties,
+                                                                 ObjectProvider<MeterRegistry> meterRegistry) {
+        return new GroupCommitTransferService(createTransferService, transactionManager,
+                properties.getQueueCapacity(), properties.getMaxBatchSize(), properties.getMaxWait(),
+                meterRegistry.getIfAvailable());
+    }
+}
@@ -0,0 +1,59 @@
+package com.ftp.fundtransferservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the group-commit transfer pipeline.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * ftp:
+ *   group-commit:
+ *     enabled: true
+ *     queue-capacity: 10000
+ *     max-batch-size: 64
+ *     max-wait: 500us
+ * </pre>
+ * When disabled (the default) every transfer commits in its own transaction.
+ */
+@ConfigurationProperties(prefix = "ftp.group-commit")
+public class GroupCommitProperties {
+
+    /**
+     * Whether transfers are queued and committed in groups.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Transfers waiting for the committer; further transfers are rejected with 503 while the queue is full.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of transfers committed in one transaction.
+     */
+    private int maxBatchSize = 64;
+
+    /**
+     * How long the committer waits for more transfers after the first one of a batch arrived.
+     */
+    private Duration maxWait = Duration.ofNanos(500_000);
+
+    public boolean isEnabled() { return enabled; }
+
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getQueueCapacity() { return queueCapacity; }
+
+    public void setQueueCapacity(int queueCapacity) { this.queueCapacity = queueCapacity; }
+
+    public int getMaxBatchSize() { return maxBatchSize; }
+
+    public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+
+    public Duration getMaxWait() { return maxWait; }
+
+    public void setMaxWait(Duration maxWait) { this.maxWait = maxWait; }
+}
@@ -0,0 +1,49 @@
+package com.ftp.fundtransferservice.config;
+
+import com.ftp.fundtransferservice.domain.ports.out.IdGeneratorPort;
+import com.ftp.fundtransferservice.infrastructure.id.RandomUuidGenerator;
+import com.ftp.fundtransferservice.infrastructure.id.UuidV7Generator;
+import com.ftp.fundtransferservice.shared.constants.IdStrategyType;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class to provide the {@link IdGeneratorPort} implementation
+ * based on the configured ID strategy.
+ * <p>
+ * Supports two strategies:
+ * <ul>
+ *   <li>UUID_V7: time-ordered UUIDs with a lock-free monotonic counter (default)</li>
+ *   <li>UUID_V4: random UUIDs</li>
+ * </ul>
+ * <p>
+ * The active strategy is controlled via {@link IdGeneratorProperties#getIdStrategy()}.
+ */
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfig {
+
+    private final IdGeneratorProperties properties;
+
+    public IdGeneratorConfig(IdGeneratorProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Creates the {@link IdGeneratorPort} bean according to the configured ID strategy.
+     *
+     * @return the appropriate {@link IdGeneratorPort} implementation
+     * @throws UnsupportedOperationException if the configured strategy is not supported
+     */
+    @Bean
+    public IdGeneratorPort idGeneratorPort() {
+        if (properties.getIdStrategy() == IdStrategyType.UUID_V7) {
+            return UuidV7Generator.shared();
+        } else if (properties.getIdStrategy() == IdStrategyType.UUID_V4) {
+            return new RandomUuidGenerator();
+        }
+
+        throw new UnsupportedOperationException("Unsupported ID strategy: " + properties.getIdStrategy());
+    }
+}
@@ -0,0 +1,31 @@
+package com.ftp.fundtransferservice.config;
+
+import com.ftp.fundtransferservice.shared.constants.IdStrategyType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties selecting how identifiers of new entities are generated.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * ftp:
+ *   id-strategy: UUID_V7
+ * </pre>
+ * UUID_V7 (default) produces time-ordered IDs, UUID_V4 produces random IDs.
+ */
+@ConfigurationProperties(prefix = "ftp")
+public class IdGeneratorProperties {
+
+    /**
+     * The ID generation strategy. Defaults to time-ordered UUIDv7.
+     */
+    private IdStrategyType idStrategy = IdStrategyType.UUID_V7;
+
+    public IdStrategyType getIdStrategy() {
+        return idStrategy;
+    }
+
+    public void setIdStrategy(IdStrategyType idStrategy) {
+        this.idStrategy = idStrategy;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ftp.fundtransferservice.config;
+
+import com.ftp.fundtransferservice.infrastructure.security.IdentityAssertionVerifier;
+import com.ftp.fundtransferservice.shared.constants.AuthenticationMode;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Configuration class for authenticating requests by the gateway's identity assertion.
+ * <p>
+ * Provides:
+ * <ul>
+ *   <li>identityAssertionVerifier: checks the MAC and age of <code>X-Identity-Assertion</code>, or rejects every
+ *   assertion when the mode is JWT</li>
+ * </ul>
+ */
+@Configuration
+@EnableConfigurationProperties(IdentityAssertionProperties.class)
+public class IdentityAssertionConfig {
+
+    // HMAC-SHA256 keys shorter than the 256-bit output weaken the MAC
+    private static final int MIN_SECRET_LENGTH = 32;
+
+    @Bean
+    public IdentityAssertionVerifier identityAssertionVerifier(IdentityAssertionProperties properties) {
+        if (properties.getAuthenticationMode() == AuthenticationMode.JWT) {
+            return IdentityAssertionVerifier.disabled();
+        }
+
+        IdentityAssertionProperties.Assertion assertion = properties.getIdentityAssertion();
+        if (assertion.getSecret() == null || assertion.getSecret().length() < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException("ftp.security.identity-assertion.secret must be at least "
+                    + MIN_SECRET_LENGTH + " characters when the authentication mode is "
+                    + properties.getAuthenticationMode());
+        }
+        return new IdentityAssertionVerifier(assertion.getSecret(), assertion.getMaxAge(), assertion.getClockSkew(),
+                Clock.systemUTC());
+    }
+}
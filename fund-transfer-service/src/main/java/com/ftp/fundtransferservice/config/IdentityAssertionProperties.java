@@ -0,0 +1,72 @@
+package com.ftp.fundtransferservice.config;
+
+import com.ftp.fundtransferservice.shared.constants.AuthenticationMode;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties selecting how requests are authenticated.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * ftp:
+ *   security:
+ *     authentication-mode: ASSERTION_OR_JWT
+ *     identity-assertion:
+ *       secret: ${IDENTITY_ASSERTION_SECRET}
+ *       max-age: 30s
+ *       clock-skew: 5s
+ * </pre>
+ * JWT (default) verifies the bearer token on every request. ASSERTION trusts the identity headers the gateway
+ * already derived from the token (<code>X-User-Id</code>, <code>X-Username</code>, <code>X-Roles</code>) when the
+ * <code>X-Identity-Assertion</code> MAC over them is valid and recent, and rejects anything else. ASSERTION_OR_JWT
+ * falls back to the bearer token when the assertion is missing or invalid, for direct calls and rollouts.
+ * The secret must be the gateway's <code>gateway.identity-assertion.secret</code>.
+ */
+@ConfigurationProperties(prefix = "ftp.security")
+public class IdentityAssertionProperties {
+
+    /**
+     * How requests are authenticated.
+     */
+    private AuthenticationMode authenticationMode = AuthenticationMode.JWT;
+
+    private final Assertion identityAssertion = new Assertion();
+
+    public AuthenticationMode getAuthenticationMode() { return authenticationMode; }
+
+    public void setAuthenticationMode(AuthenticationMode authenticationMode) { this.authenticationMode = authenticationMode; }
+
+    public Assertion getIdentityAssertion() { return identityAssertion; }
+
+    public static class Assertion {
+
+        /**
+         * HMAC-SHA256 key shared with the gateway; at least 32 characters. Required unless the mode is JWT.
+         */
+        private String secret = "";
+
+        /**
+         * Assertions older than this are rejected, which bounds how long a captured one can be replayed.
+         */
+        private Duration maxAge = Duration.ofSeconds(30);
+
+        /**
+         * Tolerated amount by which the gateway clock may run ahead of this instance.
+         */
+        private Duration clockSkew = Duration.ofSeconds(5);
+
+        public String getSecret() { return secret; }
+
+        public void setSecret(String secret) { this.secret = secret; }
+
+        public Duration getMaxAge() { return maxAge; }
+
+        public void setMaxAge(Duration maxAge) { this.maxAge = maxAge; }
+
+        public Duration getClockSkew() { return clockSkew; }
+
+        public void setClockSkew(Duration clockSkew) { this.clockSkew = clockSkew; }
+    }
+}
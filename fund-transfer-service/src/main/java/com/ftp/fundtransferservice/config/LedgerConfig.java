@@ -0,0 +1,57 @@
+package com.ftp.fundtransferservice.config;
+
+import com.ftp.fundtransferservice.application.service.ledger.InMemoryLedgerService;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.domain.ports.out.IdGeneratorPort;
+import com.ftp.fundtransferservice.domain.ports.out.LedgerSnapshotPort;
+import com.ftp.fundtransferservice.infrastructure.ledger.MemoryMappedLedgerJournal;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Configuration class for the in-memory ledger.
+ * <p>
+ * With <code>ftp.ledger.enabled=true</code>:
+ * <ul>
+ *   <li>ledgerJournal: the memory-mapped write-ahead journal at <code>ftp.ledger.journal-path</code></li>
+ *   <li>inMemoryLedgerService: becomes the primary CreateTransferUseCase; recovers from the stored snapshot
+ *       and the journal on startup and stores a final snapshot on shutdown</li>
+ * </ul>
+ * Group commit (<code>ftp.group-commit.enabled</code>) must stay off; {@link GroupCommitConfig} refuses to start
+ * next to the ledger.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ftp.ledger", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(LedgerProperties.class)
+public class LedgerConfig {
+
+    private final LedgerProperties properties;
+
+    public LedgerConfig(LedgerProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean(destroyMethod = "close")
+    public MemoryMappedLedgerJournal ledgerJournal() throws IOException {
+        return new MemoryMappedLedgerJournal(Path.of(properties.getJournalPath()), properties.getJournalSize().toBytes());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    @Primary
+    public InMemoryLedgerService inMemoryLedgerService(MemoryMappedLedgerJournal ledgerJournal,
+                                                       LedgerSnapshotPort ledgerSnapshotPort,
+                                                       AccountRepositoryPort accountRepositoryPort,
+                                                       IdGeneratorPort idGeneratorPort,
+                                                       PlatformTransactionManager transactionManager) {
+        return new InMemoryLedgerService(ledgerJournal, ledgerSnapshotPort, accountRepositoryPort, idGeneratorPort,
+                transactionManager, properties.getRingCapacity(), properties.getMaxBatchSize(),
+                properties.getSnapshotInterval(), properties.getInitialAccountCapacity());
+    }
+}
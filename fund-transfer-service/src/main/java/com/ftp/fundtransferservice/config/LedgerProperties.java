@@ -0,0 +1,92 @@
+package com.ftp.fundtransferservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the in-memory ledger.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * ftp:
+ *   ledger:
+ *     enabled: true
+ *     journal-path: ./data/ledger.journal
+ *     journal-size: 64MB
+ *     ring-capacity: 65536
+ *     max-batch-size: 256
+ *     snapshot-interval: 1s
+ *     initial-account-capacity: 100000
+ * </pre>
+ * When disabled (the default) transfers are applied in the database by CreateTransferService.
+ * Not meant to be combined with <code>ftp.group-commit.enabled</code>.
+ */
+@ConfigurationProperties(prefix = "ftp.ledger")
+public class LedgerProperties {
+
+    /**
+     * Whether transfers are applied by the in-memory ledger.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Location of the write-ahead journal; it must be on local storage and survive restarts.
+     */
+    private String journalPath = "./data/ledger.journal";
+
+    /**
+     * Size of the journal file (at most 2GB). When it is full, a snapshot is stored synchronously
+     * and the journal starts over.
+     */
+    private DataSize journalSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Transfers waiting for the ledger writer, a power of two; further transfers are rejected with 503.
+     */
+    private int ringCapacity = 65_536;
+
+    /**
+     * Maximum number of transfers applied between two journal flushes.
+     */
+    private int maxBatchSize = 256;
+
+    /**
+     * How often changed balances and new transfers are stored in the database.
+     */
+    private Duration snapshotInterval = Duration.ofSeconds(1);
+
+    /**
+     * Number of accounts the balance arrays are sized for up front; they grow when needed.
+     */
+    private int initialAccountCapacity = 100_000;
+
+    public boolean isEnabled() { return enabled; }
+
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public String getJournalPath() { return journalPath; }
+
+    public void setJournalPath(String journalPath) { this.journalPath = journalPath; }
+
+    public DataSize getJournalSize() { return journalSize; }
+
+    public void setJournalSize(DataSize journalSize) { this.journalSize = journalSize; }
+
+    public int getRingCapacity() { return ringCapacity; }
+
+    public void setRingCapacity(int ringCapacity) { this.ringCapacity = ringCapacity; }
+
+    public int getMaxBatchSize() { return maxBatchSize; }
+
+    public void setMaxBatchSize(int maxBatchSize) { this.maxBatchSize = maxBatchSize; }
+
+    public Duration getSnapshotInterval() { return snapshotInterval; }
+
+    public void setSnapshotInterval(Duration snapshotInterval) { this.snapshotInterval = snapshotInterval; }
+
+    public int getInitialAccountCapacity() { return initialAccountCapacity; }
+
+    public void setInitialAccountCapacity(int initialAccountCapacity) { this.initialAccountCapacity = initialAccountCapacity; }
+}
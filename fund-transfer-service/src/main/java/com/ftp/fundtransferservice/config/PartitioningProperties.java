@@ -0,0 +1,69 @@
+package com.ftp.fundtransferservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration properties for the monthly partitions of the transfers table.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * ftp:
+ *   partitioning:
+ *     enabled: true
+ *     months-ahead: 3
+ *     retention-months: 12
+ *     archive-directory: /var/lib/ftp/archive
+ *     cron: "0 30 2 * * *"
+ * </pre>
+ * Partitioning is a PostgreSQL feature, so the maintenance job is disabled unless enabled explicitly.
+ */
+@ConfigurationProperties(prefix = "ftp.partitioning")
+public class PartitioningProperties {
+
+    /**
+     * Whether the partition maintenance job runs.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Number of future monthly partitions kept ready in advance.
+     */
+    private int monthsAhead = 3;
+
+    /**
+     * Partitions whose month ended more than this many months ago are archived.
+     */
+    private int retentionMonths = 12;
+
+    /**
+     * Directory receiving the gzip-compressed CSV files of archived partitions.
+     */
+    private Path archiveDirectory = Path.of("archive");
+
+    /**
+     * Cron expression of the maintenance job.
+     */
+    private String cron = "0 30 2 * * *";
+
+    public boolean isEnabled() { return enabled; }
+
+    public void setEnabled(boolean enabled) { this.enabled = enabled; }
+
+    public int getMonthsAhead() { return monthsAhead; }
+
+    public void setMonthsAhead(int monthsAhead) { this.monthsAhead = monthsAhead; }
+
+    public int getRetentionMonths() { return retentionMonths; }
+
+    public void setRetentionMonths(int retentionMonths) { this.retentionMonths = retentionMonths; }
+
+    public Path getArchiveDirectory() { return archiveDirectory; }
+
+    public void setArchiveDirectory(Path archiveDirectory) { this.archiveDirectory = archiveDirectory; }
+
+    public String getCron() { return cron; }
+
+    public void setCron(String cron) { this.cron = cron; }
+}
@@ -0,0 +1,84 @@
+package com.ftp.fundtransferservice.config;
+
+import com.ftp.fundtransferservice.infrastructure.db.routing.ConsistencyTokenFilter;
+import com.ftp.fundtransferservice.infrastructure.db.routing.ReadWriteRoutingDataSource;
+import com.ftp.fundtransferservice.infrastructure.db.routing.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class that splits database traffic between the primary and a read replica.
+ * <p>
+ * Active only with <code>ftp.datasource.replica.enabled=true</code>. It then adds:
+ * <ul>
+ *   <li>replicaDataSource: a read-only pool configured under <code>ftp.datasource.replica</code></li>
+ *   <li>replicaLagMonitor: the lag check deciding whether reads may use the replica</li>
+ *   <li>consistencyTokenFilter: the read-your-writes token handling</li>
+ * </ul>
+ * {@link DataSourceConfig} adds the replica to the routing DataSource; see {@link ReadWriteRoutingDataSource}
+ * for the routing rules.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "ftp.datasource.replica", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReadReplicaProperties.class)
+public class ReadReplicaConfig {
+
+    private final ReadReplicaProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ReadReplicaConfig(ReadReplicaProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Read-only pool on the replica.
+     *
+     * @throws IllegalStateException if no replica URL is configured
+     */
+    @Bean
+    public HikariDataSource replicaDataSource() {
+        if (properties.getUrl() == null || properties.getUrl().isBlank()) {
+            throw new IllegalStateException("ftp.datasource.replica.url must be set when the read replica is enabled");
+        }
+        DataSourceBuilder<HikariDataSource> builder = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(properties.getUrl())
+                .username(properties.getUsername())
+                .password(properties.getPassword());
+        if (properties.getDriverClassName() != null) {
+            builder.driverClassName(properties.getDriverClassName());
+        }
+        HikariDataSource dataSource = builder.build();
+        dataSource.setPoolName("replica");
+        dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+        dataSource.setReadOnly(true);
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        }
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new ReplicaLagMonitor(new JdbcTemplate(replicaDataSource), properties.getLagQuery(), properties.getMaxLag());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ftp.datasource.replica", name = "read-your-writes", havingValue = "true", matchIfMissing = true)
+    public ConsistencyTokenFilter consistencyTokenFilter() {
+        return new ConsistencyTokenFilter();
+    }
+}
@@ -1,6 +1,8 @@
 package com.ftp.fundtransferservice.config;
 
 import com.ftp.fundtransferservice.infrastructure.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
+import org.springframework.http.HttpMethod;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -28,7 +30,10 @@ public class SecurityConfig {
     /**
      * Configures the HTTP security for the application.
      * - Disables CSRF protection (typically not recommended for REST APIs, but can be used for non-browser clients).
-     * - Allows unauthenticated access to Swagger UI, OpenAPI docs, and H2 Console.
+     * - Allows unauthenticated access to Swagger UI, OpenAPI docs, H2 Console and the actuator health probe.
+     * - Lets async dispatches through: they only complete a response (e.g. a streamed statement) whose request
+     *   was already authorized.
+     * - Restricts the remaining actuator endpoints (e.g. runtime log levels) and balance sharding to ADMIN users.
      * - Disables frame options to allow H2 Console rendering.
      * - All other requests are authenticated.
      * - Adds the JwtAuthenticationFilter to the filter chain before UsernamePasswordAuthenticationFilter.
@@ -49,12 +54,16 @@ public class SecurityConfig {
                 .headers(headers -> headers.disable())
                 // Configure access rules
                 .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**",
                                 "/swagger-ui.html",
-                                "/h2-console/**"
+                                "/h2-console/**",
+                                "/actuator/health"
                         ).permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.PUT, "/accounts/*/sharding").hasRole("ADMIN")
                         .anyRequest().authenticated()
                 )
                 // Add JWT filter
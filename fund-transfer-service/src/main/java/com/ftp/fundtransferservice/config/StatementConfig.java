@@ -0,0 +1,48 @@
+package com.ftp.fundtransferservice.config;
+
+import com.ftp.fundtransferservice.application.service.StatementService;
+import com.ftp.fundtransferservice.domain.ports.in.RefreshStatementsUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.domain.ports.out.LoadAccountActivityPort;
+import com.ftp.fundtransferservice.domain.ports.out.StatementPort;
+import com.ftp.fundtransferservice.infrastructure.batch.StatementBatchJob;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * Configuration class for the materialized account statements.
+ * <p>
+ * Provides:
+ * <ul>
+ *   <li>statementService: folds account_activity into monthly statements and serves them</li>
+ *   <li>statementBatchJob: refreshes all accounts on a schedule, unless <code>ftp.statements.batch-enabled=false</code></li>
+ * </ul>
+ */
+@Configuration
+@EnableConfigurationProperties(StatementProperties.class)
+public class StatementConfig {
+
+    private final StatementProperties properties;
+
+    public StatementConfig(StatementProperties properties) {
+        this.properties = properties;
+    }
+
+    @Bean
+    public StatementService statementService(StatementPort statementPort,
+                                             LoadAccountActivityPort loadAccountActivityPort,
+                                             PlatformTransactionManager transactionManager) {
+        return new StatementService(statementPort, loadAccountActivityPort, transactionManager,
+                properties.getSettleDelay(), properties.getFoldBatchSize());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "ftp.statements", name = "batch-enabled", havingValue = "true", matchIfMissing = true)
+    public StatementBatchJob statementBatchJob(RefreshStatementsUseCase refreshStatementsUseCase,
+                                               AccountRepositoryPort accountRepositoryPort) {
+        return new StatementBatchJob(refreshStatementsUseCase, accountRepositoryPort, properties.getParallelism());
+    }
+}
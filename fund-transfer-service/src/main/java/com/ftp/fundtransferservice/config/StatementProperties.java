@@ -0,0 +1,71 @@
+package com.ftp.fundtransferservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the materialized monthly account statements.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * ftp:
+ *   statements:
+ *     batch-enabled: true
+ *     cron: "0 10 * * * *"
+ *     parallelism: 4
+ *     settle-delay: 5m
+ *     fold-batch-size: 1000
+ * </pre>
+ * The batch job keeps all accounts current; <code>GET /accounts/{id}/statements/{period}</code> refreshes
+ * the requested account first either way.
+ */
+@ConfigurationProperties(prefix = "ftp.statements")
+public class StatementProperties {
+
+    /**
+     * Whether the scheduled batch job refreshes the statements of all accounts.
+     */
+    private boolean batchEnabled = true;
+
+    /**
+     * Cron expression of the batch job.
+     */
+    private String cron = "0 10 * * * *";
+
+    /**
+     * Number of account partitions refreshed in parallel; each holds at most one connection of the primary pool.
+     */
+    private int parallelism = 4;
+
+    /**
+     * Entries younger than this are not folded yet, so late committed or late projected transfers are never
+     * left behind the checkpoint. Must exceed the account_activity catch-up interval.
+     */
+    private Duration settleDelay = Duration.ofMinutes(5);
+
+    /**
+     * Number of entries folded per transaction.
+     */
+    private int foldBatchSize = 1000;
+
+    public boolean isBatchEnabled() { return batchEnabled; }
+
+    public void setBatchEnabled(boolean batchEnabled) { this.batchEnabled = batchEnabled; }
+
+    public String getCron() { return cron; }
+
+    public void setCron(String cron) { this.cron = cron; }
+
+    public int getParallelism() { return parallelism; }
+
+    public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+
+    public Duration getSettleDelay() { return settleDelay; }
+
+    public void setSettleDelay(Duration settleDelay) { this.settleDelay = settleDelay; }
+
+    public int getFoldBatchSize() { return foldBatchSize; }
+
+    public void setFoldBatchSize(int foldBatchSize) { this.foldBatchSize = foldBatchSize; }
+}
@@ -0,0 +1,78 @@
+package com.ftp.fundtransferservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for the dedicated connection pool of transfer write transactions.
+ * <p>
+ * Example usage in <code>application.yml</code>:
+ * <pre>
+ * ftp:
+ *   datasource:
+ *     write-pool:
+ *       maximum-pool-size: 20
+ *       minimum-idle: 20
+ *       connection-timeout: 2s
+ *       transaction-prefixes:
+ *         - com.ftp.fundtransferservice.application.service.CreateTransferService
+ *       max-servlet-threads-per-connection: 4
+ * </pre>
+ * The pool connects to the database configured under <code>spring.datasource</code>; reads and admin work
+ * keep using the pool configured under <code>spring.datasource.hikari</code>.
+ */
+@ConfigurationProperties(prefix = "ftp.datasource.write-pool")
+public class WritePoolProperties {
+
+    /**
+     * Maximum number of connections of the write pool.
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * Connections kept open while idle; equal to the maximum for a fixed-size pool.
+     */
+    private int minimumIdle = 10;
+
+    /**
+     * Maximum time a transfer waits for a connection before failing.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Transactions whose name (fully qualified class name plus method) starts with one of these
+     * prefixes run on the write pool.
+     */
+    private List<String> transactionPrefixes = new ArrayList<>(
+            List.of("com.ftp.fundtransferservice.application.service.CreateTransferService"));
+
+    /**
+     * A startup warning is logged when the servlet threads outnumber the write pool connections by more than this factor.
+     */
+    private int maxServletThreadsPerConnection = 4;
+
+    public int getMaximumPoolSize() { return maximumPoolSize; }
+
+    public void setMaximumPoolSize(int maximumPoolSize) { this.maximumPoolSize = maximumPoolSize; }
+
+    public int getMinimumIdle() { return minimumIdle; }
+
+    public void setMinimumIdle(int minimumIdle) { this.minimumIdle = minimumIdle; }
+
+    public Duration getConnectionTimeout() { return connectionTimeout; }
+
+    public void setConnectionTimeout(Duration connectionTimeout) { this.connectionTimeout = connectionTimeout; }
+
+    public List<String> getTransactionPrefixes() { return transactionPrefixes; }
+
+    public void setTransactionPrefixes(List<String> transactionPrefixes) { this.transactionPrefixes = transactionPrefixes; }
+
+    public int getMaxServletThreadsPerConnection() { return maxServletThreadsPerConnection; }
+
+    public void setMaxServletThreadsPerConnection(int maxServletThreadsPerConnection) {
+        this.maxServletThreadsPerConnection = maxServletThreadsPerConnection;
+    }
+}
@@ -1,39 +1,67 @@
 package com.ftp.fundtransferservice.domain.model;
 
+import com.ftp.fundtransferservice.shared.constants.Currency;
+
 import java.math.BigDecimal;
 import java.util.UUID;
 
 /**
  * The Account class represents a financial account for a user in the system.
  * Each account has a unique ID, a user ID to associate it with a specific user,
- * and a balance that represents the amount of money in the account.
+ * and a balance that represents the amount of money in the account, in the account's currency.
+ * A hot account may keep its balance in several sub-balances (see {@link #isSharded()}); its balance is then
+ * the aggregate of the main balance and all sub-balances.
  */
 public class Account {
 
+    // Currency of accounts created without one
+    public static final Currency DEFAULT_CURRENCY = Currency.USD;
+
     // The unique identifier for the account
     private UUID id;
 
     // The unique identifier of the user that owns the account
     private UUID userId;
 
-    // The balance of the account, represented as a BigDecimal
-    private BigDecimal balance;
+    // The balance of the account, in minor units of its currency
+    private Money balance;
+
+    // Number of sub-balances the balance is spread across, 1 for a regular account
+    private final int shardCount;
 
     /**
-     * Constructor to create a new account with the specified ID, user ID, and balance.
+     * Constructor to create a new account in the default currency with the specified ID, user ID, and balance.
      *
      * @param id the unique identifier for the account
      * @param userId the user ID to associate the account with a specific user
      * @param balance the initial balance of the account
      * @throws IllegalArgumentException if the balance is negative
+     * @throws ArithmeticException if the balance has more decimals than the currency
      */
     public Account(UUID id, UUID userId, BigDecimal balance) {
-        if (balance.compareTo(BigDecimal.ZERO) < 0) {
+        this(id, userId, Money.of(balance, DEFAULT_CURRENCY), 1);
+    }
+
+    /**
+     * Constructor for an account whose balance may be spread across sub-balances.
+     *
+     * @param id the unique identifier for the account
+     * @param userId the user ID to associate the account with a specific user
+     * @param balance the (aggregated) balance of the account, in the account's currency
+     * @param shardCount the number of sub-balances, 1 for a regular account
+     * @throws IllegalArgumentException if the balance is negative or the shard count below 1
+     */
+    public Account(UUID id, UUID userId, Money balance, int shardCount) {
+        if (balance.isNegative()) {
             throw new IllegalArgumentException("Balance cannot be negative");
         }
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be at least 1");
+        }
         this.id = id;
         this.userId = userId;
         this.balance = balance;
+        this.shardCount = shardCount;
     }
 
     /**
@@ -56,10 +84,12 @@ public class Account {
 
     /**
      * Gets the balance of the account.
+     * For a sharded account this is the aggregate of all sub-balances, read from a short-lived cache,
+     * so it may lag behind the latest credits by the cache TTL.
      *
      * @return the current balance of the account
      */
-    public BigDecimal getBalance() {
+    public Money getBalance() {
         return balance;
     }
 
@@ -67,10 +97,13 @@ public class Account {
      * Sets the balance of the account.
      *
      * @param balance the new balance to set for the account
-     * @throws IllegalArgumentException if the balance is negative
+     * @throws IllegalArgumentException if the balance is negative or in another currency
      */
-    public void setBalance(BigDecimal balance) {
-        if (balance.compareTo(BigDecimal.ZERO) < 0) {
+    public void setBalance(Money balance) {
+        if (balance.getCurrency() != this.balance.getCurrency()) {
+            throw new IllegalArgumentException("Balance must be in " + this.balance.getCurrency());
+        }
+        if (balance.isNegative()) {
             throw new IllegalArgumentException("Balance cannot be negative");
         }
         this.balance = balance;
@@ -81,7 +114,35 @@ public class Account {
      *
      * @return the amount (balance) in the account
      */
-    public BigDecimal getAmount() {
+    public Money getAmount() {
         return balance;
     }
+
+    /**
+     * Gets the currency of the account; its balance and all its transfers are in this currency.
+     *
+     * @return the account currency
+     */
+    public Currency getCurrency() {
+        return balance.getCurrency();
+    }
+
+    /**
+     * Gets the number of sub-balances the account's balance is spread across.
+     *
+     * @return the shard count, 1 for a regular account
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Whether the balance is spread across sub-balances. Such balances must be changed through
+     * the sub-balance operations, never by saving the account with a new balance.
+     *
+     * @return true if the account has more than one sub-balance
+     */
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
 }
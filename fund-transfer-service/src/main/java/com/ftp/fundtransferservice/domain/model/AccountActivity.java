@@ -0,0 +1,107 @@
+package com.ftp.fundtransferservice.domain.model;
+
+import com.ftp.fundtransferservice.shared.constants.ActivityDirection;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.constants.TransferStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * The AccountActivity class is one entry of an account's transfer history.
+ * Every transfer produces one entry for the sender (DEBIT) and one for the receiver (CREDIT).
+ * Entries are ordered by (createdAt, transferId), which is also the paging cursor.
+ */
+public class AccountActivity {
+
+    // The account this entry belongs to
+    private final UUID accountId;
+
+    // The transfer this entry was derived from
+    private final UUID transferId;
+
+    // The other account of the transfer
+    private final UUID counterpartyId;
+
+    // Whether the money left or arrived at the account
+    private final ActivityDirection direction;
+
+    // The transferred amount (always positive, see direction)
+    private final BigDecimal amount;
+
+    private final Currency currency;
+
+    private final TransferStatus status;
+
+    // The creation timestamp of the transfer
+    private final LocalDateTime createdAt;
+
+    public AccountActivity(UUID accountId,
+                           UUID transferId,
+                           UUID counterpartyId,
+                           ActivityDirection direction,
+                           BigDecimal amount,
+                           Currency currency,
+                           TransferStatus status,
+                           LocalDateTime createdAt) {
+        this.accountId = accountId;
+        this.transferId = transferId;
+        this.counterpartyId = counterpartyId;
+        this.direction = direction;
+        this.amount = amount;
+        this.currency = currency;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public UUID getTransferId() {
+        return transferId;
+    }
+
+    public UUID getCounterpartyId() {
+        return counterpartyId;
+    }
+
+    public ActivityDirection getDirection() {
+        return direction;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public TransferStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Whether the transfer moved money between two different accounts and completed, i.e. changed the balance.
+     */
+    public boolean changesBalance() {
+        return status == TransferStatus.COMPLETED && !accountId.equals(counterpartyId);
+    }
+
+    /**
+     * The change of the account's balance caused by this entry: negative for a DEBIT, positive for a CREDIT,
+     * zero if the entry does not change the balance (see {@link #changesBalance()}).
+     */
+    public BigDecimal getBalanceChange() {
+        if (!changesBalance()) {
+            return BigDecimal.ZERO;
+        }
+        return direction == ActivityDirection.DEBIT ? amount.negate() : amount;
+    }
+}
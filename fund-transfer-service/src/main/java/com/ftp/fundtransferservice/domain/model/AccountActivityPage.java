@@ -0,0 +1,19 @@
+package com.ftp.fundtransferservice.domain.model;
+
+import java.util.List;
+
+/**
+ * One page of an account's transfer history, newest first.
+ *
+ * @param items   the entries of this page
+ * @param hasMore whether older entries exist; the last item is then the cursor of the next page
+ */
+public record AccountActivityPage(List<AccountActivity> items, boolean hasMore) {
+
+    /**
+     * @return the last entry of the page if more entries follow, otherwise null
+     */
+    public AccountActivity nextCursor() {
+        return hasMore && !items.isEmpty() ? items.get(items.size() - 1) : null;
+    }
+}
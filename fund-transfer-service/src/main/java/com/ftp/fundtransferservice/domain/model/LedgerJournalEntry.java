@@ -0,0 +1,26 @@
+package com.ftp.fundtransferservice.domain.model;
+
+import com.ftp.fundtransferservice.shared.constants.Currency;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One transfer applied by the in-memory ledger, as written to its journal.
+ *
+ * @param sequence     position of the transfer in the ledger, starting at 1 and increasing without gaps
+ * @param transferId   the id of the transfer
+ * @param senderId     the debited account
+ * @param receiverId   the credited account
+ * @param amountCents  the amount in cents
+ * @param currency     the currency of the transfer
+ * @param createdAt    when the ledger applied the transfer
+ */
+public record LedgerJournalEntry(long sequence,
+                                 UUID transferId,
+                                 UUID senderId,
+                                 UUID receiverId,
+                                 long amountCents,
+                                 Currency currency,
+                                 LocalDateTime createdAt) {
+}
@@ -0,0 +1,22 @@
+package com.ftp.fundtransferservice.domain.model;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Changes of the in-memory ledger to store in the database in one transaction.
+ *
+ * @param sequence   the last journal sequence the snapshot covers
+ * @param balances   the current balance of every account changed since the previous snapshot
+ * @param transfers  the transfers applied since the previous snapshot, in ledger order
+ */
+public record LedgerSnapshot(long sequence,
+                             Map<UUID, BigDecimal> balances,
+                             List<Transfer> transfers) {
+
+    public boolean isEmpty() {
+        return balances.isEmpty() && transfers.isEmpty();
+    }
+}
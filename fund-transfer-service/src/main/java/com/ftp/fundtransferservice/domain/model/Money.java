@@ -0,0 +1,126 @@
+package com.ftp.fundtransferservice.domain.model;
+
+import com.ftp.fundtransferservice.shared.constants.Currency;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * An amount of money: a whole number of minor units (e.g. cents) of one currency.
+ * <p>
+ * Arithmetic works on the long amount and allocates nothing but the result, while {@link BigDecimal}
+ * allocates on nearly every operation. Sums are overflow-checked, and amounts of different currencies
+ * are never mixed. Conversion from and to BigDecimal happens at the edges only: JSON requests and
+ * responses, and the NUMERIC database columns.
+ */
+public final class Money implements Comparable<Money> {
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = Objects.requireNonNull(currency, "currency");
+    }
+
+    /**
+     * @param minorUnits the amount in minor units of the currency, e.g. 1050 for 10.50 USD
+     */
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, currency);
+    }
+
+    /**
+     * Converts a decimal amount, e.g. from a request or a NUMERIC column.
+     *
+     * @throws ArithmeticException if the amount has more decimals than the currency or does not fit into a long
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        long minorUnits = amount.setScale(currency.getFractionDigits(), RoundingMode.UNNECESSARY)
+                .unscaledValue()
+                .longValueExact();
+        return new Money(minorUnits, currency);
+    }
+
+    public static Money zero(Currency currency) {
+        return new Money(0, currency);
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    /**
+     * @throws ArithmeticException if the sum overflows
+     * @throws IllegalArgumentException if the currencies differ
+     */
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * @throws ArithmeticException if the difference overflows
+     * @throws IllegalArgumentException if the currencies differ
+     */
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    /**
+     * @throws IllegalArgumentException if the currencies differ
+     */
+    public boolean isLessThan(Money other) {
+        return compareTo(other) < 0;
+    }
+
+    public boolean isNegative() {
+        return minorUnits < 0;
+    }
+
+    /**
+     * @return the amount as a decimal with the scale of the currency
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getFractionDigits());
+    }
+
+    /**
+     * @throws IllegalArgumentException if the currencies differ
+     */
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (currency != other.currency) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency + " and " + other.currency);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Money other && minorUnits == other.minorUnits && currency == other.currency;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(minorUnits) + currency.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString() + " " + currency;
+    }
+}
@@ -0,0 +1,115 @@
+package com.ftp.fundtransferservice.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.UUID;
+
+/**
+ * The Statement class is the summary of one account for one calendar month:
+ * opening and closing balance plus the totals of the money sent and received.
+ * The line items are the account's {@link AccountActivity} entries of the month, up to the statement's cursor.
+ */
+public class Statement {
+
+    // The account this statement belongs to
+    private final UUID accountId;
+
+    // The calendar month covered
+    private final YearMonth period;
+
+    // The balance at the start of the month
+    private final BigDecimal openingBalance;
+
+    // The balance after the last folded entry of the month
+    private final BigDecimal closingBalance;
+
+    // Sum and number of the DEBIT entries
+    private final BigDecimal totalDebits;
+    private final int debitCount;
+
+    // Sum and number of the CREDIT entries
+    private final BigDecimal totalCredits;
+    private final int creditCount;
+
+    // The last entry (createdAt, transferId) included, or null when nothing of the account has been folded yet
+    private final LocalDateTime asOfCreatedAt;
+    private final UUID asOfTransferId;
+
+    public Statement(UUID accountId,
+                     YearMonth period,
+                     BigDecimal openingBalance,
+                     BigDecimal closingBalance,
+                     BigDecimal totalDebits,
+                     int debitCount,
+                     BigDecimal totalCredits,
+                     int creditCount,
+                     LocalDateTime asOfCreatedAt,
+                     UUID asOfTransferId) {
+        this.accountId = accountId;
+        this.period = period;
+        this.openingBalance = openingBalance;
+        this.closingBalance = closingBalance;
+        this.totalDebits = totalDebits;
+        this.debitCount = debitCount;
+        this.totalCredits = totalCredits;
+        this.creditCount = creditCount;
+        this.asOfCreatedAt = asOfCreatedAt;
+        this.asOfTransferId = asOfTransferId;
+    }
+
+    /**
+     * A statement without entries, for a month in which the account had no transfers.
+     */
+    public static Statement empty(UUID accountId, YearMonth period, BigDecimal balance) {
+        return new Statement(accountId, period, balance, balance, BigDecimal.ZERO, 0, BigDecimal.ZERO, 0, null, null);
+    }
+
+    /**
+     * Returns the same figures with the given cursor as the point in time they are valid for.
+     */
+    public Statement asOf(LocalDateTime createdAt, UUID transferId) {
+        return new Statement(accountId, period, openingBalance, closingBalance, totalDebits, debitCount,
+                totalCredits, creditCount, createdAt, transferId);
+    }
+
+    public UUID getAccountId() {
+        return accountId;
+    }
+
+    public YearMonth getPeriod() {
+        return period;
+    }
+
+    public BigDecimal getOpeningBalance() {
+        return openingBalance;
+    }
+
+    public BigDecimal getClosingBalance() {
+        return closingBalance;
+    }
+
+    public BigDecimal getTotalDebits() {
+        return totalDebits;
+    }
+
+    public int getDebitCount() {
+        return debitCount;
+    }
+
+    public BigDecimal getTotalCredits() {
+        return totalCredits;
+    }
+
+    public int getCreditCount() {
+        return creditCount;
+    }
+
+    public LocalDateTime getAsOfCreatedAt() {
+        return asOfCreatedAt;
+    }
+
+    public UUID getAsOfTransferId() {
+        return asOfTransferId;
+    }
+}
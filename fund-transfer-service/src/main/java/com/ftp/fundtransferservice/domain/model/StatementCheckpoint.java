@@ -0,0 +1,19 @@
+package com.ftp.fundtransferservice.domain.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Progress of the statement generation for one account.
+ *
+ * @param accountId       the account
+ * @param baseBalance     the balance of the account before its first transfer
+ * @param lastCreatedAt   createdAt of the last account_activity entry folded into the statements, or null
+ * @param lastTransferId  transferId of the last account_activity entry folded into the statements, or null
+ */
+public record StatementCheckpoint(UUID accountId,
+                                  BigDecimal baseBalance,
+                                  LocalDateTime lastCreatedAt,
+                                  UUID lastTransferId) {
+}
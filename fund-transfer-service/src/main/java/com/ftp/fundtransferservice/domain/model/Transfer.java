@@ -22,11 +22,8 @@ public class Transfer {
     // The unique identifier for the receiver's account
     private UUID receiverId;
 
-    // The amount of money being transferred
-    private BigDecimal amount;
-
-    // The currency of the transfer (e.g., USD, EUR, etc.)
-    private Currency currency; // ✅ enum not String to ensure valid currencies
+    // The amount of money being transferred, including its currency (e.g., USD, EUR, etc.)
+    private Money amount;
 
     // The current status of the transfer (e.g., PENDING, COMPLETED)
     private TransferStatus status;
@@ -41,8 +38,7 @@ public class Transfer {
      * @param id the unique identifier for the transfer
      * @param senderId the UUID of the sender's account
      * @param receiverId the UUID of the receiver's account
-     * @param amount the amount of money being transferred
-     * @param currency the currency of the transfer
+     * @param amount the amount of money being transferred, in the currency of the transfer
      * @param status the current status of the transfer
      * @param createdAt the timestamp when the transfer was created
      * @throws IllegalArgumentException if the amount is negative
@@ -50,22 +46,36 @@ public class Transfer {
     public Transfer(UUID id,
                     UUID senderId,
                     UUID receiverId,
-                    BigDecimal amount,
-                    Currency currency,
+                    Money amount,
                     TransferStatus status,
                     LocalDateTime createdAt) {
-        if (amount.compareTo(BigDecimal.ZERO) < 0) {
+        if (amount.isNegative()) {
             throw new IllegalArgumentException("Amount cannot be negative");
         }
         this.id = id;
         this.senderId = senderId;
         this.receiverId = receiverId;
         this.amount = amount;
-        this.currency = currency;
         this.status = status;
         this.createdAt = createdAt;
     }
 
+    /**
+     * Constructor taking a decimal amount, for callers at the edges (requests, NUMERIC columns).
+     *
+     * @throws ArithmeticException if the amount has more decimals than the currency
+     * @see #Transfer(UUID, UUID, UUID, Money, TransferStatus, LocalDateTime)
+     */
+    public Transfer(UUID id,
+                    UUID senderId,
+                    UUID receiverId,
+                    BigDecimal amount,
+                    Currency currency,
+                    TransferStatus status,
+                    LocalDateTime createdAt) {
+        this(id, senderId, receiverId, Money.of(amount, currency), status, createdAt);
+    }
+
     /**
      * Gets the unique identifier of the transfer.
      *
@@ -98,7 +108,7 @@ public class Transfer {
      *
      * @return the amount of the transfer
      */
-    public BigDecimal getAmount() {
+    public Money getAmount() {
         return amount;
     }
 
@@ -108,7 +118,7 @@ public class Transfer {
      * @return the currency of the transfer
      */
     public Currency getCurrency() {
-        return currency;
+        return amount.getCurrency();
     }
 
     /**
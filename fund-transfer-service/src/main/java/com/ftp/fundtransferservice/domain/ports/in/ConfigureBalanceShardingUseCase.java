@@ -0,0 +1,20 @@
+package com.ftp.fundtransferservice.domain.ports.in;
+
+import com.ftp.fundtransferservice.domain.model.Account;
+
+import java.util.UUID;
+
+/**
+ * ConfigureBalanceShardingUseCase defines the contract for spreading a hot account's balance across sub-balances.
+ */
+public interface ConfigureBalanceShardingUseCase {
+
+    /**
+     * Sets the number of sub-balances of the account. The balance is preserved; 1 turns sharding off.
+     *
+     * @param accountId  the account
+     * @param shardCount the number of sub-balances
+     * @return the reconfigured account
+     */
+    Account configureSharding(UUID accountId, int shardCount);
+}
@@ -1,7 +1,9 @@
 package com.ftp.fundtransferservice.domain.ports.in;
 
+import com.ftp.fundtransferservice.domain.model.Money;
 import com.ftp.fundtransferservice.domain.model.Transfer;
 import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.exception.InvalidTransferAmountException;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -13,14 +15,34 @@ import java.util.UUID;
 public interface CreateTransferUseCase {
 
     /**
-     * Creates a new transfer from a sender to a receiver with the specified amount and currency.
+     * Creates a new transfer from a sender to a receiver with the specified amount.
      * The transfer is initiated based on the provided parameters.
      *
      * @param senderId the UUID of the sender's account
      * @param receiverId the UUID of the receiver's account
+     * @param amount the amount of money to be transferred, in the currency of the transfer (e.g., USD, EUR)
+     * @return the created Transfer entity
+     */
+    Transfer createTransfer(UUID senderId, UUID receiverId, Money amount);
+
+    /**
+     * Creates a new transfer from a decimal amount, as received in a request.
+     *
+     * @param senderId the UUID of the sender's account
+     * @param receiverId the UUID of the receiver's account
      * @param amount the amount of money to be transferred
      * @param currency the currency of the transfer (e.g., USD, EUR)
      * @return the created Transfer entity
+     * @throws InvalidTransferAmountException if the amount has more decimals than the currency
      */
-    Transfer createTransfer(UUID senderId, UUID receiverId, BigDecimal amount, Currency currency);
+    default Transfer createTransfer(UUID senderId, UUID receiverId, BigDecimal amount, Currency currency) {
+        Money money;
+        try {
+            money = Money.of(amount, currency);
+        } catch (ArithmeticException e) {
+            throw new InvalidTransferAmountException("Transfer amount must not have more than "
+                    + currency.getFractionDigits() + " decimal places");
+        }
+        return createTransfer(senderId, receiverId, money);
+    }
 }
@@ -0,0 +1,31 @@
+package com.ftp.fundtransferservice.domain.ports.in;
+
+import com.ftp.fundtransferservice.domain.model.AccountActivity;
+import com.ftp.fundtransferservice.domain.model.Statement;
+
+import java.time.YearMonth;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * GetAccountStatementUseCase defines the contract for reading the monthly statement of one account.
+ */
+public interface GetAccountStatementUseCase {
+
+    /**
+     * Brings the account's statements up to date and returns the one of the given month.
+     *
+     * @param accountId the account
+     * @param period    the calendar month, not in the future
+     * @return the statement's opening and closing balance and totals
+     */
+    Statement getStatement(UUID accountId, YearMonth period);
+
+    /**
+     * Passes the line items of a statement to the consumer, oldest first, without loading them all at once.
+     *
+     * @param statement a statement returned by {@link #getStatement(UUID, YearMonth)}
+     * @param consumer  receives every entry of the statement
+     */
+    void forEachLine(Statement statement, Consumer<AccountActivity> consumer);
+}
@@ -0,0 +1,24 @@
+package com.ftp.fundtransferservice.domain.ports.in;
+
+import com.ftp.fundtransferservice.domain.model.AccountActivityPage;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * GetAccountTransfersUseCase defines the contract for reading the transfer history of one account.
+ * The history is paged with a keyset cursor: the (createdAt, transferId) of the last entry of the previous page.
+ */
+public interface GetAccountTransfersUseCase {
+
+    /**
+     * Returns the transfers of the given account, newest first.
+     *
+     * @param accountId        the account whose history is read
+     * @param beforeCreatedAt  createdAt of the cursor entry, or null for the first page
+     * @param beforeTransferId transferId of the cursor entry, or null for the first page
+     * @param limit            the maximum number of entries
+     * @return the requested page
+     */
+    AccountActivityPage getAccountTransfers(UUID accountId, LocalDateTime beforeCreatedAt, UUID beforeTransferId, int limit);
+}
@@ -1,6 +1,7 @@
 package com.ftp.fundtransferservice.domain.ports.in;
 
 import com.ftp.fundtransferservice.domain.model.Transfer;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -16,4 +17,14 @@ public interface GetTransfersUseCase {
      * @return a list of all transfers in the system
      */
     List<Transfer> getTransfers();
+
+    /**
+     * Retrieves the transfers created in the half-open interval [from, to), newest first.
+     * Either bound may be null; when both are null all transfers are returned.
+     *
+     * @param from inclusive lower bound of the creation time, or null
+     * @param to   exclusive upper bound of the creation time, or null
+     * @return the matching transfers
+     */
+    List<Transfer> getTransfers(LocalDateTime from, LocalDateTime to);
 }
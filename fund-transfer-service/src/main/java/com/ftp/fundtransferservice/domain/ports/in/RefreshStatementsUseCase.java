@@ -0,0 +1,17 @@
+package com.ftp.fundtransferservice.domain.ports.in;
+
+import java.util.UUID;
+
+/**
+ * RefreshStatementsUseCase defines the contract for folding new account activity into the materialized statements.
+ */
+public interface RefreshStatementsUseCase {
+
+    /**
+     * Folds the account's activity recorded since its checkpoint into its statements and advances the checkpoint.
+     *
+     * @param accountId the account
+     * @return the number of entries folded
+     */
+    int refreshStatements(UUID accountId);
+}
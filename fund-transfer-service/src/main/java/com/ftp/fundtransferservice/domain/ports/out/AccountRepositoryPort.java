@@ -44,4 +44,11 @@ public interface AccountRepositoryPort {
      * @return a list of all Account entities
      */
     List<Account> findAll();
+
+    /**
+     * Retrieves the IDs of all accounts, in ascending order.
+     *
+     * @return the IDs of all accounts
+     */
+    List<UUID> findAllIds();
 }
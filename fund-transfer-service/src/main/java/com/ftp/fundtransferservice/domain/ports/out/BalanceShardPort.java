@@ -0,0 +1,46 @@
+package com.ftp.fundtransferservice.domain.ports.out;
+
+import com.ftp.fundtransferservice.domain.model.Money;
+
+import java.util.UUID;
+
+/**
+ * BalanceShardPort defines the contract for changing the balance of a sharded account.
+ * <p>
+ * The balance of a sharded account is its main balance plus the sum of its sub-balances. Credits only touch
+ * one randomly chosen sub-balance, so concurrent credits to the same account rarely wait for each other.
+ */
+public interface BalanceShardPort {
+
+    /**
+     * Adds the amount to one randomly chosen sub-balance with a single atomic update.
+     * If the sub-balance no longer exists (the account was re-sharded meanwhile), the main balance is credited.
+     *
+     * @param accountId  the account
+     * @param shardCount the account's number of sub-balances
+     * @param amount     the positive amount
+     */
+    void credit(UUID accountId, int shardCount, Money amount);
+
+    /**
+     * Withdraws the amount from one randomly chosen sub-balance if it holds enough, otherwise from the main
+     * balance, consolidating all sub-balances into it first if needed.
+     * The caller must hold the lock on the account row.
+     *
+     * @param accountId  the account
+     * @param shardCount the account's number of sub-balances
+     * @param amount     the positive amount
+     * @return false if the whole balance is lower than the amount; nothing is withdrawn then
+     */
+    boolean debit(UUID accountId, int shardCount, Money amount);
+
+    /**
+     * Moves all sub-balances into the main balance and replaces them with the given number of empty ones;
+     * a shard count of 1 turns the account back into a regular account.
+     * The caller must hold the lock on the account row.
+     *
+     * @param accountId  the account
+     * @param shardCount the new number of sub-balances
+     */
+    void reshard(UUID accountId, int shardCount);
+}
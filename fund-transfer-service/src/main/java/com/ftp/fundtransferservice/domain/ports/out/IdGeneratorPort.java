@@ -0,0 +1,19 @@
+package com.ftp.fundtransferservice.domain.ports.out;
+
+import java.util.UUID;
+
+/**
+ * IdGeneratorPort defines the contract for generating identifiers of new domain objects
+ * (transfers, accounts). Implementations are selected through configuration so the ID
+ * scheme can be switched without touching the services that use it.
+ */
+@FunctionalInterface
+public interface IdGeneratorPort {
+
+    /**
+     * Generates a new unique identifier.
+     *
+     * @return a new, never before returned UUID
+     */
+    UUID nextId();
+}
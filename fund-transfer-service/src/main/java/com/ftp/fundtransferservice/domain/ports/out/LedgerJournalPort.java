@@ -0,0 +1,44 @@
+package com.ftp.fundtransferservice.domain.ports.out;
+
+import com.ftp.fundtransferservice.domain.model.LedgerJournalEntry;
+
+import java.util.function.Consumer;
+
+/**
+ * LedgerJournalPort defines the contract for the write-ahead journal of the in-memory ledger.
+ * <p>
+ * Entries are appended by a single writer; an entry is durable only after the next {@link #force()}.
+ */
+public interface LedgerJournalPort {
+
+    /**
+     * Whether one more entry fits into the journal.
+     */
+    boolean hasCapacity();
+
+    /**
+     * Appends the entry after the previous one.
+     *
+     * @param entry the entry, with a sequence higher than the previous one
+     * @throws IllegalStateException if the journal is full
+     */
+    void append(LedgerJournalEntry entry);
+
+    /**
+     * Writes all entries appended since the last call to the storage device.
+     */
+    void force();
+
+    /**
+     * Passes every intact entry, in journal order, to the consumer. Reading stops at the first torn or
+     * missing entry, so an entry only partly written before a crash is never replayed.
+     *
+     * @param consumer receives the entries
+     */
+    void replay(Consumer<LedgerJournalEntry> consumer);
+
+    /**
+     * Discards all entries. Only call once every entry is covered by a stored snapshot.
+     */
+    void reset();
+}
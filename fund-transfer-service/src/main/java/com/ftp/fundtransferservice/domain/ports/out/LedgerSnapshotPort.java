@@ -0,0 +1,25 @@
+package com.ftp.fundtransferservice.domain.ports.out;
+
+import com.ftp.fundtransferservice.domain.model.LedgerSnapshot;
+
+/**
+ * LedgerSnapshotPort defines the contract for storing the state of the in-memory ledger in the
+ * accounts and transfers tables.
+ */
+public interface LedgerSnapshotPort {
+
+    /**
+     * Loads the last journal sequence covered by a stored snapshot.
+     *
+     * @return the sequence, or 0 if no snapshot was stored yet
+     */
+    long loadLastSequence();
+
+    /**
+     * Stores the balances and transfers of the snapshot and advances the stored sequence, all in one
+     * transaction: either the whole snapshot is stored or nothing.
+     *
+     * @param snapshot the snapshot to store
+     */
+    void saveSnapshot(LedgerSnapshot snapshot);
+}
@@ -0,0 +1,54 @@
+package com.ftp.fundtransferservice.domain.ports.out;
+
+import com.ftp.fundtransferservice.domain.model.AccountActivity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * LoadAccountActivityPort defines the contract for reading the account_activity read model.
+ */
+public interface LoadAccountActivityPort {
+
+    /**
+     * Loads entries of one account ordered by (createdAt, transferId) descending, starting strictly
+     * after the given cursor.
+     *
+     * @param accountId        the account
+     * @param beforeCreatedAt  createdAt of the cursor, or null to start at the newest entry
+     * @param beforeTransferId transferId of the cursor, or null to start at the newest entry
+     * @param limit            the maximum number of entries
+     * @return the entries, newest first
+     */
+    List<AccountActivity> loadActivity(UUID accountId, LocalDateTime beforeCreatedAt, UUID beforeTransferId, int limit);
+
+    /**
+     * Loads entries of one account ordered by (createdAt, transferId) ascending, starting strictly after
+     * the given cursor and ending before the given time.
+     *
+     * @param accountId       the account
+     * @param afterCreatedAt  createdAt of the cursor, or null to start at the oldest entry
+     * @param afterTransferId transferId of the cursor, or null to start at the oldest entry
+     * @param createdBefore   exclusive upper bound of createdAt
+     * @param limit           the maximum number of entries
+     * @return the entries, oldest first
+     */
+    List<AccountActivity> loadActivityAfter(UUID accountId, LocalDateTime afterCreatedAt, UUID afterTransferId,
+                                            LocalDateTime createdBefore, int limit);
+
+    /**
+     * Streams the entries of one account created in [from, to), up to and including the given cursor,
+     * oldest first. Must run inside a transaction; entries are not kept in memory after the consumer returns.
+     *
+     * @param accountId       the account
+     * @param from            inclusive lower bound of createdAt
+     * @param to              exclusive upper bound of createdAt
+     * @param untilCreatedAt  createdAt of the last entry to include
+     * @param untilTransferId transferId of the last entry to include
+     * @param consumer        receives every entry
+     */
+    void forEachActivity(UUID accountId, LocalDateTime from, LocalDateTime to,
+                         LocalDateTime untilCreatedAt, UUID untilTransferId, Consumer<AccountActivity> consumer);
+}
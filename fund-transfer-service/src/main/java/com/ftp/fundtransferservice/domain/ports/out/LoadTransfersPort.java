@@ -1,6 +1,7 @@
 package com.ftp.fundtransferservice.domain.ports.out;
 
 import com.ftp.fundtransferservice.domain.model.Transfer;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -16,4 +17,15 @@ public interface LoadTransfersPort {
      * @return a list of all Transfer entities
      */
     List<Transfer> loadAll();
+
+    /**
+     * Loads the transfers created in the half-open interval [from, to), newest first.
+     * Either bound may be null, meaning the interval is open on that side.
+     * Bounded queries let the database skip time partitions outside the interval.
+     *
+     * @param from inclusive lower bound of the creation time, or null
+     * @param to   exclusive upper bound of the creation time, or null
+     * @return the matching transfers
+     */
+    List<Transfer> loadCreatedBetween(LocalDateTime from, LocalDateTime to);
 }
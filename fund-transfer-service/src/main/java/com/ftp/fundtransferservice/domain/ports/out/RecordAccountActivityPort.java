@@ -0,0 +1,35 @@
+package com.ftp.fundtransferservice.domain.ports.out;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * RecordAccountActivityPort defines the contract for maintaining the account_activity read model
+ * from committed transfers. Both operations are idempotent.
+ */
+public interface RecordAccountActivityPort {
+
+    /**
+     * Adds the sender and receiver entries of one committed transfer, unless they already exist.
+     *
+     * @param transferId the transfer
+     * @param createdAt  the creation time of the transfer (narrows the lookup to its partition)
+     * @return the number of entries added
+     */
+    int recordTransfer(UUID transferId, LocalDateTime createdAt);
+
+    /**
+     * @return the creation time up to which the catch-up has projected every transfer, null before its first run
+     */
+    LocalDateTime loadHighWaterMark();
+
+    /**
+     * Adds the missing entries of all transfers created within the given window and moves the high-water mark
+     * to its end, in one transaction.
+     *
+     * @param from inclusive lower bound of the transfer creation time
+     * @param to   exclusive upper bound of the transfer creation time
+     * @return the number of entries added
+     */
+    int recordTransfersBetween(LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,56 @@
+package com.ftp.fundtransferservice.domain.ports.out;
+
+import com.ftp.fundtransferservice.domain.model.Statement;
+import com.ftp.fundtransferservice.domain.model.StatementCheckpoint;
+
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * StatementPort defines the contract for storing materialized account statements and their checkpoints.
+ */
+public interface StatementPort {
+
+    /**
+     * Creates the checkpoint of an account that has none yet. Its base balance is the current balance minus
+     * the net amount of all the account's account_activity entries and of its transfers not projected yet,
+     * read in one statement so all of them come from the same snapshot.
+     *
+     * @param accountId the account
+     * @return true if a checkpoint was created, false if it existed or the account does not exist
+     */
+    boolean createCheckpointIfAbsent(UUID accountId);
+
+    /**
+     * Loads the checkpoint and locks it until the end of the transaction, so only one run folds an account at a time.
+     *
+     * @param accountId the account
+     * @return the checkpoint, or null if there is none
+     */
+    StatementCheckpoint lockCheckpoint(UUID accountId);
+
+    /**
+     * Loads the checkpoint without locking it.
+     *
+     * @param accountId the account
+     * @return the checkpoint, or null if there is none
+     */
+    StatementCheckpoint findCheckpoint(UUID accountId);
+
+    void saveCheckpoint(StatementCheckpoint checkpoint);
+
+    /**
+     * Finds the stored statement of the latest month at or before the given one.
+     *
+     * @param accountId the account
+     * @param period    the upper bound (inclusive), or null for the latest statement
+     * @return the statement, or null if the account has none in that range
+     */
+    Statement findLatestStatement(UUID accountId, YearMonth period);
+
+    /**
+     * Inserts or replaces the given statements.
+     */
+    void saveStatements(Collection<Statement> statements);
+}
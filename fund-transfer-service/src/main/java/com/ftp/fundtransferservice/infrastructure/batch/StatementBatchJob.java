@@ -0,0 +1,94 @@
+package com.ftp.fundtransferservice.infrastructure.batch;
+
+import com.ftp.fundtransferservice.domain.ports.in.RefreshStatementsUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * StatementBatchJob refreshes the materialized statements of all accounts.
+ * <p>
+ * The sorted account IDs are split into contiguous partitions, one per worker thread; each worker refreshes
+ * its accounts one after the other. Accounts never share a partition, so workers never wait on each other's
+ * checkpoint locks, and a failing account is logged and skipped without stopping its partition.
+ * Since every account only folds the entries after its checkpoint, a run costs in proportion to the
+ * transfers made since the previous run.
+ */
+public class StatementBatchJob {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementBatchJob.class);
+
+    private final RefreshStatementsUseCase refreshStatementsUseCase;
+    private final AccountRepositoryPort accountRepositoryPort;
+    private final int parallelism;
+
+    public StatementBatchJob(RefreshStatementsUseCase refreshStatementsUseCase,
+                             AccountRepositoryPort accountRepositoryPort,
+                             int parallelism) {
+        this.refreshStatementsUseCase = refreshStatementsUseCase;
+        this.accountRepositoryPort = accountRepositoryPort;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Scheduled(cron = "${ftp.statements.cron:0 10 * * * *}")
+    public void run() {
+        List<UUID> accountIds = accountRepositoryPort.findAllIds();
+        if (accountIds.isEmpty()) {
+            return;
+        }
+        long started = System.nanoTime();
+        int partitions = Math.min(parallelism, accountIds.size());
+        int partitionSize = (accountIds.size() + partitions - 1) / partitions;
+        AtomicInteger folded = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(partitions,
+                task -> new Thread(task, "statement-batch-" + threadNumber.incrementAndGet()));
+        try {
+            List<Future<?>> results = new ArrayList<>(partitions);
+            for (int from = 0; from < accountIds.size(); from += partitionSize) {
+                List<UUID> partition = accountIds.subList(from, Math.min(from + partitionSize, accountIds.size()));
+                results.add(executor.submit(() -> refreshPartition(partition, folded, failed)));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Statement batch run interrupted");
+        } catch (ExecutionException e) {
+            log.error("Statement batch partition failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        log.info("Statement batch run folded {} entries of {} accounts in {} partitions in {} ms ({} failed)",
+                folded.get(), accountIds.size(), partitions, (System.nanoTime() - started) / 1_000_000, failed.get());
+    }
+
+    private void refreshPartition(List<UUID> accountIds, AtomicInteger folded, AtomicInteger failed) {
+        for (UUID accountId : accountIds) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            try {
+                folded.addAndGet(refreshStatementsUseCase.refreshStatements(accountId));
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                log.warn("Refreshing the statements of account {} failed, retrying on the next run: {}",
+                        accountId, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.ftp.fundtransferservice.infrastructure.db.entities;
+
+import com.ftp.fundtransferservice.shared.constants.ActivityDirection;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.constants.TransferStatus;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * AccountActivityEntity is one row of the "account_activity" read model.
+ * Rows are inserted with SQL by the projection (see SpringDataAccountActivityRepository) and never
+ * changed through JPA, so the entity is immutable and only used for reading.
+ */
+@Entity
+@Immutable
+@IdClass(AccountActivityId.class)
+@Table(name = "account_activity")
+public class AccountActivityEntity {
+
+    @Id
+    private UUID accountId; // The account this row belongs to
+
+    @Id
+    private LocalDateTime createdAt; // Creation time of the transfer
+
+    @Id
+    private UUID transferId; // The transfer this row was derived from
+
+    @Column(nullable = false)
+    private UUID counterpartyId; // The other account of the transfer
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ActivityDirection direction; // DEBIT for the sender, CREDIT for the receiver
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Currency currency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransferStatus status;
+
+    // Default constructor required by JPA
+    protected AccountActivityEntity() {
+    }
+
+    public UUID getAccountId() { return accountId; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public UUID getTransferId() { return transferId; }
+
+    public UUID getCounterpartyId() { return counterpartyId; }
+
+    public ActivityDirection getDirection() { return direction; }
+
+    public BigDecimal getAmount() { return amount; }
+
+    public Currency getCurrency() { return currency; }
+
+    public TransferStatus getStatus() { return status; }
+}
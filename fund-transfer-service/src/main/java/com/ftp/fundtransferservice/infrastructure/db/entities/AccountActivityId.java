@@ -0,0 +1,44 @@
+package com.ftp.fundtransferservice.infrastructure.db.entities;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite primary key of {@link AccountActivityEntity}: (accountId, createdAt, transferId).
+ */
+public class AccountActivityId implements Serializable {
+
+    private UUID accountId;
+    private LocalDateTime createdAt;
+    private UUID transferId;
+
+    // Default constructor required by JPA
+    public AccountActivityId() {
+    }
+
+    public AccountActivityId(UUID accountId, LocalDateTime createdAt, UUID transferId) {
+        this.accountId = accountId;
+        this.createdAt = createdAt;
+        this.transferId = transferId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AccountActivityId other)) {
+            return false;
+        }
+        return Objects.equals(accountId, other.accountId)
+                && Objects.equals(createdAt, other.createdAt)
+                && Objects.equals(transferId, other.transferId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, createdAt, transferId);
+    }
+}
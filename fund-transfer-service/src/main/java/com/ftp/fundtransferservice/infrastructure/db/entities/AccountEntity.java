@@ -1,40 +1,73 @@
 package com.ftp.fundtransferservice.infrastructure.db.entities;
 
+import com.ftp.fundtransferservice.shared.constants.Currency;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
+
 import java.math.BigDecimal;
 import java.util.UUID;
 
 /**
  * AccountEntity represents an account record in the database.
  * This entity is mapped to the "accounts" table and is used by JPA for persistence.
+ *
+ * IDs are assigned by the application rather than generated by Hibernate. The entity implements
+ * {@link Persistable} so Spring Data can tell a new account (plain INSERT) from an existing one
+ * (merge) without issuing a SELECT before every insert.
  */
 @Entity
 @Table(name = "accounts")
-public class AccountEntity {
+public class AccountEntity implements Persistable<UUID> {
 
     @Id
-    @GeneratedValue
     @Column(columnDefinition = "uuid", updatable = false, nullable = false)
     private UUID id;
 
+    @Transient
+    private boolean isNew = true; // True until the entity has been persisted or loaded
+
     @Column(nullable = false)
     private UUID userId; // The UUID of the user who owns the account
 
     @Column(nullable = false)
-    private BigDecimal balance; // The current balance in the account
+    private BigDecimal balance; // The current balance in the account (main balance of a sharded account)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 3)
+    private Currency currency = Currency.USD; // Currency of the balance and of all transfers of the account
+
+    // Maintained with SQL only (see ShardedBalanceAdapter), so saving an account never resets it
+    @Column(nullable = false, insertable = false, updatable = false)
+    private int shardCount = 1; // Number of sub-balances, 1 for a regular account
 
     // Getters and Setters
 
+    @Override
     public UUID getId() { return id; }
 
+    @Override
+    public boolean isNew() { return isNew; }
+
+    /**
+     * Marks an entity built from an existing domain object as already persisted,
+     * so saving it results in an UPDATE instead of an INSERT.
+     */
+    public void markNotNew() { this.isNew = false; }
+
     public UUID getUserId() { return userId; }
 
     public BigDecimal getBalance() { return balance; }
 
+    public Currency getCurrency() { return currency; }
+
+    public int getShardCount() { return shardCount; }
+
     public void setId(UUID id) { this.id = id; }
 
     public void setUserId(UUID userId) { this.userId = userId; }
 
+    public void setCurrency(Currency currency) { this.currency = currency; }
+
     public void setBalance(BigDecimal balance) {
         if (balance.compareTo(BigDecimal.ZERO) < 0) {
             throw new IllegalArgumentException("Balance cannot be negative");
@@ -42,6 +75,21 @@ public class AccountEntity {
         this.balance = balance;
     }
 
+    // IDs come from IdGeneratorPort; refuse to persist without one
+    @PrePersist
+    void requireId() {
+        if (id == null) {
+            throw new IllegalStateException("Account ID must be assigned through IdGeneratorPort before persisting");
+        }
+    }
+
+    // Loaded or persisted entities are no longer new
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.isNew = false;
+    }
+
     // Default constructor required by JPA
     public AccountEntity() {
         // Required by JPA
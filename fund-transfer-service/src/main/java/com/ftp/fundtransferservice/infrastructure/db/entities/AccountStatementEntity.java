@@ -0,0 +1,81 @@
+package com.ftp.fundtransferservice.infrastructure.db.entities;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * AccountStatementEntity is one materialized monthly statement, mapped to the "account_statements" table.
+ * Only months with at least one entry are stored; the period is kept as "yyyy-MM", which sorts chronologically.
+ */
+@Entity
+@IdClass(AccountStatementId.class)
+@Table(name = "account_statements")
+public class AccountStatementEntity {
+
+    @Id
+    private UUID accountId;
+
+    @Id
+    @Column(length = 7)
+    private String period; // The calendar month, e.g. "2025-07"
+
+    @Column(nullable = false)
+    private BigDecimal openingBalance;
+
+    @Column(nullable = false)
+    private BigDecimal closingBalance;
+
+    @Column(nullable = false)
+    private BigDecimal totalDebits;
+
+    @Column(nullable = false)
+    private BigDecimal totalCredits;
+
+    @Column(nullable = false)
+    private int debitCount;
+
+    @Column(nullable = false)
+    private int creditCount;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt; // Time of the run that last changed the statement
+
+    // Default constructor required by JPA
+    protected AccountStatementEntity() {
+    }
+
+    public AccountStatementEntity(UUID accountId, String period, BigDecimal openingBalance, BigDecimal closingBalance,
+                                  BigDecimal totalDebits, BigDecimal totalCredits, int debitCount, int creditCount,
+                                  LocalDateTime updatedAt) {
+        this.accountId = accountId;
+        this.period = period;
+        this.openingBalance = openingBalance;
+        this.closingBalance = closingBalance;
+        this.totalDebits = totalDebits;
+        this.totalCredits = totalCredits;
+        this.debitCount = debitCount;
+        this.creditCount = creditCount;
+        this.updatedAt = updatedAt;
+    }
+
+    public UUID getAccountId() { return accountId; }
+
+    public String getPeriod() { return period; }
+
+    public BigDecimal getOpeningBalance() { return openingBalance; }
+
+    public BigDecimal getClosingBalance() { return closingBalance; }
+
+    public BigDecimal getTotalDebits() { return totalDebits; }
+
+    public BigDecimal getTotalCredits() { return totalCredits; }
+
+    public int getDebitCount() { return debitCount; }
+
+    public int getCreditCount() { return creditCount; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
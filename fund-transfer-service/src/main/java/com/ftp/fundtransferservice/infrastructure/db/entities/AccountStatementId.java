@@ -0,0 +1,35 @@
+package com.ftp.fundtransferservice.infrastructure.db.entities;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite primary key of {@link AccountStatementEntity}: (account_id, period).
+ */
+public class AccountStatementId implements Serializable {
+
+    private UUID accountId;
+    private String period;
+
+    // Default constructor required by JPA
+    public AccountStatementId() {
+    }
+
+    public AccountStatementId(UUID accountId, String period) {
+        this.accountId = accountId;
+        this.period = period;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AccountStatementId that)) return false;
+        return Objects.equals(accountId, that.accountId) && Objects.equals(period, that.period);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, period);
+    }
+}
@@ -0,0 +1,42 @@
+package com.ftp.fundtransferservice.infrastructure.db.entities;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * AccountSubBalanceEntity is one sub-balance of a sharded account, mapped to the "account_sub_balances" table.
+ * Credits and debits change the amount with single SQL updates (see SpringDataAccountSubBalanceRepository);
+ * the entity is only loaded to lock all sub-balances of an account while they are consolidated.
+ */
+@Entity
+@IdClass(AccountSubBalanceId.class)
+@Table(name = "account_sub_balances")
+public class AccountSubBalanceEntity {
+
+    @Id
+    private UUID accountId;
+
+    @Id
+    private int shard; // 0 .. shard_count - 1
+
+    @Column(nullable = false)
+    private BigDecimal amount;
+
+    // Default constructor required by JPA
+    protected AccountSubBalanceEntity() {
+    }
+
+    public AccountSubBalanceEntity(UUID accountId, int shard, BigDecimal amount) {
+        this.accountId = accountId;
+        this.shard = shard;
+        this.amount = amount;
+    }
+
+    public UUID getAccountId() { return accountId; }
+
+    public int getShard() { return shard; }
+
+    public BigDecimal getAmount() { return amount; }
+}
@@ -0,0 +1,35 @@
+package com.ftp.fundtransferservice.infrastructure.db.entities;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Composite primary key of {@link AccountSubBalanceEntity}: (account_id, shard).
+ */
+public class AccountSubBalanceId implements Serializable {
+
+    private UUID accountId;
+    private int shard;
+
+    // Default constructor required by JPA
+    public AccountSubBalanceId() {
+    }
+
+    public AccountSubBalanceId(UUID accountId, int shard) {
+        this.accountId = accountId;
+        this.shard = shard;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AccountSubBalanceId that)) return false;
+        return shard == that.shard && Objects.equals(accountId, that.accountId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, shard);
+    }
+}
@@ -0,0 +1,47 @@
+package com.ftp.fundtransferservice.infrastructure.db.entities;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * LedgerCheckpointEntity is the progress of the in-memory ledger's snapshots, mapped to the
+ * "ledger_checkpoints" table. Advanced in the same transaction as the snapshot it describes.
+ */
+@Entity
+@Table(name = "ledger_checkpoints")
+public class LedgerCheckpointEntity {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private long lastSequence; // Last journal sequence stored in accounts / transfers
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Default constructor required by JPA
+    protected LedgerCheckpointEntity() {
+    }
+
+    public LedgerCheckpointEntity(String name, long lastSequence, LocalDateTime updatedAt) {
+        this.name = name;
+        this.lastSequence = lastSequence;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getName() { return name; }
+
+    public long getLastSequence() { return lastSequence; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    /**
+     * Moves the checkpoint to the last sequence of a stored snapshot.
+     */
+    public void advance(long lastSequence, LocalDateTime updatedAt) {
+        this.lastSequence = lastSequence;
+        this.updatedAt = updatedAt;
+    }
+}
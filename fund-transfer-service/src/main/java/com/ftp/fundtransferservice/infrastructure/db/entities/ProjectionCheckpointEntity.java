@@ -0,0 +1,49 @@
+package com.ftp.fundtransferservice.infrastructure.db.entities;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * ProjectionCheckpointEntity is the catch-up progress of one read model projection, mapped to the
+ * "projection_checkpoints" table. Advanced in the same transaction as the rows it covers.
+ */
+@Entity
+@Table(name = "projection_checkpoints")
+public class ProjectionCheckpointEntity {
+
+    @Id
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime highWaterMark; // Transfers created before it have been projected
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Default constructor required by JPA
+    protected ProjectionCheckpointEntity() {
+    }
+
+    public ProjectionCheckpointEntity(String name, LocalDateTime highWaterMark, LocalDateTime updatedAt) {
+        this.name = name;
+        this.highWaterMark = highWaterMark;
+        this.updatedAt = updatedAt;
+    }
+
+    public String getName() { return name; }
+
+    public LocalDateTime getHighWaterMark() { return highWaterMark; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    /**
+     * Moves the high-water mark forward; a run that re-projected an older window leaves it where it is.
+     */
+    public void advance(LocalDateTime highWaterMark, LocalDateTime updatedAt) {
+        if (highWaterMark.isAfter(this.highWaterMark)) {
+            this.highWaterMark = highWaterMark;
+        }
+        this.updatedAt = updatedAt;
+    }
+}
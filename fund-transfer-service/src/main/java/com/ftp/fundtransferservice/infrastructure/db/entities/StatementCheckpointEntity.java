@@ -0,0 +1,53 @@
+package com.ftp.fundtransferservice.infrastructure.db.entities;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * StatementCheckpointEntity is the statement generation progress of one account, mapped to the
+ * "statement_checkpoints" table. Rows are created with SQL (see SpringDataStatementCheckpointRepository)
+ * and advanced through JPA after every folded batch.
+ */
+@Entity
+@Table(name = "statement_checkpoints")
+public class StatementCheckpointEntity {
+
+    @Id
+    private UUID accountId;
+
+    @Column(nullable = false)
+    private BigDecimal baseBalance; // Balance before the account's first transfer
+
+    private LocalDateTime lastCreatedAt; // Cursor of the last folded account_activity row, null before the first
+
+    private UUID lastTransferId;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Default constructor required by JPA
+    protected StatementCheckpointEntity() {
+    }
+
+    public UUID getAccountId() { return accountId; }
+
+    public BigDecimal getBaseBalance() { return baseBalance; }
+
+    public LocalDateTime getLastCreatedAt() { return lastCreatedAt; }
+
+    public UUID getLastTransferId() { return lastTransferId; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+
+    /**
+     * Moves the cursor to the last folded row.
+     */
+    public void advance(LocalDateTime lastCreatedAt, UUID lastTransferId, LocalDateTime updatedAt) {
+        this.lastCreatedAt = lastCreatedAt;
+        this.lastTransferId = lastTransferId;
+        this.updatedAt = updatedAt;
+    }
+}
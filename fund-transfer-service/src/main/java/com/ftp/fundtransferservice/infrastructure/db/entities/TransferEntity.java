@@ -3,6 +3,7 @@ package com.ftp.fundtransferservice.infrastructure.db.entities;
 import com.ftp.fundtransferservice.shared.constants.Currency;
 import com.ftp.fundtransferservice.shared.constants.TransferStatus;
 import jakarta.persistence.*;
+import org.springframework.data.domain.Persistable;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,15 +12,21 @@ import java.util.UUID;
 /**
  * TransferEntity represents a transfer record in the database.
  * This entity is mapped to the "transfers" table and is used by JPA for persistence.
+ *
+ * Transfers are insert-only and their IDs are assigned by the application, so the entity
+ * implements {@link Persistable} to make Spring Data persist (plain INSERT) instead of merge
+ * (SELECT + INSERT). This keeps the insert eligible for JDBC batching.
  */
 @Entity
 @Table(name = "transfers")
-public class TransferEntity {
+public class TransferEntity implements Persistable<UUID> {
 
     @Id
-    @GeneratedValue
     private UUID id; // The unique identifier for the transfer
 
+    @Transient
+    private boolean isNew = true; // True until the entity has been persisted or loaded
+
     @Column(nullable = false)
     private UUID senderId; // The ID of the sender's account
 
@@ -37,6 +44,7 @@ public class TransferEntity {
     @Column(nullable = false)
     private TransferStatus status; // The status of the transfer (e.g., completed, pending)
 
+    @Column(nullable = false)
     private LocalDateTime createdAt; // The timestamp of when the transfer was created
 
     // Default constructor required by JPA
@@ -59,8 +67,26 @@ public class TransferEntity {
         this.createdAt = createdAt;
     }
 
+    // IDs come from IdGeneratorPort; refuse to persist without one
+    @PrePersist
+    void requireId() {
+        if (id == null) {
+            throw new IllegalStateException("Transfer ID must be assigned through IdGeneratorPort before persisting");
+        }
+    }
+
+    // Loaded or persisted entities are no longer new
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.isNew = false;
+    }
+
     // Getters for all fields (no setters unless needed)
+    @Override
     public UUID getId() { return id; }
+    @Override
+    public boolean isNew() { return isNew; }
     public UUID getSenderId() { return senderId; }
     public UUID getReceiverId() { return receiverId; }
     public BigDecimal getAmount() { return amount; }
@@ -1,11 +1,15 @@
 package com.ftp.fundtransferservice.infrastructure.db.mappers;
 
 import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.model.Money;
 import com.ftp.fundtransferservice.infrastructure.db.entities.AccountEntity;
 
+import java.math.BigDecimal;
+
 /**
  * AccountMapper is responsible for mapping between domain model Account and database entity AccountEntity.
  * This class provides static methods to map Account to AccountEntity and vice versa.
+ * Balances are converted between {@link Money} and the NUMERIC column here.
  */
 public class AccountMapper {
 
@@ -23,7 +27,8 @@ public class AccountMapper {
         AccountEntity entity = new AccountEntity();
         entity.setId(acc.getId());
         entity.setUserId(acc.getUserId());
-        entity.setBalance(acc.getBalance());
+        entity.setBalance(acc.getBalance().toBigDecimal());
+        entity.setCurrency(acc.getCurrency());
         return entity;
     }
 
@@ -38,6 +43,23 @@ public class AccountMapper {
             throw new IllegalArgumentException("AccountEntity cannot be null");
         }
 
-        return new Account(entity.getId(), entity.getUserId(), entity.getBalance());
+        return new Account(entity.getId(), entity.getUserId(),
+                Money.of(entity.getBalance(), entity.getCurrency()), entity.getShardCount());
+    }
+
+    /**
+     * Converts the entity of a sharded account, adding the sum of its sub-balances to the main balance.
+     *
+     * @param entity      the AccountEntity object to convert
+     * @param subBalances the sum of the account's sub-balances
+     * @return the corresponding Account domain object with the aggregated balance
+     */
+    public static Account toDomain(AccountEntity entity, BigDecimal subBalances) {
+        if (entity == null) {
+            throw new IllegalArgumentException("AccountEntity cannot be null");
+        }
+
+        return new Account(entity.getId(), entity.getUserId(),
+                Money.of(entity.getBalance().add(subBalances), entity.getCurrency()), entity.getShardCount());
     }
 }
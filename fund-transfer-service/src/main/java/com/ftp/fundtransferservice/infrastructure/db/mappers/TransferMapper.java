@@ -1,5 +1,6 @@
 package com.ftp.fundtransferservice.infrastructure.db.mappers;
 
+import com.ftp.fundtransferservice.domain.model.Money;
 import com.ftp.fundtransferservice.domain.model.Transfer;
 import com.ftp.fundtransferservice.infrastructure.db.entities.TransferEntity;
 import org.springframework.stereotype.Component;
@@ -7,6 +8,7 @@ import org.springframework.stereotype.Component;
 /**
  * TransferMapper is responsible for mapping between domain model Transfer and database entity TransferEntity.
  * This class provides methods to map Transfer to TransferEntity and vice versa.
+ * Amounts are converted between {@link Money} and the NUMERIC column here.
  */
 @Component
 public class TransferMapper {
@@ -27,7 +29,7 @@ public class TransferMapper {
                 transfer.getId(),
                 transfer.getSenderId(),
                 transfer.getReceiverId(),
-                transfer.getAmount(),
+                transfer.getAmount().toBigDecimal(),
                 transfer.getCurrency(),
                 transfer.getStatus(),
                 transfer.getCreatedAt()
@@ -50,8 +52,7 @@ public class TransferMapper {
                 entity.getId(),
                 entity.getSenderId(),
                 entity.getReceiverId(),
-                entity.getAmount(),
-                entity.getCurrency(),
+                Money.of(entity.getAmount(), entity.getCurrency()),
                 entity.getStatus(),
                 entity.getCreatedAt()
         );
@@ -0,0 +1,295 @@
+package com.ftp.fundtransferservice.infrastructure.db.partitioning;
+
+import com.ftp.fundtransferservice.config.PartitioningProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * TransferPartitionMaintenanceJob keeps the monthly partitions of the transfers table in shape.
+ * <p>
+ * On startup and on every scheduled run it:
+ * <ol>
+ *   <li>Creates the partitions for the current month and the configured number of months ahead,
+ *       so inserts never fall into the DEFAULT partition. Rows that already landed in the DEFAULT
+ *       partition for a missing month (e.g. the job was down for months) are moved into the new
+ *       partition; a month that still cannot be created is logged and skipped, the others go on.</li>
+ *   <li>Detaches partitions older than the retention window, streams their rows into a
+ *       gzip-compressed CSV file in the archive directory and drops the detached table once the
+ *       file is safely on disk.</li>
+ * </ol>
+ * A partition that was detached but not yet archived (e.g. the export failed) is picked up again
+ * on the next run, so no data is dropped without a complete archive file.
+ * <p>
+ * Requires PostgreSQL declarative partitioning (see changeset 8-pg); enabled with
+ * <code>ftp.partitioning.enabled=true</code>.
+ */
+@Component
+@ConditionalOnProperty(prefix = "ftp.partitioning", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PartitioningProperties.class)
+public class TransferPartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferPartitionMaintenanceJob.class);
+
+    private static final String PARENT_TABLE = "transfers";
+    private static final String DEFAULT_PARTITION = "transfers_default";
+    private static final Pattern PARTITION_NAME = Pattern.compile("transfers_(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final int EXPORT_FETCH_SIZE = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PartitioningProperties properties;
+
+    public TransferPartitionMaintenanceJob(JdbcTemplate jdbcTemplate, PartitioningProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Makes sure partitions exist before the first transfer is accepted.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        createFuturePartitions(YearMonth.now());
+    }
+
+    /**
+     * Scheduled maintenance run: create upcoming partitions, then archive expired ones.
+     */
+    @Scheduled(cron = "${ftp.partitioning.cron:0 30 2 * * *}")
+    public void maintain() {
+        YearMonth now = YearMonth.now();
+        createFuturePartitions(now);
+        archiveExpiredPartitions(now);
+    }
+
+    /**
+     * Creates the partitions from the given month up to {@code monthsAhead} months later.
+     *
+     * @param from the first month that must have a partition
+     */
+    public void createFuturePartitions(YearMonth from) {
+        for (int i = 0; i <= properties.getMonthsAhead(); i++) {
+            YearMonth month = from.plusMonths(i);
+            try {
+                createPartition(month);
+            } catch (RuntimeException e) {
+                // Inserts for this month keep going to the DEFAULT partition; retried on the next run
+                log.error("Creating partition {} failed, it will be retried on the next run", partitionName(month), e);
+            }
+        }
+        log.debug("Ensured transfer partitions from {} to {}", from, from.plusMonths(properties.getMonthsAhead()));
+    }
+
+    private void createPartition(YearMonth month) {
+        String partition = partitionName(month);
+        if (Boolean.TRUE.equals(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, partition))) {
+            return;
+        }
+        // Identifiers and bounds are derived from YearMonth only, never from user input
+        String create = String.format("CREATE TABLE %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partition, PARENT_TABLE, month.atDay(1), month.plusMonths(1).atDay(1));
+        String inRange = String.format("created_at >= '%s' AND created_at < '%s'",
+                month.atDay(1), month.plusMonths(1).atDay(1));
+
+        // PostgreSQL refuses a new partition while DEFAULT holds rows of its range
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + DEFAULT_PARTITION + " WHERE " + inRange + ")", Boolean.class))) {
+            jdbcTemplate.execute(create);
+            return;
+        }
+        Long moved = jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                createFromDefault(connection, create, partition, inRange));
+        log.warn("Created partition {} and moved {} rows into it from {}", partition, moved, DEFAULT_PARTITION);
+    }
+
+    /**
+     * Detaches DEFAULT, creates the partition, moves the rows of its range out of DEFAULT and
+     * re-attaches it, in one transaction. The parent is locked for the duration of the move, which
+     * only covers the rows that should never have landed in DEFAULT.
+     */
+    private static long createFromDefault(Connection connection, String create, String partition, String inRange)
+            throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + DEFAULT_PARTITION);
+            statement.execute(create);
+            long moved = statement.executeUpdate("WITH moved AS (DELETE FROM " + DEFAULT_PARTITION
+                    + " WHERE " + inRange + " RETURNING *) INSERT INTO " + partition + " SELECT * FROM moved");
+            statement.execute("ALTER TABLE " + PARENT_TABLE + " ATTACH PARTITION " + DEFAULT_PARTITION + " DEFAULT");
+            connection.commit();
+            return moved;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    /**
+     * Archives every monthly partition older than the retention window.
+     *
+     * @param now the current month
+     */
+    public void archiveExpiredPartitions(YearMonth now) {
+        YearMonth oldestRetained = now.minusMonths(properties.getRetentionMonths());
+        Set<String> attached = Set.copyOf(jdbcTemplate.queryForList(
+                "SELECT c.relname FROM pg_inherits i " +
+                        "JOIN pg_class c ON c.oid = i.inhrelid " +
+                        "JOIN pg_class p ON p.oid = i.inhparent " +
+                        "WHERE p.relname = ?", String.class, PARENT_TABLE));
+        // Attached partitions plus tables left detached by an interrupted earlier run
+        List<String> candidates = jdbcTemplate.queryForList(
+                "SELECT tablename FROM pg_tables WHERE schemaname = current_schema() AND tablename LIKE 'transfers\\_%'",
+                String.class);
+
+        for (String table : candidates) {
+            Matcher matcher = PARTITION_NAME.matcher(table);
+            if (!matcher.matches()) {
+                continue;
+            }
+            YearMonth month = YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2)));
+            if (!month.isBefore(oldestRetained)) {
+                continue;
+            }
+            try {
+                archivePartition(table, attached.contains(table));
+            } catch (IOException | RuntimeException e) {
+                // Leave the (detached) table in place; it is retried on the next run
+                log.error("Archiving partition {} failed, it will be retried on the next run", table, e);
+            }
+        }
+    }
+
+    private void archivePartition(String table, boolean attached) throws IOException {
+        if (attached) {
+            // Detaching is a metadata-only change; queries on transfers stop seeing the rows right away
+            jdbcTemplate.execute("ALTER TABLE " + PARENT_TABLE + " DETACH PARTITION " + table);
+        }
+
+        Path directory = properties.getArchiveDirectory();
+        Files.createDirectories(directory);
+        Path target = directory.resolve(table + ".csv.gz");
+        Path partial = directory.resolve(table + ".csv.gz.partial");
+
+        long rows;
+        try {
+            rows = exportToGzipCsv(table, partial);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(partial);
+            throw e;
+        }
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        // The rename itself is only durable once the directory entry is on disk
+        try (FileChannel dir = FileChannel.open(directory, StandardOpenOption.READ)) {
+            dir.force(true);
+        }
+
+        // Only drop the table once its archive file is complete and durable
+        jdbcTemplate.execute("DROP TABLE " + table);
+        log.info("Archived partition {} ({} rows) to {}", table, rows, target);
+    }
+
+    private long exportToGzipCsv(String table, Path file) throws IOException {
+        // Closing the writer also ends the Deflater, on failure too
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             GZIPOutputStream gzip = new GZIPOutputStream(Channels.newOutputStream(channel), 64 * 1024);
+             BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8))) {
+            writer.write("id,sender_id,receiver_id,amount,currency,status,created_at");
+            writer.newLine();
+
+            Long rows;
+            try {
+                rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> streamRows(connection, table, writer));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+
+            // Write the gzip trailer and force the bytes to disk before the table is dropped
+            writer.flush();
+            gzip.finish();
+            channel.force(true);
+            return rows == null ? 0 : rows;
+        }
+    }
+
+    /**
+     * Streams the rows of a partition through a server-side cursor (fetch size), so large
+     * partitions never sit in memory. PostgreSQL only uses a cursor outside auto-commit mode.
+     */
+    private static long streamRows(Connection connection, String table, BufferedWriter writer) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT id, sender_id, receiver_id, amount, currency, status, created_at FROM " + table)) {
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            long rows = 0;
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    writer.write(rs.getString(1));
+                    writer.write(',');
+                    writer.write(rs.getString(2));
+                    writer.write(',');
+                    writer.write(rs.getString(3));
+                    writer.write(',');
+                    writer.write(rs.getBigDecimal(4).toPlainString());
+                    writer.write(',');
+                    writer.write(rs.getString(5));
+                    writer.write(',');
+                    writer.write(rs.getString(6));
+                    writer.write(',');
+                    writer.write(rs.getTimestamp(7).toLocalDateTime().toString());
+                    writer.newLine();
+                    rows++;
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            connection.commit();
+            return rows;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARENT_TABLE + "_" + month.format(SUFFIX);
+    }
+}
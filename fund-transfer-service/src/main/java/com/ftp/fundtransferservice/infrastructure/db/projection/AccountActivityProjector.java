@@ -0,0 +1,131 @@
+package com.ftp.fundtransferservice.infrastructure.db.projection;
+
+import com.ftp.fundtransferservice.domain.ports.out.RecordAccountActivityPort;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AccountActivityProjector keeps the account_activity read model in step with committed transfers.
+ * <p>
+ * - After a transfer commits, its sender and receiver rows are added on a small projection pool, in a separate
+ *   short transaction. The request thread only queues the work, so it releases its connection right away and
+ *   the projection never holds a second one from the pool meanwhile.
+ * - A scheduled catch-up projects every transfer created since the stored high-water mark, which repairs rows
+ *   lost when the after-commit step failed, its queue was full or the instance stopped in between, however long
+ *   the outage. It restarts a little before the mark, because a transfer's creation time is taken before it
+ *   commits, and advances the mark one bounded window per transaction.
+ * Both paths are idempotent, see {@link RecordAccountActivityPort}.
+ */
+@Component
+public class AccountActivityProjector {
+
+    private static final Logger log = LoggerFactory.getLogger(AccountActivityProjector.class);
+
+    private final RecordAccountActivityPort recordAccountActivityPort;
+    private final Duration catchUpOverlap;
+    private final Duration catchUpWindow;
+    private final ExecutorService projectionExecutor; // null: project on the committing thread (tests)
+
+    public AccountActivityProjector(RecordAccountActivityPort recordAccountActivityPort,
+                                    @Value("${ftp.account-activity.catch-up-overlap:2m}") Duration catchUpOverlap,
+                                    @Value("${ftp.account-activity.catch-up-window:1h}") Duration catchUpWindow,
+                                    @Value("${ftp.account-activity.projection-threads:2}") int projectionThreads,
+                                    @Value("${ftp.account-activity.projection-queue-capacity:10000}") int queueCapacity) {
+        this.recordAccountActivityPort = recordAccountActivityPort;
+        this.catchUpOverlap = catchUpOverlap;
+        this.catchUpWindow = catchUpWindow;
+        if (projectionThreads > 0) {
+            AtomicInteger threadCount = new AtomicInteger();
+            // Rejects when full: the transfer is committed either way, and the catch-up run adds its rows
+            this.projectionExecutor = new ThreadPoolExecutor(projectionThreads, projectionThreads,
+                    0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                        Thread thread = new Thread(runnable, "account-activity-" + threadCount.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.AbortPolicy());
+        } else {
+            this.projectionExecutor = null;
+        }
+    }
+
+    /**
+     * Queues the projection of one committed transfer. Failures are logged only: the transfer is already
+     * committed and the next catch-up run adds the missing rows.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onTransferSaved(TransferSavedEvent event) {
+        if (projectionExecutor == null) {
+            project(event);
+            return;
+        }
+        try {
+            projectionExecutor.execute(() -> project(event));
+        } catch (RejectedExecutionException e) {
+            log.warn("Projection queue full, transfer {} left to the account_activity catch-up run", event.transferId());
+        }
+    }
+
+    /**
+     * Adds the rows missing for transfers created since the high-water mark, one window per transaction.
+     * On the first run, without a mark, it starts from now.
+     */
+    @Scheduled(fixedDelayString = "${ftp.account-activity.catch-up-interval-ms:60000}",
+            initialDelayString = "${ftp.account-activity.catch-up-interval-ms:60000}")
+    public void catchUp() {
+        LocalDateTime now = LocalDateTime.now();
+        int added = 0;
+        try {
+            LocalDateTime highWaterMark = recordAccountActivityPort.loadHighWaterMark();
+            LocalDateTime from = (highWaterMark != null ? highWaterMark : now).minus(catchUpOverlap);
+            while (from.isBefore(now)) {
+                LocalDateTime to = from.plus(catchUpWindow);
+                if (to.isAfter(now)) {
+                    to = now;
+                }
+                added += recordAccountActivityPort.recordTransfersBetween(from, to);
+                from = to;
+            }
+        } catch (RuntimeException e) {
+            // Usually a race with a concurrent after-commit projection of the same transfer; the windows done
+            // so far are kept and the next run resumes from there
+            log.warn("account_activity catch-up failed, retrying on the next run: {}", e.getMessage());
+        }
+        if (added > 0) {
+            log.info("account_activity catch-up added {} missing rows", added);
+        }
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (projectionExecutor != null) {
+            // Queued projections not run by then are left to the catch-up run after the restart
+            projectionExecutor.shutdown();
+            projectionExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private void project(TransferSavedEvent event) {
+        try {
+            recordAccountActivityPort.recordTransfer(event.transferId(), event.createdAt());
+        } catch (RuntimeException e) {
+            // Never propagate: an exception here would fail a request whose transfer is already committed
+            log.warn("Projecting transfer {} into account_activity failed, left to the catch-up run: {}",
+                    event.transferId(), e.getMessage());
+        }
+    }
+}
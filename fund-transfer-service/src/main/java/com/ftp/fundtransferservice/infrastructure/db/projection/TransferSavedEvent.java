@@ -0,0 +1,14 @@
+package com.ftp.fundtransferservice.infrastructure.db.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when a transfer row is written. Listeners that need the committed state
+ * register for {@link org.springframework.transaction.event.TransactionPhase#AFTER_COMMIT}.
+ *
+ * @param transferId the transfer
+ * @param createdAt  its creation time
+ */
+public record TransferSavedEvent(UUID transferId, LocalDateTime createdAt) {
+}
@@ -0,0 +1,114 @@
+package com.ftp.fundtransferservice.infrastructure.db.repositories;
+
+import com.ftp.fundtransferservice.domain.model.AccountActivity;
+import com.ftp.fundtransferservice.domain.ports.out.LoadAccountActivityPort;
+import com.ftp.fundtransferservice.domain.ports.out.RecordAccountActivityPort;
+import com.ftp.fundtransferservice.infrastructure.db.entities.AccountActivityEntity;
+import com.ftp.fundtransferservice.infrastructure.db.entities.ProjectionCheckpointEntity;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * AccountActivityRepositoryAdapter implements the LoadAccountActivityPort and RecordAccountActivityPort
+ * interfaces on top of the account_activity table.
+ */
+@Component
+public class AccountActivityRepositoryAdapter implements LoadAccountActivityPort, RecordAccountActivityPort {
+
+    private static final Duration LOOKUP_WINDOW = Duration.ofSeconds(1);
+    static final String CHECKPOINT = "account-activity"; // Name of the catch-up row in projection_checkpoints
+
+    private final SpringDataAccountActivityRepository repository;
+    private final SpringDataProjectionCheckpointRepository checkpointRepository;
+
+    public AccountActivityRepositoryAdapter(SpringDataAccountActivityRepository repository,
+                                            SpringDataProjectionCheckpointRepository checkpointRepository) {
+        this.repository = repository;
+        this.checkpointRepository = checkpointRepository;
+    }
+
+    @Override
+    public List<AccountActivity> loadActivity(UUID accountId, LocalDateTime beforeCreatedAt, UUID beforeTransferId, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<AccountActivityEntity> entities = beforeCreatedAt == null
+                ? repository.findNewest(accountId, page)
+                : repository.findBefore(accountId, beforeCreatedAt, beforeTransferId, page);
+        return entities.stream()
+                .map(AccountActivityRepositoryAdapter::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<AccountActivity> loadActivityAfter(UUID accountId, LocalDateTime afterCreatedAt, UUID afterTransferId,
+                                                   LocalDateTime createdBefore, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<AccountActivityEntity> entities = afterCreatedAt == null
+                ? repository.findOldest(accountId, createdBefore, page)
+                : repository.findAfter(accountId, afterCreatedAt, afterTransferId, createdBefore, page);
+        return entities.stream()
+                .map(AccountActivityRepositoryAdapter::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void forEachActivity(UUID accountId, LocalDateTime from, LocalDateTime to,
+                                LocalDateTime untilCreatedAt, UUID untilTransferId, Consumer<AccountActivity> consumer) {
+        try (Stream<AccountActivity> rows = repository.streamRange(accountId, from, to, untilCreatedAt, untilTransferId)) {
+            rows.forEach(consumer);
+        }
+    }
+
+    /**
+     * Runs in its own transaction on a projection thread, after the transfer's transaction has committed.
+     * The transfer is looked up by ID within a small window around its creation time; the window absorbs
+     * the timestamp precision of the database and lets PostgreSQL prune partitions.
+     */
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int recordTransfer(UUID transferId, LocalDateTime createdAt) {
+        LocalDateTime from = createdAt.minus(LOOKUP_WINDOW);
+        LocalDateTime to = createdAt.plus(LOOKUP_WINDOW);
+        return repository.insertDebit(transferId, from, to) + repository.insertCredit(transferId, from, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public LocalDateTime loadHighWaterMark() {
+        return checkpointRepository.findById(CHECKPOINT)
+                .map(ProjectionCheckpointEntity::getHighWaterMark)
+                .orElse(null);
+    }
+
+    @Override
+    @Transactional
+    public int recordTransfersBetween(LocalDateTime from, LocalDateTime to) {
+        int added = repository.insertDebitsBetween(from, to) + repository.insertCreditsBetween(from, to);
+        LocalDateTime now = LocalDateTime.now();
+        checkpointRepository.findById(CHECKPOINT).ifPresentOrElse(
+                checkpoint -> checkpoint.advance(to, now),
+                () -> checkpointRepository.save(new ProjectionCheckpointEntity(CHECKPOINT, to, now)));
+        return added;
+    }
+
+    private static AccountActivity toDomain(AccountActivityEntity entity) {
+        return new AccountActivity(
+                entity.getAccountId(),
+                entity.getTransferId(),
+                entity.getCounterpartyId(),
+                entity.getDirection(),
+                entity.getAmount(),
+                entity.getCurrency(),
+                entity.getStatus(),
+                entity.getCreatedAt()
+        );
+    }
+}
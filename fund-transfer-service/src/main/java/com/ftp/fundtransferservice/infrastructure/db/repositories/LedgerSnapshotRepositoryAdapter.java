@@ -0,0 +1,71 @@
+package com.ftp.fundtransferservice.infrastructure.db.repositories;
+
+import com.ftp.fundtransferservice.domain.model.LedgerSnapshot;
+import com.ftp.fundtransferservice.domain.model.Transfer;
+import com.ftp.fundtransferservice.domain.ports.out.LedgerSnapshotPort;
+import com.ftp.fundtransferservice.domain.ports.out.SaveTransferPort;
+import com.ftp.fundtransferservice.infrastructure.db.entities.LedgerCheckpointEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * LedgerSnapshotRepositoryAdapter implements the LedgerSnapshotPort interface on top of the
+ * accounts, transfers and ledger_checkpoints tables.
+ * <p>
+ * Transfers are saved through {@link SaveTransferPort}, so the read model projections pick them up
+ * after the snapshot has committed, like transfers committed by {@code CreateTransferService}.
+ */
+@Component
+public class LedgerSnapshotRepositoryAdapter implements LedgerSnapshotPort {
+
+    static final String CHECKPOINT_NAME = "ledger";
+
+    private static final Logger log = LoggerFactory.getLogger(LedgerSnapshotRepositoryAdapter.class);
+
+    private final SpringDataLedgerCheckpointRepository checkpointRepository;
+    private final SpringDataAccountRepository accountRepository;
+    private final SaveTransferPort saveTransferPort;
+
+    public LedgerSnapshotRepositoryAdapter(SpringDataLedgerCheckpointRepository checkpointRepository,
+                                           SpringDataAccountRepository accountRepository,
+                                           SaveTransferPort saveTransferPort) {
+        this.checkpointRepository = checkpointRepository;
+        this.accountRepository = accountRepository;
+        this.saveTransferPort = saveTransferPort;
+    }
+
+    // Not read-only on purpose: a read-only transaction may be routed to a lagging replica
+    @Override
+    @Transactional
+    public long loadLastSequence() {
+        return checkpointRepository.findById(CHECKPOINT_NAME)
+                .map(LedgerCheckpointEntity::getLastSequence)
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional
+    public void saveSnapshot(LedgerSnapshot snapshot) {
+        for (Map.Entry<UUID, BigDecimal> balance : snapshot.balances().entrySet()) {
+            if (accountRepository.updateBalance(balance.getKey(), balance.getValue()) == 0) {
+                // Deleted while the ledger held its balance; there is nothing left to update
+                log.warn("Ledger snapshot {}: account {} no longer exists", snapshot.sequence(), balance.getKey());
+            }
+        }
+        for (Transfer transfer : snapshot.transfers()) {
+            saveTransferPort.save(transfer);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        checkpointRepository.findById(CHECKPOINT_NAME).ifPresentOrElse(
+                checkpoint -> checkpoint.advance(snapshot.sequence(), now),
+                () -> checkpointRepository.save(new LedgerCheckpointEntity(CHECKPOINT_NAME, snapshot.sequence(), now)));
+    }
+}
@@ -0,0 +1,108 @@
+package com.ftp.fundtransferservice.infrastructure.db.repositories;
+
+import com.ftp.fundtransferservice.domain.model.AccountActivity;
+import com.ftp.fundtransferservice.infrastructure.db.entities.AccountActivityEntity;
+import com.ftp.fundtransferservice.infrastructure.db.entities.AccountActivityId;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+/**
+ * SpringDataAccountActivityRepository reads and maintains the account_activity read model.
+ * <p>
+ * Reads are keyset queries on the primary key (account_id, created_at, transfer_id): backwards for the history
+ * pages, forwards for the statement generation.
+ * Writes copy rows from the transfers table with INSERT ... SELECT ... WHERE NOT EXISTS, so recording
+ * the same transfer twice (listener plus catch-up) never fails and never duplicates rows.
+ */
+public interface SpringDataAccountActivityRepository extends JpaRepository<AccountActivityEntity, AccountActivityId> {
+
+    String INSERT_COLUMNS = "INSERT INTO account_activity "
+            + "(account_id, created_at, transfer_id, counterparty_id, direction, amount, currency, status) ";
+
+    String DEBIT_ROWS = "SELECT t.sender_id, t.created_at, t.id, t.receiver_id, 'DEBIT', t.amount, t.currency, t.status "
+            + "FROM transfers t WHERE NOT EXISTS (SELECT 1 FROM account_activity a "
+            + "WHERE a.account_id = t.sender_id AND a.created_at = t.created_at AND a.transfer_id = t.id) ";
+
+    // Self-transfers only get their DEBIT row, the key would collide otherwise
+    String CREDIT_ROWS = "SELECT t.receiver_id, t.created_at, t.id, t.sender_id, 'CREDIT', t.amount, t.currency, t.status "
+            + "FROM transfers t WHERE t.receiver_id <> t.sender_id AND NOT EXISTS (SELECT 1 FROM account_activity a "
+            + "WHERE a.account_id = t.receiver_id AND a.created_at = t.created_at AND a.transfer_id = t.id) ";
+
+    // The time window only narrows the search to the transfer's partition; the id identifies the row
+    String ONE_TRANSFER = "AND t.id = :transferId AND t.created_at BETWEEN :createdFrom AND :createdTo";
+
+    String BETWEEN = "AND t.created_at >= :from AND t.created_at < :to";
+
+    @Query("SELECT a FROM AccountActivityEntity a WHERE a.accountId = :accountId "
+            + "ORDER BY a.createdAt DESC, a.transferId DESC")
+    List<AccountActivityEntity> findNewest(@Param("accountId") UUID accountId, Pageable pageable);
+
+    @Query("SELECT a FROM AccountActivityEntity a WHERE a.accountId = :accountId "
+            + "AND (a.createdAt < :createdAt OR (a.createdAt = :createdAt AND a.transferId < :transferId)) "
+            + "ORDER BY a.createdAt DESC, a.transferId DESC")
+    List<AccountActivityEntity> findBefore(@Param("accountId") UUID accountId,
+                                           @Param("createdAt") LocalDateTime createdAt,
+                                           @Param("transferId") UUID transferId,
+                                           Pageable pageable);
+
+    @Query("SELECT a FROM AccountActivityEntity a WHERE a.accountId = :accountId AND a.createdAt < :createdBefore "
+            + "ORDER BY a.createdAt ASC, a.transferId ASC")
+    List<AccountActivityEntity> findOldest(@Param("accountId") UUID accountId,
+                                           @Param("createdBefore") LocalDateTime createdBefore,
+                                           Pageable pageable);
+
+    @Query("SELECT a FROM AccountActivityEntity a WHERE a.accountId = :accountId AND a.createdAt < :createdBefore "
+            + "AND (a.createdAt > :createdAt OR (a.createdAt = :createdAt AND a.transferId > :transferId)) "
+            + "ORDER BY a.createdAt ASC, a.transferId ASC")
+    List<AccountActivityEntity> findAfter(@Param("accountId") UUID accountId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("transferId") UUID transferId,
+                                          @Param("createdBefore") LocalDateTime createdBefore,
+                                          Pageable pageable);
+
+    // Selected into the domain class, so rows are not kept in the persistence context while streaming
+    @Query("SELECT new com.ftp.fundtransferservice.domain.model.AccountActivity("
+            + "a.accountId, a.transferId, a.counterpartyId, a.direction, a.amount, a.currency, a.status, a.createdAt) "
+            + "FROM AccountActivityEntity a WHERE a.accountId = :accountId "
+            + "AND a.createdAt >= :from AND a.createdAt < :to "
+            + "AND (a.createdAt < :untilCreatedAt OR (a.createdAt = :untilCreatedAt AND a.transferId <= :untilTransferId)) "
+            + "ORDER BY a.createdAt ASC, a.transferId ASC")
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    Stream<AccountActivity> streamRange(@Param("accountId") UUID accountId,
+                                        @Param("from") LocalDateTime from,
+                                        @Param("to") LocalDateTime to,
+                                        @Param("untilCreatedAt") LocalDateTime untilCreatedAt,
+                                        @Param("untilTransferId") UUID untilTransferId);
+
+    @Modifying
+    @Query(value = INSERT_COLUMNS + DEBIT_ROWS + ONE_TRANSFER, nativeQuery = true)
+    int insertDebit(@Param("transferId") UUID transferId,
+                    @Param("createdFrom") LocalDateTime createdFrom,
+                    @Param("createdTo") LocalDateTime createdTo);
+
+    @Modifying
+    @Query(value = INSERT_COLUMNS + CREDIT_ROWS + ONE_TRANSFER, nativeQuery = true)
+    int insertCredit(@Param("transferId") UUID transferId,
+                     @Param("createdFrom") LocalDateTime createdFrom,
+                     @Param("createdTo") LocalDateTime createdTo);
+
+    @Modifying
+    @Query(value = INSERT_COLUMNS + DEBIT_ROWS + BETWEEN, nativeQuery = true)
+    int insertDebitsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(value = INSERT_COLUMNS + CREDIT_ROWS + BETWEEN, nativeQuery = true)
+    int insertCreditsBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
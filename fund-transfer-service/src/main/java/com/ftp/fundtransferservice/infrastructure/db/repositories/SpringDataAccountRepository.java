@@ -2,7 +2,12 @@ package com.ftp.fundtransferservice.infrastructure.db.repositories;
 
 import com.ftp.fundtransferservice.infrastructure.db.entities.AccountEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -20,4 +25,44 @@ public interface SpringDataAccountRepository extends JpaRepository<AccountEntity
      * @return an Optional containing the AccountEntity if found, or empty if not found
      */
     Optional<AccountEntity> findByUserId(UUID userId);
+
+    /**
+     * Lists the IDs of all accounts, in ascending order.
+     *
+     * @return the account IDs
+     */
+    @Query("SELECT a.id FROM AccountEntity a ORDER BY a.id")
+    List<UUID> findAllIds();
+
+    /**
+     * Adds the amount to the main balance in the database, without reading it first.
+     *
+     * @return the number of updated rows (0 if the account does not exist)
+     */
+    @Modifying
+    @Query(value = "UPDATE accounts SET balance = balance + :amount WHERE id = :id", nativeQuery = true)
+    int addToBalance(@Param("id") UUID id, @Param("amount") BigDecimal amount);
+
+    /**
+     * Subtracts the amount from the main balance if it holds enough.
+     *
+     * @return 1 if the amount was withdrawn, 0 otherwise
+     */
+    @Modifying
+    @Query(value = "UPDATE accounts SET balance = balance - :amount WHERE id = :id AND balance >= :amount", nativeQuery = true)
+    int takeFromBalance(@Param("id") UUID id, @Param("amount") BigDecimal amount);
+
+    /**
+     * Overwrites the main balance, used to store balances kept elsewhere (see LedgerSnapshotRepositoryAdapter).
+     *
+     * @return the number of updated rows (0 if the account does not exist)
+     */
+    @Modifying
+    @Query(value = "UPDATE accounts SET balance = :balance WHERE id = :id", nativeQuery = true)
+    int updateBalance(@Param("id") UUID id, @Param("balance") BigDecimal balance);
+
+    // Clears the persistence context, so the account is read again with its new shard count
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE accounts SET shard_count = :shardCount WHERE id = :id", nativeQuery = true)
+    int updateShardCount(@Param("id") UUID id, @Param("shardCount") int shardCount);
 }
@@ -0,0 +1,26 @@
+package com.ftp.fundtransferservice.infrastructure.db.repositories;
+
+import com.ftp.fundtransferservice.infrastructure.db.entities.AccountStatementEntity;
+import com.ftp.fundtransferservice.infrastructure.db.entities.AccountStatementId;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SpringDataAccountStatementRepository reads and stores the materialized monthly statements.
+ */
+public interface SpringDataAccountStatementRepository extends JpaRepository<AccountStatementEntity, AccountStatementId> {
+
+    /**
+     * Statements of the account up to the given period ("yyyy-MM", inclusive), latest first.
+     */
+    @Query("SELECT s FROM AccountStatementEntity s WHERE s.accountId = :accountId AND s.period <= :period "
+            + "ORDER BY s.period DESC")
+    List<AccountStatementEntity> findLatest(@Param("accountId") UUID accountId,
+                                            @Param("period") String period,
+                                            Pageable pageable);
+}
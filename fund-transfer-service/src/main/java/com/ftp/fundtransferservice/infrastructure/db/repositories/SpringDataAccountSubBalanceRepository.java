@@ -0,0 +1,52 @@
+package com.ftp.fundtransferservice.infrastructure.db.repositories;
+
+import com.ftp.fundtransferservice.infrastructure.db.entities.AccountSubBalanceEntity;
+import com.ftp.fundtransferservice.infrastructure.db.entities.AccountSubBalanceId;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * SpringDataAccountSubBalanceRepository changes the sub-balances of sharded accounts.
+ * <p>
+ * Credits and debits are single UPDATE statements computing the new amount in the database, so a credit
+ * holds the row lock of one sub-balance only for the duration of its statement's transaction and never
+ * reads the amount first.
+ */
+public interface SpringDataAccountSubBalanceRepository extends JpaRepository<AccountSubBalanceEntity, AccountSubBalanceId> {
+
+    @Modifying
+    @Query(value = "UPDATE account_sub_balances SET amount = amount + :amount "
+            + "WHERE account_id = :accountId AND shard = :shard", nativeQuery = true)
+    int addToShard(@Param("accountId") UUID accountId, @Param("shard") int shard, @Param("amount") BigDecimal amount);
+
+    // Leaves the sub-balance untouched (0 rows) if it holds less than the amount
+    @Modifying
+    @Query(value = "UPDATE account_sub_balances SET amount = amount - :amount "
+            + "WHERE account_id = :accountId AND shard = :shard AND amount >= :amount", nativeQuery = true)
+    int takeFromShard(@Param("accountId") UUID accountId, @Param("shard") int shard, @Param("amount") BigDecimal amount);
+
+    @Query(value = "SELECT COALESCE(SUM(amount), 0) FROM account_sub_balances WHERE account_id = :accountId",
+            nativeQuery = true)
+    BigDecimal sumByAccountId(@Param("accountId") UUID accountId);
+
+    // Locks in shard order, so concurrent consolidations of the same account cannot deadlock
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM AccountSubBalanceEntity s WHERE s.accountId = :accountId ORDER BY s.shard")
+    List<AccountSubBalanceEntity> findAllForUpdate(@Param("accountId") UUID accountId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM AccountSubBalanceEntity s WHERE s.accountId = :accountId")
+    int deleteByAccountId(@Param("accountId") UUID accountId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE AccountSubBalanceEntity s SET s.amount = 0 WHERE s.accountId = :accountId")
+    int clearByAccountId(@Param("accountId") UUID accountId);
+}
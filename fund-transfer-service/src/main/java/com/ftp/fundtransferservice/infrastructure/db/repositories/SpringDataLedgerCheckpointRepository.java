@@ -0,0 +1,10 @@
+package com.ftp.fundtransferservice.infrastructure.db.repositories;
+
+import com.ftp.fundtransferservice.infrastructure.db.entities.LedgerCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * SpringDataLedgerCheckpointRepository manages the snapshot checkpoint of the in-memory ledger.
+ */
+public interface SpringDataLedgerCheckpointRepository extends JpaRepository<LedgerCheckpointEntity, String> {
+}
@@ -0,0 +1,10 @@
+package com.ftp.fundtransferservice.infrastructure.db.repositories;
+
+import com.ftp.fundtransferservice.infrastructure.db.entities.ProjectionCheckpointEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * SpringDataProjectionCheckpointRepository manages the catch-up checkpoints of the read model projections.
+ */
+public interface SpringDataProjectionCheckpointRepository extends JpaRepository<ProjectionCheckpointEntity, String> {
+}
@@ -0,0 +1,51 @@
+package com.ftp.fundtransferservice.infrastructure.db.repositories;
+
+import com.ftp.fundtransferservice.infrastructure.db.entities.StatementCheckpointEntity;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * SpringDataStatementCheckpointRepository manages the per-account checkpoints of the statement generation.
+ */
+public interface SpringDataStatementCheckpointRepository extends JpaRepository<StatementCheckpointEntity, UUID> {
+
+    /**
+     * Inserts the checkpoint of an account unless it exists. The base balance is the current balance minus the
+     * net amount of the account's completed entries in account_activity, and of its completed transfers created
+     * since <code>unprojectedSince</code> that have no entry yet. The transfers table is only read from there on,
+     * so archived or dropped partitions do not change the result. A single statement reads all of them from one
+     * snapshot, so a transfer committing or being projected concurrently is counted exactly once or not at all.
+     * Self-transfers do not change the balance and are left out. The balance of a sharded account includes its
+     * sub-balances.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO statement_checkpoints (account_id, base_balance, updated_at) "
+            + "SELECT a.id, a.balance "
+            + "+ COALESCE((SELECT SUM(s.amount) FROM account_sub_balances s WHERE s.account_id = a.id), 0) "
+            + "- COALESCE((SELECT SUM(CASE WHEN v.direction = 'CREDIT' THEN v.amount ELSE -v.amount END) "
+            + "FROM account_activity v WHERE v.account_id = a.id AND v.counterparty_id <> a.id "
+            + "AND v.status = 'COMPLETED'), 0) "
+            + "- COALESCE((SELECT SUM(CASE WHEN t.receiver_id = a.id THEN t.amount ELSE -t.amount END) "
+            + "FROM transfers t WHERE (t.sender_id = a.id OR t.receiver_id = a.id) AND t.sender_id <> t.receiver_id "
+            + "AND t.status = 'COMPLETED' AND t.created_at >= :unprojectedSince "
+            + "AND NOT EXISTS (SELECT 1 FROM account_activity v "
+            + "WHERE v.account_id = a.id AND v.created_at = t.created_at AND v.transfer_id = t.id)), 0), "
+            + "CURRENT_TIMESTAMP "
+            + "FROM accounts a WHERE a.id = :accountId "
+            + "AND NOT EXISTS (SELECT 1 FROM statement_checkpoints c WHERE c.account_id = a.id)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("accountId") UUID accountId,
+                       @Param("unprojectedSince") LocalDateTime unprojectedSince);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM StatementCheckpointEntity c WHERE c.accountId = :accountId")
+    Optional<StatementCheckpointEntity> findForUpdate(@Param("accountId") UUID accountId);
+}
@@ -3,6 +3,8 @@ package com.ftp.fundtransferservice.infrastructure.db.repositories;
 import com.ftp.fundtransferservice.infrastructure.db.entities.TransferEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -11,6 +13,13 @@ import java.util.UUID;
  */
 public interface SpringDataTransferRepository extends JpaRepository<TransferEntity, UUID> {
 
-    // You can add custom queries here if needed in the future. Example:
-    // Optional<TransferEntity> findBySenderId(UUID senderId);
+    // Range queries on created_at: each bound is a plain comparison on the partition key,
+    // so PostgreSQL prunes the monthly partitions outside the interval.
+
+    List<TransferEntity> findByCreatedAtGreaterThanEqualAndCreatedAtLessThanOrderByCreatedAtDesc(
+            LocalDateTime from, LocalDateTime to);
+
+    List<TransferEntity> findByCreatedAtGreaterThanEqualOrderByCreatedAtDesc(LocalDateTime from);
+
+    List<TransferEntity> findByCreatedAtLessThanOrderByCreatedAtDesc(LocalDateTime to);
 }
@@ -0,0 +1,132 @@
+package com.ftp.fundtransferservice.infrastructure.db.repositories;
+
+import com.ftp.fundtransferservice.domain.model.Statement;
+import com.ftp.fundtransferservice.domain.model.StatementCheckpoint;
+import com.ftp.fundtransferservice.domain.ports.out.StatementPort;
+import com.ftp.fundtransferservice.infrastructure.db.entities.AccountStatementEntity;
+import com.ftp.fundtransferservice.infrastructure.db.entities.ProjectionCheckpointEntity;
+import com.ftp.fundtransferservice.infrastructure.db.entities.StatementCheckpointEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * StatementRepositoryAdapter implements the StatementPort interface on top of the
+ * account_statements and statement_checkpoints tables.
+ */
+@Component
+public class StatementRepositoryAdapter implements StatementPort {
+
+    // Upper bound of the period when the latest statement is requested
+    private static final String LAST_PERIOD = "9999-12";
+
+    private final SpringDataAccountStatementRepository statementRepository;
+    private final SpringDataStatementCheckpointRepository checkpointRepository;
+    private final SpringDataProjectionCheckpointRepository projectionCheckpointRepository;
+    private final Duration catchUpOverlap;
+
+    public StatementRepositoryAdapter(SpringDataAccountStatementRepository statementRepository,
+                                      SpringDataStatementCheckpointRepository checkpointRepository,
+                                      SpringDataProjectionCheckpointRepository projectionCheckpointRepository,
+                                      @Value("${ftp.account-activity.catch-up-overlap:2m}") Duration catchUpOverlap) {
+        this.statementRepository = statementRepository;
+        this.checkpointRepository = checkpointRepository;
+        this.projectionCheckpointRepository = projectionCheckpointRepository;
+        this.catchUpOverlap = catchUpOverlap;
+    }
+
+    /**
+     * Transfers created before the account_activity high-water mark (less the catch-up overlap) are all
+     * projected, so only the newer ones are looked up in the transfers table. Before the first catch-up run
+     * there is no mark and all transfers are read; nothing has been archived by then.
+     */
+    @Override
+    public boolean createCheckpointIfAbsent(UUID accountId) {
+        LocalDateTime unprojectedSince = projectionCheckpointRepository.findById(AccountActivityRepositoryAdapter.CHECKPOINT)
+                .map(ProjectionCheckpointEntity::getHighWaterMark)
+                .map(highWaterMark -> highWaterMark.minus(catchUpOverlap))
+                .orElse(LocalDateTime.of(1970, 1, 1, 0, 0));
+        return checkpointRepository.insertIfAbsent(accountId, unprojectedSince) > 0;
+    }
+
+    @Override
+    public StatementCheckpoint lockCheckpoint(UUID accountId) {
+        return checkpointRepository.findForUpdate(accountId)
+                .map(StatementRepositoryAdapter::toDomain)
+                .orElse(null);
+    }
+
+    @Override
+    public StatementCheckpoint findCheckpoint(UUID accountId) {
+        return checkpointRepository.findById(accountId)
+                .map(StatementRepositoryAdapter::toDomain)
+                .orElse(null);
+    }
+
+    /**
+     * Advances the stored cursor. Called after {@link #lockCheckpoint(UUID)} in the same transaction,
+     * so the entity is already managed and no further SELECT is issued.
+     */
+    @Override
+    public void saveCheckpoint(StatementCheckpoint checkpoint) {
+        StatementCheckpointEntity entity = checkpointRepository.findById(checkpoint.accountId())
+                .orElseThrow(() -> new IllegalStateException("No statement checkpoint for account " + checkpoint.accountId()));
+        entity.advance(checkpoint.lastCreatedAt(), checkpoint.lastTransferId(), LocalDateTime.now());
+    }
+
+    @Override
+    public Statement findLatestStatement(UUID accountId, YearMonth period) {
+        List<AccountStatementEntity> latest = statementRepository.findLatest(
+                accountId, period != null ? period.toString() : LAST_PERIOD, PageRequest.of(0, 1));
+        return latest.isEmpty() ? null : toDomain(latest.get(0));
+    }
+
+    @Override
+    public void saveStatements(Collection<Statement> statements) {
+        LocalDateTime now = LocalDateTime.now();
+        statementRepository.saveAll(statements.stream()
+                .map(statement -> toEntity(statement, now))
+                .toList());
+    }
+
+    private static StatementCheckpoint toDomain(StatementCheckpointEntity entity) {
+        return new StatementCheckpoint(entity.getAccountId(), entity.getBaseBalance(),
+                entity.getLastCreatedAt(), entity.getLastTransferId());
+    }
+
+    private static Statement toDomain(AccountStatementEntity entity) {
+        return new Statement(
+                entity.getAccountId(),
+                YearMonth.parse(entity.getPeriod()),
+                entity.getOpeningBalance(),
+                entity.getClosingBalance(),
+                entity.getTotalDebits(),
+                entity.getDebitCount(),
+                entity.getTotalCredits(),
+                entity.getCreditCount(),
+                null,
+                null
+        );
+    }
+
+    private static AccountStatementEntity toEntity(Statement statement, LocalDateTime updatedAt) {
+        return new AccountStatementEntity(
+                statement.getAccountId(),
+                statement.getPeriod().toString(),
+                statement.getOpeningBalance(),
+                statement.getClosingBalance(),
+                statement.getTotalDebits(),
+                statement.getTotalCredits(),
+                statement.getDebitCount(),
+                statement.getCreditCount(),
+                updatedAt
+        );
+    }
+}
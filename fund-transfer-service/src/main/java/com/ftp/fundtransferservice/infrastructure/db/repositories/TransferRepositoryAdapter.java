@@ -3,10 +3,14 @@ package com.ftp.fundtransferservice.infrastructure.db.repositories;
 import com.ftp.fundtransferservice.domain.model.Transfer;
 import com.ftp.fundtransferservice.domain.ports.out.LoadTransfersPort;
 import com.ftp.fundtransferservice.domain.ports.out.SaveTransferPort;
+import com.ftp.fundtransferservice.infrastructure.db.entities.TransferEntity;
 import com.ftp.fundtransferservice.infrastructure.db.mappers.TransferMapper;
+import com.ftp.fundtransferservice.infrastructure.db.projection.TransferSavedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.dao.DataAccessException;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -19,21 +23,26 @@ public class TransferRepositoryAdapter implements SaveTransferPort, LoadTransfer
 
     private final SpringDataTransferRepository repository;
     private final TransferMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Constructor for initializing the repository and mapper.
      *
      * @param repository the Spring Data repository for transfers
      * @param mapper the TransferMapper for converting between domain and entity
+     * @param eventPublisher publisher of the {@link TransferSavedEvent} consumed by the read model projections
      */
-    public TransferRepositoryAdapter(SpringDataTransferRepository repository, TransferMapper mapper) {
+    public TransferRepositoryAdapter(SpringDataTransferRepository repository, TransferMapper mapper,
+                                     ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
         this.mapper = mapper;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
      * Saves the transfer entity in the database.
      * Converts the Transfer domain object to a TransferEntity before saving it.
+     * Publishes a {@link TransferSavedEvent}; projections act on it once the transaction has committed.
      *
      * @param transfer the Transfer object to save
      * @return the saved Transfer object
@@ -42,9 +51,11 @@ public class TransferRepositoryAdapter implements SaveTransferPort, LoadTransfer
     @Override
     public Transfer save(Transfer transfer) {
         try {
-            return mapper.toDomain(
+            Transfer saved = mapper.toDomain(
                     repository.save(mapper.toEntity(transfer))
             );
+            eventPublisher.publishEvent(new TransferSavedEvent(saved.getId(), saved.getCreatedAt()));
+            return saved;
         } catch (DataAccessException e) {
             throw new DataAccessException("Failed to save transfer", e) {};
         }
@@ -62,4 +73,30 @@ public class TransferRepositoryAdapter implements SaveTransferPort, LoadTransfer
                 .map(mapper::toDomain)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Loads the transfers created in [from, to), newest first.
+     * Only the bounds that are present end up in the SQL (no "param IS NULL OR ..." predicates),
+     * which keeps partition pruning effective for both literal and bind-parameter plans.
+     *
+     * @param from inclusive lower bound, or null
+     * @param to   exclusive upper bound, or null
+     * @return a list of Transfer objects
+     */
+    @Override
+    public List<Transfer> loadCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        List<TransferEntity> entities;
+        if (from != null && to != null) {
+            entities = repository.findByCreatedAtGreaterThanEqualAndCreatedAtLessThanOrderByCreatedAtDesc(from, to);
+        } else if (from != null) {
+            entities = repository.findByCreatedAtGreaterThanEqualOrderByCreatedAtDesc(from);
+        } else if (to != null) {
+            entities = repository.findByCreatedAtLessThanOrderByCreatedAtDesc(to);
+        } else {
+            return loadAll();
+        }
+        return entities.stream()
+                .map(mapper::toDomain)
+                .collect(Collectors.toList());
+    }
 }
@@ -0,0 +1,45 @@
+package com.ftp.fundtransferservice.infrastructure.db.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+/**
+ * ConnectionPoolSizingCheck warns at startup when far more servlet threads can run transfers
+ * than the write pool has connections.
+ * <p>
+ * Each transfer holds its connection for the whole lock-and-update window. With too few connections the
+ * surplus request threads only queue inside the pool until the connection timeout, which shows up as
+ * latency spikes and <code>hikaricp.connections.timeout</code> instead of useful throughput.
+ */
+public class ConnectionPoolSizingCheck {
+
+    private static final Logger log = LoggerFactory.getLogger(ConnectionPoolSizingCheck.class);
+
+    private final int servletThreads;
+    private final int writePoolSize;
+    private final int maxThreadsPerConnection;
+
+    public ConnectionPoolSizingCheck(int servletThreads, int writePoolSize, int maxThreadsPerConnection) {
+        this.servletThreads = servletThreads;
+        this.writePoolSize = writePoolSize;
+        this.maxThreadsPerConnection = maxThreadsPerConnection;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkPoolSizing() {
+        if (isUndersized()) {
+            log.warn("server.tomcat.threads.max={} is more than {}x the transfer write pool size {}; "
+                            + "transfers will queue for connections under load. Raise ftp.datasource.write-pool.maximum-pool-size "
+                            + "or lower the servlet thread count.",
+                    servletThreads, maxThreadsPerConnection, writePoolSize);
+        } else {
+            log.info("Connection pool sizing: {} servlet threads, {} transfer write connections", servletThreads, writePoolSize);
+        }
+    }
+
+    boolean isUndersized() {
+        return (long) writePoolSize * maxThreadsPerConnection < servletThreads;
+    }
+}
@@ -0,0 +1,34 @@
+package com.ftp.fundtransferservice.infrastructure.db.routing;
+
+/**
+ * Holds the consistency token sent by the client for the current request thread.
+ * <p>
+ * The token is the commit time (epoch milliseconds) of the client's last write, as returned in the
+ * {@value #HEADER} response header. Read-only transactions go to the primary until the replica has
+ * replayed everything up to that time.
+ */
+public final class ConsistencyTokenHolder {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private static final ThreadLocal<Long> TOKEN = new ThreadLocal<>();
+
+    private ConsistencyTokenHolder() {
+    }
+
+    public static Long get() {
+        return TOKEN.get();
+    }
+
+    public static void set(Long token) {
+        if (token == null) {
+            TOKEN.remove();
+        } else {
+            TOKEN.set(token);
+        }
+    }
+
+    public static void clear() {
+        TOKEN.remove();
+    }
+}
@@ -0,0 +1,13 @@
+package com.ftp.fundtransferservice.infrastructure.db.routing;
+
+/**
+ * Lookup keys of the {@link ReadWriteRoutingDataSource}.
+ */
+public enum DataSourceRole {
+    /** Dedicated pool for transfer write transactions. */
+    TRANSFER,
+    /** Pool for reads and admin work on the primary database. */
+    PRIMARY,
+    /** Read-only pool on the replica. */
+    REPLICA
+}
@@ -0,0 +1,66 @@
+package com.ftp.fundtransferservice.infrastructure.db.routing;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * ReadWriteRoutingDataSource picks the connection pool for the current transaction.
+ * <ul>
+ *   <li>Transactions named by one of the transfer prefixes (e.g. CreateTransferService.createTransfer)
+ *       use the dedicated transfer pool, so lock-holding transfers never wait behind reads.</li>
+ *   <li>Transactions marked <code>@Transactional(readOnly = true)</code> use the replica, if one is configured,
+ *       the {@link ReplicaLagMonitor} reports it within the allowed lag, and the request carries no
+ *       consistency token newer than what the replica has replayed.</li>
+ *   <li>Everything else (reads, account administration, Liquibase, work outside transactions)
+ *       uses the primary pool.</li>
+ * </ul>
+ * The transaction name and read-only flag are only known after the transaction has started, so this data
+ * source must be wrapped in a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}
+ * that defers fetching the physical connection until the first statement.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final String[] transferTransactionPrefixes;
+
+    /**
+     * @param lagMonitor                  lag monitor of the replica, or null if no replica is configured
+     * @param transferTransactionPrefixes transaction name prefixes routed to the transfer pool
+     */
+    public ReadWriteRoutingDataSource(ReplicaLagMonitor lagMonitor, List<String> transferTransactionPrefixes) {
+        this.lagMonitor = lagMonitor;
+        this.transferTransactionPrefixes = transferTransactionPrefixes.toArray(String[]::new);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return isReplicaReady() ? DataSourceRole.REPLICA : DataSourceRole.PRIMARY;
+        }
+        return isTransferTransaction(TransactionSynchronizationManager.getCurrentTransactionName())
+                ? DataSourceRole.TRANSFER
+                : DataSourceRole.PRIMARY;
+    }
+
+    private boolean isReplicaReady() {
+        if (lagMonitor == null) {
+            return false;
+        }
+        Long token = ConsistencyTokenHolder.get();
+        return token != null ? lagMonitor.hasCaughtUpWith(token) : lagMonitor.isReplicaUsable();
+    }
+
+    private boolean isTransferTransaction(String transactionName) {
+        if (transactionName == null) {
+            return false;
+        }
+        for (String prefix : transferTransactionPrefixes) {
+            if (transactionName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
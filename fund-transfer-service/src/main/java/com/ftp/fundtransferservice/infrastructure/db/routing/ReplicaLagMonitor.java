@@ -0,0 +1,98 @@
+package com.ftp.fundtransferservice.infrastructure.db.routing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+
+/**
+ * ReplicaLagMonitor periodically measures how far the read replica is behind the primary.
+ * <p>
+ * The lag query returns the replica lag in milliseconds. From it the monitor derives
+ * <ul>
+ *   <li>whether the replica is fresh enough for reads (lag within the configured maximum), and</li>
+ *   <li>the point in time up to which the replica has replayed all writes, used for read-your-writes.</li>
+ * </ul>
+ * A failing query or a NULL result marks the replica unusable until the next successful measurement,
+ * so reads fall back to the primary instead of failing or returning stale data.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final String lagQuery;
+    private final long maxLagMillis;
+
+    // Written by the scheduler thread only, read by every routed request
+    private volatile boolean usable = false;
+    private volatile long caughtUpToMillis = Long.MIN_VALUE;
+    private volatile long lastLagMillis = -1;
+
+    public ReplicaLagMonitor(JdbcTemplate replicaJdbcTemplate, String lagQuery, Duration maxLag) {
+        this.replicaJdbcTemplate = replicaJdbcTemplate;
+        this.lagQuery = lagQuery;
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    /**
+     * Measures the replica lag and updates the routing state.
+     */
+    @Scheduled(fixedDelayString = "${ftp.datasource.replica.lag-check-interval-ms:2000}")
+    public void refresh() {
+        boolean wasUsable = usable;
+        try {
+            Long lag = replicaJdbcTemplate.queryForObject(lagQuery, Long.class);
+            long now = System.currentTimeMillis();
+            if (lag == null) {
+                usable = false;
+                lastLagMillis = -1;
+            } else {
+                lastLagMillis = lag;
+                caughtUpToMillis = now - lag;
+                usable = lag <= maxLagMillis;
+            }
+        } catch (DataAccessException e) {
+            usable = false;
+            lastLagMillis = -1;
+            if (wasUsable) {
+                log.warn("Replica lag check failed, reads fall back to the primary: {}", e.getMessage());
+            }
+            return;
+        }
+
+        // Log transitions only, the check runs every few seconds
+        if (wasUsable != usable) {
+            if (usable) {
+                log.info("Replica is in sync (lag {} ms), routing read-only transactions to it", lastLagMillis);
+            } else {
+                log.warn("Replica lag {} ms exceeds {} ms, routing reads to the primary", lastLagMillis, maxLagMillis);
+            }
+        }
+    }
+
+    /**
+     * @return true if the last measurement succeeded and the lag was within the configured maximum
+     */
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /**
+     * @param tokenMillis commit time of a client's last write (epoch milliseconds)
+     * @return true if the replica is usable and has replayed all writes up to the given time
+     */
+    public boolean hasCaughtUpWith(long tokenMillis) {
+        return usable && caughtUpToMillis >= tokenMillis;
+    }
+
+    /**
+     * @return the last measured lag in milliseconds, or -1 if unknown
+     */
+    public long getLastLagMillis() {
+        return lastLagMillis;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ftp.fundtransferservice.infrastructure.db.sharding;
+
+import com.ftp.fundtransferservice.domain.model.Money;
+import com.ftp.fundtransferservice.domain.ports.out.BalanceShardPort;
+import com.ftp.fundtransferservice.infrastructure.db.entities.AccountSubBalanceEntity;
+import com.ftp.fundtransferservice.infrastructure.db.repositories.SpringDataAccountRepository;
+import com.ftp.fundtransferservice.infrastructure.db.repositories.SpringDataAccountSubBalanceRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * ShardedBalanceAdapter implements the BalanceShardPort interface on top of the account_sub_balances table
+ * and the main balance in the accounts table.
+ * <p>
+ * Credits spread over N sub-balance rows, so N credits to the same account can hold their row locks at the
+ * same time instead of queueing on the account row; throughput on one hot account grows with N until other
+ * limits (connections, the transfers insert) dominate. Debits are serialized by the caller's lock on the
+ * account row and take one sub-balance, or consolidate all sub-balances under their row locks.
+ */
+public class ShardedBalanceAdapter implements BalanceShardPort {
+
+    private final SpringDataAccountRepository accountRepository;
+    private final SpringDataAccountSubBalanceRepository subBalanceRepository;
+    private final SubBalanceSumCache sumCache;
+
+    public ShardedBalanceAdapter(SpringDataAccountRepository accountRepository,
+                                 SpringDataAccountSubBalanceRepository subBalanceRepository,
+                                 SubBalanceSumCache sumCache) {
+        this.accountRepository = accountRepository;
+        this.subBalanceRepository = subBalanceRepository;
+        this.sumCache = sumCache;
+    }
+
+    @Override
+    @Transactional
+    public void credit(UUID accountId, int shardCount, Money amount) {
+        BigDecimal decimal = amount.toBigDecimal();
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        if (subBalanceRepository.addToShard(accountId, shard, decimal) == 0) {
+            // Re-sharded since the account was read: the main balance always exists
+            accountRepository.addToBalance(accountId, decimal);
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean debit(UUID accountId, int shardCount, Money amount) {
+        BigDecimal decimal = amount.toBigDecimal();
+        sumCache.invalidate(accountId);
+        int shard = ThreadLocalRandom.current().nextInt(shardCount);
+        if (subBalanceRepository.takeFromShard(accountId, shard, decimal) == 1) {
+            return true;
+        }
+        if (accountRepository.takeFromBalance(accountId, decimal) == 1) {
+            return true;
+        }
+        consolidate(accountId);
+        return accountRepository.takeFromBalance(accountId, decimal) == 1;
+    }
+
+    @Override
+    @Transactional
+    public void reshard(UUID accountId, int shardCount) {
+        consolidate(accountId);
+        subBalanceRepository.deleteByAccountId(accountId);
+        if (shardCount > 1) {
+            List<AccountSubBalanceEntity> shards = new ArrayList<>(shardCount);
+            for (int shard = 0; shard < shardCount; shard++) {
+                shards.add(new AccountSubBalanceEntity(accountId, shard, BigDecimal.ZERO));
+            }
+            subBalanceRepository.saveAll(shards);
+        }
+        accountRepository.updateShardCount(accountId, shardCount);
+        sumCache.invalidate(accountId);
+    }
+
+    // Moves every sub-balance into the main balance while holding the locks of all sub-balances
+    private void consolidate(UUID accountId) {
+        List<AccountSubBalanceEntity> shards = subBalanceRepository.findAllForUpdate(accountId);
+        BigDecimal total = shards.stream()
+                .map(AccountSubBalanceEntity::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (total.signum() > 0) {
+            subBalanceRepository.clearByAccountId(accountId);
+            accountRepository.addToBalance(accountId, total);
+        }
+    }
+}
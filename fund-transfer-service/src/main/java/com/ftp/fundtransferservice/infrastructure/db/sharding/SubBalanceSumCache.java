@@ -0,0 +1,49 @@
+package com.ftp.fundtransferservice.infrastructure.db.sharding;
+
+import com.ftp.fundtransferservice.infrastructure.db.repositories.SpringDataAccountSubBalanceRepository;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SubBalanceSumCache keeps the summed sub-balances of sharded accounts for a short time.
+ * <p>
+ * A hot account is read far less often than it is credited, but summing N rows on every read would still
+ * touch every sub-balance. Reads within the TTL reuse the last sum; credits do not invalidate it (that would
+ * make the cache useless for exactly the accounts it is meant for), debits and re-sharding do.
+ */
+public class SubBalanceSumCache {
+
+    private record Entry(BigDecimal sum, long expiresAtNanos) {
+    }
+
+    private final SpringDataAccountSubBalanceRepository repository;
+    private final long ttlNanos;
+    private final Map<UUID, Entry> sums = new ConcurrentHashMap<>();
+
+    public SubBalanceSumCache(SpringDataAccountSubBalanceRepository repository, Duration ttl) {
+        this.repository = repository;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Returns the sum of the account's sub-balances, at most the TTL old.
+     */
+    public BigDecimal sum(UUID accountId) {
+        long now = System.nanoTime();
+        Entry entry = sums.get(accountId);
+        if (entry != null && now - entry.expiresAtNanos() < 0) {
+            return entry.sum();
+        }
+        BigDecimal sum = repository.sumByAccountId(accountId);
+        sums.put(accountId, new Entry(sum, now + ttlNanos));
+        return sum;
+    }
+
+    public void invalidate(UUID accountId) {
+        sums.remove(accountId);
+    }
+}
@@ -0,0 +1,18 @@
+package com.ftp.fundtransferservice.infrastructure.id;
+
+import com.ftp.fundtransferservice.domain.ports.out.IdGeneratorPort;
+
+import java.util.UUID;
+
+/**
+ * RandomUuidGenerator produces random (version 4) UUIDs.
+ * Kept as an alternative to {@link UuidV7Generator} for comparison and for deployments
+ * that must not expose creation time in identifiers.
+ */
+public class RandomUuidGenerator implements IdGeneratorPort {
+
+    @Override
+    public UUID nextId() {
+        return UUID.randomUUID();
+    }
+}
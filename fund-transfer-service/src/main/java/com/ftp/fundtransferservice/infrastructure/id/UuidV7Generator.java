@@ -0,0 +1,91 @@
+package com.ftp.fundtransferservice.infrastructure.id;
+
+import com.ftp.fundtransferservice.domain.ports.out.IdGeneratorPort;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * UuidV7Generator produces time-ordered UUIDv7 identifiers (RFC 9562).
+ * <p>
+ * Layout of the 128 bits:
+ * <pre>
+ *  48 bits  unix timestamp in milliseconds
+ *   4 bits  version (0111)
+ *  12 bits  monotonic counter within the millisecond (rand_a)
+ *   2 bits  variant (10)
+ *  62 bits  random (rand_b)
+ * </pre>
+ * Because consecutive IDs share their high-order bits, new rows land on the right-most
+ * leaf of the primary-key B-tree instead of random pages, which keeps the index compact
+ * and the working set cache friendly.
+ * <p>
+ * Monotonicity is guaranteed without locks: the (timestamp, counter) pair is packed into one
+ * {@link AtomicLong} and advanced with compare-and-set. If the counter of a millisecond is
+ * exhausted, or the wall clock moves backwards, the generator keeps counting from the last
+ * issued value, so IDs never go back in time.
+ */
+public class UuidV7Generator implements IdGeneratorPort {
+
+    // Shared instance for code paths that cannot receive the configured generator (e.g. JPA callbacks)
+    private static final UuidV7Generator SHARED = new UuidV7Generator();
+
+    private static final int COUNTER_BITS = 12;
+    // New milliseconds start the counter at a random value below this bound,
+    // leaving at least 3072 increments before the counter spills into the next millisecond
+    private static final int COUNTER_SEED_BOUND = 1 << 10;
+
+    private static final long VERSION_7 = 0x7000L;
+    private static final long VARIANT_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private static final long VARIANT_RFC = 0x8000000000000000L;
+
+    private final LongSupplier clock;
+
+    // (unix millis << 12) | counter of the last issued ID
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    public UuidV7Generator() {
+        this(System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock source of unix time in milliseconds (injectable for tests)
+     */
+    public UuidV7Generator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a process-wide generator instance.
+     *
+     * @return the shared UuidV7Generator
+     */
+    public static UuidV7Generator shared() {
+        return SHARED;
+    }
+
+    @Override
+    public UUID nextId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long candidate = (clock.getAsLong() << COUNTER_BITS) | random.nextInt(COUNTER_SEED_BOUND);
+
+        long next;
+        while (true) {
+            long previous = lastTimestampAndCounter.get();
+            // Same (or earlier) millisecond: continue the counter of the last issued ID
+            next = candidate > previous ? candidate : previous + 1;
+            if (lastTimestampAndCounter.compareAndSet(previous, next)) {
+                break;
+            }
+        }
+
+        long timestamp = next >>> COUNTER_BITS;
+        long counter = next & ((1L << COUNTER_BITS) - 1);
+
+        long mostSigBits = (timestamp << 16) | VERSION_7 | counter;
+        long leastSigBits = (random.nextLong() & VARIANT_MASK) | VARIANT_RFC;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+}
@@ -0,0 +1,166 @@
+package com.ftp.fundtransferservice.infrastructure.ledger;
+
+import com.ftp.fundtransferservice.domain.model.LedgerJournalEntry;
+import com.ftp.fundtransferservice.domain.ports.out.LedgerJournalPort;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * MemoryMappedLedgerJournal implements the LedgerJournalPort interface on a preallocated, memory-mapped file.
+ * <p>
+ * Entries are fixed-size records written back to back from the start of the file:
+ * <pre>
+ * sequence(8) transferId(16) senderId(16) receiverId(16) amountCents(8) currency(4) epochSecond(8) nano(4) crc32(4)
+ * </pre>
+ * Appending only copies the record into the mapped pages; {@link #force()} flushes the pages written since
+ * the previous call to the device. Replay stops at the first record whose CRC does not match or whose
+ * sequence does not increase, which is where the last run stopped writing. {@link #reset()} only invalidates
+ * the first record: older records behind the new ones have lower sequences and are never read again.
+ * <p>
+ * Not thread-safe; used by the single ledger writer thread only.
+ */
+public class MemoryMappedLedgerJournal implements LedgerJournalPort, AutoCloseable {
+
+    static final int RECORD_SIZE = 84;
+    private static final int CRC_OFFSET = RECORD_SIZE - 4;
+
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final CRC32 crc = new CRC32();
+
+    private int position;       // Where the next record goes
+    private int forcedPosition; // Everything before it has been forced to the device
+
+    /**
+     * Opens the journal, creating the file with the given size if it does not exist.
+     * An existing file keeps its size.
+     */
+    public MemoryMappedLedgerJournal(Path path, long size) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        this.channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long mappedSize = Math.max(channel.size(), size);
+        if (mappedSize > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IllegalArgumentException("Ledger journal must not exceed 2 GB: " + mappedSize);
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize);
+        this.capacity = (int) mappedSize / RECORD_SIZE * RECORD_SIZE;
+    }
+
+    @Override
+    public boolean hasCapacity() {
+        return position + RECORD_SIZE <= capacity;
+    }
+
+    @Override
+    public void append(LedgerJournalEntry entry) {
+        if (!hasCapacity()) {
+            throw new IllegalStateException("Ledger journal is full");
+        }
+        int at = position;
+        buffer.putLong(at, entry.sequence());
+        putUuid(at + 8, entry.transferId());
+        putUuid(at + 24, entry.senderId());
+        putUuid(at + 40, entry.receiverId());
+        buffer.putLong(at + 56, entry.amountCents());
+        // Ordinal: new currencies must be added at the end of the enum
+        buffer.putInt(at + 64, entry.currency().ordinal());
+        buffer.putLong(at + 68, entry.createdAt().toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(at + 76, entry.createdAt().getNano());
+        buffer.putInt(at + CRC_OFFSET, checksum(at));
+        position = at + RECORD_SIZE;
+    }
+
+    @Override
+    public void force() {
+        if (position > forcedPosition) {
+            buffer.force(forcedPosition, position - forcedPosition);
+            forcedPosition = position;
+        }
+    }
+
+    /**
+     * Replays the intact records and moves the write position behind the last one.
+     */
+    @Override
+    public void replay(Consumer<LedgerJournalEntry> consumer) {
+        int at = 0;
+        long previousSequence = 0;
+        while (at + RECORD_SIZE <= capacity) {
+            long sequence = buffer.getLong(at);
+            if (sequence <= previousSequence || buffer.getInt(at + CRC_OFFSET) != checksum(at)) {
+                break;
+            }
+            consumer.accept(read(at));
+            previousSequence = sequence;
+            at += RECORD_SIZE;
+        }
+        position = at;
+        forcedPosition = at;
+    }
+
+    @Override
+    public void reset() {
+        if (capacity >= RECORD_SIZE) {
+            buffer.putLong(0, 0L);
+            buffer.force(0, RECORD_SIZE);
+        }
+        position = 0;
+        forcedPosition = 0;
+    }
+
+    @Override
+    public void close() {
+        try {
+            force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close the ledger journal", e);
+        }
+    }
+
+    private LedgerJournalEntry read(int at) {
+        return new LedgerJournalEntry(
+                buffer.getLong(at),
+                getUuid(at + 8),
+                getUuid(at + 24),
+                getUuid(at + 40),
+                buffer.getLong(at + 56),
+                CURRENCIES[buffer.getInt(at + 64)],
+                LocalDateTime.ofEpochSecond(buffer.getLong(at + 68), buffer.getInt(at + 76), ZoneOffset.UTC)
+        );
+    }
+
+    private int checksum(int at) {
+        crc.reset();
+        crc.update(buffer.slice(at, CRC_OFFSET));
+        return (int) crc.getValue();
+    }
+
+    private void putUuid(int at, UUID uuid) {
+        buffer.putLong(at, uuid.getMostSignificantBits());
+        buffer.putLong(at + 8, uuid.getLeastSignificantBits());
+    }
+
+    private UUID getUuid(int at) {
+        return new UUID(buffer.getLong(at), buffer.getLong(at + 8));
+    }
+}
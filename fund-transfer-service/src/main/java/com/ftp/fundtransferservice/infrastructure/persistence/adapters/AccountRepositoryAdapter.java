@@ -2,9 +2,11 @@ package com.ftp.fundtransferservice.infrastructure.persistence.adapters;
 
 import com.ftp.fundtransferservice.domain.model.Account;
 import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.domain.ports.out.IdGeneratorPort;
 import com.ftp.fundtransferservice.infrastructure.db.entities.AccountEntity;
 import com.ftp.fundtransferservice.infrastructure.db.mappers.AccountMapper;
 import com.ftp.fundtransferservice.infrastructure.db.repositories.SpringDataAccountRepository;
+import com.ftp.fundtransferservice.infrastructure.db.sharding.SubBalanceSumCache;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,23 +17,36 @@ import java.util.stream.Collectors;
  * AccountRepositoryAdapter is the implementation of AccountRepositoryPort interface,
  * responsible for managing account entities in the database using Spring Data JPA.
  * It provides the necessary methods for saving, finding, and deleting accounts.
+ * Accounts read from the database carry their aggregated balance: for a sharded account the main balance
+ * plus the cached sum of its sub-balances.
  */
 @Repository
 public class AccountRepositoryAdapter implements AccountRepositoryPort {
 
     private final SpringDataAccountRepository repo;
+    private final IdGeneratorPort idGeneratorPort;
+    private final SubBalanceSumCache subBalanceSumCache;
 
     /**
      * Constructor to inject the SpringDataAccountRepository.
      *
-     * @param repo the Spring Data JPA repository for account entities
+     * @param repo               the Spring Data JPA repository for account entities
+     * @param idGeneratorPort    generator for the IDs of new accounts
+     * @param subBalanceSumCache summed sub-balances of sharded accounts
      */
-    public AccountRepositoryAdapter(SpringDataAccountRepository repo) {
+    public AccountRepositoryAdapter(SpringDataAccountRepository repo,
+                                    IdGeneratorPort idGeneratorPort,
+                                    SubBalanceSumCache subBalanceSumCache) {
         this.repo = repo;
+        this.idGeneratorPort = idGeneratorPort;
+        this.subBalanceSumCache = subBalanceSumCache;
     }
 
     /**
      * Saves the given Account object into the database.
+     * An account without an ID gets one from the configured {@link IdGeneratorPort} and is inserted directly;
+     * an account with an ID is merged into the current persistence context as an UPDATE.
+     * A sharded account's balance cannot be saved this way, see {@link com.ftp.fundtransferservice.domain.ports.out.BalanceShardPort}.
      *
      * @param account the Account object to save
      * @return the saved Account object
@@ -41,7 +56,16 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
         if (account == null) {
             throw new IllegalArgumentException("Account cannot be null");
         }
+        if (account.isSharded()) {
+            throw new IllegalArgumentException("The balance of sharded account " + account.getId()
+                    + " must be changed through its sub-balances");
+        }
         AccountEntity entity = AccountMapper.toEntity(account);
+        if (account.getId() == null) {
+            entity.setId(idGeneratorPort.nextId());
+        } else {
+            entity.markNotNew();
+        }
         return AccountMapper.toDomain(repo.save(entity));
     }
 
@@ -71,7 +95,7 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
         if (id == null) {
             throw new IllegalArgumentException("ID cannot be null");
         }
-        return repo.findById(id).map(AccountMapper::toDomain).orElse(null);
+        return repo.findById(id).map(this::toDomain).orElse(null);
     }
 
     /**
@@ -82,7 +106,23 @@ public class AccountRepositoryAdapter implements AccountRepositoryPort {
     @Override
     public List<Account> findAll() {
         return repo.findAll().stream()
-                .map(AccountMapper::toDomain)
+                .map(this::toDomain)
                 .collect(Collectors.toList());
     }
+
+    /**
+     * Finds the IDs of all accounts without loading the accounts themselves.
+     *
+     * @return the IDs of all accounts, in ascending order
+     */
+    @Override
+    public List<UUID> findAllIds() {
+        return repo.findAllIds();
+    }
+
+    private Account toDomain(AccountEntity entity) {
+        return entity.getShardCount() > 1
+                ? AccountMapper.toDomain(entity, subBalanceSumCache.sum(entity.getId()))
+                : AccountMapper.toDomain(entity);
+    }
 }
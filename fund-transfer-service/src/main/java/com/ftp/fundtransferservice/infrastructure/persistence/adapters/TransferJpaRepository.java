@@ -1,6 +1,7 @@
 package com.ftp.fundtransferservice.infrastructure.persistence.adapters;
 
 import com.ftp.fundtransferservice.infrastructure.db.entities.TransferEntity;
+import com.ftp.fundtransferservice.shared.constants.TransferStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -38,5 +39,5 @@ public interface TransferJpaRepository extends JpaRepository<TransferEntity, UUI
      * @param pageable the pageable object containing page request info
      * @return a page of transfer records for the given status
      */
-    Page<TransferEntity> findByStatus(String status, Pageable pageable);
+    Page<TransferEntity> findByStatus(TransferStatus status, Pageable pageable);
 }
@@ -0,0 +1,128 @@
+package com.ftp.fundtransferservice.infrastructure.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * IdentityAssertionVerifier checks the identity assertion the gateway adds once it has verified the JWT.
+ * <p>
+ * The assertion is <code>v1.&lt;epoch seconds&gt;.&lt;base64url HMAC-SHA256&gt;</code>, the MAC being computed over
+ * <code>v1\n&lt;epoch seconds&gt;\n&lt;X-User-Id&gt;\n&lt;X-Username&gt;\n&lt;X-Roles&gt;</code>. The gateway's
+ * <code>IdentityAssertionSigner</code> produces the same format; both must change together.
+ * <p>
+ * Verifying costs one HMAC over a few dozen bytes instead of parsing and verifying the JWT, while a client can still
+ * not forge the identity headers: without the shared secret it cannot produce a matching MAC, and a captured
+ * assertion stops being accepted after <code>maxAge</code>.
+ */
+public class IdentityAssertionVerifier {
+
+    public static final String ASSERTION_HEADER = "X-Identity-Assertion";
+    public static final String USER_ID_HEADER = "X-User-Id";
+    public static final String USERNAME_HEADER = "X-Username";
+    public static final String ROLES_HEADER = "X-Roles";
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /**
+     * The identity carried by a valid assertion.
+     */
+    public record VerifiedIdentity(String userId, String username, List<String> roles) {
+    }
+
+    private final ThreadLocal<Mac> macs;
+    private final long maxAgeSeconds;
+    private final long clockSkewSeconds;
+    private final Clock clock;
+
+    public IdentityAssertionVerifier(String secret, Duration maxAge, Duration clockSkew, Clock clock) {
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        // Mac instances are not thread-safe; one per request thread avoids the provider lookup on every request
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+        this.maxAgeSeconds = maxAge.toSeconds();
+        this.clockSkewSeconds = clockSkew.toSeconds();
+        this.clock = clock;
+    }
+
+    private IdentityAssertionVerifier() {
+        this.macs = null;
+        this.maxAgeSeconds = 0;
+        this.clockSkewSeconds = 0;
+        this.clock = null;
+    }
+
+    /**
+     * Returns a verifier that rejects every assertion, for when requests are authenticated by JWT only.
+     */
+    public static IdentityAssertionVerifier disabled() {
+        return new IdentityAssertionVerifier();
+    }
+
+    public boolean isEnabled() {
+        return macs != null;
+    }
+
+    /**
+     * Verifies the assertion against the identity headers it covers.
+     *
+     * @return the identity, or empty if a header is missing, the MAC does not match or the assertion is too old
+     */
+    public Optional<VerifiedIdentity> verify(String assertion, String userId, String username, String roles) {
+        if (!isEnabled() || assertion == null || userId == null || username == null || roles == null) {
+            return Optional.empty();
+        }
+
+        int firstDot = assertion.indexOf('.');
+        int secondDot = assertion.indexOf('.', firstDot + 1);
+        if (firstDot < 0 || secondDot < 0 || !VERSION.equals(assertion.substring(0, firstDot))) {
+            return Optional.empty();
+        }
+        String timestamp = assertion.substring(firstDot + 1, secondDot);
+        long issuedAt;
+        byte[] presented;
+        try {
+            issuedAt = Long.parseLong(timestamp);
+            presented = Base64.getUrlDecoder().decode(assertion.substring(secondDot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        long now = clock.instant().getEpochSecond();
+        if (now - issuedAt > maxAgeSeconds || issuedAt - now > clockSkewSeconds) {
+            return Optional.empty();
+        }
+
+        byte[] expected = mac(VERSION + '\n' + timestamp + '\n' + userId + '\n' + username + '\n' + roles);
+        // Constant-time comparison, so response timing does not reveal how much of a forged MAC matched
+        if (!MessageDigest.isEqual(expected, presented)) {
+            return Optional.empty();
+        }
+
+        List<String> roleList = Arrays.stream(roles.split(","))
+                .map(String::trim)
+                .filter(role -> !role.isEmpty())
+                .toList();
+        return Optional.of(new VerifiedIdentity(userId, username, roleList));
+    }
+
+    private byte[] mac(String payload) {
+        return macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,5 +1,8 @@
 package com.ftp.fundtransferservice.infrastructure.security;
 
+import com.ftp.fundtransferservice.config.IdentityAssertionProperties;
+import com.ftp.fundtransferservice.infrastructure.security.IdentityAssertionVerifier.VerifiedIdentity;
+import com.ftp.fundtransferservice.shared.constants.AuthenticationMode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,20 +12,32 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
-import io.jsonwebtoken.*;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.logging.Logger;
+import java.util.Optional;
 
+/**
+ * Authenticates requests according to <code>ftp.security.authentication-mode</code>: by the gateway's identity
+ * assertion (see {@link IdentityAssertionVerifier}), by the bearer JWT, or by the assertion with the JWT as fallback.
+ */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private static final Logger logger = Logger.getLogger(JwtAuthenticationFilter.class.getName());
+    private final IdentityAssertionVerifier identityAssertionVerifier;
+    private final AuthenticationMode authenticationMode;
+    private static final Logger log = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
+    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider,
+                                   IdentityAssertionVerifier identityAssertionVerifier,
+                                   IdentityAssertionProperties properties) {
         this.jwtTokenProvider = jwtTokenProvider;
+        this.identityAssertionVerifier = identityAssertionVerifier;
+        this.authenticationMode = properties.getAuthenticationMode();
     }
 
     @Override
@@ -30,30 +45,64 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
+        if (authenticationMode != AuthenticationMode.JWT) {
+            if (authenticateByAssertion(request)) {
+                filterChain.doFilter(request, response);
+                return;
+            }
+            if (authenticationMode == AuthenticationMode.ASSERTION) {
+                // Left unauthenticated: protected endpoints answer 403
+                filterChain.doFilter(request, response);
+                return;
+            }
+        }
+
         String header = request.getHeader("Authorization");
 
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);
 
-            try {
-                if (jwtTokenProvider.validateToken(token)) {
-                    String username = jwtTokenProvider.getUsernameFromToken(token);
-                    String role = jwtTokenProvider.getRoleFromToken(token);
-
-                    var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
-                    var auth = new UsernamePasswordAuthenticationToken(username, null, authorities);
-                    SecurityContextHolder.getContext().setAuthentication(auth);
-                } else {
-                    logger.warning("Invalid token: " + token);
-                }
-            } catch (JwtException e) {
-                logger.warning("JWT validation failed: " + e.getMessage());
-                // Optionally, send a response with an error code or message
+            // Verified and read in one parse
+            Optional<Claims> claims = jwtTokenProvider.parse(token);
+            if (claims.isPresent()) {
+                String username = claims.get().getSubject();
+                String role = jwtTokenProvider.getRole(claims.get());
+
+                var authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+                var auth = new UsernamePasswordAuthenticationToken(username, null, authorities);
+                SecurityContextHolder.getContext().setAuthentication(auth);
+            } else {
+                // Never log the token itself, it is a bearer credential
+                log.warn("Invalid token for {} {}", request.getMethod(), request.getRequestURI());
             }
         } else {
-            logger.warning("Authorization header is missing or does not contain Bearer token");
+            log.debug("Authorization header is missing or does not contain Bearer token");
         }
 
         filterChain.doFilter(request, response);
     }
+
+    private boolean authenticateByAssertion(HttpServletRequest request) {
+        String assertion = request.getHeader(IdentityAssertionVerifier.ASSERTION_HEADER);
+        if (assertion == null) {
+            log.debug("Identity assertion header is missing");
+            return false;
+        }
+
+        Optional<VerifiedIdentity> identity = identityAssertionVerifier.verify(assertion,
+                request.getHeader(IdentityAssertionVerifier.USER_ID_HEADER),
+                request.getHeader(IdentityAssertionVerifier.USERNAME_HEADER),
+                request.getHeader(IdentityAssertionVerifier.ROLES_HEADER));
+        if (identity.isEmpty()) {
+            log.warn("Invalid or expired identity assertion for {} {}", request.getMethod(), request.getRequestURI());
+            return false;
+        }
+
+        var authorities = identity.get().roles().stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList();
+        var auth = new UsernamePasswordAuthenticationToken(identity.get().username(), null, authorities);
+        SecurityContextHolder.getContext().setAuthentication(auth);
+        return true;
+    }
 }
@@ -0,0 +1,9 @@
+package com.ftp.fundtransferservice.shared.constants;
+
+/**
+ * Side of a transfer as seen from one account: money leaving (DEBIT) or arriving (CREDIT).
+ */
+public enum ActivityDirection {
+    DEBIT,
+    CREDIT
+}
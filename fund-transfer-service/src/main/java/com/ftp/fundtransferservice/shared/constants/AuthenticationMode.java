@@ -0,0 +1,8 @@
+package com.ftp.fundtransferservice.shared.constants;
+
+
+public enum AuthenticationMode {
+    JWT,
+    ASSERTION,
+    ASSERTION_OR_JWT
+}
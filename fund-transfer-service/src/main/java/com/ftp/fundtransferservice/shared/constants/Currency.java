@@ -1,8 +1,22 @@
 package com.ftp.fundtransferservice.shared.constants;
 
+/**
+ * Supported currencies with the number of digits of their minor unit (cents, pence, ...),
+ * which is the scale of every {@code Money} amount in that currency.
+ * New currencies must be added at the end: the ledger journal stores the ordinal.
+ */
 public enum Currency {
-    USD,
-    EUR,
-    GBP,
+    USD(2),
+    EUR(2),
+    GBP(2);
 
+    private final int fractionDigits;
+
+    Currency(int fractionDigits) {
+        this.fractionDigits = fractionDigits;
+    }
+
+    public int getFractionDigits() {
+        return fractionDigits;
+    }
 }
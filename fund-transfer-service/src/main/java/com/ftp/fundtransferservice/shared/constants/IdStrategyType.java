@@ -0,0 +1,7 @@
+package com.ftp.fundtransferservice.shared.constants;
+
+
+public enum IdStrategyType {
+    UUID_V7,
+    UUID_V4
+}
@@ -1,13 +1,39 @@
 package com.ftp.fundtransferservice.shared.constants;
 
+import com.ftp.fundtransferservice.domain.model.Money;
+
 import java.math.BigDecimal;
+import java.util.EnumMap;
+import java.util.Map;
 
 public class TransferConstants {
 
     public static final BigDecimal MAX_TRANSFER_AMOUNT = new BigDecimal("10000.00");
     public static final BigDecimal MIN_TRANSFER_AMOUNT = new BigDecimal("1.00");
 
+    public static final String AMOUNT_OUT_OF_RANGE_MESSAGE =
+            "Transfer amount must be between " + MIN_TRANSFER_AMOUNT + " and " + MAX_TRANSFER_AMOUNT;
+
+    // The limits above per currency, converted once instead of on every transfer
+    private static final Map<Currency, Money> MAX_TRANSFER = new EnumMap<>(Currency.class);
+    private static final Map<Currency, Money> MIN_TRANSFER = new EnumMap<>(Currency.class);
+
+    static {
+        for (Currency currency : Currency.values()) {
+            MAX_TRANSFER.put(currency, Money.of(MAX_TRANSFER_AMOUNT, currency));
+            MIN_TRANSFER.put(currency, Money.of(MIN_TRANSFER_AMOUNT, currency));
+        }
+    }
+
     private TransferConstants() {
         // Prevent instantiation
     }
+
+    /**
+     * Whether the amount lies within [MIN_TRANSFER_AMOUNT, MAX_TRANSFER_AMOUNT] of its currency.
+     */
+    public static boolean isWithinLimits(Money amount) {
+        return !amount.isLessThan(MIN_TRANSFER.get(amount.getCurrency()))
+                && !MAX_TRANSFER.get(amount.getCurrency()).isLessThan(amount);
+    }
 }
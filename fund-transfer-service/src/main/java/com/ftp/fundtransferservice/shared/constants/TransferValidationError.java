@@ -0,0 +1,44 @@
+package com.ftp.fundtransferservice.shared.constants;
+
+import com.ftp.fundtransferservice.shared.exception.TransferValidationException;
+
+/**
+ * The reasons a transfer request can be rejected before it reaches the use case.
+ * <p>
+ * Each constant carries the error code and message of the response, and one preallocated
+ * {@link TransferValidationException} to throw, so rejecting a request allocates nothing either.
+ */
+public enum TransferValidationError {
+
+    SENDER_REQUIRED("INVALID_TRANSFER_REQUEST", "senderId must not be null"),
+    RECEIVER_REQUIRED("INVALID_TRANSFER_REQUEST", "receiverId must not be null"),
+    AMOUNT_REQUIRED("INVALID_TRANSFER_REQUEST", "amount must not be null"),
+    CURRENCY_REQUIRED("INVALID_TRANSFER_REQUEST", "currency must not be null"),
+    AMOUNT_TOO_PRECISE("INVALID_TRANSFER_AMOUNT", "Transfer amount must not have more decimal places than its currency"),
+    AMOUNT_OUT_OF_RANGE("INVALID_TRANSFER_AMOUNT", TransferConstants.AMOUNT_OUT_OF_RANGE_MESSAGE);
+
+    private final String errorCode;
+    private final String message;
+    private final TransferValidationException exception;
+
+    TransferValidationError(String errorCode, String message) {
+        this.errorCode = errorCode;
+        this.message = message;
+        this.exception = new TransferValidationException(this);
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * @return the shared, stackless exception for this error
+     */
+    public TransferValidationException exception() {
+        return exception;
+    }
+}
@@ -38,6 +38,22 @@ public class AppBaseException extends RuntimeException {
         this.timestamp = LocalDateTime.now();
     }
 
+    /**
+     * Constructor for exceptions that are allocated once and thrown many times: no stack trace, no suppressed
+     * exceptions and no timestamp, since neither would describe a particular occurrence.
+     *
+     * @param message The custom error message.
+     * @param errorCode The error code associated with this exception.
+     * @param httpStatus The HTTP status code to be returned.
+     * @param writableStackTrace Whether to fill in the stack trace.
+     */
+    protected AppBaseException(String message, String errorCode, HttpStatus httpStatus, boolean writableStackTrace) {
+        super(message, null, writableStackTrace, writableStackTrace);
+        this.errorCode = errorCode;
+        this.httpStatus = httpStatus;
+        this.timestamp = writableStackTrace ? LocalDateTime.now() : null;
+    }
+
     public String getErrorCode() {
         return errorCode;
     }
@@ -33,6 +33,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(ex.getHttpStatus()).body(response);
     }
 
+    // Handle TransferValidationException (shared instances, see TransferRequestValidator)
+    @ExceptionHandler(TransferValidationException.class)
+    public ResponseEntity<Map<String, Object>> handleTransferValidation(TransferValidationException ex) {
+        Map<String, Object> response = buildBaseError(ex.getMessage(), ex.getErrorCode());
+        return ResponseEntity.status(ex.getHttpStatus()).body(response);
+    }
+
     // Handle generic fallback
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, Object>> handleAnyException(Exception ex) {
@@ -0,0 +1,29 @@
+package com.ftp.fundtransferservice.shared.exception;
+
+import com.ftp.fundtransferservice.shared.constants.TransferValidationError;
+import org.springframework.http.HttpStatus;
+
+/**
+ * Thrown when a transfer request fails validation.
+ * <p>
+ * There is exactly one instance per {@link TransferValidationError}, obtained via
+ * {@link TransferValidationError#exception()}. It has no stack trace and no timestamp.
+ */
+public class TransferValidationException extends AppBaseException {
+
+    private final transient TransferValidationError error;
+
+    /**
+     * Constructor to create the shared exception of a validation error
+     *
+     * @param error The validation error.
+     */
+    public TransferValidationException(TransferValidationError error) {
+        super(error.getMessage(), error.getErrorCode(), HttpStatus.BAD_REQUEST, false);
+        this.error = error;
+    }
+
+    public TransferValidationError getError() {
+        return error;
+    }
+}
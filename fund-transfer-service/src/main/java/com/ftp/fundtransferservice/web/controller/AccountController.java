@@ -4,6 +4,8 @@
  * 1. Create a new account for a specific user with an initial balance.
  * 2. Retrieve an account's details by its unique account ID.
  * 3. Delete an account by its ID.
+ * 4. List an account's transfers, newest first, with keyset paging.
+ * 5. Spread a hot account's balance across sub-balances (ADMIN only).
  *
  * The service is secured using JWT authentication (bearer token).
  * The controller leverages logging for monitoring and debugging actions.
@@ -12,8 +14,14 @@ package com.ftp.fundtransferservice.web.controller;
 
 import com.ftp.fundtransferservice.application.service.AccountService;
 import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.model.AccountActivityPage;
+import com.ftp.fundtransferservice.domain.ports.in.ConfigureBalanceShardingUseCase;
+import com.ftp.fundtransferservice.domain.ports.in.GetAccountTransfersUseCase;
 import com.ftp.fundtransferservice.web.dto.request.AccountRequest;
+import com.ftp.fundtransferservice.web.dto.request.AccountShardingRequest;
 import com.ftp.fundtransferservice.web.dto.response.AccountResponse;
+import com.ftp.fundtransferservice.web.dto.response.AccountTransfersResponse;
+import com.ftp.fundtransferservice.web.mappers.AccountActivityDtoMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import org.springframework.http.ResponseEntity;
@@ -29,15 +37,27 @@ import java.util.UUID;
 public class AccountController {
 
     private final AccountService accountService;
+    private final GetAccountTransfersUseCase getAccountTransfersUseCase;
+    private final AccountActivityDtoMapper accountActivityDtoMapper;
+    private final ConfigureBalanceShardingUseCase configureBalanceShardingUseCase;
     private static final Logger logger = LoggerFactory.getLogger(AccountController.class); // Logger for logging the actions
 
     /**
      * Constructor to inject the AccountService dependency.
      *
-     * @param accountService The service that handles business logic for accounts.
+     * @param accountService             The service that handles business logic for accounts.
+     * @param getAccountTransfersUseCase The use case reading an account's transfer history.
+     * @param accountActivityDtoMapper   Mapper for history pages and their cursors.
+     * @param configureBalanceShardingUseCase The use case switching an account's balance sharding.
      */
-    public AccountController(AccountService accountService) {
+    public AccountController(AccountService accountService,
+                             GetAccountTransfersUseCase getAccountTransfersUseCase,
+                             AccountActivityDtoMapper accountActivityDtoMapper,
+                             ConfigureBalanceShardingUseCase configureBalanceShardingUseCase) {
         this.accountService = accountService;
+        this.getAccountTransfersUseCase = getAccountTransfersUseCase;
+        this.accountActivityDtoMapper = accountActivityDtoMapper;
+        this.configureBalanceShardingUseCase = configureBalanceShardingUseCase;
     }
 
     /**
@@ -57,7 +77,7 @@ public class AccountController {
         logger.info("Creating new account for userId: {}", request.getUserId()); // Logging account creation
         Account created = accountService.createAccount(request.getUserId(), request.getBalance());
         logger.info("Account created successfully with ID: {}", created.getId()); // Log account creation success
-        return ResponseEntity.ok(new AccountResponse(created.getId(), created.getUserId(), created.getBalance()));
+        return ResponseEntity.ok(new AccountResponse(created.getId(), created.getUserId(), created.getBalance().toBigDecimal()));
     }
 
     /**
@@ -81,7 +101,54 @@ public class AccountController {
             return ResponseEntity.notFound().build();
         }
         logger.info("Account found with ID: {}", id); // Log success if account is found
-        return ResponseEntity.ok(new AccountResponse(account.getId(), account.getUserId(), account.getBalance()));
+        return ResponseEntity.ok(new AccountResponse(account.getId(), account.getUserId(), account.getBalance().toBigDecimal()));
+    }
+
+    /**
+     * Lists the transfers of an account, newest first.
+     * Pass the nextCursor of a response as cursor to read the following page.
+     *
+     * @param id     The unique ID of the account.
+     * @param cursor The cursor returned with the previous page, absent for the first page.
+     * @param limit  The page size (1 - 100).
+     * @return One page of the account's transfers.
+     */
+    @GetMapping("/{id}/transfers")
+    @Operation(
+            summary = "List an account's transfers",
+            description = "Returns the transfers sent or received by the account, newest first. "
+                    + "Use the nextCursor of a response to fetch the following page."
+    )
+    public ResponseEntity<AccountTransfersResponse> getAccountTransfers(@PathVariable UUID id,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "20") int limit) {
+        logger.debug("Fetching transfers of account {} (limit {})", id, limit);
+        AccountActivityDtoMapper.Cursor position = accountActivityDtoMapper.decodeCursor(cursor);
+        AccountActivityPage page = position == null
+                ? getAccountTransfersUseCase.getAccountTransfers(id, null, null, limit)
+                : getAccountTransfersUseCase.getAccountTransfers(id, position.createdAt(), position.transferId(), limit);
+        return ResponseEntity.ok(accountActivityDtoMapper.toResponse(page));
+    }
+
+    /**
+     * Spreads the balance of a hot account across the given number of sub-balances, so concurrent credits
+     * no longer wait for each other on the account row. The balance is preserved; 1 turns sharding off.
+     *
+     * @param id      The unique ID of the account.
+     * @param request The number of sub-balances.
+     * @return The account with its aggregated balance.
+     */
+    @PutMapping("/{id}/sharding")
+    @Operation(
+            summary = "Configure balance sharding",
+            description = "Spreads the account's balance across shardCount sub-balances to raise the credit "
+                    + "throughput of a hot account. A shardCount of 1 turns sharding off. ADMIN only."
+    )
+    public ResponseEntity<AccountResponse> configureSharding(@PathVariable UUID id,
+                                                             @RequestBody AccountShardingRequest request) {
+        logger.info("Setting shard count of account {} to {}", id, request.getShardCount());
+        Account account = configureBalanceShardingUseCase.configureSharding(id, request.getShardCount());
+        return ResponseEntity.ok(new AccountResponse(account.getId(), account.getUserId(), account.getBalance().toBigDecimal()));
     }
 
     /**
@@ -0,0 +1,108 @@
+/**
+ * StatementController serves the monthly statements of an account.
+ * The statement is refreshed from the account's latest activity, then streamed as CSV or
+ * as a JSON document ready to be rendered into a PDF.
+ *
+ * The service is secured using JWT authentication (bearer token).
+ */
+package com.ftp.fundtransferservice.web.controller;
+
+import com.ftp.fundtransferservice.domain.model.Statement;
+import com.ftp.fundtransferservice.domain.ports.in.GetAccountStatementUseCase;
+import com.ftp.fundtransferservice.shared.exception.AppException;
+import com.ftp.fundtransferservice.web.mappers.StatementDocumentWriter;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/accounts")
+@SecurityRequirement(name = "bearerAuth")
+public class StatementController {
+
+    private static final MediaType TEXT_CSV = new MediaType("text", "csv");
+
+    private final GetAccountStatementUseCase getAccountStatementUseCase;
+    private final StatementDocumentWriter statementDocumentWriter;
+    private static final Logger logger = LoggerFactory.getLogger(StatementController.class);
+
+    /**
+     * @param getAccountStatementUseCase The use case computing and reading statements.
+     * @param statementDocumentWriter    Renders a statement as CSV or JSON.
+     */
+    public StatementController(GetAccountStatementUseCase getAccountStatementUseCase,
+                               StatementDocumentWriter statementDocumentWriter) {
+        this.getAccountStatementUseCase = getAccountStatementUseCase;
+        this.statementDocumentWriter = statementDocumentWriter;
+    }
+
+    /**
+     * Returns the statement of an account for one month.
+     * The summary is computed before the response starts, so errors still produce a regular error response;
+     * the line items are streamed afterwards.
+     *
+     * @param id     The unique ID of the account.
+     * @param period The month, formatted yyyy-MM.
+     * @param format "json" (default) or "csv".
+     * @return The streamed statement document.
+     */
+    @GetMapping("/{id}/statements/{period}")
+    @Operation(
+            summary = "Get an account statement",
+            description = "Returns the opening and closing balance, the totals and every transfer of the account "
+                    + "in the given month (yyyy-MM), as JSON or as CSV (format=csv)."
+    )
+    public ResponseEntity<StreamingResponseBody> getStatement(@PathVariable UUID id,
+                                                              @PathVariable String period,
+                                                              @RequestParam(defaultValue = "json") String format) {
+        boolean csv = parseFormat(format);
+        Statement statement = getAccountStatementUseCase.getStatement(id, parsePeriod(period));
+        logger.debug("Streaming {} statement of account {} for {}", format, id, period);
+
+        StreamingResponseBody body = csv
+                ? out -> statementDocumentWriter.writeCsv(statement,
+                        consumer -> getAccountStatementUseCase.forEachLine(statement, consumer), out)
+                : out -> statementDocumentWriter.writeJson(statement,
+                        consumer -> getAccountStatementUseCase.forEachLine(statement, consumer), out);
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(csv ? TEXT_CSV : MediaType.APPLICATION_JSON);
+        if (csv) {
+            response.header(HttpHeaders.CONTENT_DISPOSITION,
+                    "attachment; filename=\"statement-" + id + "-" + period + ".csv\"");
+        }
+        return response.body(body);
+    }
+
+    private static YearMonth parsePeriod(String period) {
+        try {
+            return YearMonth.parse(period);
+        } catch (DateTimeParseException e) {
+            throw new AppException("Period must be formatted yyyy-MM", "INVALID_PERIOD",
+                    HttpStatus.BAD_REQUEST, LocalDateTime.now());
+        }
+    }
+
+    // True for CSV, false for JSON
+    private static boolean parseFormat(String format) {
+        if ("csv".equalsIgnoreCase(format)) {
+            return true;
+        }
+        if ("json".equalsIgnoreCase(format)) {
+            return false;
+        }
+        throw new AppException("Format must be json or csv", "INVALID_FORMAT", HttpStatus.BAD_REQUEST, LocalDateTime.now());
+    }
+}
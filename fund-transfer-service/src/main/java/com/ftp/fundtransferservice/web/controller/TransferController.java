@@ -7,16 +7,18 @@ import com.ftp.fundtransferservice.shared.exception.InsufficientBalanceException
 import com.ftp.fundtransferservice.web.dto.request.TransferRequest;
 import com.ftp.fundtransferservice.web.dto.response.TransferResponse;
 import com.ftp.fundtransferservice.web.mappers.TransferDtoMapper;
+import com.ftp.fundtransferservice.web.validation.TransferRequestValidator;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
-import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -39,6 +41,7 @@ public class TransferController {
     private final CreateTransferUseCase createTransferUseCase;
     private final TransferDtoMapper transferDtoMapper;
     private final GetTransfersUseCase getTransfersUseCase;
+    private final TransferRequestValidator transferRequestValidator;
 
     /**
      * Constructor to inject the required dependencies.
@@ -46,35 +49,45 @@ public class TransferController {
      * @param createTransferUseCase The use case that handles fund transfer creation logic.
      * @param getTransfersUseCase The use case that fetches all transfers.
      * @param transferDtoMapper A mapper for transforming Transfer entities to TransferResponse DTOs.
+     * @param transferRequestValidator The validator for incoming transfer requests.
      */
     public TransferController(CreateTransferUseCase createTransferUseCase,
                               GetTransfersUseCase getTransfersUseCase,
-                              TransferDtoMapper transferDtoMapper) {
+                              TransferDtoMapper transferDtoMapper,
+                              TransferRequestValidator transferRequestValidator) {
         this.createTransferUseCase = createTransferUseCase;
         this.transferDtoMapper = transferDtoMapper;
         this.getTransfersUseCase = getTransfersUseCase;
+        this.transferRequestValidator = transferRequestValidator;
     }
 
     /**
-     * Retrieves all the fund transfers.
+     * Retrieves the fund transfers, optionally restricted to a creation-time window.
      *
-     * This endpoint fetches all transfer transactions in the system.
-     * It returns a list of transfers along with their details.
+     * Without parameters this endpoint fetches all transfer transactions in the system.
+     * With {@code from} and/or {@code to} only transfers created in [from, to) are returned,
+     * which lets the database read only the matching monthly partitions.
      *
+     * @param from optional inclusive lower bound (ISO date-time)
+     * @param to   optional exclusive upper bound (ISO date-time)
      * @return A ResponseEntity containing a list of TransferResponse DTOs.
      */
     @GetMapping
     @Operation(
             summary = "Get all transfers",
-            description = "Retrieves a list of all fund transfer transactions. Requires a valid JWT token."
+            description = "Retrieves fund transfer transactions, optionally created within [from, to). Requires a valid JWT token."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of transfers successfully retrieved"),
             @ApiResponse(responseCode = "401", description = "Unauthorized - missing or invalid token"),
             @ApiResponse(responseCode = "500", description = "Server error while fetching transfers")
     })
-    public ResponseEntity<List<TransferResponse>> getAllTransfers() {
-        List<Transfer> transfers = getTransfersUseCase.getTransfers();
+    public ResponseEntity<List<TransferResponse>> getAllTransfers(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        List<Transfer> transfers = (from == null && to == null)
+                ? getTransfersUseCase.getTransfers()
+                : getTransfersUseCase.getTransfers(from, to);
         List<TransferResponse> responses = transfers.stream()
                 .map(transferDtoMapper::toResponse) // Mapping each transfer entity to TransferResponse
                 .collect(Collectors.toList()); // Collecting the list of responses
@@ -97,12 +110,14 @@ public class TransferController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Transfer completed successfully"),
-            @ApiResponse(responseCode = "400", description = "Invalid transfer amount"),
+            @ApiResponse(responseCode = "400", description = "Invalid transfer request or amount"),
             @ApiResponse(responseCode = "404", description = "Account not found"),
             @ApiResponse(responseCode = "500", description = "Internal server error")
     })
-    public ResponseEntity<TransferResponse> createTransfer(@Valid @RequestBody TransferRequest request) {
-        log.info("Starting transfer from senderId={} to receiverId={} for amount={}",
+    public ResponseEntity<TransferResponse> createTransfer(@RequestBody TransferRequest request) {
+        transferRequestValidator.validateOrThrow(request);
+
+        log.debug("Starting transfer from senderId={} to receiverId={} for amount={}",
                 request.getSenderId(), request.getReceiverId(), request.getAmount());
 
         // Optional: Simulating delay for testing concurrency (can be removed after testing)
@@ -120,7 +135,7 @@ public class TransferController {
                 request.getCurrency()
         );
 
-        log.info("Transfer successful: {}", transfer.getId());
+        log.debug("Transfer successful: {}", transfer.getId());
 
         return ResponseEntity.ok(transferDtoMapper.toResponse(transfer)); // Returning the transfer details as a response
     }
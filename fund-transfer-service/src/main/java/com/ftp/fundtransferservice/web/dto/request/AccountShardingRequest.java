@@ -0,0 +1,36 @@
+package com.ftp.fundtransferservice.web.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+
+/**
+ * AccountShardingRequest is a Data Transfer Object (DTO) used for spreading a hot account's balance
+ * across several sub-balances.
+ */
+public class AccountShardingRequest {
+
+    /**
+     * The number of sub-balances; 1 turns sharding off.
+     */
+    @Min(value = 1, message = "shardCount must be at least 1")
+    @Schema(description = "Number of sub-balances, 1 turns sharding off", example = "16", required = true)
+    private int shardCount;
+
+    /**
+     * Gets the number of sub-balances.
+     *
+     * @return the shard count
+     */
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Sets the number of sub-balances.
+     *
+     * @param shardCount the shard count
+     */
+    public void setShardCount(int shardCount) {
+        this.shardCount = shardCount;
+    }
+}
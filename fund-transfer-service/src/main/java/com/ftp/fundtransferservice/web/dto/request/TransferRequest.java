@@ -2,7 +2,6 @@ package com.ftp.fundtransferservice.web.dto.request;
 
 import com.ftp.fundtransferservice.shared.constants.Currency;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotNull;
 
 import java.math.BigDecimal;
@@ -12,6 +11,7 @@ import java.util.UUID;
  * TransferRequest is a Data Transfer Object (DTO) used for initiating a fund transfer.
  * This DTO includes all the necessary information to perform a transfer:
  * senderId, receiverId, amount, and currency.
+ * The constraint annotations document the API; requests are validated by TransferRequestValidator.
  */
 public class TransferRequest {
 
@@ -33,10 +33,9 @@ public class TransferRequest {
 
     /**
      * The amount of money to be transferred.
-     * This field is required and must be a valid monetary value.
+     * This field is required and must be within the transfer limits, with at most the currency's decimals.
      */
     @NotNull(message = "amount must not be null")
-    @DecimalMin(value = "0.01", inclusive = true, message = "amount must be greater than zero")
     @Schema(description = "Amount of money to be transferred", example = "150.75", required = true)
     private BigDecimal amount;
 
@@ -0,0 +1,79 @@
+package com.ftp.fundtransferservice.web.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.ftp.fundtransferservice.shared.constants.ActivityDirection;
+import com.ftp.fundtransferservice.shared.constants.TransferStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO for one entry of an account's transfer history.
+ */
+@Schema(description = "One transfer as seen from a single account")
+public class AccountActivityResponse {
+
+    @Schema(description = "Unique identifier of the transfer", example = "d5b5c0c1-e3d7-4e55-b61f-4b9e6d4e2bfa", required = true)
+    private final UUID transferId;
+
+    @Schema(description = "The other account of the transfer", example = "b3f6a2f2-3a7d-42db-a5d2-1e1e0157c9c9", required = true)
+    private final UUID counterpartyId;
+
+    @Schema(description = "DEBIT if money left the account, CREDIT if it arrived", example = "DEBIT", required = true)
+    private final ActivityDirection direction;
+
+    @Schema(description = "The amount transferred", example = "250.00", required = true)
+    private final BigDecimal amount;
+
+    @Schema(description = "Currency code of the transfer", example = "USD", required = true)
+    private final String currency;
+
+    @Schema(description = "Status of the transfer", example = "COMPLETED", required = true)
+    private final TransferStatus status;
+
+    @Schema(description = "Timestamp when the transfer was created", example = "2025-07-20T14:30:00", required = true)
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private final LocalDateTime createdAt;
+
+    public AccountActivityResponse(UUID transferId, UUID counterpartyId, ActivityDirection direction,
+                                   BigDecimal amount, String currency,
+                                   TransferStatus status, LocalDateTime createdAt) {
+        this.transferId = transferId;
+        this.counterpartyId = counterpartyId;
+        this.direction = direction;
+        this.amount = amount;
+        this.currency = currency;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public UUID getTransferId() {
+        return transferId;
+    }
+
+    public UUID getCounterpartyId() {
+        return counterpartyId;
+    }
+
+    public ActivityDirection getDirection() {
+        return direction;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public TransferStatus getStatus() {
+        return status;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+}
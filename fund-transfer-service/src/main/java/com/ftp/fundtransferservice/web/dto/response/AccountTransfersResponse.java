@@ -0,0 +1,31 @@
+package com.ftp.fundtransferservice.web.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for one page of an account's transfer history.
+ */
+@Schema(description = "One page of an account's transfers, newest first")
+public class AccountTransfersResponse {
+
+    @Schema(description = "Transfers of this page", required = true)
+    private final List<AccountActivityResponse> items;
+
+    @Schema(description = "Opaque cursor of the next page; absent on the last page", example = "MjAyNS0wNy0yMFQxNDozMDowMC4xMjM0NTZ8ZDViNWMwYzE")
+    private final String nextCursor;
+
+    public AccountTransfersResponse(List<AccountActivityResponse> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<AccountActivityResponse> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
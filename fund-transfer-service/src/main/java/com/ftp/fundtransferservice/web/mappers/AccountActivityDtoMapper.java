@@ -0,0 +1,79 @@
+package com.ftp.fundtransferservice.web.mappers;
+
+import com.ftp.fundtransferservice.domain.model.AccountActivity;
+import com.ftp.fundtransferservice.domain.model.AccountActivityPage;
+import com.ftp.fundtransferservice.shared.exception.AppException;
+import com.ftp.fundtransferservice.web.dto.response.AccountActivityResponse;
+import com.ftp.fundtransferservice.web.dto.response.AccountTransfersResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * AccountActivityDtoMapper converts account history pages to response DTOs and encodes the paging cursor.
+ * <p>
+ * The cursor is the (createdAt, transferId) of the last entry of a page, base64url encoded so clients treat it
+ * as opaque. createdAt keeps its full fractional precision, which the next keyset query needs.
+ */
+@Component
+public class AccountActivityDtoMapper {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * Decoded cursor of a history page.
+     */
+    public record Cursor(LocalDateTime createdAt, UUID transferId) {
+    }
+
+    public AccountTransfersResponse toResponse(AccountActivityPage page) {
+        AccountActivity next = page.nextCursor();
+        return new AccountTransfersResponse(
+                page.items().stream().map(this::toResponse).toList(),
+                next != null ? encodeCursor(next.getCreatedAt(), next.getTransferId()) : null
+        );
+    }
+
+    public AccountActivityResponse toResponse(AccountActivity activity) {
+        return new AccountActivityResponse(
+                activity.getTransferId(),
+                activity.getCounterpartyId(),
+                activity.getDirection(),
+                activity.getAmount(),
+                activity.getCurrency().name(),
+                activity.getStatus(),
+                activity.getCreatedAt()
+        );
+    }
+
+    public String encodeCursor(LocalDateTime createdAt, UUID transferId) {
+        String raw = createdAt.toString() + SEPARATOR + transferId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor the cursor from a previous response, or null for the first page
+     * @return the decoded cursor, or null for the first page
+     * @throws AppException if the cursor is malformed
+     */
+    public Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new Cursor(LocalDateTime.parse(raw.substring(0, separator)), UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new AppException("Invalid cursor", "INVALID_CURSOR", HttpStatus.BAD_REQUEST, LocalDateTime.now());
+        }
+    }
+}
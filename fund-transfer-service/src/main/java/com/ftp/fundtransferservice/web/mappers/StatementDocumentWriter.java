@@ -0,0 +1,126 @@
+package com.ftp.fundtransferservice.web.mappers;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ftp.fundtransferservice.domain.model.AccountActivity;
+import com.ftp.fundtransferservice.domain.model.Statement;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+/**
+ * StatementDocumentWriter renders a statement and its line items as CSV or JSON directly to the response stream.
+ * <p>
+ * The line items are pulled from a callback one at a time and written immediately, so the size of a statement
+ * never affects memory. Every line carries the running balance after it, starting from the opening balance.
+ * <p>
+ * The JSON document holds every figure a PDF template needs: header, totals and the lines in order.
+ */
+@Component
+public class StatementDocumentWriter {
+
+    private static final String CSV_HEADER = "date,transfer_id,direction,counterparty_id,amount,currency,status,balance";
+
+    private final ObjectMapper objectMapper;
+
+    public StatementDocumentWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Writes the statement as CSV: summary rows prefixed with '#', then one row per line item.
+     *
+     * @param statement the statement
+     * @param lines     passes every line item of the statement to the given consumer
+     * @param out       the response stream
+     */
+    public void writeCsv(Statement statement, Consumer<Consumer<AccountActivity>> lines, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write("# account_id," + statement.getAccountId() + '\n');
+        writer.write("# period," + statement.getPeriod() + '\n');
+        writer.write("# opening_balance," + statement.getOpeningBalance().toPlainString() + '\n');
+        writer.write("# closing_balance," + statement.getClosingBalance().toPlainString() + '\n');
+        writer.write("# total_debits," + statement.getTotalDebits().toPlainString() + ',' + statement.getDebitCount() + '\n');
+        writer.write("# total_credits," + statement.getTotalCredits().toPlainString() + ',' + statement.getCreditCount() + '\n');
+        writer.write("# as_of," + format(statement.getAsOfCreatedAt()) + '\n');
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        BigDecimal[] balance = {statement.getOpeningBalance()};
+        lines.accept(line -> {
+            balance[0] = balance[0].add(line.getBalanceChange());
+            try {
+                writer.write(line.getCreatedAt() + "," + line.getTransferId() + "," + line.getDirection() + ","
+                        + line.getCounterpartyId() + "," + line.getAmount().toPlainString() + "," + line.getCurrency() + ","
+                        + line.getStatus() + "," + balance[0].toPlainString() + "\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    /**
+     * Writes the statement as one JSON document with the summary fields and a "lines" array.
+     *
+     * @param statement the statement
+     * @param lines     passes every line item of the statement to the given consumer
+     * @param out       the response stream
+     */
+    public void writeJson(Statement statement, Consumer<Consumer<AccountActivity>> lines, OutputStream out) throws IOException {
+        // Not closed: that would close the response stream, which belongs to the container
+        JsonGenerator json = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        json.writeStartObject();
+        json.writeStringField("accountId", statement.getAccountId().toString());
+        json.writeStringField("period", statement.getPeriod().toString());
+        json.writeNumberField("openingBalance", statement.getOpeningBalance());
+        json.writeNumberField("closingBalance", statement.getClosingBalance());
+        json.writeNumberField("totalDebits", statement.getTotalDebits());
+        json.writeNumberField("debitCount", statement.getDebitCount());
+        json.writeNumberField("totalCredits", statement.getTotalCredits());
+        json.writeNumberField("creditCount", statement.getCreditCount());
+        if (statement.getAsOfCreatedAt() != null) {
+            json.writeStringField("asOf", statement.getAsOfCreatedAt().toString());
+        } else {
+            json.writeNullField("asOf");
+        }
+        json.writeStringField("generatedAt", LocalDateTime.now().toString());
+
+        json.writeArrayFieldStart("lines");
+        BigDecimal[] balance = {statement.getOpeningBalance()};
+        lines.accept(line -> {
+            balance[0] = balance[0].add(line.getBalanceChange());
+            try {
+                json.writeStartObject();
+                json.writeStringField("date", line.getCreatedAt().toString());
+                json.writeStringField("transferId", line.getTransferId().toString());
+                json.writeStringField("direction", line.getDirection().name());
+                json.writeStringField("counterpartyId", line.getCounterpartyId().toString());
+                json.writeNumberField("amount", line.getAmount());
+                json.writeStringField("currency", line.getCurrency().name());
+                json.writeStringField("status", line.getStatus().name());
+                json.writeNumberField("balance", balance[0]);
+                json.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        json.writeEndArray();
+        json.writeEndObject();
+        json.flush();
+    }
+
+    private static String format(LocalDateTime time) {
+        return time != null ? time.toString() : "";
+    }
+}
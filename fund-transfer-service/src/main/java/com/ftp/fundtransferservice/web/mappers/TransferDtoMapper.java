@@ -28,7 +28,7 @@ public class TransferDtoMapper {
                 transfer.getId(),                       // Transfer unique identifier
                 transfer.getSenderId(),                 // Sender account ID
                 transfer.getReceiverId(),               // Receiver account ID
-                transfer.getAmount(),                   // Transfer amount
+                transfer.getAmount().toBigDecimal(),    // Transfer amount
                 transfer.getCurrency().name(),          // Currency code (enum to String)
                 transfer.getStatus(),                   // Transfer status (e.g., COMPLETED, PENDING)
                 transfer.getCreatedAt()                 // Transfer timestamp
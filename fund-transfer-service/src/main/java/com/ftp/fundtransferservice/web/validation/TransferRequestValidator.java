@@ -0,0 +1,86 @@
+package com.ftp.fundtransferservice.web.validation;
+
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.constants.TransferConstants;
+import com.ftp.fundtransferservice.shared.constants.TransferValidationError;
+import com.ftp.fundtransferservice.shared.exception.TransferValidationException;
+import com.ftp.fundtransferservice.web.dto.request.TransferRequest;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+
+/**
+ * Validates a {@link TransferRequest} with checks compiled once at startup, in place of Bean Validation.
+ * <p>
+ * Bean Validation resolves the constraints of the bean, creates a violation set and interpolates messages
+ * on every request. Here the limits are converted once per currency into decimals of the currency's scale,
+ * so a valid request costs a few null checks and two {@link BigDecimal#compareTo} calls and allocates nothing.
+ * An invalid request yields a {@link TransferValidationError}, whose exception is preallocated as well.
+ */
+@Component
+public class TransferRequestValidator {
+
+    // Indexed by Currency ordinal
+    private final int[] fractionDigits;
+    private final BigDecimal[] minAmounts;
+    private final BigDecimal[] maxAmounts;
+
+    public TransferRequestValidator() {
+        Currency[] currencies = Currency.values();
+        this.fractionDigits = new int[currencies.length];
+        this.minAmounts = new BigDecimal[currencies.length];
+        this.maxAmounts = new BigDecimal[currencies.length];
+        for (Currency currency : currencies) {
+            int digits = currency.getFractionDigits();
+            fractionDigits[currency.ordinal()] = digits;
+            // Same scale as a typical request amount, so compareTo takes its fast path
+            minAmounts[currency.ordinal()] = TransferConstants.MIN_TRANSFER_AMOUNT.setScale(digits);
+            maxAmounts[currency.ordinal()] = TransferConstants.MAX_TRANSFER_AMOUNT.setScale(digits);
+        }
+    }
+
+    /**
+     * Checks the request.
+     *
+     * @param request the transfer request
+     * @return the first error found, or null if the request is valid
+     */
+    public TransferValidationError validate(TransferRequest request) {
+        if (request.getSenderId() == null) {
+            return TransferValidationError.SENDER_REQUIRED;
+        }
+        if (request.getReceiverId() == null) {
+            return TransferValidationError.RECEIVER_REQUIRED;
+        }
+        BigDecimal amount = request.getAmount();
+        if (amount == null) {
+            return TransferValidationError.AMOUNT_REQUIRED;
+        }
+        Currency currency = request.getCurrency();
+        if (currency == null) {
+            return TransferValidationError.CURRENCY_REQUIRED;
+        }
+        int index = currency.ordinal();
+        // Trailing zeros (e.g. 10.500) are fine; only strip them in that rare case
+        if (amount.scale() > fractionDigits[index] && amount.stripTrailingZeros().scale() > fractionDigits[index]) {
+            return TransferValidationError.AMOUNT_TOO_PRECISE;
+        }
+        if (amount.compareTo(minAmounts[index]) < 0 || amount.compareTo(maxAmounts[index]) > 0) {
+            return TransferValidationError.AMOUNT_OUT_OF_RANGE;
+        }
+        return null;
+    }
+
+    /**
+     * Checks the request and throws the shared exception of the first error.
+     *
+     * @param request the transfer request
+     * @throws TransferValidationException if the request is invalid
+     */
+    public void validateOrThrow(TransferRequest request) {
+        TransferValidationError error = validate(request);
+        if (error != null) {
+            throw error.exception();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.ftp.fundtransferservice.application.service;
 
 import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.model.Money;
 import com.ftp.fundtransferservice.domain.model.Transfer;
 import com.ftp.fundtransferservice.domain.ports.out.*;
 import com.ftp.fundtransferservice.shared.constants.Currency;
@@ -23,6 +24,7 @@ public class CreateTransferServiceTest {
     private LockTransferPort lockTransferPort;
     private DbLockPort dbLockPort;
     private AccountRepositoryPort accountRepositoryPort;
+    private BalanceShardPort balanceShardPort;
 
     private CreateTransferService createTransferService;
 
@@ -37,9 +39,10 @@ public class CreateTransferServiceTest {
         lockTransferPort = mock(LockTransferPort.class);
         dbLockPort = mock(DbLockPort.class);
         accountRepositoryPort = mock(AccountRepositoryPort.class);
+        balanceShardPort = mock(BalanceShardPort.class);
 
         createTransferService = new CreateTransferService(
-                saveTransferPort, lockTransferPort, dbLockPort, accountRepositoryPort
+                saveTransferPort, lockTransferPort, dbLockPort, accountRepositoryPort, UUID::randomUUID, balanceShardPort
         );
 
         senderId = UUID.randomUUID();
@@ -95,8 +98,8 @@ public class CreateTransferServiceTest {
         Transfer result = createTransferService.createTransfer(senderId, receiverId, amount, Currency.USD);
 
         assertThat(result).isNotNull();
-        assertThat(sender.getBalance()).isEqualByComparingTo("100.00");
-        assertThat(receiver.getBalance()).isEqualByComparingTo("150.00");
+        assertThat(sender.getBalance().toBigDecimal()).isEqualByComparingTo("100.00");
+        assertThat(receiver.getBalance().toBigDecimal()).isEqualByComparingTo("150.00");
 
         verify(accountRepositoryPort).save(sender);
         verify(accountRepositoryPort).save(receiver);
@@ -105,4 +108,31 @@ public class CreateTransferServiceTest {
         verify(lockTransferPort).unlock(senderId);
         verify(dbLockPort).lockSender(senderId);
     }
+
+    @Test
+    void shouldCreditShardedReceiverThroughSubBalance() {
+        Account shardedReceiver = new Account(receiverId, UUID.randomUUID(), Money.of(new BigDecimal("50.00"), Currency.USD), 8);
+        when(accountRepositoryPort.findById(senderId)).thenReturn(sender);
+        when(accountRepositoryPort.findById(receiverId)).thenReturn(shardedReceiver);
+
+        BigDecimal amount = new BigDecimal("25.00");
+        createTransferService.createTransfer(senderId, receiverId, amount, Currency.USD);
+
+        verify(balanceShardPort).credit(receiverId, 8, Money.of(amount, Currency.USD));
+        verify(accountRepositoryPort).save(sender);
+        verify(accountRepositoryPort, never()).save(shardedReceiver);
+    }
+
+    @Test
+    void shouldThrowException_whenShardedSenderCannotBeDebited() {
+        // The cached aggregate looks sufficient, the exact debit decides
+        Account shardedSender = new Account(senderId, UUID.randomUUID(), Money.of(new BigDecimal("500.00"), Currency.USD), 4);
+        when(accountRepositoryPort.findById(senderId)).thenReturn(shardedSender);
+        when(accountRepositoryPort.findById(receiverId)).thenReturn(receiver);
+        when(balanceShardPort.debit(eq(senderId), eq(4), any(Money.class))).thenReturn(false);
+
+        assertThatThrownBy(() -> createTransferService.createTransfer(senderId, receiverId, new BigDecimal("100.00"), Currency.USD))
+                .isInstanceOf(InsufficientBalanceException.class);
+        verify(accountRepositoryPort, never()).save(any(Account.class));
+    }
 }
@@ -0,0 +1,76 @@
+package com.ftp.fundtransferservice.application.service;
+
+import com.ftp.fundtransferservice.domain.model.Money;
+import com.ftp.fundtransferservice.domain.model.Transfer;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.constants.TransferStatus;
+import com.ftp.fundtransferservice.shared.exception.AppException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class GroupCommitTransferServiceTest {
+
+    private CreateTransferService delegate;
+    private GroupCommitTransferService service;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(CreateTransferService.class);
+        when(delegate.createTransfer(any(UUID.class), any(UUID.class), any(Money.class))).thenAnswer(invocation ->
+                new Transfer(UUID.randomUUID(), invocation.getArgument(0), invocation.getArgument(1),
+                        invocation.getArgument(2, Money.class), TransferStatus.COMPLETED, LocalDateTime.now()));
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(mock(TransactionStatus.class));
+        service = new GroupCommitTransferService(delegate, transactionManager, 1000, 16, Duration.ofMillis(1), null);
+    }
+
+    @Test
+    void shouldRejectTransfersOnceStopped() throws InterruptedException {
+        service.start();
+        service.stop();
+
+        assertThatThrownBy(() -> service.createTransfer(UUID.randomUUID(), UUID.randomUUID(), Money.ofMinor(100, Currency.USD)))
+                .isInstanceOfSatisfying(AppException.class,
+                        e -> assertThat(e.getHttpStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+    }
+
+    @Test
+    void callersRacingStopShouldNeverWaitForever() throws Exception {
+        service.start();
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        List<Future<?>> calls = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            calls.add(callers.submit(() -> {
+                try {
+                    service.createTransfer(UUID.randomUUID(), UUID.randomUUID(), Money.ofMinor(100, Currency.USD));
+                } catch (AppException rejected) {
+                    // Arrived after stop: rejected at once
+                }
+            }));
+        }
+
+        service.stop();
+
+        for (Future<?> call : calls) {
+            assertThatCode(() -> call.get(10, TimeUnit.SECONDS)).doesNotThrowAnyException();
+        }
+        callers.shutdown();
+    }
+}
@@ -0,0 +1,223 @@
+package com.ftp.fundtransferservice.application.service.ledger;
+
+import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.model.LedgerJournalEntry;
+import com.ftp.fundtransferservice.domain.model.LedgerSnapshot;
+import com.ftp.fundtransferservice.domain.model.Transfer;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.domain.ports.out.LedgerSnapshotPort;
+import com.ftp.fundtransferservice.infrastructure.ledger.MemoryMappedLedgerJournal;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.exception.AppException;
+import com.ftp.fundtransferservice.shared.exception.InsufficientBalanceException;
+import com.ftp.fundtransferservice.shared.exception.InvalidTransferAmountException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class InMemoryLedgerServiceTest {
+
+    private static final long JOURNAL_SIZE = 1024 * 1024;
+
+    @TempDir
+    Path tempDir;
+
+    private LedgerSnapshotPort snapshotPort;
+    private AccountRepositoryPort accountRepositoryPort;
+    private PlatformTransactionManager transactionManager;
+
+    private MemoryMappedLedgerJournal journal;
+    private InMemoryLedgerService ledger;
+
+    private UUID senderId;
+    private UUID receiverId;
+
+    @BeforeEach
+    void setUp() {
+        snapshotPort = mock(LedgerSnapshotPort.class);
+        accountRepositoryPort = mock(AccountRepositoryPort.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+
+        senderId = UUID.randomUUID();
+        receiverId = UUID.randomUUID();
+        when(accountRepositoryPort.findById(senderId)).thenReturn(new Account(senderId, UUID.randomUUID(), new BigDecimal("1000.00")));
+        when(accountRepositoryPort.findById(receiverId)).thenReturn(new Account(receiverId, UUID.randomUUID(), new BigDecimal("0.00")));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (ledger != null) {
+            ledger.stop();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private void startLedger() throws Exception {
+        journal = new MemoryMappedLedgerJournal(tempDir.resolve("ledger.journal"), JOURNAL_SIZE);
+        ledger = new InMemoryLedgerService(journal, snapshotPort, accountRepositoryPort, UUID::randomUUID,
+                transactionManager, 1024, 64, Duration.ofHours(1), 16);
+        ledger.start();
+    }
+
+    private LedgerSnapshot lastSnapshot() {
+        ArgumentCaptor<LedgerSnapshot> captor = ArgumentCaptor.forClass(LedgerSnapshot.class);
+        verify(snapshotPort, atLeastOnce()).saveSnapshot(captor.capture());
+        return captor.getValue();
+    }
+
+    private void writeJournal(LedgerJournalEntry... entries) throws Exception {
+        try (MemoryMappedLedgerJournal existing = new MemoryMappedLedgerJournal(tempDir.resolve("ledger.journal"), JOURNAL_SIZE)) {
+            for (LedgerJournalEntry entry : entries) {
+                existing.append(entry);
+            }
+        }
+    }
+
+    private LedgerJournalEntry entry(long sequence, long amountCents) {
+        return new LedgerJournalEntry(sequence, UUID.randomUUID(), senderId, receiverId, amountCents,
+                Currency.USD, LocalDateTime.now());
+    }
+
+    @Test
+    void shouldApplyTransferAndStoreItOnStop() throws Exception {
+        startLedger();
+
+        Transfer transfer = ledger.createTransfer(senderId, receiverId, new BigDecimal("30.00"), Currency.USD);
+        ledger.stop();
+        ledger = null;
+
+        assertThat(transfer.getAmount().toBigDecimal()).isEqualByComparingTo("30.00");
+        LedgerSnapshot snapshot = lastSnapshot();
+        assertThat(snapshot.sequence()).isEqualTo(1);
+        assertThat(snapshot.balances().get(senderId)).isEqualByComparingTo("970.00");
+        assertThat(snapshot.balances().get(receiverId)).isEqualByComparingTo("30.00");
+        assertThat(snapshot.transfers()).extracting(Transfer::getId).containsExactly(transfer.getId());
+    }
+
+    @Test
+    void shouldRejectTransferAboveBalanceWithoutChangingIt() throws Exception {
+        when(accountRepositoryPort.findById(senderId)).thenReturn(new Account(senderId, UUID.randomUUID(), new BigDecimal("20.00")));
+        startLedger();
+
+        assertThatThrownBy(() -> ledger.createTransfer(senderId, receiverId, new BigDecimal("50.00"), Currency.USD))
+                .isInstanceOf(InsufficientBalanceException.class);
+        ledger.createTransfer(senderId, receiverId, new BigDecimal("20.00"), Currency.USD);
+        ledger.stop();
+        ledger = null;
+
+        LedgerSnapshot snapshot = lastSnapshot();
+        assertThat(snapshot.sequence()).isEqualTo(1);
+        assertThat(snapshot.balances().get(senderId)).isEqualByComparingTo("0.00");
+    }
+
+    @Test
+    void shouldRejectAmountWithMoreThanTwoDecimals() throws Exception {
+        startLedger();
+
+        assertThatThrownBy(() -> ledger.createTransfer(senderId, receiverId, new BigDecimal("10.001"), Currency.USD))
+                .isInstanceOf(InvalidTransferAmountException.class);
+    }
+
+    @Test
+    void shouldLoadAccountsOnTheCallingThread() throws Exception {
+        List<String> loadingThreads = new CopyOnWriteArrayList<>();
+        when(accountRepositoryPort.findById(senderId)).thenAnswer(invocation -> {
+            loadingThreads.add(Thread.currentThread().getName());
+            return new Account(senderId, UUID.randomUUID(), new BigDecimal("1000.00"));
+        });
+        startLedger();
+
+        ledger.createTransfer(senderId, receiverId, new BigDecimal("1.00"), Currency.USD);
+        ledger.createTransfer(senderId, receiverId, new BigDecimal("1.00"), Currency.USD);
+
+        assertThat(loadingThreads).containsExactly(Thread.currentThread().getName());
+    }
+
+    @Test
+    void shouldRejectUnknownAccountBeforePublishing() throws Exception {
+        startLedger();
+
+        assertThatThrownBy(() -> ledger.createTransfer(senderId, UUID.randomUUID(), new BigDecimal("1.00"), Currency.USD))
+                .isInstanceOf(AppException.class)
+                .hasMessage("Sender or receiver not found");
+        ledger.stop();
+        ledger = null;
+
+        verify(snapshotPort, never()).saveSnapshot(any());
+    }
+
+    @Test
+    void concurrentTransfersShouldNeverLoseMoney() throws Exception {
+        startLedger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 800; i++) {
+            futures.add(executor.submit(() -> ledger.createTransfer(senderId, receiverId, new BigDecimal("1.00"), Currency.USD)));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        ledger.stop();
+        ledger = null;
+
+        LedgerSnapshot snapshot = lastSnapshot();
+        assertThat(snapshot.sequence()).isEqualTo(800);
+        assertThat(snapshot.transfers()).hasSize(800);
+        assertThat(snapshot.balances().get(senderId)).isEqualByComparingTo("200.00");
+        assertThat(snapshot.balances().get(receiverId)).isEqualByComparingTo("800.00");
+    }
+
+    @Test
+    void shouldReplayJournalEntriesAfterStoredSequenceOnStart() throws Exception {
+        writeJournal(entry(1, 1_000), entry(2, 2_500), entry(3, 500));
+        when(snapshotPort.loadLastSequence()).thenReturn(1L);
+
+        startLedger();
+
+        LedgerSnapshot snapshot = lastSnapshot();
+        assertThat(snapshot.sequence()).isEqualTo(3);
+        assertThat(snapshot.transfers()).hasSize(2);
+        assertThat(snapshot.balances().get(senderId)).isEqualByComparingTo("970.00");
+        assertThat(snapshot.balances().get(receiverId)).isEqualByComparingTo("30.00");
+
+        // Continues after the replayed sequence
+        ledger.createTransfer(senderId, receiverId, new BigDecimal("1.00"), Currency.USD);
+        ledger.stop();
+        ledger = null;
+        assertThat(lastSnapshot().sequence()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldRefuseToStartWhenJournalDoesNotContinueStoredState() throws Exception {
+        writeJournal(entry(5, 1_000));
+        when(snapshotPort.loadLastSequence()).thenReturn(2L);
+
+        journal = new MemoryMappedLedgerJournal(tempDir.resolve("ledger.journal"), JOURNAL_SIZE);
+        InMemoryLedgerService broken = new InMemoryLedgerService(journal, snapshotPort, accountRepositoryPort,
+                UUID::randomUUID, transactionManager, 1024, 64, Duration.ofHours(1), 16);
+
+        assertThatThrownBy(broken::start).isInstanceOf(IllegalStateException.class);
+        verify(snapshotPort, never()).saveSnapshot(any());
+    }
+}
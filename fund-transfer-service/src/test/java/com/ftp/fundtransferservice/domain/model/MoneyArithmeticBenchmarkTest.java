@@ -0,0 +1,76 @@
+package com.ftp.fundtransferservice.domain.model;
+
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+
+/**
+ * ✅ Benchmark: balance arithmetic on BigDecimal vs long minor units ({@link Money})
+ *
+ * Runs the debit/credit/compare loop of 2,000,000 transfers on both representations, after a warm-up round,
+ * and prints the time and the bytes allocated. That both arrive at the same balances is covered by MoneyTest.
+ */
+@Tag("benchmark")
+class MoneyArithmeticBenchmarkTest {
+
+    private static final int TRANSFERS = 2_000_000;
+
+    @Test
+    void compareBigDecimalAndMinorUnits() {
+        runBigDecimal();
+        runMoney();
+
+        Result decimal = runBigDecimal();
+        Result money = runMoney();
+
+        System.out.printf("BigDecimal: %,d transfers in %d ms, %,d bytes allocated, balances %s / %s%n",
+                TRANSFERS, decimal.millis, decimal.bytes, decimal.sender, decimal.receiver);
+        System.out.printf("Money:      %,d transfers in %d ms, %,d bytes allocated, balances %s / %s%n",
+                TRANSFERS, money.millis, money.bytes, money.sender, money.receiver);
+    }
+
+    private Result runBigDecimal() {
+        BigDecimal sender = new BigDecimal("1000000000.00");
+        BigDecimal receiver = BigDecimal.ZERO.setScale(2);
+        BigDecimal amount = new BigDecimal("1.25");
+
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < TRANSFERS; i++) {
+            if (sender.compareTo(amount) >= 0) {
+                sender = sender.subtract(amount);
+                receiver = receiver.add(amount);
+            }
+        }
+        return new Result((System.nanoTime() - start) / 1_000_000, allocatedBytes() - bytes, sender, receiver);
+    }
+
+    private Result runMoney() {
+        Money sender = Money.of(new BigDecimal("1000000000.00"), Currency.USD);
+        Money receiver = Money.zero(Currency.USD);
+        Money amount = Money.of(new BigDecimal("1.25"), Currency.USD);
+
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < TRANSFERS; i++) {
+            if (!sender.isLessThan(amount)) {
+                sender = sender.minus(amount);
+                receiver = receiver.plus(amount);
+            }
+        }
+        return new Result((System.nanoTime() - start) / 1_000_000, allocatedBytes() - bytes,
+                sender.toBigDecimal(), receiver.toBigDecimal());
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // The final balances are printed so the loops are not optimized away
+    private record Result(long millis, long bytes, BigDecimal sender, BigDecimal receiver) {
+    }
+}
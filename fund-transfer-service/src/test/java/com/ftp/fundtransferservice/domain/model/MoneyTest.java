@@ -0,0 +1,82 @@
+package com.ftp.fundtransferservice.domain.model;
+
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void shouldConvertDecimalAmountToMinorUnitsAndBack() {
+        Money money = Money.of(new BigDecimal("10.5"), Currency.USD);
+
+        assertThat(money.getMinorUnits()).isEqualTo(1050);
+        assertThat(money.toBigDecimal()).isEqualTo(new BigDecimal("10.50"));
+        assertThat(money).hasToString("10.50 USD");
+    }
+
+    @Test
+    void shouldAddAndSubtractInMinorUnits() {
+        Money balance = Money.of(new BigDecimal("200.00"), Currency.USD);
+        Money amount = Money.of(new BigDecimal("0.01"), Currency.USD);
+
+        assertThat(balance.minus(amount).toBigDecimal()).isEqualByComparingTo("199.99");
+        assertThat(balance.plus(amount).toBigDecimal()).isEqualByComparingTo("200.01");
+        assertThat(amount.minus(balance).isNegative()).isTrue();
+        assertThat(amount.isLessThan(balance)).isTrue();
+    }
+
+    @Test
+    void shouldMatchBigDecimalOverManyTransfers() {
+        BigDecimal decimalSender = new BigDecimal("1000.00");
+        BigDecimal decimalReceiver = BigDecimal.ZERO;
+        BigDecimal decimalAmount = new BigDecimal("1.25");
+        Money sender = Money.of(decimalSender, Currency.USD);
+        Money receiver = Money.zero(Currency.USD);
+        Money amount = Money.of(decimalAmount, Currency.USD);
+
+        // More transfers than the balance covers, so the insufficient-funds branch is taken too
+        for (int i = 0; i < 1_000; i++) {
+            if (decimalSender.compareTo(decimalAmount) >= 0) {
+                decimalSender = decimalSender.subtract(decimalAmount);
+                decimalReceiver = decimalReceiver.add(decimalAmount);
+            }
+            if (!sender.isLessThan(amount)) {
+                sender = sender.minus(amount);
+                receiver = receiver.plus(amount);
+            }
+        }
+
+        assertThat(sender.toBigDecimal()).isEqualByComparingTo(decimalSender);
+        assertThat(receiver.toBigDecimal()).isEqualByComparingTo(decimalReceiver);
+    }
+
+    @Test
+    void shouldRejectMoreDecimalsThanTheCurrencyHas() {
+        assertThatThrownBy(() -> Money.of(new BigDecimal("10.001"), Currency.USD))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldRejectOverflow() {
+        Money max = Money.ofMinor(Long.MAX_VALUE, Currency.EUR);
+
+        assertThatThrownBy(() -> max.plus(Money.ofMinor(1, Currency.EUR)))
+                .isInstanceOf(ArithmeticException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("1e30"), Currency.EUR))
+                .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void shouldNeverMixCurrencies() {
+        Money usd = Money.ofMinor(100, Currency.USD);
+        Money eur = Money.ofMinor(100, Currency.EUR);
+
+        assertThat(usd).isNotEqualTo(eur);
+        assertThatThrownBy(() -> usd.plus(eur)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> usd.isLessThan(eur)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,119 @@
+package com.ftp.fundtransferservice.infrastructure.db;
+
+import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.model.AccountActivity;
+import com.ftp.fundtransferservice.domain.model.AccountActivityPage;
+import com.ftp.fundtransferservice.domain.model.Transfer;
+import com.ftp.fundtransferservice.domain.ports.in.CreateTransferUseCase;
+import com.ftp.fundtransferservice.domain.ports.in.GetAccountTransfersUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.domain.ports.out.RecordAccountActivityPort;
+import com.ftp.fundtransferservice.shared.constants.ActivityDirection;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ Integration Test: account_activity read model
+ *
+ * Purpose:
+ *   - Runs real transfers, so the projection is written after each commit.
+ *   - Reads the history of the sender and the receiver through the use case behind GET /accounts/{id}/transfers.
+ *
+ * Verifies:
+ *   - one DEBIT row for the sender and one CREDIT row for the receiver per transfer
+ *   - keyset paging returns every transfer exactly once, newest first
+ *   - the catch-up projection is idempotent
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class AccountActivityProjectionIntegrationTest {
+
+    @Autowired
+    private CreateTransferUseCase createTransferUseCase;
+
+    @Autowired
+    private GetAccountTransfersUseCase getAccountTransfersUseCase;
+
+    @Autowired
+    private RecordAccountActivityPort recordAccountActivityPort;
+
+    @Autowired
+    private AccountRepositoryPort accountRepositoryPort;
+
+    private UUID senderId;
+    private UUID receiverId;
+
+    @BeforeEach
+    void setUp() {
+        senderId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("1000.00"))).getId();
+        receiverId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("0.00"))).getId();
+    }
+
+    @Test
+    void transferShouldAppearInBothAccountHistories() {
+        Transfer transfer = createTransferUseCase.createTransfer(senderId, receiverId, new BigDecimal("42.00"), Currency.USD);
+
+        AccountActivityPage senderPage = getAccountTransfersUseCase.getAccountTransfers(senderId, null, null, 20);
+        AccountActivityPage receiverPage = getAccountTransfersUseCase.getAccountTransfers(receiverId, null, null, 20);
+
+        assertThat(senderPage.items()).singleElement().satisfies(entry -> {
+            assertThat(entry.getTransferId()).isEqualTo(transfer.getId());
+            assertThat(entry.getDirection()).isEqualTo(ActivityDirection.DEBIT);
+            assertThat(entry.getCounterpartyId()).isEqualTo(receiverId);
+            assertThat(entry.getAmount()).isEqualByComparingTo("42.00");
+        });
+        assertThat(receiverPage.items()).singleElement().satisfies(entry -> {
+            assertThat(entry.getTransferId()).isEqualTo(transfer.getId());
+            assertThat(entry.getDirection()).isEqualTo(ActivityDirection.CREDIT);
+            assertThat(entry.getCounterpartyId()).isEqualTo(senderId);
+        });
+        assertThat(senderPage.hasMore()).isFalse();
+    }
+
+    @Test
+    void keysetPagingShouldReturnEveryTransferOnceNewestFirst() {
+        List<UUID> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(createTransferUseCase.createTransfer(senderId, receiverId, new BigDecimal("1.00"), Currency.USD).getId());
+        }
+
+        List<AccountActivity> read = new ArrayList<>();
+        LocalDateTime cursorCreatedAt = null;
+        UUID cursorTransferId = null;
+        int pages = 0;
+        do {
+            AccountActivityPage page = getAccountTransfersUseCase.getAccountTransfers(senderId, cursorCreatedAt, cursorTransferId, 2);
+            read.addAll(page.items());
+            pages++;
+            AccountActivity next = page.nextCursor();
+            cursorCreatedAt = next != null ? next.getCreatedAt() : null;
+            cursorTransferId = next != null ? next.getTransferId() : null;
+        } while (cursorCreatedAt != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(read).extracting(AccountActivity::getTransferId).containsExactlyInAnyOrderElementsOf(created);
+        assertThat(read).extracting(AccountActivity::getCreatedAt).isSortedAccordingTo((a, b) -> b.compareTo(a));
+    }
+
+    @Test
+    void catchUpShouldNotDuplicateProjectedTransfers() {
+        createTransferUseCase.createTransfer(senderId, receiverId, new BigDecimal("5.00"), Currency.USD);
+
+        recordAccountActivityPort.recordTransfersBetween(LocalDateTime.now().minusHours(1), LocalDateTime.now());
+
+        assertThat(getAccountTransfersUseCase.getAccountTransfers(senderId, null, null, 20).items()).hasSize(1);
+        assertThat(getAccountTransfersUseCase.getAccountTransfers(receiverId, null, null, 20).items()).hasSize(1);
+    }
+}
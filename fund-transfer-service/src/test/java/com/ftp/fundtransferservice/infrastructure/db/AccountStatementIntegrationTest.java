@@ -0,0 +1,121 @@
+package com.ftp.fundtransferservice.infrastructure.db;
+
+import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.model.AccountActivity;
+import com.ftp.fundtransferservice.domain.model.Statement;
+import com.ftp.fundtransferservice.domain.ports.in.CreateTransferUseCase;
+import com.ftp.fundtransferservice.domain.ports.in.GetAccountStatementUseCase;
+import com.ftp.fundtransferservice.domain.ports.in.RefreshStatementsUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.exception.AppException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ✅ Integration Test: materialized monthly account statements
+ *
+ * Purpose:
+ *   - Runs real transfers, then reads the statements through the use case behind GET /accounts/{id}/statements/{period}.
+ *   - The settle delay is disabled, so entries are folded as soon as they are projected.
+ *
+ * Verifies:
+ *   - opening balance, closing balance and totals of the current month
+ *   - the line items add up to the totals
+ *   - later runs fold only the entries after the checkpoint
+ *   - months without activity carry the balance over; future months are rejected
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "ftp.statements.settle-delay=0s")
+class AccountStatementIntegrationTest {
+
+    @Autowired
+    private CreateTransferUseCase createTransferUseCase;
+
+    @Autowired
+    private GetAccountStatementUseCase getAccountStatementUseCase;
+
+    @Autowired
+    private RefreshStatementsUseCase refreshStatementsUseCase;
+
+    @Autowired
+    private AccountRepositoryPort accountRepositoryPort;
+
+    private UUID senderId;
+    private UUID receiverId;
+
+    @BeforeEach
+    void setUp() {
+        senderId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("1000.00"))).getId();
+        receiverId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("50.00"))).getId();
+    }
+
+    @Test
+    void statementShouldSummarizeTheMonth() {
+        createTransferUseCase.createTransfer(senderId, receiverId, new BigDecimal("100.00"), Currency.USD);
+        createTransferUseCase.createTransfer(receiverId, senderId, new BigDecimal("30.00"), Currency.USD);
+
+        Statement statement = getAccountStatementUseCase.getStatement(senderId, YearMonth.now());
+
+        assertThat(statement.getOpeningBalance()).isEqualByComparingTo("1000.00");
+        assertThat(statement.getClosingBalance()).isEqualByComparingTo("930.00");
+        assertThat(statement.getTotalDebits()).isEqualByComparingTo("100.00");
+        assertThat(statement.getTotalCredits()).isEqualByComparingTo("30.00");
+        assertThat(statement.getDebitCount()).isEqualTo(1);
+        assertThat(statement.getCreditCount()).isEqualTo(1);
+        assertThat(statement.getClosingBalance())
+                .isEqualByComparingTo(accountRepositoryPort.findById(senderId).getBalance().toBigDecimal());
+
+        List<AccountActivity> lines = new ArrayList<>();
+        getAccountStatementUseCase.forEachLine(statement, lines::add);
+        assertThat(lines).hasSize(2);
+        assertThat(lines.stream().map(AccountActivity::getBalanceChange).reduce(BigDecimal.ZERO, BigDecimal::add))
+                .isEqualByComparingTo(statement.getClosingBalance().subtract(statement.getOpeningBalance()));
+    }
+
+    @Test
+    void laterRunsShouldFoldOnlyNewEntries() {
+        createTransferUseCase.createTransfer(senderId, receiverId, new BigDecimal("10.00"), Currency.USD);
+        assertThat(refreshStatementsUseCase.refreshStatements(senderId)).isEqualTo(1);
+        assertThat(refreshStatementsUseCase.refreshStatements(senderId)).isZero();
+
+        createTransferUseCase.createTransfer(senderId, receiverId, new BigDecimal("15.00"), Currency.USD);
+        assertThat(refreshStatementsUseCase.refreshStatements(senderId)).isEqualTo(1);
+
+        Statement statement = getAccountStatementUseCase.getStatement(senderId, YearMonth.now());
+        assertThat(statement.getOpeningBalance()).isEqualByComparingTo("1000.00");
+        assertThat(statement.getClosingBalance()).isEqualByComparingTo("975.00");
+        assertThat(statement.getDebitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void monthWithoutActivityShouldCarryTheBalance() {
+        Statement statement = getAccountStatementUseCase.getStatement(receiverId, YearMonth.now().minusMonths(1));
+
+        assertThat(statement.getOpeningBalance()).isEqualByComparingTo("50.00");
+        assertThat(statement.getClosingBalance()).isEqualByComparingTo("50.00");
+        assertThat(statement.getDebitCount() + statement.getCreditCount()).isZero();
+    }
+
+    @Test
+    void futureMonthAndUnknownAccountShouldBeRejected() {
+        assertThatThrownBy(() -> getAccountStatementUseCase.getStatement(senderId, YearMonth.now().plusMonths(1)))
+                .isInstanceOf(AppException.class);
+        assertThatThrownBy(() -> getAccountStatementUseCase.getStatement(UUID.randomUUID(), YearMonth.now()))
+                .isInstanceOf(AppException.class);
+    }
+}
@@ -0,0 +1,89 @@
+package com.ftp.fundtransferservice.infrastructure.db;
+
+import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.ports.in.CreateTransferUseCase;
+import com.ftp.fundtransferservice.domain.ports.in.LoadAccountsUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ Integration Test: separate connection pools for transfer writes and for reads/admin work
+ *
+ * Purpose:
+ *   - Counts connection checkouts per Hikari pool via the exported "hikaricp.connections.usage" timer.
+ *   - Verifies transfers run on the "transfer-write" pool and reads and account administration
+ *     on the "primary" pool, so they never compete for the same connections.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ConnectionPoolRoutingIntegrationTest {
+
+    @Autowired
+    private CreateTransferUseCase createTransferUseCase;
+
+    @Autowired
+    private LoadAccountsUseCase loadAccountsUseCase;
+
+    @Autowired
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID senderId;
+    private UUID receiverId;
+
+    @BeforeEach
+    void setUp() {
+        senderId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("100.00"))).getId();
+        receiverId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("0.00"))).getId();
+    }
+
+    // Number of connections handed out by the pool and returned so far
+    private long checkouts(String pool) {
+        Timer usage = meterRegistry.find("hikaricp.connections.usage").tag("pool", pool).timer();
+        return usage != null ? usage.count() : 0;
+    }
+
+    @Test
+    void transferShouldUseTheTransferWritePool() {
+        long writeBefore = checkouts("transfer-write");
+        long primaryBefore = checkouts("primary");
+
+        createTransferUseCase.createTransfer(senderId, receiverId, new BigDecimal("10.00"), Currency.USD);
+
+        assertThat(checkouts("transfer-write")).isEqualTo(writeBefore + 1);
+        // Only the after-commit account_activity projection, in its own transaction, uses the primary pool
+        assertThat(checkouts("primary")).isEqualTo(primaryBefore + 1);
+    }
+
+    @Test
+    void readsShouldUseThePrimaryPool() {
+        long writeBefore = checkouts("transfer-write");
+        long primaryBefore = checkouts("primary");
+
+        loadAccountsUseCase.loadAccountById(senderId);
+
+        assertThat(checkouts("primary")).isEqualTo(primaryBefore + 1);
+        assertThat(checkouts("transfer-write")).isEqualTo(writeBefore);
+    }
+
+    @Test
+    void poolMetricsShouldBeExported() {
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "transfer-write").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.timeout").tag("pool", "transfer-write").counter()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.acquire").tag("pool", "primary").timer()).isNotNull();
+    }
+}
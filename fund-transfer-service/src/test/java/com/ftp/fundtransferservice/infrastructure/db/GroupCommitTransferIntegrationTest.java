@@ -0,0 +1,110 @@
+package com.ftp.fundtransferservice.infrastructure.db;
+
+import com.ftp.fundtransferservice.application.service.GroupCommitTransferService;
+import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.ports.in.CreateTransferUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.exception.InsufficientBalanceException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ✅ Integration Test: group-commit transfer pipeline
+ *
+ * Purpose:
+ *   - Enables the pipeline with a generous max-wait, then submits many transfers at once from separate threads.
+ *   - One sender cannot cover its transfer.
+ *
+ * Verifies:
+ *   - the use case is served by the group-commit pipeline
+ *   - every covered transfer commits and the balances add up
+ *   - only the uncovered transfer fails, the others in its batch are unaffected
+ *   - fewer transactions than transfers were committed
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "ftp.group-commit.enabled=true",
+        "ftp.group-commit.max-batch-size=16",
+        "ftp.group-commit.max-wait=50ms"
+})
+class GroupCommitTransferIntegrationTest {
+
+    private static final int TRANSFERS = 24;
+
+    @Autowired
+    private CreateTransferUseCase createTransferUseCase;
+
+    @Autowired
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID newAccount(String balance) {
+        return accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal(balance))).getId();
+    }
+
+    private long committedBatches() {
+        DistributionSummary batches = meterRegistry.find("ftp.transfers.group_commit.batch_size").summary();
+        return batches != null ? batches.count() : 0;
+    }
+
+    @Test
+    void transfersShouldBeCommittedInGroupsWithFailuresIsolated() throws Exception {
+        assertThat(createTransferUseCase).isInstanceOf(GroupCommitTransferService.class);
+
+        UUID receiverId = newAccount("0.00");
+        List<UUID> senders = new ArrayList<>();
+        for (int i = 0; i < TRANSFERS; i++) {
+            senders.add(newAccount(i == 0 ? "1.00" : "50.00"));
+        }
+        long batchesBefore = committedBatches();
+
+        ExecutorService executor = Executors.newFixedThreadPool(TRANSFERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        try {
+            for (UUID senderId : senders) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return createTransferUseCase.createTransfer(senderId, receiverId, new BigDecimal("10.00"), Currency.USD);
+                }));
+            }
+            start.countDown();
+
+            assertThatThrownBy(() -> results.get(0).get())
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(InsufficientBalanceException.class);
+            for (int i = 1; i < TRANSFERS; i++) {
+                assertThat(results.get(i).get()).isNotNull();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(accountRepositoryPort.findById(receiverId).getBalance().toBigDecimal()).isEqualByComparingTo("230.00");
+        assertThat(accountRepositoryPort.findById(senders.get(0)).getBalance().toBigDecimal()).isEqualByComparingTo("1.00");
+        assertThat(accountRepositoryPort.findById(senders.get(1)).getBalance().toBigDecimal()).isEqualByComparingTo("40.00");
+        assertThat(committedBatches() - batchesBefore).isLessThan(TRANSFERS - 1);
+    }
+}
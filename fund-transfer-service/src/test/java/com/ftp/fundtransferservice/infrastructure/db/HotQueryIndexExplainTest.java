@@ -0,0 +1,65 @@
+package com.ftp.fundtransferservice.infrastructure.db;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ Index Tests: EXPLAIN plans for the hot repository queries
+ *
+ * Purpose:
+ *   - Applies the Liquibase changelog to an embedded H2 database.
+ *   - Runs EXPLAIN for the SQL behind findByUserId, findBySenderId, findByReceiverId and findByStatus.
+ *   - Verifies each plan uses the dedicated index instead of a table scan.
+ *
+ * PostgreSQL gets the INCLUDE / partial variants of these indexes; H2 gets the plain
+ * equivalents with the same access path, which is what these tests prove.
+ */
+@DataJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+class HotQueryIndexExplainTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    private String explain(String sql) {
+        return new JdbcTemplate(dataSource).queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    @Test
+    void findByUserIdShouldUseUserIdIndex() {
+        String plan = explain("SELECT id, user_id, balance FROM accounts WHERE user_id = '" + UUID.randomUUID() + "'");
+
+        assertThat(plan).as(plan).containsIgnoringCase("IX_ACCOUNTS_USER_ID");
+    }
+
+    @Test
+    void findBySenderIdShouldUseSenderCreatedIndex() {
+        String plan = explain("SELECT * FROM transfers WHERE sender_id = '" + UUID.randomUUID()
+                + "' ORDER BY created_at DESC LIMIT 20");
+
+        assertThat(plan).as(plan).containsIgnoringCase("IX_TRANSFERS_SENDER_CREATED");
+    }
+
+    @Test
+    void findByReceiverIdShouldUseReceiverCreatedIndex() {
+        String plan = explain("SELECT * FROM transfers WHERE receiver_id = '" + UUID.randomUUID()
+                + "' ORDER BY created_at DESC LIMIT 20");
+
+        assertThat(plan).as(plan).containsIgnoringCase("IX_TRANSFERS_RECEIVER_CREATED");
+    }
+
+    @Test
+    void findByStatusShouldUseStatusIndex() {
+        String plan = explain("SELECT * FROM transfers WHERE status = 'PENDING' ORDER BY created_at LIMIT 20");
+
+        assertThat(plan).as(plan).containsIgnoringCase("IX_TRANSFERS_STATUS_CREATED");
+    }
+}
@@ -0,0 +1,128 @@
+package com.ftp.fundtransferservice.infrastructure.db;
+
+import com.ftp.fundtransferservice.infrastructure.db.routing.ConsistencyTokenHolder;
+import com.ftp.fundtransferservice.infrastructure.db.routing.ReplicaLagMonitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ Integration Test: read/write routing between the primary and the read replica
+ *
+ * Purpose:
+ *   - Uses the H2 test database as the primary and a second, in-memory H2 instance as the replica.
+ *   - The replica holds a marker table, so every query can tell which database answered it.
+ *   - The replica lag is read from a table on the replica, so the test can simulate a lagging replica.
+ *
+ * Verifies:
+ *   - read-only transactions use the replica, read-write transactions the primary
+ *   - a lagging replica makes reads fall back to the primary
+ *   - a consistency token newer than the replica keeps reads on the primary until it caught up
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "ftp.datasource.replica.enabled=true",
+        "ftp.datasource.replica.url=jdbc:h2:mem:replica;DB_CLOSE_DELAY=-1",
+        "ftp.datasource.replica.username=sa",
+        "ftp.datasource.replica.password=",
+        "ftp.datasource.replica.max-lag=5s",
+        "ftp.datasource.replica.lag-query=SELECT lag_ms FROM replica_lag",
+        // The test triggers lag checks itself
+        "ftp.datasource.replica.lag-check-interval-ms=3600000"
+})
+class ReadReplicaRoutingIntegrationTest {
+
+    private static final String MARKER_QUERY =
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'REPLICA_MARKER'";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private JdbcTemplate replicaJdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        replicaJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_marker (id INT)");
+        replicaJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS replica_lag (lag_ms BIGINT)");
+        replicaJdbcTemplate.update("DELETE FROM replica_lag");
+        replicaJdbcTemplate.update("INSERT INTO replica_lag (lag_ms) VALUES (0)");
+        replicaLagMonitor.refresh();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ConsistencyTokenHolder.clear();
+    }
+
+    // True if the query inside a transaction with the given read-only flag was answered by the replica
+    private boolean servedByReplica(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        Integer markers = template.execute(status -> new JdbcTemplate(dataSource).queryForObject(MARKER_QUERY, Integer.class));
+        return markers != null && markers == 1;
+    }
+
+    @Test
+    void readOnlyTransactionsShouldUseReplicaAndWritesThePrimary() {
+        assertThat(servedByReplica(true)).isTrue();
+        assertThat(servedByReplica(false)).isFalse();
+    }
+
+    @Test
+    void laggingReplicaShouldFallBackToPrimary() {
+        replicaJdbcTemplate.update("UPDATE replica_lag SET lag_ms = 60000");
+        replicaLagMonitor.refresh();
+
+        assertThat(replicaLagMonitor.isReplicaUsable()).isFalse();
+        assertThat(servedByReplica(true)).isFalse();
+
+        replicaJdbcTemplate.update("UPDATE replica_lag SET lag_ms = 0");
+        replicaLagMonitor.refresh();
+
+        assertThat(servedByReplica(true)).isTrue();
+    }
+
+    @Test
+    void consistencyTokenShouldPinReadsToPrimaryUntilReplicaCaughtUp() throws InterruptedException {
+        // A write committed after the last lag check
+        ConsistencyTokenHolder.set(System.currentTimeMillis() + 1);
+        assertThat(servedByReplica(true)).isFalse();
+
+        // The next lag check proves the replica replayed everything up to now
+        Thread.sleep(5);
+        replicaLagMonitor.refresh();
+        assertThat(servedByReplica(true)).isTrue();
+    }
+
+    @Test
+    void failingLagQueryShouldFallBackToPrimary() {
+        replicaJdbcTemplate.execute("DROP TABLE replica_lag");
+        replicaLagMonitor.refresh();
+
+        assertThat(servedByReplica(true)).isFalse();
+    }
+}
@@ -0,0 +1,142 @@
+package com.ftp.fundtransferservice.infrastructure.db;
+
+import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.ports.in.ConfigureBalanceShardingUseCase;
+import com.ftp.fundtransferservice.domain.ports.in.CreateTransferUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.exception.InsufficientBalanceException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ✅ Integration Test: sub-balance sharding of hot accounts
+ *
+ * Purpose:
+ *   - Shards a receiving account, then runs concurrent transfers into it from several senders.
+ *   - The sum cache is disabled, so every read sees the exact aggregated balance.
+ *
+ * Verifies:
+ *   - sharding and un-sharding preserve the balance
+ *   - concurrent credits to a sharded account are never lost
+ *   - a debit larger than any sub-balance consolidates them; a debit larger than the balance is rejected
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "ftp.balance-sharding.sum-cache-ttl=0s")
+class ShardedBalanceIntegrationTest {
+
+    private static final int SHARDS = 8;
+
+    @Autowired
+    private CreateTransferUseCase createTransferUseCase;
+
+    @Autowired
+    private ConfigureBalanceShardingUseCase configureBalanceShardingUseCase;
+
+    @Autowired
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID merchantId;
+
+    @BeforeEach
+    void setUp() {
+        merchantId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("100.00"))).getId();
+    }
+
+    private UUID newAccount(String balance) {
+        return accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal(balance))).getId();
+    }
+
+    private int subBalanceRows() {
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM account_sub_balances WHERE account_id = ?", Integer.class, merchantId);
+        return rows != null ? rows : 0;
+    }
+
+    @Test
+    void shardingShouldPreserveTheBalance() {
+        Account sharded = configureBalanceShardingUseCase.configureSharding(merchantId, SHARDS);
+
+        assertThat(sharded.isSharded()).isTrue();
+        assertThat(sharded.getBalance().toBigDecimal()).isEqualByComparingTo("100.00");
+        assertThat(subBalanceRows()).isEqualTo(SHARDS);
+    }
+
+    @Test
+    void concurrentCreditsShouldAllBeCounted() throws Exception {
+        configureBalanceShardingUseCase.configureSharding(merchantId, SHARDS);
+        List<UUID> senders = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            senders.add(newAccount("100.00"));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int round = 0; round < 5; round++) {
+                for (UUID sender : senders) {
+                    results.add(executor.submit(() ->
+                            createTransferUseCase.createTransfer(sender, merchantId, new BigDecimal("1.00"), Currency.USD)));
+                }
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(accountRepositoryPort.findById(merchantId).getBalance().toBigDecimal()).isEqualByComparingTo("140.00");
+    }
+
+    @Test
+    void debitShouldConsolidateSubBalancesWhenNeeded() {
+        configureBalanceShardingUseCase.configureSharding(merchantId, SHARDS);
+        UUID payer = newAccount("100.00");
+        UUID payee = newAccount("0.00");
+        for (int i = 0; i < 4; i++) {
+            createTransferUseCase.createTransfer(payer, merchantId, new BigDecimal("20.00"), Currency.USD);
+        }
+
+        // 150 exceeds the main balance (100) and every single sub-balance (at most 80)
+        createTransferUseCase.createTransfer(merchantId, payee, new BigDecimal("150.00"), Currency.USD);
+
+        assertThat(accountRepositoryPort.findById(merchantId).getBalance().toBigDecimal()).isEqualByComparingTo("30.00");
+        assertThat(accountRepositoryPort.findById(payee).getBalance().toBigDecimal()).isEqualByComparingTo("150.00");
+        assertThatThrownBy(() ->
+                createTransferUseCase.createTransfer(merchantId, payee, new BigDecimal("31.00"), Currency.USD))
+                .isInstanceOf(InsufficientBalanceException.class);
+    }
+
+    @Test
+    void unshardingShouldMoveSubBalancesBack() {
+        configureBalanceShardingUseCase.configureSharding(merchantId, SHARDS);
+        createTransferUseCase.createTransfer(newAccount("50.00"), merchantId, new BigDecimal("50.00"), Currency.USD);
+
+        Account account = configureBalanceShardingUseCase.configureSharding(merchantId, 1);
+
+        assertThat(account.isSharded()).isFalse();
+        assertThat(account.getBalance().toBigDecimal()).isEqualByComparingTo("150.00");
+        assertThat(subBalanceRows()).isZero();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ftp.fundtransferservice.infrastructure.db;
+
+import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.model.Transfer;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.domain.ports.out.LoadTransfersPort;
+import com.ftp.fundtransferservice.domain.ports.out.SaveTransferPort;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.constants.TransferStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ Integration Test: transfers created within [from, to)
+ *
+ * Purpose:
+ *   - Saves transfers of a fresh sender at the start, middle and end of a month in the past.
+ *   - Loads them through LoadTransfersPort.loadCreatedBetween with both bounds, only one bound and no bound.
+ *
+ * Verifies:
+ *   - from is inclusive, to is exclusive
+ *   - results are ordered newest first
+ *
+ * Other tests share the database, so only the rows of this test's sender are compared.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class TransferCreatedBetweenIntegrationTest {
+
+    private static final LocalDateTime FEBRUARY = LocalDateTime.of(2001, 2, 1, 0, 0);
+    private static final LocalDateTime MARCH = LocalDateTime.of(2001, 3, 1, 0, 0);
+
+    @Autowired
+    private AccountRepositoryPort accountRepositoryPort;
+
+    @Autowired
+    private SaveTransferPort saveTransferPort;
+
+    @Autowired
+    private LoadTransfersPort loadTransfersPort;
+
+    private UUID senderId;
+    private UUID january;
+    private UUID firstOfFebruary;
+    private UUID endOfFebruary;
+    private UUID firstOfMarch;
+
+    @BeforeEach
+    void setUp() {
+        senderId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("500.00"))).getId();
+        UUID receiverId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("0.00"))).getId();
+
+        january = save(receiverId, FEBRUARY.minusDays(10));
+        firstOfFebruary = save(receiverId, FEBRUARY);
+        endOfFebruary = save(receiverId, MARCH.minusSeconds(1));
+        firstOfMarch = save(receiverId, MARCH);
+    }
+
+    @Test
+    void shouldLoadFromInclusiveToExclusiveNewestFirst() {
+        assertThat(idsOf(loadTransfersPort.loadCreatedBetween(FEBRUARY, MARCH)))
+                .containsExactly(endOfFebruary, firstOfFebruary);
+    }
+
+    @Test
+    void shouldLoadWithOnlyOneBound() {
+        assertThat(idsOf(loadTransfersPort.loadCreatedBetween(FEBRUARY, null)))
+                .containsExactly(firstOfMarch, endOfFebruary, firstOfFebruary);
+        assertThat(idsOf(loadTransfersPort.loadCreatedBetween(null, FEBRUARY)))
+                .containsExactly(january);
+    }
+
+    @Test
+    void shouldLoadAllWithoutBounds() {
+        assertThat(idsOf(loadTransfersPort.loadCreatedBetween(null, null)))
+                .containsExactlyInAnyOrder(january, firstOfFebruary, endOfFebruary, firstOfMarch);
+    }
+
+    private UUID save(UUID receiverId, LocalDateTime createdAt) {
+        return saveTransferPort.save(new Transfer(UUID.randomUUID(), senderId, receiverId, new BigDecimal("1.00"),
+                Currency.USD, TransferStatus.COMPLETED, createdAt)).getId();
+    }
+
+    private List<UUID> idsOf(List<Transfer> transfers) {
+        return transfers.stream()
+                .filter(transfer -> transfer.getSenderId().equals(senderId))
+                .map(Transfer::getId)
+                .toList();
+    }
+}
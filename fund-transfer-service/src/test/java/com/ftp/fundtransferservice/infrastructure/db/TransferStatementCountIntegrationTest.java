@@ -0,0 +1,112 @@
+package com.ftp.fundtransferservice.infrastructure.db;
+
+import com.ftp.fundtransferservice.domain.model.Account;
+import com.ftp.fundtransferservice.domain.ports.in.CreateTransferUseCase;
+import com.ftp.fundtransferservice.domain.ports.out.AccountRepositoryPort;
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ Integration Test: JDBC statements issued per transfer
+ *
+ * Purpose:
+ *   - Wraps the DataSource with a datasource-proxy statement counter.
+ *   - Runs one transfer with the "batch" persistence profile enabled.
+ *   - Verifies the write path is: lock SELECT, receiver SELECT, one batched UPDATE
+ *     for both accounts and one INSERT for the transfer (no SELECT before the INSERT),
+ *     followed by the two account_activity INSERTs of the after-commit projection.
+ *
+ * Profiles are listed as "batch", "test" so the H2 datasource from the test profile wins
+ * over the PostgreSQL URL of the batch profile, while the Hibernate batching settings stay.
+ */
+@SpringBootTest
+@ActiveProfiles({"batch", "test"})
+class TransferStatementCountIntegrationTest {
+
+    @Autowired
+    private CreateTransferUseCase createTransferUseCase;
+
+    @Autowired
+    private AccountRepositoryPort accountRepositoryPort;
+
+    private UUID senderId;
+    private UUID receiverId;
+
+    @TestConfiguration
+    static class StatementCounterConfig {
+
+        // Wrap the application's DataSource in a counting proxy; the pools behind it are not wrapped
+        // again, so every statement is counted once
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                            && !(bean instanceof ProxyDataSource)) {
+                        return ProxyDataSourceBuilder.create(dataSource)
+                                .name("statement-counter")
+                                .countQuery()
+                                .build();
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        senderId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("500.00"))).getId();
+        receiverId = accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("0.00"))).getId();
+    }
+
+    @Test
+    void transferShouldIssueOneBatchedUpdateAndOneInsert() {
+        // 🧹 Only count statements of the transfer itself
+        QueryCountHolder.clear();
+
+        createTransferUseCase.createTransfer(senderId, receiverId, new BigDecimal("25.00"), Currency.USD);
+
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        String statements = String.format("Statements per transfer: select=%d, insert=%d, update=%d, delete=%d, other=%d",
+                count.getSelect(), count.getInsert(), count.getUpdate(), count.getDelete(), count.getOther());
+
+        // Sender lock + receiver lookup; the sender is already in the persistence context
+        assertThat(count.getSelect()).as(statements).isLessThanOrEqualTo(2);
+        // Assigned ID: the transfer is inserted without a preceding SELECT; after the commit the
+        // account_activity projection adds its DEBIT and CREDIT rows with one INSERT ... SELECT each
+        assertThat(count.getInsert()).as(statements).isEqualTo(3);
+        // Sender and receiver updates are sent as one JDBC batch
+        assertThat(count.getUpdate()).as(statements).isEqualTo(1);
+        assertThat(count.getDelete()).as(statements).isZero();
+    }
+
+    @Test
+    void accountCreationShouldNotSelectBeforeInsert() {
+        QueryCountHolder.clear();
+
+        accountRepositoryPort.save(new Account(null, UUID.randomUUID(), new BigDecimal("10.00")));
+
+        QueryCount count = QueryCountHolder.getGrandTotal();
+        assertThat(count.getSelect()).isZero();
+        assertThat(count.getInsert()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,205 @@
+package com.ftp.fundtransferservice.infrastructure.db.partitioning;
+
+import com.ftp.fundtransferservice.config.PartitioningProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The job only runs against PostgreSQL; the catalog queries and DDL are stubbed on a mocked JdbcTemplate,
+ * and the row export streams from an in-memory H2 table.
+ */
+class TransferPartitionMaintenanceJobTest {
+
+    private static final YearMonth NOW = YearMonth.of(2026, 10);
+
+    @TempDir
+    Path archiveDirectory;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransferPartitionMaintenanceJob job;
+    private Connection h2;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        PartitioningProperties properties = new PartitioningProperties();
+        properties.setMonthsAhead(2);
+        properties.setRetentionMonths(12);
+        properties.setArchiveDirectory(archiveDirectory);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        job = new TransferPartitionMaintenanceJob(jdbcTemplate, properties);
+
+        h2 = DriverManager.getConnection("jdbc:h2:mem:partition-job;DB_CLOSE_DELAY=-1");
+        try (Statement statement = h2.createStatement()) {
+            statement.execute("CREATE TABLE transfers_2020_01 (id UUID, sender_id UUID, receiver_id UUID, "
+                    + "amount DECIMAL(19, 2), currency VARCHAR(3), status VARCHAR(20), created_at TIMESTAMP)");
+            statement.execute("INSERT INTO transfers_2020_01 VALUES "
+                    + "('00000000-0000-0000-0000-000000000001', '00000000-0000-0000-0000-00000000000a', "
+                    + "'00000000-0000-0000-0000-00000000000b', 10.50, 'USD', 'COMPLETED', '2020-01-05 10:00:00'), "
+                    + "('00000000-0000-0000-0000-000000000002', '00000000-0000-0000-0000-00000000000b', "
+                    + "'00000000-0000-0000-0000-00000000000a', 3.00, 'USD', 'FAILED', '2020-01-31 23:59:59')");
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = h2.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        h2.close();
+    }
+
+    @Test
+    void shouldCreateMissingPartitionsOnly() {
+        when(jdbcTemplate.queryForObject("SELECT to_regclass(?) IS NOT NULL", Boolean.class, "transfers_2026_10"))
+                .thenReturn(true);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class))).thenReturn(false);
+
+        job.createFuturePartitions(NOW);
+
+        verify(jdbcTemplate, never()).execute(contains("transfers_2026_10"));
+        verify(jdbcTemplate).execute("CREATE TABLE transfers_2026_11 PARTITION OF transfers "
+                + "FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')");
+        verify(jdbcTemplate).execute("CREATE TABLE transfers_2026_12 PARTITION OF transfers "
+                + "FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')");
+    }
+
+    @Test
+    void shouldMoveRowsOutOfDefaultIntoTheNewPartition() throws SQLException {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class))).thenReturn(false);
+        when(jdbcTemplate.queryForObject(and(startsWith("SELECT EXISTS"), contains("'2026-11-01'")), eq(Boolean.class)))
+                .thenReturn(true);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.executeUpdate(anyString())).thenReturn(3);
+        runCallbacksOn(connection);
+
+        job.createFuturePartitions(NOW);
+
+        InOrder inOrder = inOrder(connection, statement);
+        inOrder.verify(connection).setAutoCommit(false);
+        inOrder.verify(statement).execute("ALTER TABLE transfers DETACH PARTITION transfers_default");
+        inOrder.verify(statement).execute("CREATE TABLE transfers_2026_11 PARTITION OF transfers "
+                + "FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')");
+        inOrder.verify(statement).executeUpdate("WITH moved AS (DELETE FROM transfers_default "
+                + "WHERE created_at >= '2026-11-01' AND created_at < '2026-12-01' RETURNING *) "
+                + "INSERT INTO transfers_2026_11 SELECT * FROM moved");
+        inOrder.verify(statement).execute("ALTER TABLE transfers ATTACH PARTITION transfers_default DEFAULT");
+        inOrder.verify(connection).commit();
+        inOrder.verify(connection).setAutoCommit(true);
+        verify(connection, never()).rollback();
+        // Months without rows in DEFAULT are created directly
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE transfers_2026_12 PARTITION OF transfers"));
+    }
+
+    @Test
+    void failedMoveShouldRollBackAndNotStopTheOtherMonths() throws SQLException {
+        when(jdbcTemplate.queryForObject(startsWith("SELECT EXISTS"), eq(Boolean.class))).thenReturn(false);
+        when(jdbcTemplate.queryForObject(and(startsWith("SELECT EXISTS"), contains("'2026-11-01'")), eq(Boolean.class)))
+                .thenReturn(true);
+        Connection connection = mock(Connection.class);
+        Statement statement = mock(Statement.class);
+        when(connection.createStatement()).thenReturn(statement);
+        when(statement.execute(startsWith("ALTER TABLE transfers ATTACH"))).thenThrow(new SQLException("lock timeout"));
+        runCallbacksOn(connection);
+
+        job.createFuturePartitions(NOW);
+
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE transfers_2026_10 PARTITION OF transfers"));
+        verify(jdbcTemplate).execute(startsWith("CREATE TABLE transfers_2026_12 PARTITION OF transfers"));
+    }
+
+    @Test
+    void shouldArchiveExpiredPartitionsBeforeDroppingThem() throws IOException {
+        stubCatalog(List.of("transfers_2020_01"), List.of("transfers_2020_01", "transfers_2026_01", "transfers_default"));
+        runCallbacksOn(h2);
+
+        job.archiveExpiredPartitions(NOW);
+
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE transfers DETACH PARTITION transfers_2020_01");
+        inOrder.verify(jdbcTemplate).execute("DROP TABLE transfers_2020_01");
+        verify(jdbcTemplate, never()).execute(contains("transfers_2026_01"));
+        verify(jdbcTemplate, never()).execute(contains("transfers_default"));
+
+        Path archive = archiveDirectory.resolve("transfers_2020_01.csv.gz");
+        assertThat(readGzip(archive)).containsExactly(
+                "id,sender_id,receiver_id,amount,currency,status,created_at",
+                "00000000-0000-0000-0000-000000000001,00000000-0000-0000-0000-00000000000a,"
+                        + "00000000-0000-0000-0000-00000000000b,10.50,USD,COMPLETED,2020-01-05T10:00",
+                "00000000-0000-0000-0000-000000000002,00000000-0000-0000-0000-00000000000b,"
+                        + "00000000-0000-0000-0000-00000000000a,3.00,USD,FAILED,2020-01-31T23:59:59");
+        assertThat(archiveDirectory.resolve("transfers_2020_01.csv.gz.partial")).doesNotExist();
+    }
+
+    @Test
+    void failedExportShouldRollBackAndKeepTheTable() throws SQLException {
+        // Left detached by an earlier run: no longer attached, still picked up
+        stubCatalog(List.of(), List.of("transfers_2020_01"));
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(true);
+        when(connection.prepareStatement(anyString())).thenThrow(new SQLException("connection reset"));
+        runCallbacksOn(connection);
+
+        job.archiveExpiredPartitions(NOW);
+
+        verify(connection).rollback();
+        verify(connection, never()).commit();
+        verify(connection).setAutoCommit(true);
+        verify(jdbcTemplate, never()).execute(startsWith("DROP TABLE"));
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE"));
+        assertThat(archiveDirectory.resolve("transfers_2020_01.csv.gz")).doesNotExist();
+        assertThat(archiveDirectory.resolve("transfers_2020_01.csv.gz.partial")).doesNotExist();
+    }
+
+    private void stubCatalog(List<String> attached, List<String> tables) {
+        when(jdbcTemplate.queryForList(contains("pg_inherits"), eq(String.class), eq("transfers"))).thenReturn(attached);
+        when(jdbcTemplate.queryForList(contains("pg_tables"), eq(String.class))).thenReturn(tables);
+    }
+
+    // Runs ConnectionCallbacks like JdbcTemplate does, translating SQLExceptions
+    @SuppressWarnings("unchecked")
+    private void runCallbacksOn(Connection connection) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenAnswer(invocation -> {
+            try {
+                return invocation.getArgument(0, ConnectionCallback.class).doInConnection(connection);
+            } catch (SQLException e) {
+                throw new UncategorizedSQLException("test", null, e);
+            }
+        });
+    }
+
+    private static List<String> readGzip(Path file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
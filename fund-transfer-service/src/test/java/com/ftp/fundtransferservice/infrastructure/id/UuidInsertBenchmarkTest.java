@@ -0,0 +1,93 @@
+package com.ftp.fundtransferservice.infrastructure.id;
+
+import com.ftp.fundtransferservice.domain.ports.out.IdGeneratorPort;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ✅ Benchmark: insert throughput and index size for random (v4) vs time-ordered (v7) UUID keys
+ *
+ * Inserts 200,000 rows into an H2 file database keyed by each ID scheme and prints rows/second and the disk
+ * space of the table including its primary-key index. Run with <code>mvn test -Pbenchmark</code>.
+ */
+@Tag("benchmark")
+class UuidInsertBenchmarkTest {
+
+    private static final int ROWS = 200_000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void compareRandomAndTimeOrderedKeys() throws SQLException {
+        Result v4 = run("v4", new RandomUuidGenerator());
+        Result v7 = run("v7", new UuidV7Generator());
+
+        System.out.printf("UUID v4: %,d rows in %d ms (%,.0f rows/s), table+index size %,d bytes%n",
+                v4.rows, v4.millis, v4.rowsPerSecond(), v4.bytes);
+        System.out.printf("UUID v7: %,d rows in %d ms (%,.0f rows/s), table+index size %,d bytes%n",
+                v7.rows, v7.millis, v7.rowsPerSecond(), v7.bytes);
+
+        assertThat(v4.rows).isEqualTo(ROWS);
+        assertThat(v7.rows).isEqualTo(ROWS);
+    }
+
+    private Result run(String name, IdGeneratorPort generator) throws SQLException {
+        String url = "jdbc:h2:file:" + tempDir.resolve("ids-" + name).toAbsolutePath();
+        try (Connection connection = DriverManager.getConnection(url, "sa", "")) {
+            try (Statement ddl = connection.createStatement()) {
+                ddl.execute("CREATE TABLE transfers_bench (id UUID PRIMARY KEY, amount NUMERIC(19,2) NOT NULL)");
+            }
+            connection.setAutoCommit(false);
+
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO transfers_bench (id, amount) VALUES (?, ?)")) {
+                for (int i = 1; i <= ROWS; i++) {
+                    insert.setObject(1, generator.nextId());
+                    insert.setBigDecimal(2, BigDecimal.TEN);
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            long millis = (System.nanoTime() - start) / 1_000_000;
+
+            try (Statement query = connection.createStatement()) {
+                query.execute("CHECKPOINT SYNC");
+                long rows;
+                try (ResultSet rs = query.executeQuery("SELECT COUNT(*) FROM transfers_bench")) {
+                    rs.next();
+                    rows = rs.getLong(1);
+                }
+                long bytes;
+                try (ResultSet rs = query.executeQuery("SELECT DISK_SPACE_USED('TRANSFERS_BENCH')")) {
+                    rs.next();
+                    bytes = rs.getLong(1);
+                }
+                return new Result(rows, millis, bytes);
+            }
+        }
+    }
+
+    private record Result(long rows, long millis, long bytes) {
+        double rowsPerSecond() {
+            return rows * 1000.0 / Math.max(1, millis);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ftp.fundtransferservice.infrastructure.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7GeneratorTest {
+
+    @Test
+    void shouldSetVersionAndVariantAndEmbedTimestamp() {
+        long now = 1_720_000_000_000L;
+        UuidV7Generator generator = new UuidV7Generator(() -> now);
+
+        UUID id = generator.nextId();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(now);
+    }
+
+    @Test
+    void shouldBeStrictlyIncreasingWithinTheSameMillisecond() {
+        UuidV7Generator generator = new UuidV7Generator(() -> 1_720_000_000_000L);
+
+        UUID previous = generator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.nextId();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()))
+                    .isPositive();
+            previous = next;
+        }
+    }
+
+    @Test
+    void shouldStayMonotonicWhenClockMovesBackwards() {
+        AtomicLong clock = new AtomicLong(1_720_000_000_000L);
+        UuidV7Generator generator = new UuidV7Generator(clock::get);
+
+        UUID beforeJump = generator.nextId();
+        clock.addAndGet(-5_000);
+        UUID afterJump = generator.nextId();
+
+        assertThat(Long.compareUnsigned(afterJump.getMostSignificantBits(), beforeJump.getMostSignificantBits()))
+                .isPositive();
+    }
+
+    @Test
+    void shouldGenerateUniqueIdsAcrossThreads() throws Exception {
+        UuidV7Generator generator = new UuidV7Generator();
+        int threads = 8;
+        int perThread = 50_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.nextId());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+}
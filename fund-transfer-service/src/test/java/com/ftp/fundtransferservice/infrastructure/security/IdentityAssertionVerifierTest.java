@@ -0,0 +1,83 @@
+package com.ftp.fundtransferservice.infrastructure.security;
+
+import com.ftp.fundtransferservice.infrastructure.security.IdentityAssertionVerifier.VerifiedIdentity;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityAssertionVerifierTest {
+
+    private static final String SECRET = "IdentityAssertionSecretThatIsLongEnough1234";
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    private final IdentityAssertionVerifier verifier = new IdentityAssertionVerifier(SECRET,
+            Duration.ofSeconds(30), Duration.ofSeconds(5), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @Test
+    void shouldAcceptAssertionSignedByTheGateway() throws Exception {
+        String assertion = sign(SECRET, NOW.getEpochSecond(), "42", "roy", "USER,ADMIN");
+
+        Optional<VerifiedIdentity> identity = verifier.verify(assertion, "42", "roy", "USER,ADMIN");
+
+        assertEquals(Optional.of(new VerifiedIdentity("42", "roy", List.of("USER", "ADMIN"))), identity);
+    }
+
+    @Test
+    void shouldAcceptTheGatewaySignersFixedVector() {
+        // The gateway's IdentityAssertionSignerTest produces this exact value for the same secret and time
+        String assertion = "v1.1768471200.DngbzofPV9pG3RyK91cCg4BMjjfJC0fkkdmfTl2T2cI";
+
+        assertTrue(verifier.verify(assertion, "42", "roy", "USER,ADMIN").isPresent());
+    }
+
+    @Test
+    void shouldRejectForgedOrTamperedHeaders() throws Exception {
+        String assertion = sign(SECRET, NOW.getEpochSecond(), "42", "roy", "USER");
+
+        assertTrue(verifier.verify(assertion, "42", "roy", "ADMIN").isEmpty());
+        assertTrue(verifier.verify(assertion, "43", "roy", "USER").isEmpty());
+        assertTrue(verifier.verify(sign("SomeOtherSecretThatIsAlsoLongEnough12345",
+                NOW.getEpochSecond(), "42", "roy", "USER"), "42", "roy", "USER").isEmpty());
+        assertTrue(verifier.verify(assertion, "42", null, "USER").isEmpty());
+        assertTrue(verifier.verify("v1.not-a-number.abc", "42", "roy", "USER").isEmpty());
+        assertTrue(verifier.verify("garbage", "42", "roy", "USER").isEmpty());
+    }
+
+    @Test
+    void shouldRejectExpiredAndFutureAssertions() throws Exception {
+        long now = NOW.getEpochSecond();
+
+        assertTrue(verifier.verify(sign(SECRET, now - 30, "42", "roy", "USER"), "42", "roy", "USER").isPresent());
+        assertTrue(verifier.verify(sign(SECRET, now - 31, "42", "roy", "USER"), "42", "roy", "USER").isEmpty());
+        assertTrue(verifier.verify(sign(SECRET, now + 5, "42", "roy", "USER"), "42", "roy", "USER").isPresent());
+        assertTrue(verifier.verify(sign(SECRET, now + 6, "42", "roy", "USER"), "42", "roy", "USER").isEmpty());
+    }
+
+    @Test
+    void disabledVerifierShouldRejectEverything() throws Exception {
+        String assertion = sign(SECRET, NOW.getEpochSecond(), "42", "roy", "USER");
+
+        assertTrue(IdentityAssertionVerifier.disabled().verify(assertion, "42", "roy", "USER").isEmpty());
+    }
+
+    // Same format as the gateway's IdentityAssertionSigner
+    private static String sign(String secret, long epochSeconds, String userId, String username, String roles)
+            throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        String payload = "v1\n" + epochSeconds + "\n" + userId + "\n" + username + "\n" + roles;
+        byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return "v1." + epochSeconds + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+}
@@ -14,6 +14,7 @@
 package com.ftp.fundtransferservice.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ftp.fundtransferservice.domain.ports.out.IdGeneratorPort;
 import com.ftp.fundtransferservice.infrastructure.db.entities.AccountEntity;
 import com.ftp.fundtransferservice.infrastructure.db.repositories.SpringDataAccountRepository;
 import com.ftp.fundtransferservice.shared.constants.Currency;
@@ -48,6 +49,7 @@ public class ConcurrentTransferIntegrationTest {
     @Autowired private MockMvc mockMvc;
     @Autowired private ObjectMapper objectMapper;
     @Autowired private SpringDataAccountRepository accountRepo;
+    @Autowired private IdGeneratorPort idGeneratorPort;
 
     private UUID senderAccountId;
     private UUID receiverAccountId;
@@ -58,12 +60,14 @@ public class ConcurrentTransferIntegrationTest {
         accountRepo.deleteAll();
 
         AccountEntity sender = new AccountEntity();
+        sender.setId(idGeneratorPort.nextId());
         sender.setUserId(UUID.randomUUID());
         sender.setBalance(new BigDecimal("500.00"));
         sender = accountRepo.save(sender);
         senderAccountId = sender.getId();
 
         AccountEntity receiver = new AccountEntity();
+        receiver.setId(idGeneratorPort.nextId());
         receiver.setUserId(UUID.randomUUID());
         receiver.setBalance(new BigDecimal("0.00"));
         receiver = accountRepo.save(receiver);
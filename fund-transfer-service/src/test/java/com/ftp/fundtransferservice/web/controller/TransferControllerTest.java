@@ -11,6 +11,7 @@ import com.ftp.fundtransferservice.shared.exception.InsufficientBalanceException
 import com.ftp.fundtransferservice.web.dto.request.TransferRequest;
 import com.ftp.fundtransferservice.web.dto.response.TransferResponse;
 import com.ftp.fundtransferservice.web.mappers.TransferDtoMapper;
+import com.ftp.fundtransferservice.web.validation.TransferRequestValidator;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
@@ -23,15 +24,17 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import org.springframework.beans.factory.annotation.Autowired;
 
-@Import(com.ftp.fundtransferservice.web.exception.GlobalExceptionHandler.class)
+@Import({com.ftp.fundtransferservice.web.exception.GlobalExceptionHandler.class, TransferRequestValidator.class})
 @WebMvcTest(TransferController.class)
 @AutoConfigureMockMvc(addFilters = false)
 
@@ -76,6 +79,24 @@ class TransferControllerTest {
 
                 .andExpect(jsonPath("$.currency").value("USD"));
     }
+    @WithMockUser
+    @Test
+    void shouldReturn400WithoutCallingUseCase_whenAmountIsOutOfRange() throws Exception {
+        TransferRequest request = new TransferRequest();
+        request.setSenderId(UUID.randomUUID());
+        request.setReceiverId(UUID.randomUUID());
+        request.setAmount(new BigDecimal("0.50"));
+        request.setCurrency(Currency.USD);
+
+        mockMvc.perform(post("/transfers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("INVALID_TRANSFER_AMOUNT"));
+
+        verify(createTransferUseCase, never()).createTransfer(any(), any(), any(), any());
+    }
+
     @WithMockUser
     @Test
     void shouldReturn404_whenAccountNotFound() throws Exception {
@@ -114,4 +135,41 @@ class TransferControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+    @WithMockUser
+    @Test
+    void shouldPassTheCreationWindowToTheUseCase() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 2, 1, 0, 0);
+        when(getTransfersUseCase.getTransfers(from, to)).thenReturn(List.of());
+
+        mockMvc.perform(get("/transfers")
+                        .param("from", "2026-01-01T00:00:00")
+                        .param("to", "2026-02-01T00:00:00"))
+                .andExpect(status().isOk());
+
+        verify(getTransfersUseCase).getTransfers(from, to);
+        verify(getTransfersUseCase, never()).getTransfers();
+    }
+    @WithMockUser
+    @Test
+    void shouldPassAnOpenEndedWindowWithOneBound() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2026, 1, 1, 0, 0);
+        when(getTransfersUseCase.getTransfers(from, null)).thenReturn(List.of());
+
+        mockMvc.perform(get("/transfers").param("from", "2026-01-01T00:00:00"))
+                .andExpect(status().isOk());
+
+        verify(getTransfersUseCase).getTransfers(from, null);
+    }
+    @WithMockUser
+    @Test
+    void shouldLoadAllTransfersWithoutAWindow() throws Exception {
+        when(getTransfersUseCase.getTransfers()).thenReturn(List.of());
+
+        mockMvc.perform(get("/transfers"))
+                .andExpect(status().isOk());
+
+        verify(getTransfersUseCase).getTransfers();
+        verify(getTransfersUseCase, never()).getTransfers(any(), any());
+    }
 }
@@ -0,0 +1,98 @@
+package com.ftp.fundtransferservice.web.validation;
+
+import com.ftp.fundtransferservice.shared.constants.TransferConstants;
+import com.ftp.fundtransferservice.shared.exception.InvalidTransferAmountException;
+import com.ftp.fundtransferservice.shared.exception.TransferValidationException;
+import com.ftp.fundtransferservice.web.dto.request.TransferRequest;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Predicate;
+
+/**
+ * ✅ Benchmark: Bean Validation + range check vs TransferRequestValidator
+ *
+ * Validates 100,000 requests, one second of load at 100k requests/second, on each path and prints the
+ * time per request and the bytes allocated per request. The previous path is Bean Validation followed by the
+ * BigDecimal range check, throwing a new InvalidTransferAmountException with a concatenated message on failure.
+ * Every 100th request is out of range; which requests the validator rejects is covered by
+ * TransferRequestValidatorTest.
+ */
+@Tag("benchmark")
+class TransferRequestValidatorBenchmarkTest {
+
+    private static final int REQUESTS = 100_000;
+    private static final int INVALID_EVERY = 100;
+
+    @Test
+    void compareBeanValidationAndPrecompiledValidator() {
+        TransferRequest[] requests = new TransferRequest[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            requests[i] = TransferRequestValidatorTest.request(i % INVALID_EVERY == 0 ? "0.50" : "150.75");
+        }
+
+        TransferRequestValidator validator = new TransferRequestValidator();
+        try (ValidatorFactory factory = Validation.buildDefaultValidatorFactory()) {
+            Validator beanValidator = factory.getValidator();
+            Predicate<TransferRequest> previous = request -> {
+                try {
+                    if (!beanValidator.validate(request).isEmpty()) {
+                        return false;
+                    }
+                    if (request.getAmount().compareTo(TransferConstants.MIN_TRANSFER_AMOUNT) < 0
+                            || request.getAmount().compareTo(TransferConstants.MAX_TRANSFER_AMOUNT) > 0) {
+                        throw new InvalidTransferAmountException("Transfer amount must be between " +
+                                TransferConstants.MIN_TRANSFER_AMOUNT + " and " + TransferConstants.MAX_TRANSFER_AMOUNT);
+                    }
+                    return true;
+                } catch (InvalidTransferAmountException e) {
+                    return false;
+                }
+            };
+            Predicate<TransferRequest> precompiled = request -> {
+                try {
+                    validator.validateOrThrow(request);
+                    return true;
+                } catch (TransferValidationException e) {
+                    return false;
+                }
+            };
+
+            // Warm-up so both paths are JIT-compiled
+            run(requests, previous);
+            run(requests, precompiled);
+
+            Result before = run(requests, previous);
+            Result after = run(requests, precompiled);
+
+            System.out.printf("Bean Validation:          %,d ns/request, %,d bytes/request, %,d rejected%n",
+                    before.nanos / REQUESTS, before.bytes / REQUESTS, before.rejected);
+            System.out.printf("TransferRequestValidator: %,d ns/request, %,d bytes/request, %,d rejected%n",
+                    after.nanos / REQUESTS, after.bytes / REQUESTS, after.rejected);
+        }
+    }
+
+    private Result run(TransferRequest[] requests, Predicate<TransferRequest> path) {
+        long bytes = allocatedBytes();
+        long start = System.nanoTime();
+        int rejected = 0;
+        for (TransferRequest request : requests) {
+            if (!path.test(request)) {
+                rejected++;
+            }
+        }
+        return new Result(System.nanoTime() - start, allocatedBytes() - bytes, rejected);
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private record Result(long nanos, long bytes, int rejected) {
+    }
+}
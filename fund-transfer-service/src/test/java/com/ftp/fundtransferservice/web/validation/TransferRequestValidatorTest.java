@@ -0,0 +1,59 @@
+package com.ftp.fundtransferservice.web.validation;
+
+import com.ftp.fundtransferservice.shared.constants.Currency;
+import com.ftp.fundtransferservice.shared.constants.TransferValidationError;
+import com.ftp.fundtransferservice.shared.exception.TransferValidationException;
+import com.ftp.fundtransferservice.web.dto.request.TransferRequest;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TransferRequestValidatorTest {
+
+    private final TransferRequestValidator validator = new TransferRequestValidator();
+
+    static TransferRequest request(String amount) {
+        TransferRequest request = new TransferRequest();
+        request.setSenderId(UUID.randomUUID());
+        request.setReceiverId(UUID.randomUUID());
+        request.setAmount(amount != null ? new BigDecimal(amount) : null);
+        request.setCurrency(Currency.USD);
+        return request;
+    }
+
+    @Test
+    void shouldAcceptAmountsWithinLimits() {
+        assertThat(validator.validate(request("1.00"))).isNull();
+        assertThat(validator.validate(request("10000"))).isNull();
+        assertThat(validator.validate(request("150.750"))).isNull(); // Trailing zero only
+    }
+
+    @Test
+    void shouldReturnTypedErrors() {
+        TransferRequest withoutSender = request("10.00");
+        withoutSender.setSenderId(null);
+        TransferRequest withoutCurrency = request("10.00");
+        withoutCurrency.setCurrency(null);
+
+        assertThat(validator.validate(withoutSender)).isEqualTo(TransferValidationError.SENDER_REQUIRED);
+        assertThat(validator.validate(withoutCurrency)).isEqualTo(TransferValidationError.CURRENCY_REQUIRED);
+        assertThat(validator.validate(request(null))).isEqualTo(TransferValidationError.AMOUNT_REQUIRED);
+        assertThat(validator.validate(request("10.001"))).isEqualTo(TransferValidationError.AMOUNT_TOO_PRECISE);
+        assertThat(validator.validate(request("0.99"))).isEqualTo(TransferValidationError.AMOUNT_OUT_OF_RANGE);
+        assertThat(validator.validate(request("-5.00"))).isEqualTo(TransferValidationError.AMOUNT_OUT_OF_RANGE);
+        assertThat(validator.validate(request("10000.01"))).isEqualTo(TransferValidationError.AMOUNT_OUT_OF_RANGE);
+    }
+
+    @Test
+    void shouldThrowTheSharedStacklessException() {
+        Throwable first = catchThrowable(() -> validator.validateOrThrow(request("0.10")));
+        Throwable second = catchThrowable(() -> validator.validateOrThrow(request("0.20")));
+
+        assertThat(first).isInstanceOf(TransferValidationException.class).isSameAs(second);
+        assertThat(first.getStackTrace()).isEmpty();
+        assertThat(((TransferValidationException) first).getErrorCode()).isEqualTo("INVALID_TRANSFER_AMOUNT");
+    }
+}
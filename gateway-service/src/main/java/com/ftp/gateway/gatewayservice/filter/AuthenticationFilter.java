@@ -1,8 +1,10 @@
 package com.ftp.gateway.gatewayservice.filter;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,18 +33,24 @@ import java.util.stream.Collectors;
  * -------
  * This is a Global Spring Cloud Gateway filter that:
  * - Bypasses CORS preflight and whitelisted paths.
- * - Validates JWT (signature + issuer + audience + clock skew).
+ * - Validates JWT (signature + issuer + audience + clock skew) and rejects revoked tokens (see RevocationListClient).
  * - Extracts user roles from "roles" (array or CSV) or "role".
- * - On success: forwards the Bearer token and propagates claims (X-User-Id, X-Username, X-Roles) to downstream services.
+ * - On success: forwards the Bearer token and propagates claims (X-User-Id, X-Username, X-Roles) to downstream services,
+ *   with an X-Identity-Assertion MAC over them (see IdentityAssertionSigner) so they need not verify the JWT again.
+ * - Strips identity headers sent by the client on every request, so only the gateway can set them.
  * - On failure: returns a JSON error with 401 (unauthorized) or 403 (forbidden).
  *
  * STEPS
  * -----
- * 1) Short-circuit CORS preflight (OPTIONS) and allow whitelisted paths without auth.
+ * 0) Remove client-supplied X-User-Id, X-Username, X-Roles and X-Identity-Assertion headers.
+ * 1) Short-circuit CORS preflight (OPTIONS), never route internal endpoints (/{service}/internal/...), and allow
+ *    whitelisted paths without auth.
  * 2) Read and validate the "Authorization: Bearer <token>" header.
- * 3) Parse and validate the JWT using the configured secret, issuer, audience, and allowed clock skew.
+ * 3) Parse and validate the JWT using the configured secret, issuer, audience, and allowed clock skew
+ *    (the key and parser are built once at startup), then reject revoked tokens from the in-memory revocation list.
  * 4) Extract roles; if none are present, deny access with 403.
- * 5) Mutate the request to forward Authorization and add helpful claim headers, then continue the filter chain.
+ * 5) Mutate the request to forward Authorization, add helpful claim headers and their assertion, then continue the
+ *    filter chain.
  * 6) On any validation error, return a compact JSON response with the appropriate HTTP status code.
  */
 
@@ -52,6 +60,12 @@ public class AuthenticationFilter implements GlobalFilter, Ordered {
 
     private static final Logger log = LoggerFactory.getLogger(AuthenticationFilter.class);
     private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final String INTERNAL_PATTERN = "/*/internal/**";
+    private static final List<String> IDENTITY_HEADERS =
+            List.of("X-User-Id", "X-Username", "X-Roles", IdentityAssertionSigner.ASSERTION_HEADER);
+
+    private final IdentityAssertionSigner identityAssertionSigner;
+    private final RevocationListClient revocationListClient;
 
     // Secret used to verify HS256/HS512 tokens (must be >= 32 chars for HS256).
     @Value("${jwt.secret}")
@@ -73,9 +87,29 @@ public class AuthenticationFilter implements GlobalFilter, Ordered {
     @Value("${gateway.allowedClockSkewSeconds:60}")
     private long allowedClockSkewSeconds;
 
+    // Built once: the key and parser are immutable and thread-safe.
+    private JwtParser parser;
+
+    @PostConstruct
+    void initParser() {
+        Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(key)
+                .setAllowedClockSkewSeconds(allowedClockSkewSeconds)
+                .build();
+    }
+
     @Override
     public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
 
+        // Step 0) Never forward identity headers sent by the client, even on whitelisted paths.
+        if (hasIdentityHeaders(exchange.getRequest().getHeaders())) {
+            ServerHttpRequest stripped = exchange.getRequest().mutate()
+                    .headers(headers -> IDENTITY_HEADERS.forEach(headers::remove))
+                    .build();
+            exchange = exchange.mutate().request(stripped).build();
+        }
+
         final String path = exchange.getRequest().getURI().getPath();
         final String method = exchange.getRequest().getMethod() != null
                 ? exchange.getRequest().getMethod().name()
@@ -87,7 +121,12 @@ public class AuthenticationFilter implements GlobalFilter, Ordered {
             return chain.filter(exchange);
         }
 
-        // Step 1b) Allow whitelisted paths (docs, health, login, etc.).
+        // Step 1b) Service-to-service endpoints (e.g. the revocation list) are not exposed, even under /auth/**.
+        if (PATH_MATCHER.match(INTERNAL_PATTERN, path)) {
+            return writeError(exchange, HttpStatus.NOT_FOUND, "Not found");
+        }
+
+        // Step 1c) Allow whitelisted paths (docs, health, login, etc.).
         if (isWhitelisted(path)) {
             return chain.filter(exchange);
         }
@@ -101,17 +140,10 @@ public class AuthenticationFilter implements GlobalFilter, Ordered {
         String token = authHeader.substring(7).trim();
         Claims claims;
         try {
-            // Step 3a) Build a JWT parser with the HMAC key and clock skew.
-            Key key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
-            var parser = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .setAllowedClockSkewSeconds(allowedClockSkewSeconds)
-                    .build();
-
-            // Step 3b) Parse and validate the token (signature + exp/nbf).
+            // Step 3a) Parse and validate the token (signature + exp/nbf).
             claims = parser.parseClaimsJws(token).getBody();
 
-            // Step 3c) Optionally enforce issuer and audience if configured.
+            // Step 3b) Optionally enforce issuer and audience if configured.
             if (!expectedIssuer.isBlank() && !expectedIssuer.equals(claims.getIssuer())) {
                 return unauthorized(exchange, "Invalid token issuer");
             }
@@ -122,21 +154,32 @@ public class AuthenticationFilter implements GlobalFilter, Ordered {
                 }
             }
 
+            // Step 3c) Reject revoked tokens: in-memory lookups only, the list is pulled in the background.
+            if (revocationListClient.isRevoked(claims.getId(), claims.getSubject(), claims.getIssuedAt())) {
+                return unauthorized(exchange, "Token revoked");
+            }
+
             // Step 4) Extract roles; support "roles" (array/CSV) or single "role".
             List<String> roles = extractRoles(claims);
             if (roles.isEmpty()) {
                 return forbidden(exchange, "No roles assigned");
             }
 
-            // Step 5) Propagate token + helpful claims to downstream services.
-            ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
+            // Step 5) Propagate token + helpful claims (and their assertion) to downstream services.
+            String userId = safeString(claims.get("userId", String.class), claims.getSubject());
+            String username = safeString(claims.get("username", String.class), claims.getSubject());
+            String joinedRoles = String.join(",", roles);
+            ServerHttpRequest.Builder mutatedRequest = exchange.getRequest().mutate()
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
-                    .header("X-User-Id", safeString(claims.get("userId", String.class), claims.getSubject()))
-                    .header("X-Username", safeString(claims.get("username", String.class), claims.getSubject()))
-                    .header("X-Roles", String.join(",", roles))
-                    .build();
+                    .header("X-User-Id", userId)
+                    .header("X-Username", username)
+                    .header("X-Roles", joinedRoles);
+            if (identityAssertionSigner.isEnabled()) {
+                mutatedRequest.header(IdentityAssertionSigner.ASSERTION_HEADER,
+                        identityAssertionSigner.sign(userId, username, joinedRoles));
+            }
 
-            return chain.filter(exchange.mutate().request(mutatedRequest).build());
+            return chain.filter(exchange.mutate().request(mutatedRequest.build()).build());
 
         } catch (Exception ex) {
             // Step 6) Any parsing/validation error -> 401 with a compact JSON body.
@@ -145,6 +188,16 @@ public class AuthenticationFilter implements GlobalFilter, Ordered {
         }
     }
 
+    // Utility: check whether the client sent any header reserved for the gateway.
+    private static boolean hasIdentityHeaders(HttpHeaders headers) {
+        for (String name : IDENTITY_HEADERS) {
+            if (headers.containsKey(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     // Utility: check if the current path matches any whitelist pattern.
     private boolean isWhitelisted(String path) {
         for (String pattern : whitelistPatterns) {
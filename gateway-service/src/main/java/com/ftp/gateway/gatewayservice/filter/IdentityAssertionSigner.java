@@ -0,0 +1,79 @@
+package com.ftp.gateway.gatewayservice.filter;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.util.Base64;
+
+/*
+ * SUMMARY
+ * -------
+ * Signs the identity headers the gateway propagates once it has verified the JWT, so downstream services can trust
+ * them without verifying the JWT again.
+ *
+ * FORMAT
+ * ------
+ * X-Identity-Assertion: v1.<epoch seconds>.<base64url HMAC-SHA256>
+ * The MAC covers "v1\n<epoch seconds>\n<X-User-Id>\n<X-Username>\n<X-Roles>", keyed by
+ * gateway.identity-assertion.secret. fund-transfer-service's IdentityAssertionVerifier checks the same format and
+ * rejects assertions older than its max-age; both must change together.
+ *
+ * An empty secret disables the assertion: downstream services then keep verifying the JWT.
+ */
+@Component
+public class IdentityAssertionSigner {
+
+    public static final String ASSERTION_HEADER = "X-Identity-Assertion";
+
+    private static final String VERSION = "v1";
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Clock clock;
+    private final ThreadLocal<Mac> macs;
+
+    @Autowired
+    public IdentityAssertionSigner(@Value("${gateway.identity-assertion.secret:}") String secret) {
+        this(secret, Clock.systemUTC());
+    }
+
+    // Clock fixed by tests
+    IdentityAssertionSigner(String secret, Clock clock) {
+        this.clock = clock;
+        if (secret == null || secret.isBlank()) {
+            this.macs = null;
+            return;
+        }
+        if (secret.length() < 32) {
+            throw new IllegalStateException("gateway.identity-assertion.secret must be at least 32 characters");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        // Mac instances are not thread-safe; one per event loop thread
+        this.macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 is not available", e);
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return macs != null;
+    }
+
+    // Returns the assertion for the given header values, stamped with the current time.
+    public String sign(String userId, String username, String roles) {
+        String timestamp = Long.toString(clock.instant().getEpochSecond());
+        String payload = VERSION + '\n' + timestamp + '\n' + userId + '\n' + username + '\n' + roles;
+        byte[] mac = macs.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        return VERSION + '.' + timestamp + '.' + Base64.getUrlEncoder().withoutPadding().encodeToString(mac);
+    }
+}
@@ -0,0 +1,93 @@
+package com.ftp.gateway.gatewayservice.filter;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * SUMMARY
+ * -------
+ * Bloom filter of revoked token IDs (jti), rebuilt from the snapshot auth-service publishes and extended with the
+ * IDs of the following deltas. Thread-safe: bits are set with atomic operations while requests read them.
+ *
+ * COMPATIBILITY
+ * -------------
+ * Must hash exactly like auth-service's BloomFilter: FNV-1a over the UTF-16 chars, a 64-bit finalizer, and double
+ * hashing over the bits; bit i is bit i % 64 of the big-endian word i / 64. RevocationBloomFilterTest pins the bit
+ * positions of known jtis, and auth-service's BloomFilterTest asserts the same ones.
+ */
+public class RevocationBloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+    private final int capacity;
+
+    private RevocationBloomFilter(long[] words, int hashCount, int capacity) {
+        this.bits = new AtomicLongArray(words);
+        this.bitCount = words.length * 64L;
+        this.hashCount = hashCount;
+        this.capacity = capacity;
+    }
+
+    // Rebuild the filter from the base64 words of a full snapshot.
+    public static RevocationBloomFilter fromBase64(String encoded, int hashCount, int capacity) {
+        LongBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(encoded)).asLongBuffer();
+        long[] words = new long[buffer.remaining()];
+        buffer.get(words);
+        if (words.length == 0 || hashCount <= 0) {
+            throw new IllegalArgumentException("Invalid revocation filter");
+        }
+        return new RevocationBloomFilter(words, hashCount, capacity);
+    }
+
+    public void put(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long current = bits.get(word);
+            while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                current = bits.get(word);
+            }
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash(value);
+        long hash2 = mix(hash1 ^ 0x9E3779B97F4A7C15L) | 1;
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Number of IDs the false-positive rate was sized for.
+    public int capacity() {
+        return capacity;
+    }
+
+    private static long hash(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
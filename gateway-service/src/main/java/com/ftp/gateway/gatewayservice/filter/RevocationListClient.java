@@ -0,0 +1,141 @@
+package com.ftp.gateway.gatewayservice.filter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * SUMMARY
+ * -------
+ * Keeps an in-memory copy of the access tokens revoked in auth-service, so AuthenticationFilter rejects them with a
+ * Bloom filter lookup and a map lookup: no I/O on the request path.
+ *
+ * PROTOCOL
+ * --------
+ * Every gateway.revocation.poll-interval-ms, GET <gateway.revocation.url>?sinceVersion=<version held> with the
+ * X-Internal-Secret header. auth-service answers either:
+ * - a delta: the jtis and user cut-offs revoked since that version, added to the current filter and map, or
+ * - a full snapshot: a Bloom filter of all revoked jtis and all user cut-offs, which replace the current ones.
+ * A full snapshot is requested at startup, every gateway.revocation.full-refresh-interval (Bloom filters cannot
+ * forget, so this drops expired jtis), and once the deltas have filled half the filter's spare capacity.
+ *
+ * FAILURE MODES
+ * -------------
+ * - auth-service unreachable: the last copy is kept and a warning logged; revocations meanwhile are missed.
+ * - Nothing loaded yet, or url/secret empty: no token is considered revoked (fail open, like before revocation).
+ * - Bloom false positive (rate set by auth.revocations.false-positive-rate): a valid token is rejected; logging in
+ *   again issues a token with another jti.
+ */
+@Component
+public class RevocationListClient {
+
+    private static final Logger log = LoggerFactory.getLogger(RevocationListClient.class);
+
+    public static final String INTERNAL_SECRET_HEADER = "X-Internal-Secret";
+
+    // Wire format of auth-service's RevocationSnapshotDTO.
+    record FilterBits(int hashCount, int capacity, String bits) {
+    }
+
+    record Snapshot(long version, boolean full, FilterBits filter, List<String> tokenIds,
+                    Map<String, Long> userNotBefore) {
+    }
+
+    // The filter and the map are extended in place by deltas; a full snapshot replaces the whole state.
+    private record State(long version, RevocationBloomFilter filter, AtomicInteger added,
+                         Map<String, Long> userNotBefore, long loadedAtNanos) {
+    }
+
+    private final WebClient webClient;
+    private final String url;
+    private final String internalSecret;
+    private final Duration fullRefreshInterval;
+    private final Duration timeout;
+
+    private volatile State state;
+
+    public RevocationListClient(WebClient.Builder webClientBuilder,
+                                @Value("${gateway.revocation.url:}") String url,
+                                @Value("${gateway.revocation.internal-secret:}") String internalSecret,
+                                @Value("${gateway.revocation.full-refresh-interval:1h}") Duration fullRefreshInterval,
+                                @Value("${gateway.revocation.timeout:2s}") Duration timeout) {
+        this.webClient = webClientBuilder.build();
+        this.url = url;
+        this.internalSecret = internalSecret;
+        this.fullRefreshInterval = fullRefreshInterval;
+        this.timeout = timeout;
+    }
+
+    // True if the token was revoked by jti or by a cut-off of its user (tokens issued at or before it).
+    public boolean isRevoked(String tokenId, String username, Date issuedAt) {
+        State current = state;
+        if (current == null) {
+            return false;
+        }
+        if (tokenId != null && current.filter().mightContain(tokenId)) {
+            return true;
+        }
+        Long notBefore = username != null ? current.userNotBefore().get(username) : null;
+        return notBefore != null && (issuedAt == null || issuedAt.getTime() / 1000 <= notBefore);
+    }
+
+    // Pull the revocations since the version held (or a full snapshot when due).
+    @Scheduled(fixedDelayString = "${gateway.revocation.poll-interval-ms:2000}")
+    public void poll() {
+        if (url.isBlank() || internalSecret.isBlank()) {
+            return;
+        }
+
+        State current = state;
+        boolean fullDue = current == null
+                || System.nanoTime() - current.loadedAtNanos() > fullRefreshInterval.toNanos()
+                || current.added().get() > current.filter().capacity() / 2;
+        long sinceVersion = fullDue ? 0 : current.version();
+
+        Snapshot snapshot;
+        try {
+            snapshot = webClient.get()
+                    .uri(url + "?sinceVersion={sinceVersion}", sinceVersion)
+                    .header(INTERNAL_SECRET_HEADER, internalSecret)
+                    .retrieve()
+                    .bodyToMono(Snapshot.class)
+                    .block(timeout);
+        } catch (RuntimeException ex) {
+            log.warn("Could not pull token revocations from {}: {}", url, ex.getMessage());
+            return;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        if (snapshot.full()) {
+            FilterBits bits = snapshot.filter();
+            state = new State(snapshot.version(),
+                    RevocationBloomFilter.fromBase64(bits.bits(), bits.hashCount(), bits.capacity()),
+                    new AtomicInteger(),
+                    new ConcurrentHashMap<>(snapshot.userNotBefore()),
+                    System.nanoTime());
+            log.debug("Loaded token revocation snapshot at version {}", snapshot.version());
+            return;
+        }
+
+        // Deltas may repeat entries already held; adding them again is harmless.
+        for (String tokenId : snapshot.tokenIds()) {
+            current.filter().put(tokenId);
+        }
+        current.added().addAndGet(snapshot.tokenIds().size());
+        snapshot.userNotBefore().forEach((username, notBefore) -> current.userNotBefore().merge(username, notBefore, Math::max));
+        state = new State(snapshot.version(), current.filter(), current.added(), current.userNotBefore(),
+                current.loadedAtNanos());
+    }
+}
@@ -0,0 +1,43 @@
+package com.ftp.gateway.gatewayservice.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdentityAssertionSignerTest {
+
+    private static final String SECRET = "IdentityAssertionSecretThatIsLongEnough1234";
+    private static final Instant NOW = Instant.parse("2026-01-15T10:00:00Z");
+
+    @Test
+    void shouldSignInTheFormatDownstreamServicesVerify() {
+        IdentityAssertionSigner signer = new IdentityAssertionSigner(SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+
+        // fund-transfer-service's IdentityAssertionVerifierTest accepts this exact value
+        assertEquals("v1.1768471200.DngbzofPV9pG3RyK91cCg4BMjjfJC0fkkdmfTl2T2cI",
+                signer.sign("42", "roy", "USER,ADMIN"));
+    }
+
+    @Test
+    void signatureShouldCoverEveryHeader() {
+        IdentityAssertionSigner signer = new IdentityAssertionSigner(SECRET, Clock.fixed(NOW, ZoneOffset.UTC));
+        String assertion = signer.sign("42", "roy", "USER,ADMIN");
+
+        assertNotEquals(assertion, signer.sign("43", "roy", "USER,ADMIN"));
+        assertNotEquals(assertion, signer.sign("42", "ray", "USER,ADMIN"));
+        assertNotEquals(assertion, signer.sign("42", "roy", "USER"));
+        assertNotEquals(assertion, new IdentityAssertionSigner("SomeOtherSecretThatIsAlsoLongEnough12345",
+                Clock.fixed(NOW, ZoneOffset.UTC)).sign("42", "roy", "USER,ADMIN"));
+    }
+
+    @Test
+    void emptySecretShouldDisableAndShortSecretShouldFail() {
+        assertFalse(new IdentityAssertionSigner("").isEnabled());
+        assertTrue(new IdentityAssertionSigner(SECRET).isEnabled());
+        assertThrows(IllegalStateException.class, () -> new IdentityAssertionSigner("too-short"));
+    }
+}
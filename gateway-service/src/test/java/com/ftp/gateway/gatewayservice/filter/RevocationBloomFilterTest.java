@@ -0,0 +1,67 @@
+package com.ftp.gateway.gatewayservice.filter;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevocationBloomFilterTest {
+
+    // Same vector as auth-service's BloomFilterTest: a filter of capacity 100 at 1% is 15 words with 7 hashes
+    static final int WORDS = 15;
+    static final int HASH_COUNT = 7;
+    static final String JTI = "0d4f5b6c-7a8e-4c1d-9b2f-3e6a7c8d9e01";
+    static final List<Long> JTI_BITS = List.of(195L, 258L, 438L, 476L, 719L, 757L, 937L);
+    static final String OTHER_JTI = "revoked-token-42";
+    static final List<Long> OTHER_JTI_BITS = List.of(58L, 171L, 181L, 284L, 294L, 304L, 417L);
+
+    @Test
+    void shouldFindAJtiFromTheBitsAuthServiceSets() {
+        assertTrue(filterWith(JTI_BITS).mightContain(JTI));
+        assertTrue(filterWith(OTHER_JTI_BITS).mightContain(OTHER_JTI));
+        assertFalse(filterWith(JTI_BITS).mightContain(OTHER_JTI));
+    }
+
+    @Test
+    void everyPinnedBitShouldBeChecked() {
+        for (Long missing : JTI_BITS) {
+            List<Long> others = JTI_BITS.stream().filter(bit -> !bit.equals(missing)).toList();
+            assertFalse(filterWith(others).mightContain(JTI), "bit " + missing + " is not checked");
+        }
+    }
+
+    @Test
+    void deltaPutShouldSetTheSameBits() {
+        RevocationBloomFilter filter = filterWith(List.of());
+
+        filter.put(OTHER_JTI);
+
+        assertTrue(filter.mightContain(OTHER_JTI));
+        assertFalse(filter.mightContain(JTI));
+        assertEquals(100, filter.capacity());
+    }
+
+    @Test
+    void shouldRejectAnEmptyFilter() {
+        assertThrows(IllegalArgumentException.class, () -> RevocationBloomFilter.fromBase64("", HASH_COUNT, 100));
+        assertThrows(IllegalArgumentException.class, () -> RevocationBloomFilter.fromBase64(base64Of(List.of()), 0, 100));
+    }
+
+    static RevocationBloomFilter filterWith(List<Long> bits) {
+        return RevocationBloomFilter.fromBase64(base64Of(bits), HASH_COUNT, 100);
+    }
+
+    // Encoded like auth-service's RevocationSnapshotDTO: big-endian words, bit i in word i / 64
+    static String base64Of(List<Long> bits) {
+        long[] words = new long[WORDS];
+        for (long bit : bits) {
+            words[(int) (bit >>> 6)] |= 1L << bit;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(words.length * Long.BYTES);
+        buffer.asLongBuffer().put(words);
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+}
@@ -0,0 +1,108 @@
+package com.ftp.gateway.gatewayservice.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Deque;
+import java.util.List;
+
+import static com.ftp.gateway.gatewayservice.filter.RevocationBloomFilterTest.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevocationListClientTest {
+
+    private static final String URL = "http://auth-service/auth/internal/revocations";
+
+    private final Deque<Mono<ClientResponse>> responses = new ArrayDeque<>();
+    private final List<URI> requested = new ArrayList<>();
+    private final List<String> secrets = new ArrayList<>();
+
+    private final WebClient.Builder webClientBuilder = WebClient.builder().exchangeFunction(request -> {
+        requested.add(request.url());
+        secrets.add(request.headers().getFirst(RevocationListClient.INTERNAL_SECRET_HEADER));
+        return responses.removeFirst();
+    });
+
+    @Test
+    void shouldFailOpenUntilASnapshotIsLoaded() {
+        RevocationListClient disabled = client("");
+        disabled.poll();
+        assertTrue(requested.isEmpty());
+        assertFalse(disabled.isRevoked(JTI, "roy", new Date()));
+
+        RevocationListClient unreachable = client(URL);
+        responses.add(Mono.error(new IllegalStateException("Connection refused")));
+        unreachable.poll();
+        assertFalse(unreachable.isRevoked(JTI, "roy", new Date()));
+    }
+
+    @Test
+    void shouldLoadAFullSnapshotThenApplyDeltas() {
+        RevocationListClient client = client(URL);
+
+        responses.add(json("{\"version\":5,\"full\":true,"
+                + "\"filter\":{\"hashCount\":" + HASH_COUNT + ",\"capacity\":100,\"bits\":\"" + base64Of(JTI_BITS) + "\"},"
+                + "\"tokenIds\":[],\"userNotBefore\":{\"roy\":1000}}"));
+        client.poll();
+
+        assertEquals(URI.create(URL + "?sinceVersion=0"), requested.get(0));
+        assertEquals("internal-secret", secrets.get(0));
+        assertTrue(client.isRevoked(JTI, "ana", new Date()));
+        assertFalse(client.isRevoked(OTHER_JTI, "ana", new Date()));
+        // Tokens issued at or before the cut-off second
+        assertTrue(client.isRevoked("other", "roy", new Date(1_000_999)));
+        assertFalse(client.isRevoked("other", "roy", new Date(1_001_000)));
+
+        responses.add(json("{\"version\":6,\"full\":false,\"filter\":null,"
+                + "\"tokenIds\":[\"" + OTHER_JTI + "\"],\"userNotBefore\":{\"roy\":2000}}"));
+        client.poll();
+
+        assertEquals(URI.create(URL + "?sinceVersion=5"), requested.get(1));
+        assertTrue(client.isRevoked(JTI, "ana", new Date()));
+        assertTrue(client.isRevoked(OTHER_JTI, "ana", new Date()));
+        assertTrue(client.isRevoked("other", "roy", new Date(1_500_000)));
+
+        responses.add(json("{\"version\":7,\"full\":false,\"filter\":null,\"tokenIds\":[],\"userNotBefore\":{}}"));
+        client.poll();
+        assertEquals(URI.create(URL + "?sinceVersion=6"), requested.get(2));
+    }
+
+    @Test
+    void shouldKeepTheLastCopyWhenAuthServiceIsUnreachable() {
+        RevocationListClient client = client(URL);
+        responses.add(json("{\"version\":5,\"full\":true,"
+                + "\"filter\":{\"hashCount\":" + HASH_COUNT + ",\"capacity\":100,\"bits\":\"" + base64Of(JTI_BITS) + "\"},"
+                + "\"tokenIds\":[],\"userNotBefore\":{}}"));
+        client.poll();
+
+        responses.add(Mono.error(new IllegalStateException("Connection refused")));
+        client.poll();
+        responses.add(Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build()));
+        client.poll();
+
+        assertTrue(client.isRevoked(JTI, "ana", new Date()));
+        // Still asks for the deltas after the version held
+        assertEquals(URI.create(URL + "?sinceVersion=5"), requested.get(2));
+    }
+
+    private RevocationListClient client(String url) {
+        return new RevocationListClient(webClientBuilder, url, "internal-secret", Duration.ofHours(1), Duration.ofSeconds(2));
+    }
+
+    private static Mono<ClientResponse> json(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+}